@@ -5,45 +5,70 @@
  */
 package arcadeflex;
 
+import java.util.concurrent.locks.LockSupport;
 import javax.sound.sampled.*;
 
 /**
+ * Audio output. The emulation thread queues each frame's samples in a
+ * single producer / single consumer ring buffer and a dedicated audio thread
+ * feeds them to the line, so only the audio thread ever blocks on the line.
+ * Each side owns one position and publishes it with a volatile write, no
+ * lock is taken. The amount of sound kept queued starts small, grows by a
+ * frame on every underrun and shrinks back after a stretch without one.
  *
  * @author shadow
  */
-public class SoundPlayer {
+public class SoundPlayer implements Runnable {
+
+    /* sound queued in the ring, in frames */
+    public static final int MIN_LATENCY_FRAMES = 2;
+    public static final int MAX_LATENCY_FRAMES = 12;
+    static final int STABLE_FRAMES = 600;	/* frames without underrun before the latency is lowered */
+
+    static final int LINE_FRAMES = 2;	/* the line's own buffer, on top of the ring */
 
-    public static final int MAX_BUFFER_SIZE = 128 * 1024;
-    //private DynamicSoundEffectInstance soundInstance;
-    private byte[] waveBuffer;
-    int/*uint*/ stream_buffer_size;
     SourceDataLine m_line;
+    private Thread thread;
+    private volatile int running;
+    private volatile int paused;
+
+    /* samples in line format. Filled by the emulation thread only, drained */
+    /* by the audio thread only; the positions are byte counts since start  */
+    private byte[] ring;
+    private int ring_mask;
+    private volatile long write_pos;
+    private volatile long read_pos;
+
+    int block_align;
+    int frame_bytes;	/* one emulated frame of sound */
+    public int latency_frames;
+    int stable_frames;
+    int underruns_seen;
+
+    public volatile int underruns;	/* the line ran dry, counted by the audio thread */
+    public int overruns;	/* frames dropped because the ring was full */
 
     public SoundPlayer(int sampleRate, int stereo, int framesPerSecond) {
-        System.out.println(stereo);
-        //soundInstance = new DynamicSoundEffectInstance(sampleRate, stereo ? AudioChannels.Stereo : AudioChannels.Mono);
         AudioFormat format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED,
-                22050,
+                sampleRate,
                 16,
-                (stereo!=0 ? 2:1),
-                (stereo!=0 ? 4:2),
-                22050,
+                (stereo != 0 ? 2 : 1),
+                (stereo != 0 ? 4 : 2),
+                sampleRate,
                 false);
 
-        
-        stream_buffer_size = (int) (((long) MAX_BUFFER_SIZE * (long) sampleRate) / 22050);
-        int wBitsPerSample = 16;
-        int nChannels = stereo!=0 ? 2 : 1;
-        int nBlockAlign = wBitsPerSample * nChannels / 8;
-        stream_buffer_size = (int) (stream_buffer_size * nBlockAlign) / 4;
-        stream_buffer_size = (int) ((stream_buffer_size * 30) / framesPerSecond);
-        stream_buffer_size = (stream_buffer_size / 1024) * 1024;
+        block_align = format.getFrameSize();
+        frame_bytes = ((sampleRate + framesPerSecond - 1) / framesPerSecond) * block_align;
+        latency_frames = MIN_LATENCY_FRAMES;
 
-        waveBuffer = new byte[stream_buffer_size];//soundInstance.GetSampleSizeInBytes(TimeSpan.FromMilliseconds(25))];
+        int size = 1;
+        while (size < (MAX_LATENCY_FRAMES + 1) * frame_bytes) {
+            size <<= 1;
+        }
+        ring = new byte[size];
+        ring_mask = size - 1;
 
-        System.out.println("frameSize " + format.getFrameSize());
         DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
-        //DataLine.Info info = new DataLine.Info(SourceDataLine.class, format);
 
         if (!AudioSystem.isLineSupported(info)) {
             System.err.println("Unsupported audio: " + format);
@@ -52,43 +77,126 @@ public class SoundPlayer {
 
         try {
             m_line = (SourceDataLine) AudioSystem.getLine(info);
-            m_line.open(format);
+            m_line.open(format, LINE_FRAMES * frame_bytes);
         } catch (LineUnavailableException lue) {
             System.err.println("Unavailable data line");
+            m_line = null;
             return;
         }
 
         m_line.start();
-        //soundInstance.Play();
-    }
 
-    public int GetStreamBufferSize() {
-        return stream_buffer_size;
+        running = 1;
+        thread = new Thread(this, "audio");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MAX_PRIORITY);
+        thread.start();
     }
 
-    /*public int GetSampleSizeInBytes(TimeSpan duration) {
-        return soundInstance.GetSampleSizeInBytes(duration);
-    }*/
-
     public void Play() {
-        m_line.start();
+        if (m_line != null) {
+            m_line.start();
+            paused = 0;
+        }
     }
 
     public void Stop() {
-        m_line.stop();
+        if (m_line != null) {
+            paused = 1;
+            m_line.stop();
+        }
     }
 
-    public void WriteSample(int index, short sample) {
-            waveBuffer[index] = (byte) (sample&0xFF);
-            waveBuffer[index + 1] = (byte) (sample >> 8);
-        //waveBuffer[index] = (byte)(sample >> 8);
-        //waveBuffer[index + 1] = (byte)(sample & 0xFF);
-        //waveBuffer,  bi, (short)((data[p++]*master_volume/256)));
+    /* stop the audio thread and release the line */
+    public void Close() {
+        if (m_line == null) {
+            return;
+        }
+        running = 0;
+        m_line.stop();
+        m_line.flush();
+        m_line.close();	/* releases a write() blocked on the stopped line */
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        m_line = null;
     }
 
-    public void SubmitBuffer(int offset, int length) {
-        if(waveBuffer!=null)
-        m_line.write(waveBuffer, offset, length);
+    /* queue count samples of buffer scaled by volume (0-256). Called by the */
+    /* emulation thread, never blocks: a frame that doesn't fit in the       */
+    /* wanted latency is dropped and counted as an overrun.                  */
+    public void QueueSamples(short[] buffer, int count, int volume) {
+        if (m_line == null) {
+            return;
+        }
+
+        /* adapt the latency to what the audio thread saw since the last frame */
+        int seen = underruns;
+        if (seen != underruns_seen) {
+            underruns_seen = seen;
+            stable_frames = 0;
+            if (latency_frames < MAX_LATENCY_FRAMES) {
+                latency_frames++;
+            }
+        } else if (++stable_frames >= STABLE_FRAMES) {
+            stable_frames = 0;
+            if (latency_frames > MIN_LATENCY_FRAMES) {
+                latency_frames--;
+            }
+        }
+
+        long wp = write_pos;
+        int room = (int) (latency_frames * frame_bytes - (wp - read_pos));
+        int bytes = count * 2;
+
+        /* running ahead of the line, e.g. unthrottled. Dropping the whole frame */
+        /* leaves a frame of headroom instead of clipping every following one   */
+        if (bytes > room) {
+            overruns++;
+            return;
+        }
+
+        int pos = (int) (wp & ring_mask);
+        for (int i = 0; i < bytes / 2; i++) {
+            short sample = (short) (buffer[i] * volume / 256);
+
+            ring[pos] = (byte) (sample & 0xFF);
+            ring[pos + 1] = (byte) (sample >> 8);
+            pos = (pos + 2) & ring_mask;
+        }
+
+        write_pos = wp + bytes;	/* publish the samples */
+        LockSupport.unpark(thread);
     }
 
+    /* the audio thread, moves the queued samples to the line */
+    public void run() {
+        SourceDataLine line = m_line;
+        int starved = 0;
+
+        while (running != 0) {
+            long rp = read_pos;
+            long queued = write_pos - rp;
+
+            if (queued == 0) {
+                /* count an underrun once each time the line runs dry while playing */
+                if (starved == 0 && rp != 0 && paused == 0 && line.available() >= line.getBufferSize()) {
+                    underruns++;
+                    starved = 1;
+                }
+                LockSupport.parkNanos(1000000);
+                continue;
+            }
+            starved = 0;
+
+            int pos = (int) (rp & ring_mask);
+            int len = (int) Math.min(queued, ring.length - pos);
+
+            len = line.write(ring, pos, len);	/* blocks while the line is full */
+            read_pos = rp + len;
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package arcadeflex;
+
+import java.util.Arrays;
+
+import static arcadeflex.libc_old.*;
+import static mame.mame.*;
+import static mame.cpuintrf.*;
+import static mame.driverH.*;
+
+/**
+ * Headless benchmark mode. Started with -bench <game> [-frames n], it runs
+ * the game without display, audio output or throttling and reports the
+ * emulation throughput once the requested number of frames has been emulated.
+ * ROMs that aren't there are generated by readroms(): pseudo random data for
+ * the gfx and sound regions, cleared code for the cpus (a loop of NOPs for the
+ * 68000), so a game can be run without its ROM set.
+ * With -playback the game is driven by an input log and the run also ends
+ * when the log does, so two runs emulate exactly the same frames. The host
+ * time of every frame is kept to report its distribution.
+ */
+public class bench {
+
+    public static int headless;	/* no AWT window, no audio line */
+    public static int bench_mode;
+    public static int bench_frames = 6000;	/* frames to emulate before quitting */
+
+    static int bench_frames_emulated;
+    static long bench_start_time, bench_end_time;
+    static long bench_frame_start;
+    static long[] bench_frame_time;	/* host ns each frame took */
+    public static long[] bench_cpu_time = new long[MAX_CPU];	/* host ns spent in each core's execute() */
+    public static long[] bench_cpu_cycles = new long[MAX_CPU];	/* emulated cycles run by each core */
+    public static long bench_audio_samples;
+
+    /* parse the benchmark options, called before the game is looked up */
+    public static void bench_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-bench") == 0) {
+                bench_mode = 1;
+                headless = 1;
+            }
+            if (stricmp(argv[i], "-frames") == 0) {
+                i++;
+                if (i < argc) {
+                    bench_frames = Integer.parseInt(argv[i]);
+                }
+            }
+        }
+    }
+
+    public static void bench_start() {
+        if (bench_start_time == 0) {
+            bench_frames_emulated = 0;
+            bench_audio_samples = 0;
+            for (int i = 0; i < MAX_CPU; i++) {
+                bench_cpu_time[i] = 0;
+                bench_cpu_cycles[i] = 0;
+            }
+            bench_frame_time = new long[bench_frames];
+            bench_start_time = bench_frame_start = uclock();
+        }
+    }
+
+    /* called once per emulated frame, returns 1 when the run is complete */
+    public static int bench_frame_done() {
+        long now = uclock();
+
+        bench_frame_time[bench_frames_emulated] = now - bench_frame_start;
+        bench_frame_start = now;
+
+        /* a played back log is over once inputport closed it */
+        if (++bench_frames_emulated < bench_frames && (options.playback == null || playback != null)) {
+            return 0;
+        }
+        bench_end_time = now;
+        return 1;
+    }
+
+    public static void bench_report() {
+        double seconds;
+        int i;
+
+        if (bench_end_time == 0) {
+            bench_end_time = uclock();
+        }
+        seconds = (double) (bench_end_time - bench_start_time) / UCLOCKS_PER_SEC;
+
+        printf("benchmark: %s, %d frames in %.3f s\n", Machine.gamedrv.name, bench_frames_emulated, seconds);
+        printf("  emulated speed : %.2f fps (%.1f%% of %d fps)\n",
+                bench_frames_emulated / seconds,
+                100.0 * bench_frames_emulated / seconds / Machine.drv.frames_per_second,
+                Machine.drv.frames_per_second);
+        for (i = 0; i < MAX_CPU && Machine.drv.cpu[i].cpu_type != 0; i++) {
+            double core_seconds = (double) bench_cpu_time[i] / UCLOCKS_PER_SEC;
+
+            printf("  cpu #%d %-8s : %.3f s core time, %.2f emulated MHz\n", i,
+                    cputype_name(Machine.drv.cpu[i].cpu_type),
+                    core_seconds,
+                    core_seconds > 0 ? bench_cpu_cycles[i] / core_seconds / 1000000.0 : 0.0);
+        }
+        printf("  audio samples  : %d (%d Hz)\n", bench_audio_samples, Machine.sample_rate);
+        if (options.playback != null) {
+            printf("  input log      : %s, %d entries played back\n", options.playback.game, options.playback.entries);
+        }
+        bench_report_frames();
+    }
+
+    /* percentiles of the host time per frame */
+    static void bench_report_frames() {
+        int n = bench_frames_emulated;
+
+        if (n == 0) {
+            return;
+        }
+        long[] sorted = Arrays.copyOf(bench_frame_time, n);
+        Arrays.sort(sorted);
+
+        printf("  frame time ms  : min %.3f  median %.3f  90%% %.3f  99%% %.3f  max %.3f\n",
+                sorted[0] * 1000.0 / UCLOCKS_PER_SEC,
+                sorted[n / 2] * 1000.0 / UCLOCKS_PER_SEC,
+                sorted[(int) (n * 0.90)] * 1000.0 / UCLOCKS_PER_SEC,
+                sorted[(int) (n * 0.99)] * 1000.0 / UCLOCKS_PER_SEC,
+                sorted[n - 1] * 1000.0 / UCLOCKS_PER_SEC);
+
+        /* frames slower than real time, they would have missed their vblank */
+        long frame_budget = UCLOCKS_PER_SEC / Machine.drv.frames_per_second;
+        int late = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (sorted[i] > frame_budget) {
+                late++;
+            }
+        }
+        printf("  frames > %.1f ms: %d (%.2f%%)\n", frame_budget * 1000.0 / UCLOCKS_PER_SEC, late, 100.0 * late / n);
+    }
+}
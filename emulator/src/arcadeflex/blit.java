@@ -1,68 +1,89 @@
 package arcadeflex;
 
 import static arcadeflex.video.*;
+import static arcadeflex.bench.*;
 
 public class blit {
 
+    /* host RGB value of every pen: 256 entries in 8 bit mode, one per allocated */
+    /* color in palettized 16 bit mode and all 32768 RGB555 values in direct mode */
     public static int[] palette = new int[256];
-    public static char[] back_buffer;
+    public static int[] headless_pixels;
 
     public static void set_color(int index, RGB entry) {
         int rgb = entry.r << 16 | entry.g << 8 | entry.b;
         palette[index] = rgb;
+        present.palette_serial++;
     }
 
     static void blitscreen_dirty1_vga() {
         int w, h;
+        int[] pixels;
 
-        /* while (true)
-            {*/
-        for (int i = 0; i < scrbitmap.height; i++) {
-            System.arraycopy(scrbitmap.line[i].memory, scrbitmap.line[i].offset, back_buffer, i * scrbitmap.width, scrbitmap.width);
+        /* with a window the palette expansion and the blit run on the */
+        /* presenter thread while the next frame is emulated           */
+        if (headless == 0) {
+            present.present_submit();
+            return;
         }
 
-        {
-            int sbi = scrbitmap.line[skiplines].offset + skipcolumns;
-            sbi = 0;
-            //w = drv.screen_width;// gfx_display_columns;
-            //h = drv.screen_height;// gfx_display_lines;
-            //w =  gfx_display_columns;
-            //h =  gfx_display_lines;
+        w = scrbitmap.width;
+        h = scrbitmap.height;
+        pixels = headless_pixels;
 
-            w = scrbitmap.width;
-            h = scrbitmap.height;
-            if (MainApplet.inst != null) {
-                for (int y = 0; y < h; y++) {
+        /* convert straight from the bitmap lines into the display's pixels */
+        if (use_dirty != 0) {
+            /* only the 16x16 blocks drawn this frame or the previous one, runs */
+            /* of dirty blocks on a block row are converted in one go           */
+            for (int by = 0; by < dirty_height; by++) {
+                int y0 = by << 4;
+                int y1 = Math.min(y0 + 16, h);
 
-                    for (int x = 0; x < w; x++) {
-                        //blit_buffer[x + (y * w)] = palette[scrbitmap.line[skiplines].buffer[sbi + x + (y * w)]];
-                        MainApplet.inst._pixels[x + (y * w)] = palette[back_buffer[sbi + x + (y * w)]];
+                for (int bx = 0; bx < dirty_width; ) {
+                    int block = by * dirty_width + bx;
+
+                    if ((dirty_old[block] | dirty_new[block]) == 0) {
+                        bx++;
+                        continue;
                     }
-                }
-                MainApplet.inst.blit();
 
-            } else if (MainStream.inst != null) {
-                for (int y = 0; y < h; y++) {
+                    int run = 1;
+                    while (bx + run < dirty_width && (dirty_old[block + run] | dirty_new[block + run]) != 0) {
+                        run++;
+                    }
 
-                    for (int x = 0; x < w; x++) {
-                        //blit_buffer[x + (y * w)] = palette[scrbitmap.line[skiplines].buffer[sbi + x + (y * w)]];
-                        MainStream.inst._pixels[x + (y * w)] = palette[back_buffer[sbi + x + (y * w)]];
+                    int x0 = bx << 4;
+                    int x1 = Math.min((bx + run) << 4, w);
+                    for (int y = y0; y < y1; y++) {
+                        blit_line(pixels, y, x0, x1, w);
                     }
+                    bx += run;
                 }
-                MainStream.inst.blit();
+            }
+        } else {
+            for (int y = 0; y < h; y++) {
+                blit_line(pixels, y, 0, w, w);
+            }
+        }
+    }
 
-            } else {
-                for (int y = 0; y < h; y++) {
+    /* convert pixels x0 to x1-1 of bitmap line y into the display's pixels */
+    static void blit_line(int[] pixels, int y, int x0, int x1, int w) {
+        char[] line = scrbitmap.line[y].memory;
+        int dst = y * w;
 
-                    for (int x = 0; x < w; x++) {
-                        //blit_buffer[x + (y * w)] = palette[scrbitmap.line[skiplines].buffer[sbi + x + (y * w)]];
-                        screen._pixels[x + (y * w)] = palette[back_buffer[sbi + x + (y * w)]];
-                    }
-                }
-                screen.blit();
+        if (scrbitmap.depth == 16) {
+            int src = scrbitmap.line[y].offset + 2 * x0;
+
+            for (int x = x0; x < x1; x++, src += 2) {
+                pixels[dst + x] = palette[line[src] | line[src + 1] << 8];
             }
+        } else {
+            int src = scrbitmap.line[y].offset;
 
-            //}
+            for (int x = x0; x < x1; x++) {
+                pixels[dst + x] = palette[line[src + x]];
+            }
         }
     }
 
@@ -89,7 +110,7 @@ public class blit {
     /*TODO*///unsigned int doublepixel[256];
     /*TODO*///unsigned int quadpixel[256]; /* for quadring pixels */
     /*TODO*///
-    public static /*UINT32* */ char[] palette_16bit_lookup;
+    /*TODO*///UINT32 *palette_16bit_lookup;
     /*TODO*///
     /*TODO*///
     /*TODO*////* current 'page' for unchained modes */
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import static arcadeflex.video.*;
+import static arcadeflex.libc_old.*;
 import static mame.mame.*;
 
 public class config {
@@ -429,7 +430,17 @@ public class config {
             /*TODO*///	options.color_depth = atoi(tmpstr);
             /*TODO*///	if (options.color_depth != 8 && options.color_depth != 16) options.color_depth = 0;	/* auto */
             /*TODO*///
-                        options.color_depth=8;
+            options.color_depth = 0;	/* auto */
+            for (int i = 1; i < argc; i++) {
+                if (stricmp(argv[i], "-depth") == 0 && i + 1 < argc) {
+                    try {
+                        options.color_depth = Integer.parseInt(argv[++i]);
+                    } catch (NumberFormatException e) {
+                        options.color_depth = 0;	/* like atoi(), garbage means auto */
+                    }
+                }
+            }
+            if (options.color_depth != 8 && options.color_depth != 16) options.color_depth = 0;	/* auto */
             /*TODO*///	skiplines   = get_int    ("config", "skiplines",    NULL, 0);
             /*TODO*///	skipcolumns = get_int    ("config", "skipcolumns",  NULL, 0);
             /*TODO*///	f_beam      = get_float  ("config", "beam",         NULL, 1.0);
@@ -0,0 +1,863 @@
+package arcadeflex;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import sound.ay8910.AY8910;
+
+import static arcadeflex.libc_old.*;
+import static arcadeflex.ptrlib.*;
+import static mame.mame.*;
+import static mame.cpuintrf.*;
+import static mame.driverH.*;
+import static mame.memoryH.*;
+import static mame.memory.*;
+import static mame.commonH.*;
+import static mame.mameH.*;
+import static mame.cpuintrfH.*;
+import static mame.timer.*;
+import static mame.timerH.*;
+import static mame.drawgfx.*;
+import static mame.drawgfxH.*;
+import static arcadeflex.gfxcache.*;
+import static arcadeflex.bench.*;
+import static arcadeflex.libc_v2.*;
+import static sound.mixer.*;
+import static sound.mixerH.*;
+import static sound.streams.*;
+import static cpu.z80.z80.z80_spin;
+import static cpu.z80.z80dynarec.z80_dynarec;
+import static mame.state.*;
+import static mame.rewind.*;
+
+/**
+ * CPU core benchmark. Started with -cpubench [entry], it runs each entry for
+ * a few warm-up rounds and then -rounds timed ones, and reports the best and
+ * average speed and the bytes allocated per round. The entries are:
+ *
+ *   z80 ... m68000  a fixed instruction stream through the core's execute()
+ *                   on a flat RAM memory map, in emulated MHz and instances
+ *                   of the CPU at a typical arcade clock one host core drives
+ *   z80x2, m68000x2 two CPUs of a core with a context switch every slice
+ *   z80spin         a sound CPU latch polling loop, with and without -z80spin
+ *   z80dynarec      the Z80 programs from ROM, with and without -z80dynarec
+ *   mem16           the cpu_readmem16/cpu_writemem16 dispatch alone
+ *   timer           the timer scheduler of an interleave heavy machine
+ *   gfx             gfx decoding on one host core and on all of them
+ *   mixer           the sound streams and mixer of a 16 channel machine
+ *   state, rewind   machine snapshots and the -rewind recording
+ *
+ * It runs inside the emulator rather than under a harness such as JMH so it
+ * needs nothing the ant build doesn't have.
+ */
+public class cpubench {
+
+    public static int cpubench_mode;
+    public static String cpubench_core;	/* run only this core, null for all of them */
+    public static int cpubench_rounds = 5;
+
+    static final int WARMUP_ROUNDS = 3;
+    static final int DYNAREC_WARMUP_ROUNDS = 15;	/* the JIT takes its time over the translated blocks */
+
+    /* one round of a benchmark, returns the host time of its timed part */
+    static abstract class bench_round {
+
+        abstract long run();
+    }
+
+    static class bench_result {
+
+        long best = Long.MAX_VALUE, total, alloc;
+        int rounds;
+    }
+
+    /* runs warmup_rounds untimed rounds and then cpubench_rounds timed ones */
+    static bench_result measure(int warmup_rounds, bench_round r) {
+        bench_result result = new bench_result();
+
+        for (int round = 0; round < warmup_rounds + cpubench_rounds; round++) {
+            long alloc_start = allocated_bytes();
+            long time = r.run();
+
+            if (round >= warmup_rounds) {
+                result.alloc += allocated_bytes() - alloc_start;
+                result.total += time;
+                result.best = Math.min(result.best, time);
+                result.rounds++;
+            }
+        }
+        return result;
+    }
+
+    static class bench_core {
+
+        String name;
+        int cpu_type;
+        int clock;	/* typical arcade clock, used for the realtime ratio */
+        int mem_size;
+        int[] program;	/* address, byte, byte, ... , -1 terminated blocks */
+
+        bench_core(String name, int cpu_type, int clock, int mem_size, int[] program) {
+            this.name = name;
+            this.cpu_type = cpu_type;
+            this.clock = clock;
+            this.mem_size = mem_size;
+            this.program = program;
+        }
+    }
+
+    /* every program walks a 64 byte buffer at 0x8000 with a load/add/store  */
+    /* loop and then jumps back to its start, so it runs forever on flat RAM */
+    static int[] z80_program = {
+        0x0000, 0x21, 0x00, 0x80, /* LD HL,$8000 */
+        0x06, 0x40, /* LD B,$40 */
+        0x7e, /* LD A,(HL) */
+        0x80, /* ADD A,B */
+        0x77, /* LD (HL),A */
+        0x23, /* INC HL */
+        0x10, 0xfa, /* DJNZ $0005 */
+        0xc3, 0x00, 0x00, -1 /* JP $0000 */};
+
+    /* a sound CPU waiting for a command */
+    static int[] z80_poll_program = {
+        0x0000, 0x3a, 0x00, 0x80, /* LD A,($8000) */
+        0xe6, 0x80, /* AND $80 */
+        0x28, 0xf9, /* JR Z,$0000 */
+        0xc3, 0x00, 0x00, -1 /* JP $0000 */};
+
+    static int[] m6809_program = {
+        0x1000, 0x8e, 0x80, 0x00, /* LDX #$8000 */
+        0xc6, 0x40, /* LDB #$40 */
+        0xa6, 0x84, /* LDA ,X */
+        0x8b, 0x01, /* ADDA #$01 */
+        0xa7, 0x80, /* STA ,X+ */
+        0x5a, /* DECB */
+        0x26, 0xf7, /* BNE $1005 */
+        0x7e, 0x10, 0x00, -1, /* JMP $1000 */
+        0xfffe, 0x10, 0x00, -1 /* reset vector */};
+
+    static int[] konami_program = {
+        0x1000, 0x42, 0x80, 0x00, /* LDX #$8000 */
+        0x11, 0x40, /* LDB #$40 */
+        0x12, 0x26, /* LDA ,X */
+        0x14, 0x01, /* ADDA #$01 */
+        0x3a, 0x20, /* STA ,X+ */
+        0xac, 0xf8, /* DECBJNZ $1005 */
+        0x68, 0xff, 0xf0, -1, /* LBRA $1000 */
+        0xfffe, 0x10, 0x00, -1 /* reset vector */};
+
+    static int[] m6502_program = {
+        0x1000, 0xa2, 0x00, /* LDX #$00 */
+        0xbd, 0x00, 0x80, /* LDA $8000,X */
+        0x18, /* CLC */
+        0x69, 0x01, /* ADC #$01 */
+        0x9d, 0x00, 0x80, /* STA $8000,X */
+        0xe8, /* INX */
+        0xd0, 0xf4, /* BNE $1002 */
+        0x4c, 0x00, 0x10, -1, /* JMP $1000 */
+        0xfffc, 0x00, 0x10, -1 /* reset vector */};
+
+    static int[] m6800_program = {
+        0x1000, 0xce, 0x80, 0x00, /* LDX #$8000 */
+        0xc6, 0x40, /* LDAB #$40 */
+        0xa6, 0x00, /* LDAA 0,X */
+        0x8b, 0x01, /* ADDA #$01 */
+        0xa7, 0x00, /* STAA 0,X */
+        0x08, /* INX */
+        0x5a, /* DECB */
+        0x26, 0xf6, /* BNE $1005 */
+        0x7e, 0x10, 0x00, -1, /* JMP $1000 */
+        0xfffe, 0x10, 0x00, -1 /* reset vector */};
+
+    static int[] i8039_program = {
+        0x0000, 0xb8, 0x20, /* MOV R0,#$20 (internal RAM) */
+        0xba, 0x40, /* MOV R2,#$40 */
+        0xf0, /* MOV A,@R0 */
+        0x03, 0x01, /* ADD A,#$01 */
+        0xa0, /* MOV @R0,A */
+        0x18, /* INC R0 */
+        0xea, 0x04, /* DJNZ R2,$004 */
+        0x04, 0x00, -1 /* JMP $000 */};
+
+    static int[] v30_program = {
+        0x01000, 0xbe, 0x00, 0x80, /* MOV SI,$8000 */
+        0xb9, 0x40, 0x00, /* MOV CX,$0040 */
+        0x8a, 0x04, /* MOV AL,[SI] */
+        0x04, 0x01, /* ADD AL,$01 */
+        0x88, 0x04, /* MOV [SI],AL */
+        0x46, /* INC SI */
+        0xe2, 0xf7, /* LOOP $1006 */
+        0xeb, 0xef, -1, /* JMP SHORT $1000 */
+        0xffff0, 0xea, 0x00, 0x10, 0x00, 0x00, -1 /* JMP FAR $0000:$1000 at the reset address */};
+
+    /* the 68000 memory holds 16 bit words in host order, so this one is a list of words */
+    static int[] m68000_program = {
+        0x000000, 0x0001, 0x0000, /* initial SSP $00010000 */
+        0x0000, 0x1000, -1, /* initial PC $00001000 */
+        0x001000, 0x41f9, 0x0000, 0x8000, /* LEA $8000.L,A0 */
+        0x303c, 0x003f, /* MOVE.W #$3F,D0 */
+        0x3210, /* MOVE.W (A0),D1 */
+        0x5241, /* ADDQ.W #1,D1 */
+        0x30c1, /* MOVE.W D1,(A0)+ */
+        0x51c8, 0xfff8, /* DBRA D0,$100A */
+        0x4ef9, 0x0000, 0x1000, -1 /* JMP $1000.L */};
+
+    static bench_core[] cores = {
+        new bench_core("z80", CPU_Z80, 3072000, 0x10000, z80_program),
+        new bench_core("m6809", CPU_M6809, 1500000, 0x10000, m6809_program),
+        new bench_core("hd6309", CPU_HD6309, 3000000, 0x10000, m6809_program),
+        new bench_core("konami", CPU_KONAMI, 3000000, 0x10000, konami_program),
+        new bench_core("m6502", CPU_M6502, 1500000, 0x10000, m6502_program),
+        new bench_core("m6800", CPU_M6800, 1000000, 0x10000, m6800_program),
+        new bench_core("i8039", CPU_I8039, 400000, 0x1000, i8039_program),
+        new bench_core("v30", CPU_V30, 8000000, 0x100000, v30_program),
+        new bench_core("m68000", CPU_M68000, 8000000, 0x20000, m68000_program),};
+
+    /* cores also run as a two CPU board, to measure their context switches */
+    static String[] dual_cores = {"z80", "m68000"};
+
+    /* parse the core benchmark options, called before the game is looked up */
+    public static void cpubench_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-cpubench") == 0) {
+                cpubench_mode = 1;
+                if (i + 1 < argc && !argv[i + 1].startsWith("-")) {
+                    cpubench_core = argv[++i];
+                }
+            }
+            if (stricmp(argv[i], "-rounds") == 0) {
+                i++;
+                if (i < argc) {
+                    cpubench_rounds = Integer.parseInt(argv[i]);
+                }
+            }
+        }
+    }
+
+    public static int cpubench_run() {
+        int found = 0;
+
+        printf("%-8s %10s %10s %10s %8s %14s\n", "core", "best MHz", "avg MHz", "typ. MHz", "x real", "alloc/round");
+        for (int i = 0; i < cores.length; i++) {
+            if (cpubench_core == null || stricmp(cpubench_core, cores[i].name) == 0) {
+                try {
+                    bench_cpu(cores[i]);
+                } catch (UnsupportedOperationException e) {
+                    printf("%-8s core not implemented yet\n", cores[i].name);
+                }
+                found = 1;
+            }
+        }
+        for (int i = 0; i < cores.length; i++) {
+            for (int j = 0; j < dual_cores.length; j++) {
+                String name = cores[i].name + "x2";
+                if (stricmp(cores[i].name, dual_cores[j]) == 0
+                        && (cpubench_core == null || stricmp(cpubench_core, name) == 0)) {
+                    bench_dual(name, cores[i], 100);
+                    found = 1;
+                }
+            }
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "z80spin") == 0) {
+            bench_z80spin();
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "z80dynarec") == 0) {
+            bench_z80dynarec();
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "mem16") == 0) {
+            bench_mem16();
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "timer") == 0) {
+            bench_timer("timer32", 32);
+            bench_timer("timer128", 128);
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "gfx") == 0) {
+            ForkJoinPool pool = new ForkJoinPool(1);
+
+            try {
+                bench_gfx("gfx1", pool);
+            } finally {
+                pool.shutdown();
+            }
+            bench_gfx("gfxall", ForkJoinPool.commonPool());
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "mixer") == 0) {
+            bench_mixer();
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "state") == 0) {
+            printf("%-10s %10s %10s %10s %14s\n", "board", "save us", "load us", "bytes", "alloc/round");
+            bench_state("z80", CPU_Z80, 1, 0x10000, 0x8000, 0xffff, 2);
+            bench_state("z80x2", CPU_Z80, 2, 0x10000, 0x8000, 0xffff, 3);
+            bench_state("m68000", CPU_M68000, 1, 0x100000, 0x80000, 0x8ffff, 0);
+            found = 1;
+        }
+        if (cpubench_core == null || stricmp(cpubench_core, "rewind") == 0) {
+            bench_rewind();
+            found = 1;
+        }
+        if (found == 0) {
+            printf("Unknown core \"%s\"\n", cpubench_core);
+            return 1;
+        }
+        return 0;
+    }
+
+    /* set up a one CPU machine whose whole address space is plain RAM */
+    static char[] setup_machine(int cpu_type, int mem_size, MemoryReadAddress[] mra, MemoryWriteAddress[] mwa) {
+        return setup_machine(cpu_type, 1, 0, mem_size, mra, mwa);
+    }
+
+    /* same with cpu_count CPUs sharing the memory map */
+    static char[] setup_machine(int cpu_type, int cpu_count, int clock, int mem_size, MemoryReadAddress[] mra, MemoryWriteAddress[] mwa) {
+        MachineDriver drv = new MachineDriver();
+        GameDriver gamedrv = new GameDriver("2000", "cpubench", "cpubench.java", null_rom, null, drv, null_input, null, ROT0, "", "cpu benchmark");
+        char[] mem = new char[mem_size];
+
+        gamedrv.rom = null;	/* no ROM loading, memory_allocate_ext() leaves the map alone */
+        gamedrv.input_ports = null;
+
+        for (int i = 0; i < cpu_count; i++) {
+            drv.cpu[i] = new MachineCPU(cpu_type, clock, mra, mwa, null, null, null, 0);
+        }
+        drv.frames_per_second = 60;
+        drv.cpu_slices_per_frame = 1;
+
+        Machine.gamedrv = gamedrv;
+        Machine.drv = drv;
+        Machine.sample_rate = 0;
+        for (int i = 0; i < MAX_MEMORY_REGIONS; i++) {
+            Machine.memory_region[i] = null;
+            Machine.memory_region_length[i] = 0;
+            Machine.memory_region_type[i] = 0;
+        }
+        Machine.memory_region[0] = mem;
+        Machine.memory_region_length[0] = mem_size;
+        Machine.memory_region_type[0] = REGION_CPU1;
+
+        cpu_init();
+        memory_init();
+        memorycontextswap(0);
+        activecpu = 0;
+        return mem;
+    }
+
+    static void load_program(bench_core core, char[] mem) {
+        int i = 0;
+
+        while (i < core.program.length) {
+            int address = core.program[i++];
+
+            while (core.program[i] != -1) {
+                if (core.cpu_type == CPU_M68000) {
+                    /* words are stored in host (little endian) order */
+                    mem[address] = (char) (core.program[i] & 0xff);
+                    mem[address + 1] = (char) (core.program[i] >> 8);
+                    address += 2;
+                } else {
+                    mem[address++] = (char) core.program[i];
+                }
+                i++;
+            }
+            i++;
+        }
+    }
+
+    static void bench_cpu(bench_core core) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, core.mem_size - 1, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, core.mem_size - 1, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+
+        bench_cpu(core, mra, mwa, WARMUP_ROUNDS);
+    }
+
+    static void bench_cpu(final bench_core core, MemoryReadAddress[] mra, MemoryWriteAddress[] mwa, int warmup_rounds) {
+        char[] mem = setup_machine(core.cpu_type, core.mem_size, mra, mwa);
+        final cpu_interface intf = cpu.get(0).intf;
+        final int slice = core.clock / 60;	/* one frame worth of cycles per execute() call */
+
+        load_program(core, mem);
+        intf.reset(null);
+
+        /* each round emulates one second at the typical clock */
+        bench_result result = measure(warmup_rounds, new bench_round() {
+            long run() {
+                long cycles = 0;
+                long start = uclock();
+
+                while (cycles < core.clock) {
+                    cycles += intf.execute(slice);
+                }
+                return (uclock() - start) * core.clock / cycles;
+            }
+        });
+        report(core.name, core.clock, core.clock, result);
+    }
+
+    /* two CPUs of one core sharing the memory map and the program, run in */
+    /* slices_per_frame timeslices each with a context switch before every */
+    /* slice, like an interleaved two CPU board does                       */
+    static void bench_dual(String name, final bench_core core, int slices_per_frame) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, core.mem_size - 1, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, core.mem_size - 1, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        char[] mem = setup_machine(core.cpu_type, 2, core.clock, core.mem_size, mra, mwa);
+        final cpu_interface intf = cpu.get(0).intf;
+        final Object[] context = new Object[2];
+        final int slice = core.clock / 60 / slices_per_frame;
+
+        load_program(core, mem);
+        for (int i = 0; i < 2; i++) {
+            context[i] = intf.init_context();
+            intf.set_context(context[i]);
+            intf.reset(null);
+            context[i] = intf.get_context(context[i]);
+        }
+
+        /* each round emulates one second of both CPUs */
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long cycles = 0;
+                long start = uclock();
+
+                while (cycles < 2L * core.clock) {
+                    for (int i = 0; i < 2; i++) {
+                        intf.set_context(context[i]);
+                        cycles += intf.execute(slice);
+                        context[i] = intf.get_context(context[i]);
+                    }
+                }
+                return (uclock() - start) * 2 * core.clock / cycles;
+            }
+        });
+        report(name, 2 * core.clock, 2 * core.clock, result);
+    }
+
+    static void bench_z80spin() {
+        bench_core poll = new bench_core("z80poll", CPU_Z80, 3072000, 0x10000, z80_poll_program);
+        bench_core spin = new bench_core("z80spin", CPU_Z80, 3072000, 0x10000, z80_poll_program);
+        int spin_was = z80_spin;
+
+        z80_spin = 0;
+        bench_cpu(poll);
+        bench_dual("z80pollx2", poll, 100);
+        z80_spin = 1;
+        bench_cpu(spin);
+        bench_dual("z80spinx2", spin, 100);
+        z80_spin = spin_was;
+    }
+
+    /* the Z80 programs from ROM, where -z80dynarec translates them, */
+    /* interpreted and translated                                     */
+    static void bench_z80dynarec() {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0x0000, 0x7fff, MRA_ROM),
+            new MemoryReadAddress(0x8000, 0xffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0x0000, 0x7fff, MWA_ROM),
+            new MemoryWriteAddress(0x8000, 0xffff, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        int dynarec_was = z80_dynarec;
+        int spin_was = z80_spin;
+
+        z80_spin = 0;
+        z80_dynarec = 0;
+        bench_cpu(new bench_core("z80rom", CPU_Z80, 3072000, 0x10000, z80_program), mra, mwa, DYNAREC_WARMUP_ROUNDS);
+        bench_cpu(new bench_core("z80pollrom", CPU_Z80, 3072000, 0x10000, z80_poll_program), mra, mwa, DYNAREC_WARMUP_ROUNDS);
+        z80_dynarec = 1;
+        bench_cpu(new bench_core("z80dynarec", CPU_Z80, 3072000, 0x10000, z80_program), mra, mwa, DYNAREC_WARMUP_ROUNDS);
+        bench_cpu(new bench_core("z80polldyn", CPU_Z80, 3072000, 0x10000, z80_poll_program), mra, mwa, DYNAREC_WARMUP_ROUNDS);
+        z80_dynarec = dynarec_was;
+        z80_spin = spin_was;
+    }
+
+    static int mem16_port;
+    static ReadHandlerPtr mem16_r = new ReadHandlerPtr() {
+        public int handler(int offset) {
+            return mem16_port;
+        }
+    };
+    static WriteHandlerPtr mem16_w = new WriteHandlerPtr() {
+        public void handler(int offset, int data) {
+            mem16_port = data;
+        }
+    };
+
+    /* the bare memory dispatch: RAM, ROM and handler mapped areas of a 16 bit map */
+    static void bench_mem16() {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0x0000, 0x7fff, MRA_ROM),
+            new MemoryReadAddress(0x8000, 0xbfff, MRA_RAM),
+            new MemoryReadAddress(0xc000, 0xffff, mem16_r),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0x0000, 0x7fff, MWA_ROM),
+            new MemoryWriteAddress(0x8000, 0xbfff, MWA_RAM),
+            new MemoryWriteAddress(0xc000, 0xffff, mem16_w),
+            new MemoryWriteAddress(-1) /* end of table */};
+        final int accesses = 4000000;	/* counted as one "cycle" each */
+
+        setup_machine(CPU_Z80, 0x10000, mra, mwa);
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long start = uclock();
+                int sum = mem16_port;
+
+                for (int i = 0; i < accesses; i += 2) {
+                    int address = (i * 0x9e5) & 0xffff;
+
+                    sum += cpu_readmem16(address);
+                    cpu_writemem16(address, sum & 0xff);
+                }
+                mem16_port = sum;	/* keep the loop from being optimized away */
+                return uclock() - start;
+            }
+        });
+        report("mem16", accesses, 0, result);
+    }
+
+    /* decodegfx() of a 4MB set of 16x16 4 plane tiles, one plane per quarter */
+    /* of the ROM as in CPS1, on the given pool with the gfx cache off.      */
+    /* Work is counted in decoded pixels.                                    */
+    static void bench_gfx(String name, ForkJoinPool pool) {
+        final char[] rom = new char[0x400000];
+        int[] xoffset = new int[16], yoffset = new int[16];
+        int quarter = rom.length * 8 / 4;
+        final GfxLayout layout;
+        ForkJoinPool pool_save = decode_pool;
+        int cache_save = gfxcache_enabled;
+        int seed = 1;
+
+        for (int i = 0; i < rom.length; i++) {
+            seed = seed * 1103515245 + 12345;
+            rom[i] = (char) ((seed >> 16) & 0xff);
+        }
+        for (int i = 0; i < 16; i++) {
+            xoffset[i] = (i & 7) + (i >> 3) * 32 * 8;
+            yoffset[i] = i * 8;
+        }
+        layout = new GfxLayout(16, 16, quarter / (64 * 8), 4, new int[]{0, quarter, 2 * quarter, 3 * quarter}, xoffset, yoffset, 64 * 8);
+
+        Machine.orientation = 0;
+        decode_pool = pool;
+        gfxcache_enabled = 0;
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long start = uclock();
+
+                decodegfx(new UBytePtr(rom, 0), layout);
+                return uclock() - start;
+            }
+        });
+        decode_pool = pool_save;
+        gfxcache_enabled = cache_save;
+        report(name, layout.total * 16 * 16, 0, result);
+    }
+
+    /* the stream callbacks write a saw tooth, a different pitch per channel */
+    static int[] mixer_phase = new int[MIXER_MAX_CHANNELS];
+    static StreamInitPtr mixer_bench_update = new StreamInitPtr() {
+        public void handler(int param, StreamBufPtr buffer, int length) {
+            int phase = mixer_phase[param];
+
+            for (int i = 0; i < length; i++) {
+                buffer.write(i, (short) phase);
+                phase += 64 * (param + 1);
+            }
+            mixer_phase[param] = phase;
+        }
+    };
+    static StreamInitMultiPtr mixer_bench_update_multi = new StreamInitMultiPtr() {
+        public void handler(int param, StreamBufPtr[] buffer, int length) {
+            for (int i = 0; i < 8; i++) {
+                mixer_bench_update.handler(param + i, buffer[i], length);
+            }
+        }
+    };
+
+    /* 8 single streams at mixed sample rates, with and without RC filter,   */
+    /* and one joined 8 channel stream, panned left, right and center, as   */
+    /* streams_sh_update() and mixer_sh_update() run them at the end of a   */
+    /* frame. Work is counted in mixed channel samples.                     */
+    static void bench_mixer() {
+        MachineDriver drv = new MachineDriver();
+        int[] rates = {8000, 11025, 22050, 44100};
+        String[] names = new String[8];
+        int[] levels = new int[8];
+        final int frames = 600;
+        int headless_save = headless;
+        final long[] samples = new long[1];
+
+        drv.frames_per_second = 60;
+        drv.sound_attributes = SOUND_SUPPORTS_STEREO;
+        Machine.drv = drv;
+        Machine.sample_rate = 44100;
+        headless = 1;	/* no audio line */
+
+        mixer_sh_start();
+        streams_sh_start();
+        for (int i = 0; i < 8; i++) {
+            int channel = stream_init(sprintf("single %d", i), MIXER(25, i % 3), rates[i & 3], i, mixer_bench_update);
+
+            if ((i & 1) != 0) {
+                set_RC_filter(channel, 1000, 5100, 0, 4700);
+            }
+            names[i] = sprintf("joined %d", i);
+            levels[i] = MIXER(25, i % 3);
+        }
+        stream_init_multi(8, names, levels, 22050, 8, mixer_bench_update_multi);
+
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long start = uclock();
+
+                samples[0] = 0;
+                for (int frame = 0; frame < frames; frame++) {
+                    samples[0] += 16 * samples_this_frame;
+                    streams_sh_update();
+                    mixer_sh_update();
+                }
+                return uclock() - start;
+            }
+        });
+        streams_sh_stop();
+        mixer_sh_stop();
+        headless = headless_save;
+        Machine.sample_rate = 0;
+        report("mixer", (int) samples[0], 0, result);
+    }
+
+    static int timer_events;
+    static timer_callback timer_bench_callback = new timer_callback() {
+        public void handler(int param) {
+            timer_events++;
+            /* the timeslice also causes a few immediate events, like the */
+            /* interrupts and sound latch writes of a multi CPU game      */
+            if (param == 0) {
+                for (int i = 0; i < 4; i++) {
+                    timer_set(TIME_NOW, 1, timer_bench_callback);
+                }
+            }
+        }
+    };
+
+    /* the scheduler of a 4 CPU machine with 100 slices per frame, scanline */
+    /* interrupts, sound_timers sound chip timers and some parked timers,   */
+    /* run without executing any code. Work is counted in fired timers.    */
+    static void bench_timer(String name, int sound_timers) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, 0xffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, 0xffff, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        int cpus = 4;
+        final int[] cpunum = new int[1];
+        final int[] cycles = new int[1];
+
+        setup_machine(CPU_Z80, cpus, 3072000, 0x10000, mra, mwa);
+        activecpu = -1;
+        cpu.get(0).intf.icount[0] = 0;	/* nothing runs, so nothing is left to run */
+        timer_init();
+        for (int i = 0; i < cpus; i++) {
+            timer_suspendcpu(i, 0, SUSPEND_REASON_RESET);
+        }
+
+        timer_pulse(TIME_IN_HZ(60 * 100), 0, timer_bench_callback);
+        timer_pulse(TIME_IN_HZ(60), 2, timer_bench_callback);
+        for (int i = 0; i < cpus; i++) {
+            timer_pulse(TIME_IN_HZ(60 * 8 + i), 2, timer_bench_callback);
+        }
+        for (int i = 0; i < sound_timers; i++) {
+            timer_pulse(TIME_IN_HZ(1000 + 37 * i), 2, timer_bench_callback);
+        }
+        for (int i = 0; i < 32; i++) {
+            timer_set(TIME_NEVER, 2, null);
+        }
+
+        /* each round emulates ten seconds */
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                double end = timer_get_time() + 10.0;
+                long start = uclock();
+
+                timer_events = 0;
+                while (timer_get_time() < end) {
+                    if (timer_schedule_cpu(cpunum, cycles) != 0) {
+                        timer_update_cpu(cpunum[0], cycles[0]);
+                    }
+                }
+                return uclock() - start;
+            }
+        });
+        report(name, timer_events, 0, result);
+    }
+
+    /* a board of cpu_count CPUs with ROM up to ram_start, RAM up to ram_end */
+    /* and ay_chips AY-8910s, saved and loaded as one frame of run-ahead or  */
+    /* rewind would. Times are per snapshot                                  */
+    static void bench_state(String name, int cpu_type, int cpu_count, int mem_size, int ram_start, int ram_end, int ay_chips) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, mem_size - 1, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, ram_start - 1, MWA_ROM),
+            new MemoryWriteAddress(ram_start, ram_end, MWA_RAM),
+            new MemoryWriteAddress(ram_end + 1, mem_size - 1, MWA_ROM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        final int snapshots = 1000;
+        final ByteBuffer[] buf = new ByteBuffer[1];
+        final int[] failed = new int[1];
+
+        setup_machine(cpu_type, cpu_count, 3072000, mem_size, mra, mwa);
+        for (int i = 0; i < cpu_count; i++) {
+            cpu_interface intf = cpu.get(i).intf;
+
+            intf.set_context(intf.init_context());
+            intf.reset(null);
+            cpu.get(i).context = intf.get_context();
+            cpu.get(i).save_context = cpu_count > 1 ? 1 : 0;	/* as cpu_run() decides */
+        }
+        activecpu = -1;
+        timer_init();
+        timer_pulse(TIME_IN_HZ(60 * 8), 0, timer_bench_callback);
+        timer_pulse(TIME_IN_HZ(60), 1, timer_bench_callback);
+        state_init();
+        for (int i = 0; i < ay_chips; i++) {
+            state_save_register("ay8910", i, new AY8910());
+        }
+
+        /* both time a save and a load of every snapshot, the first reports the */
+        /* saves and the second the loads                                       */
+        bench_result save = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long time = 0;
+
+                for (int i = 0; i < snapshots; i++) {
+                    long start = uclock();
+
+                    buf[0] = state_save_buffer(buf[0]);
+                    time += uclock() - start;
+                    failed[0] |= state_load(buf[0]);
+                }
+                return time;
+            }
+        });
+        bench_result load = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long time = 0;
+
+                for (int i = 0; i < snapshots; i++) {
+                    buf[0] = state_save_buffer(buf[0]);
+                    long start = uclock();
+
+                    failed[0] |= state_load(buf[0]);
+                    time += uclock() - start;
+                }
+                return time;
+            }
+        });
+        if (failed[0] != 0) {
+            printf("%-10s snapshot doesn't load back\n", name);
+            return;
+        }
+        printf("%-10s %10.1f %10.1f %10d %14s\n", name,
+                (double) save.best / snapshots * 1000000.0 / UCLOCKS_PER_SEC,
+                (double) load.best / snapshots * 1000000.0 / UCLOCKS_PER_SEC,
+                buf[0].limit(), allocated_bytes() < 0 ? "n/a" : Long.toString((save.alloc + load.alloc) / (save.rounds + load.rounds)));
+    }
+
+    /* the z80 program on a board with 32K of RAM and an AY-8910, recorded */
+    /* for rewinding after every frame of emulation, then rewound         */
+    static void bench_rewind() {
+        bench_core core = cores[0];
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, 0xffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, 0x7fff, MWA_ROM),
+            new MemoryWriteAddress(0x8000, 0xffff, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        final int frames = 600;
+        char[] mem = setup_machine(core.cpu_type, 0x10000, mra, mwa);
+        final cpu_interface intf = cpu.get(0).intf;
+        int rewind_was = rewind_size;
+
+        load_program(core, mem);
+        intf.set_context(intf.init_context());
+        intf.reset(null);
+        activecpu = -1;
+        timer_init();
+        state_init();
+        state_save_register("ay8910", 0, new AY8910());
+        rewind_size = 16 << 20;
+        rewind_init();
+
+        bench_result result = measure(WARMUP_ROUNDS, new bench_round() {
+            long run() {
+                long time = 0;
+
+                for (int i = 0; i < frames; i++) {
+                    intf.execute(core.clock / 60);
+                    long start = uclock();
+
+                    rewind_frame_done();
+                    rewind_record();
+                    time += uclock() - start;
+                }
+                return time;
+            }
+        });
+        /* the report below averages every frame recorded, the warm-up */
+        /* rounds too, so it is slower than the timed rounds           */
+        printf("%-10s %10.1f us per frame recorded (best round), %.1f us (average of the timed rounds), alloc/round %s\n", "rewind",
+                (double) result.best / frames * 1000000.0 / UCLOCKS_PER_SEC,
+                (double) result.total / result.rounds / frames * 1000000.0 / UCLOCKS_PER_SEC,
+                allocated_bytes() < 0 ? "n/a" : Long.toString(result.alloc / result.rounds));
+        rewind_report();
+        rewind_size = rewind_was;
+    }
+
+    /* work is the number of cycles (or accesses) a round times, typical 0 for no realtime ratio */
+    static void report(String name, int work, int typical, bench_result result) {
+        double best_mhz = (double) work / result.best * UCLOCKS_PER_SEC / 1000000.0;
+        double avg_mhz = (double) work / (result.total / result.rounds) * UCLOCKS_PER_SEC / 1000000.0;
+
+        printf("%-8s %10.2f %10.2f %10s %8s %14s\n", name, best_mhz, avg_mhz,
+                typical != 0 ? sprintf("%.3f", typical / 1000000.0) : "-",
+                typical != 0 ? sprintf("%.1f", avg_mhz * 1000000.0 / typical) : "-",
+                allocated_bytes() < 0 ? "n/a" : Long.toString(result.alloc / result.rounds));
+    }
+
+    /* bytes allocated by this thread so far, -1 when the VM can't tell */
+    static ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+
+    static long allocated_bytes() {
+        if (mx instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) mx).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+
+    static RomLoadPtr null_rom = new RomLoadPtr() {
+        public void handler() {
+        }
+    };
+    static InputPortPtr null_input = new InputPortPtr() {
+        public void handler() {
+        }
+    };
+}
@@ -11,11 +11,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.CRC32;
 import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 import static mame.osdependH.*;
 import static mame.mame.*;
@@ -39,6 +42,7 @@ public class fileio {
     public static final int kPlainFile = 1;
     public static final int kRAMFile = 2;
     public static final int kZippedFile = 3;
+    public static final int kStreamFile = 4;
     private static boolean cacheExist = false, checkedExists = false;
     private static byte[] zipOnlineCacheData1 = null;
     private static String zipOnlineCacheName1 = "";
@@ -53,8 +57,30 @@ public class fileio {
         public int length;
         public int type;
         public int crc;
+        /* kStreamFile: ROMs are read front to back from the file or zip */
+        /* entry, the CRC is computed on the way unless the zip has it   */
+        public InputStream stream;
+        public String path;
+        public ZipFile zip;
+        public ZipEntry entry;
+        public CRC32 crc32;
+        public int crc_offset;	/* bytes run through crc32 so far */
     }
 
+    static byte[] stream_buffer = new byte[4096];
+
+    /* The central directory of a zip, read once and kept for the session so */
+    /* each ROM is found without inflating the archive up to it. Entries are */
+    /* looked up by lower case name and by the CRC stored for them.         */
+    static class ZipIndex {
+
+        public ZipFile zip;
+        public HashMap<String, ZipEntry> names = new HashMap<String, ZipEntry>();
+        public HashMap<Integer, ZipEntry> crcs = new HashMap<Integer, ZipEntry>();
+    }
+
+    static HashMap<String, ZipIndex> zip_indexes = new HashMap<String, ZipIndex>();
+
     /*TODO*/ //     typedef struct
     /*TODO*/ //     {
     /*TODO*/ //             FILE *file;
@@ -121,7 +147,7 @@ public class fileio {
                         name = sprintf("%s/%s", dir_name, gamename);
                         fprintf(errorlog, "Trying %s\n", name);
                         //java code to emulate stat command (shadow)
-                        if (MainStream.inst == null) {
+                        if (osdepend.dlprogress != null) {
                             osdepend.dlprogress.setFileName("loading file: " + name);
                         }
                         //case where file exists in rom folder
@@ -132,23 +158,11 @@ public class fileio {
                             //System.out.println(name);
                             if (new File(name).exists()) {
                                 if (filetype == OSD_FILETYPE_ROM) {
-                                    //java issue since there is no way to pass by reference the data table 
-                                    //get it here
-                                    f.file = fopen(name, "rb");
-                                    long size = ftell(f.file);
-                                    f.data = new char[(int) size];
-                                    fclose(f.file);
-                                    // http://www.java-tips.org/java-se-tips/java.lang/pass-an-integer-by-reference.html
-                                    int tlen[] = new int[1];
-                                    int tcrc[] = new int[1];
-                                    if (checksum_file(name, f.data, tlen, tcrc) == 0) {
-                                        f.type = kRAMFile;
-                                        f.offset = 0;
-                                        found = 1;
-                                    }
-                                    //copy values where they belong
-                                    f.length = tlen[0];
-                                    f.crc = tcrc[0];
+                                    f.type = kStreamFile;
+                                    f.path = name;
+                                    f.length = (int) new File(name).length();
+                                    f.crc32 = new CRC32();
+                                    found = (stream_open(f) == 0) ? 1 : 0;
                                 } else {
                                     f.type = kPlainFile;
                                     f.file = fopen(name, "rb");
@@ -161,42 +175,31 @@ public class fileio {
                             //System.out.println("case where file exists in rom zip file");
                             System.out.println("loading " + filename + " from zip");
                             //File thefile = unZipIt2(dir_name + File.separator + gamename + ".zip", filename);
-                            byte[] bytes = unZipIt3(dir_name + File.separator + gamename + ".zip", filename);
-                            if (bytes != null) {
+                            ZipIndex index = zip_index(dir_name + File.separator + gamename + ".zip");
+                            ZipEntry ze = (index != null) ? zip_find(index, filename) : null;
+                            if (ze != null) {
                                 name = sprintf("%s/%s/%s", dir_name, gamename, filename);
-                                //System.out.println(name);
-                                //if (new File(name).exists()) {
                                 if (filetype == OSD_FILETYPE_ROM) {
-                                    //java issue since there is no way to pass by reference the data table 
-                                    //get it here
-                                    f.file = fopen(bytes, filename, "rb");
-                                    long size = ftell(f.file);
-                                    f.data = new char[(int) size];
-                                    fclose(f.file);
-                                    // http://www.java-tips.org/java-se-tips/java.lang/pass-an-integer-by-reference.html
-                                    int tlen[] = new int[1];
-                                    int tcrc[] = new int[1];
-                                    if (checksum_file3(bytes, filename, f.data, tlen, tcrc) == 0) {
-                                        f.type = kRAMFile;
-                                        f.offset = 0;
-                                        found = 1;
-                                    }
-                                    //copy values where they belong
-                                    f.length = tlen[0];
-                                    f.crc = tcrc[0];
+                                    /* the zip directory already holds the CRC */
+                                    f.type = kStreamFile;
+                                    f.zip = index.zip;
+                                    f.entry = ze;
+                                    f.length = (int) ze.getSize();
+                                    f.crc = (int) ze.getCrc();
+                                    found = (stream_open(f) == 0) ? 1 : 0;
                                 } else {
-                                    f.type = kPlainFile;
-                                    f.file = fopen(bytes, filename, "rb");
-                                    found = (f.file != null) ? 1 : 0; //found = f.file !=0;
+                                    byte[] bytes = unZipIt3(index, ze);
+                                    if (bytes != null) {
+                                        f.type = kPlainFile;
+                                        f.file = fopen(bytes, filename, "rb");
+                                        found = (f.file != null) ? 1 : 0; //found = f.file !=0;
+                                    }
                                 }
-                                //thefile.delete();
-                                //thefile=null;
-                                //}
                             } else {
                                 System.out.println(filename + " does not seem to exist in the zip file");
                             }
 
-                        } else if (URLexistsWithCache(romUrl + gamename + ".zip")) {// url loading here, the last resort of finding the rom. *todo.
+                        } else if (bench.headless == 0 && URLexistsWithCache(romUrl + gamename + ".zip")) {// url loading here, the last resort of finding the rom. *todo.
                             System.out.println("loading " + filename + " from zip online");
                             byte[] bytes = unZipItOnlineWithCache(romUrl + gamename + ".zip", filename);
                             if (bytes != null) {
@@ -231,7 +234,7 @@ public class fileio {
                                 System.out.println(filename + " does not seem to exist in the zip file online");
                                 //System.out.println("possibly it is in parent rom: "+Machine.gamedrv.clone_of.name);
                             }
-                        } else if (URLexists(romUrl + gamename + "/" + filename)) {
+                        } else if (bench.headless == 0 && URLexists(romUrl + gamename + "/" + filename)) {
                             System.out.println("(loading file online)");
                             byte[] bytes = FetchOnlineFile(romUrl + gamename + "/" + filename);
                             if (bytes != null) {
@@ -266,7 +269,7 @@ public class fileio {
                                 //}
                             } else {
                                 System.out.println(filename + " does not seem to exist in the zip file");
-                                if (MainStream.inst == null) {
+                                if (osdepend.dlprogress != null) {
                                     osdepend.dlprogress.setFileName(filename + " does not seem to exist in the zip file");
                                 }
                             }
@@ -456,6 +459,8 @@ public class fileio {
             case kPlainFile:
                 return fread(buffer, offset, 1, length, f.file);
             //break;
+            case kStreamFile:
+                return stream_read(f, buffer, offset, length, 1);
             case kZippedFile:
             case kRAMFile:
                 /* reading from the RAM image of a file */
@@ -542,6 +547,8 @@ public class fileio {
                 }
                 return totread;
             //break;
+            case kStreamFile:
+                return stream_read(f, buffer.memory, buffer.base, length, increment);
             case kZippedFile:
             case kRAMFile:
                 /* reading from the RAM image of a file */
@@ -605,6 +612,16 @@ public class fileio {
                     throw new UnsupportedOperationException("FSEEK other than SEEK_SET NOT SUPPORTED.");
                 }
             //break;
+            case kStreamFile:
+                switch (whence) {
+                    case SEEK_SET:
+                        return stream_seek(f, offset);
+                    case SEEK_CUR:
+                        return stream_seek(f, f.offset + offset);
+                    case SEEK_END:
+                        return stream_seek(f, f.length + offset);
+                }
+                break;
             case kZippedFile:
             case kRAMFile:
                 /* seeking within the RAM image of a file */
@@ -633,6 +650,9 @@ public class fileio {
             case kPlainFile:
                 fclose(f.file);
                 break;
+            case kStreamFile:
+                stream_close(f);
+                break;
             case kZippedFile:
             case kRAMFile:
                 if (f.data != null) {
@@ -643,6 +663,82 @@ public class fileio {
         f = null;
     }
 
+    /* (re)open the stream of a kStreamFile at the start of the file */
+    static int stream_open(FakeFileHandle f) {
+        stream_close(f);
+        try {
+            if (f.zip != null) {
+                f.stream = f.zip.getInputStream(f.entry);
+            } else {
+                f.stream = new FileInputStream(f.path);
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return -1;
+        }
+        f.offset = 0;
+        return 0;
+    }
+
+    static void stream_close(FakeFileHandle f) {
+        if (f.stream != null) {
+            try {
+                f.stream.close();
+            } catch (IOException ex) {
+            }
+            f.stream = null;
+        }
+    }
+
+    /* read up to length bytes into every increment'th char of buffer from */
+    /* offset on, or skip them when buffer is null. Bytes not seen by the  */
+    /* CRC yet are added to it.                                            */
+    static int stream_read(FakeFileHandle f, char[] buffer, int offset, int length, int increment) {
+        byte[] buf = stream_buffer;
+        int totread = 0;
+
+        if (length > f.length - f.offset) {
+            length = f.length - f.offset;
+        }
+        while (totread < length) {
+            int r = Math.min(length - totread, buf.length);
+
+            try {
+                r = f.stream.read(buf, 0, r);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                r = -1;
+            }
+            if (r <= 0) {
+                break;
+            }
+            if (f.crc32 != null && f.offset <= f.crc_offset && f.crc_offset < f.offset + r) {
+                f.crc32.update(buf, f.crc_offset - f.offset, f.offset + r - f.crc_offset);
+                f.crc_offset = f.offset + r;
+            }
+            if (buffer != null) {
+                for (int i = 0; i < r; i++) {
+                    buffer[offset] = (char) (buf[i] & 0xFF);
+                    offset += increment;
+                }
+            }
+            f.offset += r;
+            totread += r;
+        }
+        return totread;
+    }
+
+    /* a stream only reads forward, going back (ROM_RELOAD) reopens it */
+    static int stream_seek(FakeFileHandle f, int offset) {
+        if (offset < f.offset && stream_open(f) != 0) {
+            return -1;
+        }
+        if (offset > f.offset) {
+            stream_read(f, null, 0, offset - f.offset, 1);
+        }
+        return (f.offset == offset) ? 0 : -1;
+    }
+
     public static int checksum_file(String file, char[] p, int[] size, int[] crc) {
         FILE f;
         f = fopen(file, "rb");
@@ -961,7 +1057,7 @@ public class fileio {
     public static int osd_fsize(Object file) {
         FakeFileHandle f = (FakeFileHandle) file;
 
-        if (f.type == kRAMFile || f.type == kZippedFile) {
+        if (f.type == kRAMFile || f.type == kZippedFile || f.type == kStreamFile) {
             return f.length;
         }
 
@@ -982,6 +1078,15 @@ public class fileio {
     public static int osd_fcrc(Object file) {
         FakeFileHandle f = (FakeFileHandle) file;
 
+        if (f.type == kStreamFile && f.crc32 != null) {
+            /* run what the ROM loading skipped through the CRC too */
+            if (f.crc_offset < f.length) {
+                stream_seek(f, f.crc_offset);
+                stream_seek(f, f.length);
+            }
+            f.crc = (int) f.crc32.getValue();
+            f.crc32 = null;
+        }
         return f.crc;
     }
 
@@ -993,6 +1098,7 @@ public class fileio {
             System.out.print("loading " + name + "\r");
         } else {
             System.out.print("                    \r");
+            zip_index_flush();
         }
 
 
@@ -1119,58 +1225,86 @@ public class fileio {
         return out;
     }
 
-    public static byte[] unZipIt3(String zipFile, String filename) {
-        byte[] out = null;
-
-        if (!new File(zipFile).exists()) {
-            System.out.println("unzip failed");
-        } else {
-            //System.out.println("entered unzipit2 for "+filename);
+    /* get the index of a zip, reading its central directory on first use */
+    static ZipIndex zip_index(String zipFile) {
+        ZipIndex index = zip_indexes.get(zipFile);
 
-            byte[] buffer = new byte[1024];
+        if (index == null) {
+            index = new ZipIndex();
+            try {
+                index.zip = new ZipFile(zipFile);
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                return null;
+            }
+            Enumeration<? extends ZipEntry> entries = index.zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry ze = entries.nextElement();
+
+                if (!ze.isDirectory()) {
+                    index.names.put(ze.getName().toLowerCase(), ze);
+                    if (ze.getCrc() != -1) {
+                        index.crcs.put((int) ze.getCrc(), ze);
+                    }
+                }
+            }
+            zip_indexes.put(zipFile, index);
+        }
+        return index;
+    }
 
+    /* close the zips indexed so far, the next access reads them again */
+    static void zip_index_flush() {
+        for (ZipIndex index : zip_indexes.values()) {
             try {
-                //get the zip file content
-                ZipInputStream zis
-                        = new ZipInputStream(new FileInputStream(zipFile));
-                //get the zipped file list entry
-                ZipEntry ze = zis.getNextEntry();
+                index.zip.close();
+            } catch (IOException ex) {
+            }
+        }
+        zip_indexes.clear();
+    }
 
-                while (ze != null) {
+    /* find a file by name or, for the 8 hex digit names readroms() uses */
+    /* to load by CRC, by the CRC the zip stores for it                  */
+    static ZipEntry zip_find(ZipIndex index, String filename) {
+        ZipEntry ze = index.names.get(filename.toLowerCase());
 
-                    String fileName = ze.getName();
-                    //System.out.println("[zip] fileName: "+fileName+" while filename:"+filename+" and output folder is: "+outputFolder);
-                    if (fileName.equalsIgnoreCase(filename)) {
-                        //System.out.println("extracting!!!!!!!");
-                        //out = new File(System.getProperty("java.io.tmpdir")+"tmp");
-                        //System.out.println(System.getProperty("java.io.tmpdir")+"tmp");
-                        //System.out.println("file unzip : " + newFile.getAbsoluteFile() + " ");
+        if (ze == null && filename.length() == 8) {
+            try {
+                ze = index.crcs.get((int) Long.parseLong(filename, 16));
+            } catch (NumberFormatException ex) {
+            }
+        }
+        return ze;
+    }
 
-                        //create all non exists folders
-                        //else you will hit FileNotFoundException for compressed folder
-                        //new File(out.getParent()).mkdirs();
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        //FileOutputStream fos = new FileOutputStream(out);
+    /* unpack a file from an indexed zip */
+    static byte[] unZipIt3(ZipIndex index, ZipEntry ze) {
+        byte[] out;
 
-                        int len;
-                        while ((len = zis.read(buffer)) > 0) {
-                            baos.write(buffer, 0, len);
-                        }
+        try (InputStream is = index.zip.getInputStream(ze)) {
+            int len = 0, n;
 
-                        baos.close();
-                        out = baos.toByteArray();
-                    }
-                    ze = zis.getNextEntry();
+            if (ze.getSize() >= 0) {
+                out = new byte[(int) ze.getSize()];
+                while (len < out.length && (n = is.read(out, len, out.length - len)) > 0) {
+                    len += n;
                 }
-
-                zis.closeEntry();
-                zis.close();
-
-                //System.out.println("Done ");
-            } catch (IOException ex) {
-                ex.printStackTrace();
+            } else {
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                while ((n = is.read(buffer)) > 0) {
+                    baos.write(buffer, 0, n);
+                }
+                out = baos.toByteArray();
+                len = out.length;
             }
-
+            if (len != out.length) {
+                return null;
+            }
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
         }
         return out;
     }
@@ -0,0 +1,169 @@
+package arcadeflex;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+import static arcadeflex.libc_old.*;
+import static arcadeflex.ptrlib.*;
+import static mame.drawgfxH.*;
+import static mame.mame.*;
+
+/**
+ * On disk cache of decoded gfx. decodegfx() looks the set up here before
+ * decoding it bit by bit and stores what it decoded, so a warm start skips
+ * the decoding. Sets are keyed by their content: a CRC of the source bytes
+ * (after the driver init had a chance to decrypt them) and one of the layout
+ * and orientation. Disabled with -nogfxcache.
+ *
+ * A cache file is a little endian header followed by the raw gfxdata bytes
+ * and the pen_usage ints, so it can be mapped and copied in bulk.
+ */
+public class gfxcache {
+
+    public static int gfxcache_enabled = 1;
+    public static String gfxcache_dir = "gfxcache";
+
+    static final int GFXCACHE_MAGIC = 0x58464741;	/* "AGFX" */
+    static final int GFXCACHE_VERSION = 1;
+    static final int GFXCACHE_HEADER = 8 * 4;
+
+    /* sets smaller than this decode faster than their file can be opened */
+    static final int GFXCACHE_MIN_SIZE = 0x10000;
+
+    public static void gfxcache_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-nogfxcache") == 0) {
+                gfxcache_enabled = 0;
+            }
+        }
+    }
+
+    /* the cache file name of a set, null when it shouldn't be cached */
+    public static String gfxcache_name(UBytePtr src, GfxLayout gl, int width, int height, int swapxy) {
+        if (gfxcache_enabled == 0 || src.memory == null || gl.total * width * height < GFXCACHE_MIN_SIZE) {
+            return null;
+        }
+
+        CRC32 crc = new CRC32();
+        byte[] buf = new byte[4096];
+        int len = src.memory.length - src.offset;
+
+        for (int i = 0; i < len; i += buf.length) {
+            int n = Math.min(buf.length, len - i);
+
+            for (int j = 0; j < n; j++) {
+                buf[j] = (byte) src.memory[src.offset + i + j];
+            }
+            crc.update(buf, 0, n);
+        }
+        int data_crc = (int) crc.getValue();
+
+        crc.reset();
+        crc_int(crc, gl.width);
+        crc_int(crc, gl.height);
+        crc_int(crc, gl.total);
+        crc_int(crc, gl.planes);
+        crc_int(crc, gl.charincrement);
+        for (int i = 0; i < gl.planes; i++) {
+            crc_int(crc, gl.planeoffset[i]);
+        }
+        for (int i = 0; i < gl.width; i++) {
+            crc_int(crc, gl.xoffset[i]);
+        }
+        for (int i = 0; i < gl.height; i++) {
+            crc_int(crc, gl.yoffset[i]);
+        }
+        crc_int(crc, swapxy);
+
+        return sprintf("%s/%08x%08x.gfx", gfxcache_dir, data_crc, (int) crc.getValue());
+    }
+
+    static void crc_int(CRC32 crc, int value) {
+        crc.update(value);
+        crc.update(value >> 8);
+        crc.update(value >> 16);
+        crc.update(value >> 24);
+    }
+
+    /* fill in gfxdata and pen_usage of gfx from the cache, 0 if not cached */
+    public static int gfxcache_load(String name, GfxElement gfx) {
+        File file = new File(name);
+        int datalen = gfx.total_elements * gfx.char_modulo;
+        int penlen = (gfx.pen_usage != null) ? gfx.total_elements : 0;
+
+        if (!file.exists() || file.length() != GFXCACHE_HEADER + datalen + 4L * penlen) {
+            return 0;
+        }
+        try {
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                MappedByteBuffer map = raf.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, file.length());
+
+                map.order(ByteOrder.LITTLE_ENDIAN);
+                if (map.getInt() != GFXCACHE_MAGIC || map.getInt() != GFXCACHE_VERSION
+                        || map.getInt() != gfx.width || map.getInt() != gfx.height
+                        || map.getInt() != gfx.total_elements || map.getInt() != gfx.color_granularity
+                        || map.getInt() != datalen || map.getInt() != penlen) {
+                    return 0;
+                }
+                map.get(gfx.gfxdata, 0, datalen);
+                if (penlen != 0) {
+                    map.asIntBuffer().get(gfx.pen_usage, 0, penlen);
+                }
+            } finally {
+                raf.close();
+            }
+        } catch (IOException ex) {
+            return 0;
+        }
+        return 1;
+    }
+
+    /* store a decoded set, a failure only means the next start decodes again */
+    public static void gfxcache_save(String name, GfxElement gfx) {
+        File file = new File(name);
+        File tmp = new File(name + "." + Thread.currentThread().getId() + ".tmp");	/* banks may be saved in parallel */
+        int datalen = gfx.total_elements * gfx.char_modulo;
+        int penlen = (gfx.pen_usage != null) ? gfx.total_elements : 0;
+
+        file.getParentFile().mkdirs();
+        try {
+            RandomAccessFile raf = new RandomAccessFile(tmp, "rw");
+            try {
+                ByteBuffer header = ByteBuffer.allocate(GFXCACHE_HEADER).order(ByteOrder.LITTLE_ENDIAN);
+                FileChannel channel = raf.getChannel();
+
+                header.putInt(GFXCACHE_MAGIC).putInt(GFXCACHE_VERSION);
+                header.putInt(gfx.width).putInt(gfx.height);
+                header.putInt(gfx.total_elements).putInt(gfx.color_granularity);
+                header.putInt(datalen).putInt(penlen);
+                header.flip();
+                raf.setLength(0);
+                channel.write(header);
+                channel.write(ByteBuffer.wrap(gfx.gfxdata, 0, datalen));
+                if (penlen != 0) {
+                    ByteBuffer pens = ByteBuffer.allocate(4 * penlen).order(ByteOrder.LITTLE_ENDIAN);
+                    pens.asIntBuffer().put(gfx.pen_usage, 0, penlen);
+                    channel.write(pens);
+                }
+            } finally {
+                raf.close();
+            }
+            if (!tmp.renameTo(file)) {
+                file.delete();
+                tmp.renameTo(file);
+            }
+        } catch (IOException ex) {
+            tmp.delete();
+            if (errorlog != null) {
+                fprintf(errorlog, "gfxcache: can't write %s\n", name);
+            }
+        }
+    }
+}
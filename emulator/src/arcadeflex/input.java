@@ -149,7 +149,9 @@ public class input {
 
                     return res;
             }*/
-        if (MainApplet.inst != null) {
+        if (bench.headless != 0) {
+            return 0;
+        } else if (MainApplet.inst != null) {
             return MainApplet.inst.key[keycode] ? 1 : 0;
         } else if (MainStream.inst != null) {
             //return screen.key[keycode] ? 1 : 0;
@@ -1,5 +1,7 @@
 package arcadeflex;
 
+import java.util.Arrays;
+
 import arcadeflex.ptrlib.UBytePtr;
 
 /**
@@ -118,6 +120,74 @@ public class libc_v2 {
         }
     }
 
+    /**
+     * A sound stream buffer of 16 bit samples over a short[], as the stream
+     * callbacks fill it and the mixer plays it. Kept apart from ShortPtr so
+     * a sample access is a single load or store with no storage mode to
+     * test. The offset is in bytes like ShortPtr's, so the sound chips step
+     * it the same way.
+     */
+    public static class StreamBufPtr {
+
+        public int bsize = 2;
+        public short[] memory;
+        public int offset;
+
+        public StreamBufPtr() {
+        }
+
+        public StreamBufPtr(int size) {
+            memory = new short[size];
+            offset = 0;
+        }
+
+        public StreamBufPtr(short[] m) {
+            set(m, 0);
+        }
+
+        public StreamBufPtr(StreamBufPtr cp, int b) {
+            set(cp.memory, cp.offset + b);
+        }
+
+        public StreamBufPtr(StreamBufPtr cp) {
+            set(cp.memory, cp.offset);
+        }
+
+        public void set(short[] m, int offs) {
+            memory = m;
+            offset = offs;
+        }
+
+        public void set(StreamBufPtr cp, int b) {
+            set(cp.memory, cp.offset + b);
+        }
+
+        public short read() {
+            return memory[offset >> 1];
+        }
+
+        public short read(int index) {
+            return memory[(offset >> 1) + index];
+        }
+
+        public void write(int index, short data) {
+            memory[(offset >> 1) + index] = data;
+        }
+
+        /* zero count samples from the current position */
+        public void clear(int count) {
+            Arrays.fill(memory, offset >> 1, (offset >> 1) + count, (short) 0);
+        }
+
+        public void inc(int count) {
+            offset += count * bsize;
+        }
+
+        public void dec(int count) {
+            offset -= count * bsize;
+        }
+    }
+
     /**
      * Convert a char array to an unsigned integer
      *
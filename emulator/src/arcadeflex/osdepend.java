@@ -6,6 +6,19 @@ import static arcadeflex.fronthlp.*;
 import static mame.mame.*;
 import static arcadeflex.config.*;
 import static arcadeflex.ticker.*;
+import static arcadeflex.bench.*;
+import static arcadeflex.cpubench.*;
+import static arcadeflex.selftest.*;
+import static arcadeflex.gfxcache.*;
+import static mame.driverindex.*;
+import static mame.inputlog.*;
+import static mame.runahead.*;
+import static mame.rewind.*;
+import static cpu.z80.z80.z80_spin;
+import static cpu.z80.z80.z80_spin_parse_cmdline;
+import static cpu.z80.z80.z80_spin_report;
+import static cpu.z80.z80dynarec.*;
+import static arcadeflex.video.*;
 
 /**
  * This file is relative to msdos.c in mame
@@ -28,6 +41,7 @@ public class osdepend {
 
     /* put here cleanup routines to be executed when the program is terminated. */
     public static void osd_exit() {
+        fileio.zip_index_flush();
         /*TODO*///	msdos_shutdown_sound();
         /*TODO*///	msdos_shutdown_input();
     }
@@ -71,7 +85,25 @@ public class osdepend {
     /*TODO*///}
     /*TODO*///
     public static int main(int argc, String[] argv) {
-        if (MainStream.inst == null) {
+        bench_parse_cmdline(argc, argv);
+        cpubench_parse_cmdline(argc, argv);
+        selftest_parse_cmdline(argc, argv);
+        gfxcache_parse_cmdline(argc, argv);
+        z80_spin_parse_cmdline(argc, argv);
+        z80_dynarec_parse_cmdline(argc, argv);
+        runahead_parse_cmdline(argc, argv);
+        rewind_parse_cmdline(argc, argv);
+        if (cpubench_mode != 0) {
+            return cpubench_run();
+        }
+        if (selftest_mode != 0) {
+            return selftest_run();
+        }
+        driverindex_parse_cmdline(argc, argv);
+        if (mkgamelist_file != null) {
+            return driverindex_generate(mkgamelist_file);
+        }
+        if (MainStream.inst == null && headless == 0) {
             dlprogress = new UrlDownloadProgress();
             dlprogress.setVersion("arcadeflex version: " + settings.version);
             dlprogress.setVisible(true);
@@ -115,56 +147,41 @@ public class osdepend {
         init_ticker();
         /* after Allegro init because we use cpu_cpuid */
  /*TODO*///
-        /*TODO*///    /* handle playback which is not available in mame.cfg */
-        /*TODO*///	init_inpdir(); /* Init input directory for opening .inp for playback */
-        /*TODO*///
-        /*TODO*///    if (playbackname != NULL)
-        /*TODO*///        options.playback = osd_fopen(playbackname,0,OSD_FILETYPE_INPUTLOG,0);
-        /*TODO*///
-        /*TODO*///    /* check for game name embedded in .inp header */
-        /*TODO*///    if (options.playback)
-        /*TODO*///    {
-        /*TODO*///        INP_HEADER inp_header;
-        /*TODO*///
-        /*TODO*///        /* read playback header */
-        /*TODO*///        osd_fread(options.playback, &inp_header, sizeof(INP_HEADER));
-        /*TODO*///
-        /*TODO*///        if (!isalnum(inp_header.name[0])) /* If first byte is not alpha-numeric */
-        /*TODO*///            osd_fseek(options.playback, 0, SEEK_SET); /* old .inp file - no header */
-        /*TODO*///        else
-        /*TODO*///        {
-        /*TODO*///            for (i = 0; (drivers[i] != 0); i++) /* find game and play it */
-        /*TODO*///			{
-        /*TODO*///                if (strcmp(drivers[i]->name, inp_header.name) == 0)
-        /*TODO*///                {
-        /*TODO*///                    game_index = i;
-        /*TODO*///                    printf("Playing back previously recorded game %s (%s) [press return]\n",
-        /*TODO*///                        drivers[game_index]->name,drivers[game_index]->description);
-        /*TODO*///                    getchar();
-        /*TODO*///                    break;
-        /*TODO*///                }
-        /*TODO*///            }
-        /*TODO*///        }
-        /*TODO*///    }
-        /*TODO*///
+        /* handle playback which is not available in mame.cfg */
+        if (playbackname.length() != 0) {
+            options.playback = inputlog_open(playbackname);
+            if (options.playback == null) {
+                printf("Can't play back %s\n", playbackname);
+                return 1;
+            }
+
+            /* the log names the game it was recorded with */
+            game_index = driverindex_find(options.playback.game);
+            if (game_index != -1) {
+                printf("Playing back previously recorded game %s\n", options.playback.game);
+            }
+        }
+
         /* If not playing back a new .inp file */
 
         if (game_index == -1) {
             /* take the first commandline argument without "-" as the game name */
             for (j = 1; j < argc; j++) {
+                if (stricmp(argv[j], "-frames") == 0 || stricmp(argv[j], "-playback") == 0
+                        || stricmp(argv[j], "-record") == 0 || stricmp(argv[j], "-runahead") == 0
+                        || stricmp(argv[j], "-rewind") == 0) {
+                    j++;	/* skip the frame count or the input log */
+                    continue;
+                }
                 if (!argv[j].startsWith("-")) {
                     break;//if (argv[j][0] != '-') break; (original c code,conversion seems ok)
                 }
             }
-            /* do we have a driver for this? */
-            for (i = 0; drivers[i] != null && (game_index == -1); i++) {
-                if (stricmp(argv[j], drivers[i].name) == 0) {
-                    game_index = i;
-                    if (MainStream.inst == null) {
-                        dlprogress.setRomName("loading game: " + drivers[i].name);
-                    }
-                    break;
-                }
+            /* do we have a driver for this? only the game list is looked at, */
+            /* the driver classes of the other games are never loaded        */
+            game_index = driverindex_find(argv[j]);
+            if (game_index != -1 && dlprogress != null) {
+                dlprogress.setRomName("loading game: " + driverindex_info(game_index, GAME_NAME));
             }
             /*TODO*///            /* educated guess on what the user wants to play */
             /*TODO*///            if (game_index == -1)
@@ -206,7 +223,7 @@ public class osdepend {
             /*TODO*///
             if (game_index == -1) {
                 printf("Game \"%s\" not supported\n", argv[j]);
-                if (MainStream.inst == null) {
+                if (dlprogress != null) {
                     dlprogress.setRomName("error in game name or game not supported");
                 }
                 return 1;
@@ -216,6 +233,13 @@ public class osdepend {
         /*TODO*///
         /* parse generic (os-independent) options */
         parse_cmdline(argc, argv, game_index);
+
+        if (bench_mode != 0) {
+            /* run as fast as possible, every frame drawn */
+            throttle = 0;
+            frameskip = 0;
+            autoframeskip = 0;
+        }
         /*TODO*///
         /*TODO*///{	/* Mish:  I need sample rate initialised _before_ rom loading for optional rom regions */
         /*TODO*///	extern int soundcard;
@@ -226,44 +250,49 @@ public class osdepend {
         /*TODO*///	}
         /*TODO*///}
         /*TODO*///
-        /*TODO*///	/* handle record which is not available in mame.cfg */
-        /*TODO*///	for (i = 1; i < argc; i++)
-        /*TODO*///	{
-        /*TODO*///		if (stricmp(argv[i],"-record") == 0)
-        /*TODO*///		{
-        /*TODO*///            i++;
-        /*TODO*///			if (i < argc)
-        /*TODO*///				options.record = osd_fopen(argv[i],0,OSD_FILETYPE_INPUTLOG,1);
-        /*TODO*///		}
-        /*TODO*///	}
-        /*TODO*///
-        /*TODO*///    if (options.record)
-        /*TODO*///    {
-        /*TODO*///        INP_HEADER inp_header;
-        /*TODO*///
-        /*TODO*///        memset(&inp_header, '\0', sizeof(INP_HEADER));
-        /*TODO*///        strcpy(inp_header.name, drivers[game_index]->name);
-        /*TODO*///        /* MAME32 stores the MAME version numbers at bytes 9 - 11
-        /*TODO*///         * MAME DOS keeps this information in a string, the
-        /*TODO*///         * Windows code defines them in the Makefile.
-        /*TODO*///         */
-        /*TODO*///        /*
-        /*TODO*///        inp_header.version[0] = 0;
-        /*TODO*///        inp_header.version[1] = VERSION;
-        /*TODO*///        inp_header.version[2] = BETA_VERSION;
-        /*TODO*///        */
-        /*TODO*///        osd_fwrite(options.record, &inp_header, sizeof(INP_HEADER));
-        /*TODO*///    }
-        /*TODO*///
+        /* handle record which is not available in mame.cfg */
+        for (i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-record") == 0) {
+                i++;
+                if (i < argc) {
+                    options.record = inputlog_create(argv[i], driverindex_info(game_index, GAME_NAME));
+                    if (options.record == null) {
+                        printf("Can't record to %s\n", argv[i]);
+                        return 1;
+                    }
+                }
+            }
+        }
+
         /* go for it */
         res = run_game(game_index);
+
+        if (bench_mode != 0 && res == 0) {
+            bench_report();
+        }
+        if (z80_spin != 0 && res == 0) {
+            z80_spin_report();
+        }
+        if (z80_dynarec != 0 && res == 0) {
+            z80_dynarec_report();
+        }
+        if (runahead_frames != 0 && res == 0) {
+            runahead_report();
+        }
+        if (rewind_size != 0 && res == 0) {
+            rewind_report();
+        }
         /*TODO*///
         /* close open files */
         if (options.errorlog != null) {
             fclose(options.errorlog);
         }
-        /*TODO*///	if (options.playback) osd_fclose (options.playback);
-        /*TODO*///	if (options.record)   osd_fclose (options.record);
+        if (playback != null) {
+            inputlog_close(playback);
+        }
+        if (record != null) {
+            inputlog_close(record);
+        }
         /*TODO*///
         return res;
     }
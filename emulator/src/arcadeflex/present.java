@@ -0,0 +1,260 @@
+package arcadeflex;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static arcadeflex.video.*;
+import static mame.osdependH.*;
+
+/**
+ * Frame presentation off the emulation thread. At the end of a frame the
+ * emulation copies the bitmap (still in pens) and, when it changed, the pen
+ * palette into a frame slot and hands it over; a presenter thread expands
+ * it through the palette into the window's pixels and does the AWT blit,
+ * scaling and show() while the CPUs run the next frame.
+ *
+ * The slots form a triple buffer: the emulation owns one, the presenter
+ * another and the third is the last finished frame, exchanged atomically by
+ * either side. Neither side ever waits for the other; when the presenter
+ * falls behind, the frame it didn't get to is replaced by the newer one.
+ *
+ * Every slot also carries the 16x16 blocks of the dirty grid changed since
+ * the frame before it, so only those are expanded again. Each side only
+ * touches the map of a slot it owns. When the emulation replaces a frame the
+ * presenter didn't get to, it adds that frame's marks to its own before the
+ * exchange, so whichever frame is shown, its map covers every block changed
+ * since the frame shown before it.
+ */
+public class present implements Runnable {
+
+    static class present_frame {
+
+        int width, height, depth;
+        char[] pixels;	/* bitmap lines back to back, two chars per pixel in 16 bit */
+        int[] palette;
+        int palette_serial = -1;
+        char[] dirty;	/* blocks changed since the frame handed over before */
+        int dirty_all = 1;	/* the whole frame is to be expanded */
+    }
+
+    static final int PRESENT_NEW = 4;	/* set in ready until the presenter takes the frame */
+
+    static present_frame[] frames = {new present_frame(), new present_frame(), new present_frame()};
+    static AtomicInteger ready = new AtomicInteger(1);	/* the finished frame */
+    static int back = 0;	/* slot the emulation fills */
+    static int front = 2;	/* slot the presenter shows */
+
+    /* bumped whenever a pen of blit.palette changes */
+    public static int palette_serial;
+
+    static Thread present_thread;
+    static volatile int present_running;
+
+    public static int present_frames;	/* frames shown */
+    public static int present_dropped;	/* frames replaced before they were shown */
+
+    /* what the window's pixels were last expanded from, on the presenter */
+    static int[] shown_pixels;
+    static int shown_width, shown_height, shown_depth;
+    static int shown_palette_serial = -1;
+
+    /* hand the finished scrbitmap to the presenter, called by the emulation */
+    public static void present_submit() {
+        present_frame frame = frames[back];
+        osd_bitmap bitmap = scrbitmap;
+        int pitch = bitmap.width * (bitmap.depth == 16 ? 2 : 1);
+
+        if (frame.pixels == null || frame.pixels.length != pitch * bitmap.height) {
+            frame.pixels = new char[pitch * bitmap.height];
+        }
+        frame.width = bitmap.width;
+        frame.height = bitmap.height;
+        frame.depth = bitmap.depth;
+        for (int y = 0; y < bitmap.height; y++) {
+            System.arraycopy(bitmap.line[y].memory, bitmap.line[y].offset, frame.pixels, y * pitch, pitch);
+        }
+
+        if (frame.palette_serial != palette_serial || frame.palette == null || frame.palette.length != blit.palette.length) {
+            if (frame.palette == null || frame.palette.length != blit.palette.length) {
+                frame.palette = new int[blit.palette.length];
+            }
+            System.arraycopy(blit.palette, 0, frame.palette, 0, blit.palette.length);
+            frame.palette_serial = palette_serial;
+        }
+
+        /* this frame's marks, the blocks drawn now or the frame before as the */
+        /* headless blit takes them                                            */
+        if (use_dirty == 0 || dirty_new == null) {
+            frame.dirty_all = 1;
+        } else {
+            if (frame.dirty == null || frame.dirty.length != dirty_new.length) {
+                frame.dirty = new char[dirty_new.length];
+            }
+            char[] dirty = frame.dirty;
+
+            for (int b = 0; b < dirty.length; b++) {
+                dirty[b] = (char) (dirty_old[b] | dirty_new[b]);
+            }
+            frame.dirty_all = 0;
+        }
+
+        /* a frame still waiting is replaced and its marks move into this one. */
+        /* If the presenter takes it meanwhile, the compare and set fails and  */
+        /* the loop looks again; the extra marks only expand some blocks twice */
+        int prev;
+        do {
+            prev = ready.get();
+            if ((prev & PRESENT_NEW) != 0) {
+                present_frame dropped = frames[prev & 3];
+
+                if (dropped.dirty_all != 0 || frame.dirty_all != 0 || dropped.dirty.length != frame.dirty.length) {
+                    frame.dirty_all = 1;
+                } else {
+                    char[] dirty = frame.dirty;
+
+                    for (int b = 0; b < dirty.length; b++) {
+                        dirty[b] |= dropped.dirty[b];
+                    }
+                }
+            }
+        } while (!ready.compareAndSet(prev, back | PRESENT_NEW));
+        if ((prev & PRESENT_NEW) != 0) {
+            present_dropped++;
+        }
+        back = prev & 3;
+
+        if (present_thread == null) {
+            present_running = 1;
+            present_thread = new Thread(new present(), "present");
+            present_thread.setDaemon(true);
+            present_thread.start();
+        } else {
+            LockSupport.unpark(present_thread);
+        }
+    }
+
+    /* stop the presenter, the last frame handed over may not be shown */
+    public static void present_stop() {
+        if (present_thread == null) {
+            return;
+        }
+        present_running = 0;
+        LockSupport.unpark(present_thread);
+        try {
+            present_thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        present_thread = null;
+    }
+
+    public void run() {
+        while (present_running != 0) {
+            if ((ready.get() & PRESENT_NEW) == 0) {
+                LockSupport.park();
+                continue;
+            }
+            front = ready.getAndSet(front) & 3;
+            show(frames[front]);
+            present_frames++;
+        }
+    }
+
+    /* expand a frame into the display's pixels and put it on screen */
+    static void show(present_frame frame) {
+        int[] pixels;
+
+        if (MainApplet.inst != null) {
+            pixels = MainApplet.inst._pixels;
+        } else if (MainStream.inst != null) {
+            pixels = MainStream.inst._pixels;
+        } else {
+            pixels = screen._pixels;
+        }
+
+        int w = frame.width;
+        int h = Math.min(frame.height, pixels.length / Math.max(w, 1));
+        char[] dirty = frame.dirty;
+        int full = frame.dirty_all;
+
+        /* a new palette or geometry changes every pixel of the window */
+        if (pixels != shown_pixels || frame.palette_serial != shown_palette_serial
+                || w != shown_width || frame.height != shown_height || frame.depth != shown_depth
+                || dirty == null || dirty.length != ((w + 15) >> 4) * ((frame.height + 15) >> 4)) {
+            full = 1;
+        }
+        frame.dirty_all = 0;
+
+        if (full != 0) {
+            for (int y = 0; y < h; y++) {
+                expand_line(pixels, frame, y, 0, w);
+            }
+            if (dirty != null) {
+                Arrays.fill(dirty, (char) 0);
+            }
+        } else {
+            int bw = (w + 15) >> 4;
+
+            /* runs of dirty blocks on a block row are expanded in one go */
+            for (int by = 0; by < dirty.length / bw; by++) {
+                int y0 = by << 4;
+                int y1 = Math.min(y0 + 16, h);
+
+                for (int bx = 0; bx < bw; ) {
+                    int block = by * bw + bx;
+
+                    if (dirty[block] == 0) {
+                        bx++;
+                        continue;
+                    }
+
+                    int run = 0;
+                    while (bx + run < bw && dirty[block + run] != 0) {
+                        dirty[block + run] = 0;
+                        run++;
+                    }
+
+                    int x0 = bx << 4;
+                    int x1 = Math.min((bx + run) << 4, w);
+                    for (int y = y0; y < y1; y++) {
+                        expand_line(pixels, frame, y, x0, x1);
+                    }
+                    bx += run;
+                }
+            }
+        }
+        shown_pixels = pixels;
+        shown_width = w;
+        shown_height = frame.height;
+        shown_depth = frame.depth;
+        shown_palette_serial = frame.palette_serial;
+
+        if (MainApplet.inst != null) {
+            MainApplet.inst.blit();
+        } else if (MainStream.inst != null) {
+            MainStream.inst.blit();
+        } else {
+            screen.blit();
+        }
+    }
+
+    /* expand pixels x0 to x1-1 of line y of a frame into the window's pixels */
+    static void expand_line(int[] pixels, present_frame frame, int y, int x0, int x1) {
+        int[] palette = frame.palette;
+        char[] src = frame.pixels;
+        int dst = y * frame.width;
+
+        if (frame.depth == 16) {
+            int sp = 2 * (dst + x0);
+
+            for (int x = x0; x < x1; x++, sp += 2) {
+                pixels[dst + x] = palette[src[sp] | src[sp + 1] << 8];
+            }
+        } else {
+            for (int x = x0; x < x1; x++) {
+                pixels[dst + x] = palette[src[dst + x]];
+            }
+        }
+    }
+}
@@ -130,6 +130,81 @@ public class ptrlib {
             this.memory[(this.offset--)] = (char) (value & 0xFF);//store 8 bits only
         }
     }
+
+    /**
+     * Unsigned byte pointer over the decoded pixel data of a GfxElement, one
+     * pen per java byte. The memory regions and banks the CPU cores run on
+     * stay char[] behind UBytePtr, so their reads don't pay for a second
+     * storage mode.
+     */
+    public static class GfxDataPtr {
+
+        public byte[] memory;
+        public int offset;
+
+        public GfxDataPtr() {
+        }
+
+        public GfxDataPtr(byte[] m) {
+            set(m, 0);
+        }
+
+        public GfxDataPtr(byte[] m, int b) {
+            set(m, b);
+        }
+
+        public GfxDataPtr(GfxDataPtr cp, int b) {
+            set(cp.memory, cp.offset + b);
+        }
+
+        public GfxDataPtr(GfxDataPtr cp) {
+            set(cp.memory, cp.offset);
+        }
+
+        public void set(byte[] m, int b) {
+            memory = m;
+            offset = b;
+        }
+
+        public void inc() {
+            offset++;
+        }
+
+        public void inc(int count) {
+            offset += count;
+        }
+
+        public void dec(int count) {
+            offset -= count;
+        }
+
+        public char read() {
+            return (char) (memory[offset] & 0xFF);
+        }
+
+        public char read(int index) {
+            return (char) (memory[offset + index] & 0xFF);
+        }
+
+        public char readinc() {
+            return (char) (memory[offset++] & 0xFF);
+        }
+
+        public char readdec() {
+            return (char) (memory[offset--] & 0xFF);
+        }
+
+        public int READ_DWORD(int index) {
+            return ((memory[offset + index] & 0xFF) << 0)
+                    | ((memory[offset + index + 1] & 0xFF) << 8)
+                    | ((memory[offset + index + 2] & 0xFF) << 16)
+                    | ((memory[offset + index + 3] & 0xFF) << 24);
+        }
+
+        public void write(int index, int value) {
+            memory[offset + index] = (byte) value;
+        }
+    }
     /*
      *     Unsigned Short Ptr emulation
      *
@@ -0,0 +1,620 @@
+package arcadeflex;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import static arcadeflex.libc_old.*;
+import static arcadeflex.ptrlib.*;
+import static mame.memoryH.*;
+import static mame.driverH.*;
+import static mame.drawgfx.*;
+import static mame.drawgfxH.*;
+import static mame.mame.Machine;
+import cpu.m68000.m68kcpuH.m68k_cpu_core;
+import cpu.z80.z80;
+import cpu.z80.z80dynarec;
+import mame.cpuintrfH.cpu_interface;
+import static mame.cpuintrf.*;
+import mame.inputlog;
+import static mame.inputlog.*;
+import static mame.inputportH.MAX_INPUT_PORTS;
+import static cpu.m68000.m68kcpu.*;
+import static cpu.m68000.m68kcpuH.*;
+
+/**
+ * Conformance checks for the rewritten parts of the core. Started with
+ * -selftest [entry], it runs each entry and reports "ok" or what differs, the
+ * return code is the number of failed entries. The entries are:
+ *
+ *   m68000  single random instructions on random register and memory
+ *           contents; the state after each one, the cycles it took and the
+ *           memory it wrote are folded into a CRC per seed and compared with
+ *           the CRC the long based core of the baseline tree gave
+ *   gfx     every layout of the drivers that decodechar() takes a byte at a
+ *           time, decoded from random data that way and bit by bit, in both
+ *           orientations; pixels and pen usage have to be the same
+ *   z80spin polling loops run with and without -z80spin, the memory they
+ *           poll changing in some slice or never; the pc after every slice,
+ *           the registers and the cycles run have to be the same, and the
+ *           loops must have been skipped, except one that isn't a spin loop
+ *   dynarec Z80 programs in ROM run interpreted and with -z80dynarec, in
+ *           slices of random length that end inside the translated blocks
+ *           and between them; the pc, every register and the cycles run
+ *           after each slice and the RAM at the end have to be the same, and
+ *           blocks must have been run
+ *   inputlog random port values written to an input log the way inputport
+ *           logs them, every port each frame and an analog port every
+ *           third; played back they have to come out as they went in
+ *
+ * -seed n -iters n run other instruction streams and print their CRC, to
+ * compare two builds by hand.
+ */
+public class selftest {
+
+    public static int selftest_mode;
+    public static String selftest_entry;	/* run only this entry, null for all of them */
+    static long selftest_seed = -1;	/* -1: the seeds of the reference CRCs */
+    static int selftest_iters = 200000;
+
+    /* CRC of seeds 1..3 with 200000 instructions each, given by the long based  */
+    /* 68000 core of the first commit built with this file (registers stored as */
+    /* value & 0xffffffffL there)                                                */
+    static final long[] m68000_reference = {0x07aba3c7L, 0xb5d29628L, 0x86e788edL};
+
+    public static void selftest_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-selftest") == 0) {
+                selftest_mode = 1;
+                if (i + 1 < argc && !argv[i + 1].startsWith("-")) {
+                    selftest_entry = argv[++i];
+                }
+            }
+            if (stricmp(argv[i], "-seed") == 0 && i + 1 < argc) {
+                selftest_seed = Long.parseLong(argv[++i]);
+            }
+            if (stricmp(argv[i], "-iters") == 0 && i + 1 < argc) {
+                selftest_iters = Integer.parseInt(argv[++i]);
+            }
+        }
+    }
+
+    public static int selftest_run() {
+        int found = 0, failed = 0;
+
+        if (selftest_entry == null || stricmp(selftest_entry, "m68000") == 0) {
+            failed += check_m68000();
+            found = 1;
+        }
+        if (selftest_entry == null || stricmp(selftest_entry, "gfx") == 0) {
+            failed += check_gfx();
+            found = 1;
+        }
+        if (selftest_entry == null || stricmp(selftest_entry, "z80spin") == 0) {
+            failed += check_z80spin();
+            found = 1;
+        }
+        if (selftest_entry == null || stricmp(selftest_entry, "dynarec") == 0) {
+            failed += check_dynarec();
+            found = 1;
+        }
+        if (selftest_entry == null || stricmp(selftest_entry, "inputlog") == 0) {
+            failed += check_inputlog();
+            found = 1;
+        }
+        if (found == 0) {
+            printf("Unknown entry \"%s\"\n", selftest_entry);
+            return 1;
+        }
+        return failed;
+    }
+
+    /* print the result of an entry, returns 1 when it failed */
+    static int result(String name, int ok, String detail) {
+        printf("%-10s %s  %s\n", name, ok != 0 ? "ok  " : "FAIL", detail);
+        return ok != 0 ? 0 : 1;
+    }
+
+    /**
+     * ***********************************
+     *
+     * 68000 ***********************************
+     */
+    static CRC32 m68000_crc = new CRC32();
+    static UBytePtr m68000_ram;
+
+    static void fold(CRC32 crc, int value) {
+        crc.update(value >> 24);
+        crc.update(value >> 16);
+        crc.update(value >> 8);
+        crc.update(value);
+    }
+
+    /* plain RAM that folds every write it gets into the CRC */
+    static WriteHandlerPtr m68000_logged_w = new WriteHandlerPtr() {
+        public void handler(int offset, int data) {
+            fold(m68000_crc, offset);
+            fold(m68000_crc, data);
+            COMBINE_WORD_MEM(m68000_ram, offset, data);
+        }
+    };
+
+    static int check_m68000() {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, 0xffffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, 0xffffff, m68000_logged_w),
+            new MemoryWriteAddress(-1) /* end of table */};
+        char[] mem = cpubench.setup_machine(CPU_M68000, 0x1000000, mra, mwa);
+
+        m68000_ram = new UBytePtr(mem, 0);
+        if (selftest_seed != -1) {
+            long crc = m68000_stream(mem, selftest_seed, selftest_iters);
+            printf("m68000     seed %d, %d instructions: crc %08x\n", selftest_seed, selftest_iters, crc);
+            return 0;
+        }
+
+        int ok = 1;
+        String detail = "";
+        for (int seed = 1; seed <= m68000_reference.length; seed++) {
+            long crc = m68000_stream(mem, seed, 200000);
+
+            if (crc != m68000_reference[seed - 1]) {
+                ok = 0;
+                detail += String.format("seed %d crc %08x, expected %08x ", seed, crc, m68000_reference[seed - 1]);
+            }
+        }
+        return result("m68000", ok, ok != 0 ? m68000_reference.length + " x 200000 instructions match the baseline core" : detail);
+    }
+
+    /* a stream of single instructions, each on fresh random registers */
+    static long m68000_stream(char[] mem, long seed, int iters) {
+        Random r = new Random(seed);
+
+        for (int a = 0; a < mem.length; a++) {
+            mem[a] = (char) r.nextInt(256);
+        }
+        m68k_cpu_core c = new m68k_cpu_core();
+        m68k_pulse_reset(c, null);
+        m68000_crc.reset();
+
+        for (int it = 0; it < iters; it++) {
+            int sr = r.nextInt(0x10000);
+            int pc = r.nextInt(1 << 24) & ~1;
+
+            /* the opcode and room for its extension words, big endian bytes */
+            /* are stored byte swapped, as memory.c does for a 16 bit bus    */
+            for (int i = 0; i < 12 && pc + i < (1 << 24); i++) {
+                mem[(pc + i) ^ 1] = (char) r.nextInt(256);
+            }
+            c.s_flag = 0;
+            c.m_flag = 0;
+            for (int i = 0; i < 4; i++) {
+                c.sp[i] = pick(r);
+            }
+            m68ki_set_sr(c, sr);
+            for (int i = 0; i < 8; i++) {
+                c.dr[i] = pick(r);
+                c.ar[i] = pick(r);
+            }
+            c.pc = pc;
+            c.ppc = pc;
+            c.pref_addr = 1;
+            c.stopped = 0;
+            c.int_cycles = 0;
+            c.int_state = 0;
+            c.clks_left[0] = 1000;
+
+            try {
+                c.ir = m68ki_read_instruction(c);
+                m68k_instruction_jump_table[c.ir].handler(c);
+            } catch (RuntimeException e) {
+                /* unimplemented instructions, the same ones as before */
+                m68000_crc.update(e.getClass().getName().getBytes());
+            }
+
+            for (int i = 0; i < 8; i++) {
+                fold(m68000_crc, c.dr[i]);
+                fold(m68000_crc, c.ar[i]);
+            }
+            for (int i = 0; i < 4; i++) {
+                fold(m68000_crc, c.sp[i]);
+            }
+            fold(m68000_crc, c.pc);
+            fold(m68000_crc, (c.x_flag != 0 ? 1 : 0) | (c.n_flag != 0 ? 2 : 0) | (c.not_z_flag == 0 ? 4 : 0)
+                    | (c.v_flag != 0 ? 8 : 0) | (c.c_flag != 0 ? 16 : 0) | (c.t1_flag != 0 ? 32 : 0));
+            fold(m68000_crc, c.s_flag);
+            fold(m68000_crc, c.m_flag);
+            fold(m68000_crc, c.int_mask);
+            fold(m68000_crc, c.stopped);
+            fold(m68000_crc, c.clks_left[0]);
+        }
+        return m68000_crc.getValue();
+    }
+
+    /* register values around the edges the flag logic cares about */
+    static int pick(Random r) {
+        switch (r.nextInt(4)) {
+            case 0:
+                return r.nextInt();
+            case 1:
+                return r.nextInt(0x200) - 0x100;
+            case 2:
+                return r.nextBoolean() ? 0x80000000 + r.nextInt(3) - 1 : 0x7fffffff + r.nextInt(3) - 1;
+            default:
+                return r.nextInt() & 0xffff;
+        }
+    }
+
+    /**
+     * ***********************************
+     *
+     * gfx decoding ***********************************
+     */
+    /* length in bits the FRAC layouts are resolved for, as vh_open() does */
+    static final int GFX_REGION_BITS = 8 * 0x20000;
+
+    static int check_gfx() {
+        ArrayList<GfxLayout> layouts = new ArrayList<>();
+        Random r = new Random(selftest_seed != -1 ? selftest_seed : 1);
+        int orientation = Machine.orientation;
+        int regular = 0, other = 0, ok = 1;
+        String detail = "";
+
+        for (int g = 0; mame.driver.drivers[g] != null; g++) {
+            GfxDecodeInfo[] info = mame.driver.drivers[g].drv.gfxdecodeinfo;
+
+            for (int i = 0; info != null && i < info.length && info[i].memory_region != -1; i++) {
+                if (info[i].gfxlayout != null && !layouts.contains(info[i].gfxlayout)) {
+                    layouts.add(info[i].gfxlayout);
+                }
+            }
+        }
+
+        for (GfxLayout layout : layouts) {
+            GfxLayout gl = gfx_resolve(layout);
+
+            if (gl == null || gfxlayout_regular(gl) == 0) {
+                other++;
+                continue;
+            }
+            regular++;
+
+            /* enough random data for the last character */
+            int bits = (gl.total - 1) * gl.charincrement;
+            bits += max(gl.planeoffset, gl.planes) + max(gl.yoffset, gl.height) + max(gl.xoffset, gl.width) + 8;
+            char[] data = new char[bits / 8 + 1];
+            for (int i = 0; i < data.length; i++) {
+                data[i] = (char) r.nextInt(256);
+            }
+            UBytePtr src = new UBytePtr(data, 0);
+
+            for (int swap = 0; swap <= ORIENTATION_SWAP_XY; swap += ORIENTATION_SWAP_XY) {
+                Machine.orientation = swap;
+                GfxElement fast = gfx_alloc(gl), slow = gfx_alloc(gl);
+
+                for (int c = 0; c < gl.total; c++) {
+                    decodechar(fast, c, src, gl, 1);
+                    decodechar(slow, c, src, gl, 0);
+                }
+                if (!Arrays.equals(fast.gfxdata, slow.gfxdata) || !Arrays.equals(fast.pen_usage, slow.pen_usage)) {
+                    ok = 0;
+                    detail += String.format("%dx%d %d planes%s differs ", gl.width, gl.height, gl.planes, swap != 0 ? " swapped" : "");
+                }
+            }
+        }
+        Machine.orientation = orientation;
+        return result("gfx", ok, ok != 0 ? regular + " layouts decode the same by byte and by bit (" + other + " only by bit)" : detail);
+    }
+
+    /* a copy of the layout with its FRAC values resolved, null if it is incomplete */
+    static GfxLayout gfx_resolve(GfxLayout layout) {
+        GfxLayout gl = new GfxLayout(layout.width, layout.height, layout.total, layout.planes,
+                layout.planeoffset.clone(), layout.xoffset.clone(), layout.yoffset.clone(), layout.charincrement);
+
+        if (gl.planeoffset.length < gl.planes || gl.xoffset.length < gl.width || gl.yoffset.length < gl.height) {
+            return null;
+        }
+        if (IS_FRAC(gl.total) != 0) {
+            gl.total = GFX_REGION_BITS / gl.charincrement * FRAC_NUM(gl.total) / FRAC_DEN(gl.total);
+        }
+        resolve(gl.planeoffset);
+        resolve(gl.xoffset);
+        resolve(gl.yoffset);
+        return gl;
+    }
+
+    static void resolve(int[] offset) {
+        for (int i = 0; i < offset.length; i++) {
+            if (IS_FRAC(offset[i]) != 0) {
+                offset[i] = FRAC_OFFSET(offset[i]) + GFX_REGION_BITS * FRAC_NUM(offset[i]) / FRAC_DEN(offset[i]);
+            }
+        }
+    }
+
+    static int max(int[] offset, int count) {
+        int m = 0;
+
+        for (int i = 0; i < count; i++) {
+            m = Math.max(m, offset[i]);
+        }
+        return m;
+    }
+
+    /* the element decodegfx() would give for the layout in this orientation */
+    static GfxElement gfx_alloc(GfxLayout gl) {
+        GfxElement gfx = new GfxElement();
+
+        if ((Machine.orientation & ORIENTATION_SWAP_XY) != 0) {
+            gfx.width = gl.height;
+            gfx.height = gl.width;
+        } else {
+            gfx.width = gl.width;
+            gfx.height = gl.height;
+        }
+        gfx.line_modulo = gfx.width;
+        gfx.char_modulo = gfx.line_modulo * gfx.height;
+        gfx.gfxdata = new byte[gl.total * gfx.char_modulo];
+        gfx.total_elements = gl.total;
+        gfx.pen_usage = new int[gl.total];
+        return gfx;
+    }
+
+    /**
+     * ***********************************
+     *
+     * Z80 spin loops ***********************************
+     */
+    static int[][] z80spin_programs = {
+        cpubench.z80_poll_program,
+        {0x0000, 0x21, 0x00, 0x80, /* LD HL,$8000 */
+            0x7e, /* LD A,(HL) */
+            0xcb, 0x7f, /* BIT 7,A */
+            0xca, 0x03, 0x00, /* JP Z,$0003 */
+            0x0c, /* INC C */
+            0x18, 0xf5, -1 /* JR $0003 */},
+        {0x0000, 0x3a, 0x00, 0x80, /* LD A,($8000) */
+            0xfe, 0x80, /* CP $80 */
+            0x28, 0x02, /* JR Z,$0009 */
+            0x18, 0xf7, /* JR $0000 */
+            0x04, /* INC B */
+            0x18, 0xf3, -1 /* JR $0000 */},
+        /* A is tested before the load, each iteration depends on the last one */
+        {0x0000, 0xe6, 0x80, /* AND $80 */
+            0x3a, 0x00, 0x80, /* LD A,($8000) */
+            0x28, 0xf9, /* JR Z,$0000 */
+            0x04, /* INC B */
+            0x18, 0xf6, -1 /* JR $0000 */}};
+    static int[] z80spin_skippable = {1, 1, 1, 0};
+
+    static int check_z80spin() {
+        int spin = z80.z80_spin;
+        int ok = 1;
+        String detail = "";
+
+        for (int p = 0; p < z80spin_programs.length; p++) {
+            long skipped = 0;
+
+            /* the polled byte set in slice 5, slice 40 or never */
+            for (int change : new int[]{-1, 5, 40}) {
+                String plain = z80spin_run(0, z80spin_programs[p], change);
+                String skipping = z80spin_run(1, z80spin_programs[p], change);
+
+                skipped += z80.z80_spin_cycles[0];
+                if (!plain.equals(skipping)) {
+                    ok = 0;
+                    detail += String.format("program %d change %d: %s, with -z80spin %s ", p, change, plain, skipping);
+                }
+            }
+            if ((skipped != 0 ? 1 : 0) != z80spin_skippable[p]) {
+                ok = 0;
+                detail += String.format("program %d: %d cycles skipped ", p, skipped);
+            }
+        }
+        z80.z80_spin = spin;
+        return result("z80spin", ok, ok != 0 ? z80spin_programs.length + " polling loops run the same with and without skipping" : detail);
+    }
+
+    /* 60 slices of a program, returns the state it ends in */
+    static String z80spin_run(int spin, int[] program, int change) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0, 0xffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0, 0xffff, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        char[] mem = cpubench.setup_machine(CPU_Z80, 0x10000, mra, mwa);
+        cpu_interface intf = cpu.get(0).intf;
+        CRC32 trace = new CRC32();
+        long total = 0;
+
+        z80.z80_spin = spin;
+        z80.z80_spin_cycles[0] = 0;
+        cpubench.load_program(new cpubench.bench_core("z80spin", CPU_Z80, 3072000, 0x10000, program), mem);
+        intf.reset(null);
+        for (int i = 0; i < 60; i++) {
+            if (i == change) {
+                mem[0x8000] = 0x80;
+            }
+            total += intf.execute(1000 + i * 7);
+            fold(trace, intf.get_pc());
+        }
+        z80.Z80_Regs r = (z80.Z80_Regs) intf.get_context();
+        return String.format("pc %04x AF %04x BC %04x HL %04x R %02x cycles %d trace %08x",
+                intf.get_pc(), r.AF.D, r.BC.D, r.HL.D, r.R, total, trace.getValue());
+    }
+
+    /**
+     * ***********************************
+     *
+     * Z80 dynarec ***********************************
+     */
+    static int[][] dynarec_programs = {
+        cpubench.z80_program,
+        cpubench.z80_poll_program,
+        /* prefixed instructions, a call, the alternate registers and R */
+        {0x0000, 0x31, 0x00, 0x90, /* LD SP,$9000 */
+            0xdd, 0x21, 0x00, 0x80, /* LD IX,$8000 */
+            0xfd, 0x21, 0x40, 0x80, /* LD IY,$8040 */
+            0x06, 0x20, /* LD B,$20 */
+            0xdd, 0x7e, 0x00, /* LD A,(IX+0) */
+            0xcb, 0x27, /* SLA A */
+            0xfd, 0x86, 0x00, /* ADD A,(IY+0) */
+            0xdd, 0x77, 0x00, /* LD (IX+0),A */
+            0xcd, 0x30, 0x00, /* CALL $0030 */
+            0xdd, 0x23, /* INC IX */
+            0xfd, 0x23, /* INC IY */
+            0x10, 0xec, /* DJNZ $000D */
+            0xed, 0x44, /* NEG */
+            0xd9, /* EXX */
+            0x0c, /* INC C */
+            0xd9, /* EXX */
+            0xc3, 0x03, 0x00, -1, /* JP $0003 */
+            0x0030, 0xc5, /* PUSH BC */
+            0x47, /* LD B,A */
+            0xed, 0x5f, /* LD A,R */
+            0xa8, /* XOR B */
+            0xfd, 0x77, 0x01, /* LD (IY+1),A */
+            0xc1, /* POP BC */
+            0xc9, -1 /* RET */}};
+    static final int DYNAREC_SLICES = 5000;
+
+    static int check_dynarec() {
+        int dynarec = z80dynarec.z80_dynarec;
+        int spin = z80.z80_spin;
+        int ok = 1;
+        String detail = "";
+
+        z80.z80_spin = 0;
+        for (int p = 0; p < dynarec_programs.length; p++) {
+            long seed = selftest_seed != -1 ? selftest_seed : p + 1;
+            ArrayList<String> interpreted = dynarec_run(0, dynarec_programs[p], seed);
+            ArrayList<String> translated = dynarec_run(1, dynarec_programs[p], seed);
+            long entered = z80dynarec.z80_dynarec_entered(0);
+
+            for (int i = 0; i < interpreted.size(); i++) {
+                if (!interpreted.get(i).equals(translated.get(i))) {
+                    ok = 0;
+                    detail += String.format("program %d slice %d: %s, with -z80dynarec %s ", p, i, interpreted.get(i), translated.get(i));
+                    break;
+                }
+            }
+            if (entered == 0) {
+                ok = 0;
+                detail += String.format("program %d: no block run ", p);
+            }
+        }
+        z80.z80_spin = spin;
+        z80dynarec.z80_dynarec = dynarec;
+        return result("dynarec", ok, ok != 0 ? dynarec_programs.length + " programs run the same interpreted and translated, " + DYNAREC_SLICES + " slices each" : detail);
+    }
+
+    /* the state after each slice of a program run from ROM, the RAM last */
+    static ArrayList<String> dynarec_run(int translate, int[] program, long seed) {
+        MemoryReadAddress[] mra = {
+            new MemoryReadAddress(0x0000, 0x7fff, MRA_ROM),
+            new MemoryReadAddress(0x8000, 0xffff, MRA_RAM),
+            new MemoryReadAddress(-1) /* end of table */};
+        MemoryWriteAddress[] mwa = {
+            new MemoryWriteAddress(0x0000, 0x7fff, MWA_ROM),
+            new MemoryWriteAddress(0x8000, 0xffff, MWA_RAM),
+            new MemoryWriteAddress(-1) /* end of table */};
+        char[] mem = cpubench.setup_machine(CPU_Z80, 0x10000, mra, mwa);
+        cpu_interface intf = cpu.get(0).intf;
+        ArrayList<String> states = new ArrayList<String>();
+        Random r = new Random(seed);
+        CRC32 ram = new CRC32();
+
+        z80dynarec.z80_dynarec = translate;
+        cpubench.load_program(new cpubench.bench_core("dynarec", CPU_Z80, 3072000, 0x10000, program), mem);
+        intf.reset(null);
+        for (int i = 0; i < DYNAREC_SLICES; i++) {
+            int cycles = intf.execute(1 + r.nextInt(i < DYNAREC_SLICES / 2 ? 40 : 400));
+            z80.Z80_Regs z = (z80.Z80_Regs) intf.get_context();
+
+            states.add(String.format("pc %04x AF %04x BC %04x DE %04x HL %04x IX %04x IY %04x SP %04x"
+                    + " AF' %04x BC' %04x DE' %04x HL' %04x R %02x R2 %02x I %02x IFF %d%d IM %d HALT %d cycles %d",
+                    z.PC.D, z.AF.D, z.BC.D, z.DE.D, z.HL.D, z.IX.D, z.IY.D, z.SP.D,
+                    z.AF2.D, z.BC2.D, z.DE2.D, z.HL2.D, z.R, z.R2, z.I, z.IFF1, z.IFF2, z.IM, z.HALT, cycles));
+        }
+        for (int a = 0x8000; a < 0x10000; a++) {
+            ram.update(mem[a]);
+        }
+        states.add(String.format("RAM %08x", ram.getValue()));
+        return states;
+    }
+
+    /**
+     * ***********************************
+     *
+     * input logs ***********************************
+     */
+    static final int INPUTLOG_FRAMES = 50000;
+
+    static int check_inputlog() {
+        Random r = new Random(selftest_seed != -1 ? selftest_seed : 1);
+        char[][] ports = new char[INPUTLOG_FRAMES][];
+        char[] current = new char[MAX_INPUT_PORTS];
+        char[] values = new char[MAX_INPUT_PORTS];
+        File file;
+
+        /* a port changes now and then, as the inputs of a game do */
+        for (int f = 0; f < INPUTLOG_FRAMES; f++) {
+            if (r.nextInt(10) == 0) {
+                current[r.nextInt(MAX_INPUT_PORTS)] = (char) r.nextInt(0x10000);
+            }
+            ports[f] = current.clone();
+        }
+
+        try {
+            file = File.createTempFile("selftest", ".inp");
+        } catch (IOException e) {
+            return result("inputlog", 0, "can't create a temporary file: " + e);
+        }
+        file.deleteOnExit();
+
+        inputlog log = inputlog_create(file.getPath(), "selftest");
+        for (int f = 0; f < INPUTLOG_FRAMES; f++) {
+            inputlog_write(log, ports[f].clone(), 0, MAX_INPUT_PORTS);
+            if (f % 3 == 0) {
+                inputlog_write(log, ports[f].clone(), 5, 1);
+            }
+        }
+        inputlog_close(log);
+        long written = log.entries;
+
+        String detail = null;
+        log = inputlog_open(file.getPath());
+        if (log == null || !"selftest".equals(log.game)) {
+            detail = "the log can't be opened again";
+        }
+        for (int f = 0; f < INPUTLOG_FRAMES && detail == null; f++) {
+            Arrays.fill(values, (char) 7);
+            if (inputlog_read(log, values, 0, MAX_INPUT_PORTS) == 0 || !Arrays.equals(values, ports[f])) {
+                detail = "the ports of frame " + f + " differ";
+            } else if (f % 3 == 0) {
+                values[5] = 1;
+                if (inputlog_read(log, values, 5, 1) == 0 || values[5] != ports[f][5]) {
+                    detail = "the analog port of frame " + f + " differs";
+                }
+            }
+        }
+        if (detail == null && inputlog_read(log, values, 0, MAX_INPUT_PORTS) != 0) {
+            detail = "the log goes on after the last frame";
+        }
+        if (detail == null && log.entries != written) {
+            detail = log.entries + " entries played back, " + written + " written";
+        }
+        if (log != null) {
+            inputlog_close(log);
+        }
+        long size = file.length();
+        file.delete();
+        return result("inputlog", detail == null ? 1 : 0, detail == null
+                ? String.format("%d frames played back as recorded, %d entries in %d bytes", INPUTLOG_FRAMES, written, size) : detail);
+    }
+}
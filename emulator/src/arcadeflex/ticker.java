@@ -1,20 +1,84 @@
 package arcadeflex;
 
+import java.util.concurrent.locks.LockSupport;
+
 import static arcadeflex.libc_old.*;
 import static mame.mame.*;
 
 public class ticker {
-  public static long TICKS_PER_SEC; 
-  
+  public static long TICKS_PER_SEC;
+
+  /* throttle waits park the thread and only spin for this last part */
+  public static long THROTTLE_SPIN_TICKS;
+
+  /* frame pacing statistics, deviation of each frame interval from the wanted one */
+  public static int throttle_frames;
+  public static long throttle_jitter_max;
+  static double throttle_jitter_sum, throttle_jitter_sqsum;
+  static long throttle_last;
+
   public static long ticker()
   {
-      return uclock();
+      return System.nanoTime();
   }
   public static void init_ticker()
   {
-    TICKS_PER_SEC = UCLOCKS_PER_SEC;
+    TICKS_PER_SEC = 1000000000L;
+    THROTTLE_SPIN_TICKS = TICKS_PER_SEC / 2000;
+
+    throttle_frames = 0;
+    throttle_jitter_max = 0;
+    throttle_jitter_sum = throttle_jitter_sqsum = 0;
+    throttle_last = 0;
+
+    if (errorlog!=null) fprintf(errorlog,"using System.nanoTime() for timing\n");
+  }
+
+  /* wait until target and return the current time. The bulk of the wait is */
+  /* spent parked so a throttled game doesn't keep a host core busy.         */
+  public static long throttle_wait(long target)
+  {
+      long curr = ticker();
+
+      while (target - curr > THROTTLE_SPIN_TICKS)
+      {
+          LockSupport.parkNanos((target - curr - THROTTLE_SPIN_TICKS) * 1000000000L / TICKS_PER_SEC);
+          curr = ticker();
+      }
+      while (target - curr > 0)
+          curr = ticker();
+
+      return curr;
+  }
+
+  /* record a throttled frame shown at curr, interval is the wanted frame time */
+  public static void throttle_frame(long curr, long interval)
+  {
+      if (throttle_last != 0)
+      {
+          long jitter = Math.abs(curr - throttle_last - interval);
 
-    if (errorlog!=null) fprintf(errorlog,"using uclock() for timing\n");
+          throttle_frames++;
+          throttle_jitter_sum += jitter;
+          throttle_jitter_sqsum += (double) jitter * jitter;
+          if (jitter > throttle_jitter_max) throttle_jitter_max = jitter;
+      }
+      throttle_last = curr;
+  }
+
+  /* average frame jitter in ticks */
+  public static double throttle_jitter_mean()
+  {
+      return throttle_frames != 0 ? throttle_jitter_sum / throttle_frames : 0;
   }
-  
+
+  /* standard deviation of the frame jitter in ticks */
+  public static double throttle_jitter_stddev()
+  {
+      if (throttle_frames == 0) return 0;
+
+      double mean = throttle_jitter_mean();
+      return Math.sqrt(Math.max(0, throttle_jitter_sqsum / throttle_frames - mean * mean));
+  }
+
 }
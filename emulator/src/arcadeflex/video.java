@@ -12,6 +12,7 @@ import java.awt.event.ComponentEvent;
 import java.awt.event.KeyEvent;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.util.Arrays;
 import static mame.mame.*;
 import static mame.driverH.*;
 import static mame.version.*;
@@ -22,6 +23,7 @@ import static mame.inputportH.*;
 import static mame.input.*;
 import static arcadeflex.sound.*;
 import static arcadeflex.ptrlib.*;
+import static arcadeflex.bench.*;
 
 public class video {
 
@@ -66,10 +68,16 @@ public class video {
     public static final int BACKGROUND = 0;
     /*TODO*///
     /*TODO*///
-    /*TODO*///dirtygrid grid1;
-    /*TODO*///dirtygrid grid2;
-    /*TODO*///char *dirty_old=grid1;
-    /*TODO*///char *dirty_new=grid2;
+    /* one flag per 16x16 block of scrbitmap. drawgfx, copybitmap, fillbitmap and  */
+    /* the tilemaps mark what they change in dirty_new; dirty_old is the grid of   */
+    /* the previous frame. The blit converts the blocks set in either: a sprite    */
+    /* drawn last frame is usually erased by a redraw that marks nothing (a        */
+    /* tilemap none of whose tiles changed), so only last frame's mark covers it.  */
+    public static int dirty_width, dirty_height;
+    public static char[] grid1;
+    public static char[] grid2;
+    public static char[] dirty_old;
+    public static char[] dirty_new;
     /*TODO*///
     /*TODO*///void scale_vectorgames(int gfx_width,int gfx_height,int *width,int *height);
     /*TODO*///
@@ -592,45 +600,50 @@ public class video {
 
     /*TODO*///
     public static void osd_mark_dirty(int _x1, int _y1, int _x2, int _y2, int ui) {
-        //  System.out.println("TODO osd_mark_dirty");
+        if (use_dirty != 0 && dirty_new != null) {
+            int x, y;
 
-        /*TODO*///	if (use_dirty)
-        /*TODO*///	{
-        /*TODO*///		int x, y;
-        /*TODO*///
-        /*TODO*/////        if (errorlog) fprintf(errorlog, "mark_dirty %3d,%3d - %3d,%3d\n", _x1,_y1, _x2,_y2);
-        /*TODO*///
-        /*TODO*///		_x1 -= skipcolumns;
-        /*TODO*///		_x2 -= skipcolumns;
-        /*TODO*///		_y1 -= skiplines;
-        /*TODO*///		_y2 -= skiplines;
-        /*TODO*///
-        /*TODO*///	if (_y1 >= gfx_display_lines || _y2 < 0 || _x1 > gfx_display_columns || _x2 < 0) return;
-        /*TODO*///		if (_y1 < 0) _y1 = 0;
-        /*TODO*///		if (_y2 >= gfx_display_lines) _y2 = gfx_display_lines - 1;
-        /*TODO*///		if (_x1 < 0) _x1 = 0;
-        /*TODO*///		if (_x2 >= gfx_display_columns) _x2 = gfx_display_columns - 1;
-        /*TODO*///
-        /*TODO*///		for (y = _y1; y <= _y2 + 15; y += 16)
-        /*TODO*///			for (x = _x1; x <= _x2 + 15; x += 16)
-        /*TODO*///				MARKDIRTY(x,y);
-        /*TODO*///	}
+            /*TODO*/////        if (errorlog) fprintf(errorlog, "mark_dirty %3d,%3d - %3d,%3d\n", _x1,_y1, _x2,_y2);
+
+            /* the whole bitmap is converted on blit, not only the displayed window, */
+            /* so the grid is in bitmap coordinates and skipcolumns/skiplines don't  */
+            /* apply                                                                  */
+            if (_y1 >= scrbitmap.height || _y2 < 0 || _x1 >= scrbitmap.width || _x2 < 0) {
+                return;
+            }
+            if (_y1 < 0) {
+                _y1 = 0;
+            }
+            if (_y2 >= scrbitmap.height) {
+                _y2 = scrbitmap.height - 1;
+            }
+            if (_x1 < 0) {
+                _x1 = 0;
+            }
+            if (_x2 >= scrbitmap.width) {
+                _x2 = scrbitmap.width - 1;
+            }
+
+            for (y = _y1 >> 4; y <= _y2 >> 4; y++) {
+                for (x = _x1 >> 4; x <= _x2 >> 4; x++) {
+                    dirty_new[y * dirty_width + x] = 1;
+                }
+            }
+        }
+    }
+
+    static void init_dirty(int dirty) {
+        Arrays.fill(dirty_new, (char) dirty);
+    }
+
+    static void swap_dirty() {
+        char[] tmp;
+
+        tmp = dirty_old;
+        dirty_old = dirty_new;
+        dirty_new = tmp;
     }
 
-    /*TODO*///
-    /*TODO*///static void init_dirty(char dirty)
-    /*TODO*///{
-    /*TODO*///	memset(dirty_new, dirty, MAX_GFX_WIDTH/16 * MAX_GFX_HEIGHT/16);
-    /*TODO*///}
-    /*TODO*///
-    /*TODO*///INLINE void swap_dirty(void)
-    /*TODO*///{
-    /*TODO*///    char *tmp;
-    /*TODO*///
-    /*TODO*///	tmp = dirty_old;
-    /*TODO*///	dirty_old = dirty_new;
-    /*TODO*///	dirty_new = tmp;
-    /*TODO*///}
     /*TODO*///
     /*TODO*////*
     /*TODO*/// * This function tries to find the best display mode.
@@ -1054,17 +1067,22 @@ public class video {
             height = temp;
         }
         /* Mark the dirty buffers as dirty */
-
- /*TODO*///	if (use_dirty)
-        /*TODO*///	{
-        /*TODO*///		if (vector_game)
-        /*TODO*///			/* vector games only use one dirty buffer */
-        /*TODO*///			init_dirty (0);
-        /*TODO*///		else
-        /*TODO*///			init_dirty(1);
-        /*TODO*///		swap_dirty();
-        /*TODO*///		init_dirty(1);
-        /*TODO*///	}
+        if (use_dirty != 0) {
+            dirty_width = (width + 15) >> 4;
+            dirty_height = (height + 15) >> 4;
+            grid1 = new char[dirty_width * dirty_height];
+            grid2 = new char[dirty_width * dirty_height];
+            dirty_old = grid1;
+            dirty_new = grid2;
+
+            if (vector_game != 0) /* vector games only use one dirty buffer */ {
+                init_dirty(0);
+            } else {
+                init_dirty(1);
+            }
+            swap_dirty();
+            init_dirty(1);
+        }
         /*TODO*///	if (dirtycolor)
         /*TODO*///	{
         /*TODO*///		for (i = 0;i < screen_colors;i++)
@@ -1417,8 +1435,10 @@ public class video {
         /*TODO*///
         warming_up = 1;
 
-        //kill loading window
-        if (MainApplet.inst != null) {
+        if (headless != 0) {
+            /* no window, frames are converted into an offscreen buffer only */
+            headless_pixels = new int[width * height];
+        } else if (MainApplet.inst != null) {
             //kill loading window
             osdepend.dlprogress.setVisible(false);
 
@@ -1524,6 +1544,7 @@ public class video {
     }
 
     public static void osd_close_display() {
+        present.present_stop();
         /*TODO*///	if (gone_to_gfx_mode != 0)
         /*TODO*///	{
         /*TODO*///		/* tidy up if 15.75KHz SVGA mode used */
@@ -1539,6 +1560,12 @@ public class video {
         if (frames_displayed > FRAMES_TO_SKIP) {
             printf("Average FPS: %f\n", (double) TICKS_PER_SEC / (end_time - start_time) * (frames_displayed - FRAMES_TO_SKIP));
         }
+        if (throttle_frames != 0) {
+            printf("Frame jitter: %.3f ms average, %.3f ms deviation, %.3f ms max over %d frames\n",
+                    throttle_jitter_mean() * 1000 / TICKS_PER_SEC,
+                    throttle_jitter_stddev() * 1000 / TICKS_PER_SEC,
+                    (double) throttle_jitter_max * 1000 / TICKS_PER_SEC, throttle_frames);
+        }
         /*TODO*///	}
         /*TODO*///
         /*TODO*///	free(dirtycolor);
@@ -1567,8 +1594,19 @@ public class video {
 
         dirtycolor = new int[screen_colors];
         current_palette = new UBytePtr(3 * screen_colors);
-        palette_16bit_lookup = new char[screen_colors];
-        if (dirtycolor == null || current_palette == null || palette_16bit_lookup == null) {
+        if (scrbitmap.depth != 8 && modifiable == 0) {
+            /* pens are RGB555 values, the blitter expands them through a fixed table */
+            blit.palette = new int[32768];
+            for (i = 0; i < 32768; i++) {
+                int r = (i >> 10) & 0x1f, g = (i >> 5) & 0x1f, b = i & 0x1f;
+
+                blit.palette[i] = ((r << 3) | (r >> 2)) << 16 | ((g << 3) | (g >> 2)) << 8 | ((b << 3) | (b >> 2));
+            }
+        } else {
+            blit.palette = new int[screen_colors];
+        }
+        present.palette_serial++;
+        if (dirtycolor == null || current_palette == null) {
             return 1;
         }
 
@@ -1583,22 +1621,19 @@ public class video {
         }
 
         if (scrbitmap.depth != 8 && modifiable == 0) {
-            throw new UnsupportedOperationException("osd_allocatecolors");
-            /*TODO*///		int r,g,b;
-            /*TODO*///
-            /*TODO*///
-            /*TODO*///		for (i = 0;i < totalcolors;i++)
-            /*TODO*///		{
-            /*TODO*///			r = 255 * brightness * pow(palette[3*i+0] / 255.0, 1 / osd_gamma_correction) / 100;
-            /*TODO*///			g = 255 * brightness * pow(palette[3*i+1] / 255.0, 1 / osd_gamma_correction) / 100;
-            /*TODO*///			b = 255 * brightness * pow(palette[3*i+2] / 255.0, 1 / osd_gamma_correction) / 100;
-            /*TODO*///			*pens++ = makecol(r,g,b);
-            /*TODO*///		}
-            /*TODO*///
-            /*TODO*///		Machine->uifont->colortable[0] = makecol(0x00,0x00,0x00);
-            /*TODO*///		Machine->uifont->colortable[1] = makecol(0xff,0xff,0xff);
-            /*TODO*///		Machine->uifont->colortable[2] = makecol(0xff,0xff,0xff);
-            /*TODO*///		Machine->uifont->colortable[3] = makecol(0x00,0x00,0x00);
+            int r, g, b;
+
+            for (i = 0; i < totalcolors; i++) {
+                r = (int) (255 * brightness * Math.pow(palette[3 * i + 0].read() / 255.0, 1 / osd_gamma_correction) / 100);
+                g = (int) (255 * brightness * Math.pow(palette[3 * i + 1].read() / 255.0, 1 / osd_gamma_correction) / 100);
+                b = (int) (255 * brightness * Math.pow(palette[3 * i + 2].read() / 255.0, 1 / osd_gamma_correction) / 100);
+                pens[i] = (char) makecol(r, g, b);
+            }
+
+            Machine.uifont.colortable.write(0, makecol(0x00, 0x00, 0x00));
+            Machine.uifont.colortable.write(1, makecol(0xff, 0xff, 0xff));
+            Machine.uifont.colortable.write(2, makecol(0xff, 0xff, 0xff));
+            Machine.uifont.colortable.write(3, makecol(0x00, 0x00, 0x00));
         } else {
             if (scrbitmap.depth == 8 && totalcolors >= 255) {
                 int bestblack, bestwhite;
@@ -1723,7 +1758,6 @@ public class video {
         /*TODO*///		}
         /*TODO*///	}
         /*TODO*///
-        /*temphack?? */ back_buffer = new char[Machine.scrbitmap.line[scrbitmap.ptrPos].memory.length];
         return 0;
     }
 
@@ -1749,12 +1783,28 @@ public class video {
         }
     }
 
+    /* Allegro's 15 bit color helpers, used for the direct RGB555 pens */
+    static int makecol(int r, int g, int b) {
+        return ((r >> 3) & 0x1f) << 10 | ((g >> 3) & 0x1f) << 5 | ((b >> 3) & 0x1f);
+    }
+
+    static int getr(int c) {
+        return ((c >> 10) & 0x1f) << 3;
+    }
+
+    static int getg(int c) {
+        return ((c >> 5) & 0x1f) << 3;
+    }
+
+    static int getb(int c) {
+        return (c & 0x1f) << 3;
+    }
+
     public static void osd_get_pen(int pen, char[] red, char[] green, char[] blue) {
         if (scrbitmap.depth != 8 && modifiable_palette == 0) {
-            throw new UnsupportedOperationException("Unimplemented");
-            /*TODO*///		*red =   getr(pen);
-            /*TODO*///		*green = getg(pen);
-            /*TODO*///		*blue =  getb(pen);
+            red[0] = (char) getr(pen);
+            green[0] = (char) getg(pen);
+            blue[0] = (char) getb(pen);
         } else {
             red[0] = (char) (current_palette.read(3 * pen + 0) & 0xFF);
             green[0] = (char) (current_palette.read(3 * pen + 1) & 0xFF);
@@ -1803,7 +1853,9 @@ public class video {
             }
         }
         if (pan_changed != 0) {
-            /*TODO*///  		if (use_dirty) init_dirty(1);
+            if (use_dirty != 0) {
+                init_dirty(1);
+            }
 
             set_ui_visarea(skipcolumns, skiplines, skipcolumns + gfx_display_columns - 1, skiplines + gfx_display_lines - 1);
         }
@@ -1824,7 +1876,13 @@ public class video {
                 new int[]{0, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1}
             };
 
+    /* set while the frames emulated are thrown away, see mame.runahead */
+    public static int video_suppressed;
+
     public static int osd_skip_this_frame() {
+        if (video_suppressed != 0) {
+            return 1;
+        }
         return skiptable[frameskip][frameskip_counter];
     }
 
@@ -1917,10 +1975,8 @@ public class video {
             //while ((ticker() - ticksSinceLastFrame) < ticksPerFrame)System.Threading.Thread.Sleep(0);
             if (throttle != 0) {
                 if (video_sync != 0) {
-                    do {
-                        //vsync();
-                        curr = ticker();
-                    } while ((long) (TICKS_PER_SEC / (curr - last2)) > (long) (Machine.drv.frames_per_second * 11L / 10L));
+                    //vsync();
+                    curr = throttle_wait(last2 + TICKS_PER_SEC * 10L / (Machine.drv.frames_per_second * 11L));
 
                     last2 = curr;
                 } else {
@@ -1928,12 +1984,9 @@ public class video {
                     /* wait for video sync but use normal throttling */
                     //                        if (wait_vsync != 0)
                     //vsync();
-                    while ((ticker() - ticksSinceLastFrame) < ticksPerFrame/**
+                    curr = throttle_wait(ticksSinceLastFrame + ticksPerFrame/**
                              * 0.95
-                             */
-                            );
-
-                    curr = ticker();
+                             */);
 
                     if (already_synced == 0) {
                         /* wait only if the audio update hasn't synced us already */
@@ -1941,9 +1994,7 @@ public class video {
                         target = this_frame_base + (long) (frameskip_counter * TICKS_PER_SEC / Machine.drv.frames_per_second);
 
                         if (curr - target < 0) {
-                            do {
-                                curr = ticker();
-                            } while (curr - target < 0);
+                            curr = throttle_wait(target);
                         }
                     }
                 }
@@ -1986,7 +2037,7 @@ public class video {
                 }
             }
 
-            if (scrbitmap.depth == 8) {
+            if (scrbitmap.depth == 8 || modifiable_palette != 0) {
                 if (dirty_bright != 0) {
                     dirty_bright = 0;
                     for (int i = 0; i < 256; i++) {
@@ -1996,6 +2047,10 @@ public class video {
                     }
                 }
                 if (dirtypalette != 0) {
+                    if (use_dirty != 0) {
+                        init_dirty(1);	/* have to redraw the whole screen */
+                    }
+
                     dirtypalette = 0;
                     for (int i = 0; i < screen_colors; i++) {
                         if (dirtycolor[i] != 0) {
@@ -2021,7 +2076,9 @@ public class video {
                     }
                 }
             } else {
-                throw new UnsupportedOperationException("Not supported yet.");
+                /* direct RGB555 pens, nothing to update */
+                dirty_bright = 0;
+                dirtypalette = 0;
 
                 /*TODO*///			if (dirty_bright)
                 /*TODO*///			{
@@ -2069,9 +2126,10 @@ public class video {
             }
 
             if (use_dirty != 0) {
-                /*TODO*///                   if (!vector_game)
-                /*TODO*///                       swap_dirty();
-                /*TODO*///                   init_dirty(0);
+                if (vector_game == 0) {
+                    swap_dirty();
+                }
+                init_dirty(0);
             }
 
             if (need_to_clear_bitmap != 0) {
@@ -2167,6 +2225,9 @@ public class video {
     static int framecount = 0;
 
     public static void osd_update_video_and_audio() {
+        if (video_suppressed != 0) {
+            return;	/* nothing to show, nor to wait for */
+        }
         if (++framecount > frameskip) {
             framecount = 0;
 
@@ -2184,10 +2245,15 @@ public class video {
 
             long curr;
             /* now wait until it's time to trigger the interrupt */
-            do {
+            if (throttle != 0) {
+                long interval = (frameskip + 1) * TICKS_PER_SEC / Machine.drv.frames_per_second;
 
-                curr = uclock();
-            } while ((throttle != 0) && (curr - prev1[clock_counter] < (frameskip + 1) * 1000000000 / Machine.drv.frames_per_second));
+                curr = throttle_wait(prev1[clock_counter] + interval);
+                throttle_frame(curr, interval);
+            } else {
+                curr = ticker();
+                throttle_last = 0;
+            }
             //while (throttle != 0 && video_sync == 0 && (curr - prev[i]) < (frameskip+1) * UCLOCKS_PER_SEC/drv.frames_per_second);
             if (showfps != 0 || showfpstemp != 0) {
                 int fps;
@@ -2203,7 +2269,7 @@ public class video {
                     ui_text(buf, Machine.uiwidth - buf.length() * Machine.uifontwidth, Machine.uifontheight);
                 }
             }
-            if (scrbitmap.depth == 8) {
+            if (scrbitmap.depth == 8 || modifiable_palette != 0) {
                 if (dirty_bright != 0) {
                     dirty_bright = 0;
                     for (int i = 0; i < 256; i++) {
@@ -2213,6 +2279,10 @@ public class video {
                     }
                 }
                 if (dirtypalette != 0) {
+                    if (use_dirty != 0) {
+                        init_dirty(1);	/* have to redraw the whole screen */
+                    }
+
                     dirtypalette = 0;
                     for (int i = 0; i < screen_colors; i++) {
                         if (dirtycolor[i] != 0) {
@@ -2281,6 +2351,12 @@ public class video {
             if (need_to_clear_bitmap != 0) {
                 osd_clearbitmap(scrbitmap);
             }
+            if (use_dirty != 0) {
+                if (vector_game == 0) {
+                    swap_dirty();
+                }
+                init_dirty(0);
+            }
             clock_counter = (clock_counter + 1) % MEMORY;
             if ((curr - prev1[clock_counter]) != 0) {
                 long divdr = Machine.drv.frames_per_second * (curr - prev1[clock_counter]) / (100L * MEMORY);
@@ -57,8 +57,8 @@ public class m68kcpuH {
 /*TODO*///#if M68K_HAS_8_BIT_SIZE
 /*TODO*///#define MAKE_INT_8(A) (int8)((A)&0xff)
 
-    public static byte MAKE_INT_8(long A) {
-        return (byte) ((A) & 0xffL);
+    public static byte MAKE_INT_8(int A) {
+        return (byte) ((A) & 0xff);
     }
     /*TODO*///#else
 /*TODO*///#undef  int8
@@ -77,8 +77,8 @@ public class m68kcpuH {
 /*TODO*///#if M68K_HAS_16_BIT_SIZE
 /*TODO*///#define MAKE_INT_16(A) (int16)((A)&0xffff)
 
-    public static short MAKE_INT_16(long A) {
-        return (short) ((A) & 0xffffL);
+    public static short MAKE_INT_16(int A) {
+        return (short) ((A) & 0xffff);
     }
     /*TODO*///#else
 /*TODO*///#undef  int16
@@ -97,12 +97,12 @@ public class m68kcpuH {
 /*TODO*///#if M68K_HAS_32_BIT_SIZE
 /*TODO*///#if M68K_OVER_32_BIT
 /*TODO*///#define MAKE_INT_32(A) (int32)((A)&0xffffffff)
+/*TODO*///#else
+/*TODO*///#define MAKE_INT_32(A) (int32)(A)
 
-    public static int MAKE_INT_32(long A) {
-        return (int) ((A) & 0xffffffffL);
+    public static int MAKE_INT_32(int A) {
+        return (A);
     }
-    /*TODO*///#else
-/*TODO*///#define MAKE_INT_32(A) (int32)(A)
 /*TODO*///#endif /* M68K_OVER_32_BIT */
 /*TODO*///#else
 /*TODO*///#undef  int32
@@ -163,68 +163,68 @@ public class m68kcpuH {
 /*TODO*///
 /* Bit Isolation Macros */
 
-    public static long BIT_0(long A) {
-        return ((A) & 0x00000001L);
+    public static int BIT_0(int A) {
+        return ((A) & 0x00000001);
     }
 
-    public static long BIT_1(long A) {
-        return ((A) & 0x00000002L);
+    public static int BIT_1(int A) {
+        return ((A) & 0x00000002);
     }
 
-    public static long BIT_2(long A) {
-        return ((A) & 0x00000004L);
+    public static int BIT_2(int A) {
+        return ((A) & 0x00000004);
     }
 
-    public static long BIT_3(long A) {
-        return ((A) & 0x00000008L);
+    public static int BIT_3(int A) {
+        return ((A) & 0x00000008);
     }
 
-    public static long BIT_4(long A) {
-        return ((A) & 0x00000010L);
+    public static int BIT_4(int A) {
+        return ((A) & 0x00000010);
     }
 
-    public static long BIT_5(long A) {
-        return ((A) & 0x00000020L);
+    public static int BIT_5(int A) {
+        return ((A) & 0x00000020);
     }
 
-    public static long BIT_6(long A) {
-        return ((A) & 0x00000040L);
+    public static int BIT_6(int A) {
+        return ((A) & 0x00000040);
     }
 
-    public static long BIT_7(long A) {
-        return ((A) & 0x00000080L);
+    public static int BIT_7(int A) {
+        return ((A) & 0x00000080);
     }
 
-    public static long BIT_8(long A) {
-        return ((A) & 0x00000100L);
+    public static int BIT_8(int A) {
+        return ((A) & 0x00000100);
     }
 
-    public static long BIT_9(long A) {
-        return ((A) & 0x00000200L);
+    public static int BIT_9(int A) {
+        return ((A) & 0x00000200);
     }
 
-    public static long BIT_A(long A) {
-        return ((A) & 0x00000400L);
+    public static int BIT_A(int A) {
+        return ((A) & 0x00000400);
     }
 
-    public static long BIT_B(long A) {
-        return ((A) & 0x00000800L);
+    public static int BIT_B(int A) {
+        return ((A) & 0x00000800);
     }
 
-    public static long BIT_C(long A) {
-        return ((A) & 0x00001000L);
+    public static int BIT_C(int A) {
+        return ((A) & 0x00001000);
     }
 
-    public static long BIT_D(long A) {
-        return ((A) & 0x00002000L);
+    public static int BIT_D(int A) {
+        return ((A) & 0x00002000);
     }
 
-    public static long BIT_E(long A) {
-        return ((A) & 0x00004000L);
+    public static int BIT_E(int A) {
+        return ((A) & 0x00004000);
     }
 
-    public static long BIT_F(long A) {
-        return ((A) & 0x00008000L);
+    public static int BIT_F(int A) {
+        return ((A) & 0x00008000);
     }
     /*TODO*///#define BIT_10(A) ((A) & 0x00010000)
 /*TODO*///#define BIT_11(A) ((A) & 0x00020000)
@@ -246,99 +246,100 @@ public class m68kcpuH {
 /*TODO*////* Get the most significant bit for specific sizes */
 /*TODO*///#define GET_MSB_8(A)  ((A) & 0x80)
 
-    public static long GET_MSB_8(long A) {
-        return ((A) & 0x80L);
+    public static int GET_MSB_8(int A) {
+        return ((A) & 0x80);
     }
 
-    public static long GET_MSB_9(long A) {
-        return ((A) & 0x100L);
+    public static int GET_MSB_9(int A) {
+        return ((A) & 0x100);
     }
     /*TODO*///#define GET_MSB_16(A) ((A) & 0x8000)
 
-    public static long GET_MSB_16(long A) {
-        return ((A) & 0x8000L);
+    public static int GET_MSB_16(int A) {
+        return ((A) & 0x8000);
     }
 
-    public static long GET_MSB_17(long A) {
-        return ((A) & 0x10000L);
+    public static int GET_MSB_17(int A) {
+        return ((A) & 0x10000);
     }
     /*TODO*///#define GET_MSB_32(A) ((A) & 0x80000000)
 
-    public static long GET_MSB_32(long A) {
-        return ((A) & 0x80000000L);
+    public static int GET_MSB_32(int A) {
+        return ((A) & 0x80000000);
     }
     /*TODO*///
 /*TODO*////* Isolate nibbles */
 
-    public static long LOW_NIBBLE(long A) {
-        return ((A) & 0x0fL);
+    public static int LOW_NIBBLE(int A) {
+        return ((A) & 0x0f);
     }
 
-    public static long HIGH_NIBBLE(long A) {
-        return ((A) & 0xf0L);
+    public static int HIGH_NIBBLE(int A) {
+        return ((A) & 0xf0);
     }
     /*TODO*///
 /*TODO*////* These are used to isolate 8, 16, and 32 bit sizes */
 /*TODO*///#define MASK_OUT_ABOVE_2(A)  ((A) & 3)  
 
-    public static long MASK_OUT_ABOVE_8(long A) {
-        return ((A) & 0xffL);
+    public static int MASK_OUT_ABOVE_8(int A) {
+        return ((A) & 0xff);
     }
 
-    public static long MASK_OUT_ABOVE_16(long A) {
-        return ((A) & 0xffffL);
+    public static int MASK_OUT_ABOVE_16(int A) {
+        return ((A) & 0xffff);
     }
     /*TODO*///#define MASK_OUT_BELOW_2(A)  ((A) & ~3)
 
-    public static long MASK_OUT_BELOW_2(long A) {
+    public static int MASK_OUT_BELOW_2(int A) {
         return ((A) & ~3);
     }
     /*TODO*///#define MASK_OUT_BELOW_8(A)  ((A) & ~0xff)
 
-    public static long MASK_OUT_BELOW_8(long A) {
-        return ((A) & ~0xffL);
+    public static int MASK_OUT_BELOW_8(int A) {
+        return ((A) & ~0xff);
     }
     /*TODO*///#define MASK_OUT_BELOW_16(A) ((A) & ~0xffff)
 
-    public static long MASK_OUT_BELOW_16(long A) {
-        return ((A) & ~0xffffL);
+    public static int MASK_OUT_BELOW_16(int A) {
+        return ((A) & ~0xffff);
     }
     /*TODO*///
 /*TODO*////* No need for useless masking if we're 32-bit */
 /*TODO*///#if M68K_OVER_32_BIT
 /*TODO*///#define MASK_OUT_ABOVE_32(A) ((A) & 0xffffffff)
-
-    public static long MASK_OUT_ABOVE_32(long A) {
-        return ((A) & 0xffffffffL);
-    }
-    /*TODO*///#define MASK_OUT_BELOW_32(A) ((A) & ~0xffffffff)
+/*TODO*///#define MASK_OUT_BELOW_32(A) ((A) & ~0xffffffff)
 /*TODO*///#else
 /*TODO*///#define MASK_OUT_ABOVE_32(A) (A)
-/*TODO*///#define MASK_OUT_BELOW_32(A) 0
+
+    /* registers and intermediates are plain 32-bit ints, so this is a no-op */
+    public static int MASK_OUT_ABOVE_32(int A) {
+        return (A);
+    }
+    /*TODO*///#define MASK_OUT_BELOW_32(A) 0
 /*TODO*///#endif /* M68K_OVER_32_BIT */
 /*TODO*///
 /*TODO*///
 /*TODO*////* Simulate address lines of 68k family */
 /*TODO*///#define ADDRESS_68K(A) (CPU_MODE & CPU_MODE_020_PLUS ? A : (A)&0xffffff)
 
-    public static long ADDRESS_68K(long A) {
-        if ((get_CPU_MODE() & CPU_MODE_020_PLUS) != 0) {
+    public static int ADDRESS_68K(m68k_cpu_core m68k_cpu, int A) {
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_020_PLUS) != 0) {
             return A;
         } else {
-            return A & 0xffffffL;
+            return A & 0xffffff;
         }
     }
     /* Instruction extension word information for indexed addressing modes */
 
-    public static long EXT_INDEX_LONG(long A) {
+    public static int EXT_INDEX_LONG(int A) {
         return BIT_B(A);
     }
 
-    public static long EXT_INDEX_AR(long A) {
+    public static int EXT_INDEX_AR(int A) {
         return BIT_F(A);
     }
 
-    public static long EXT_INDEX_REGISTER(long A) {
+    public static int EXT_INDEX_REGISTER(int A) {
         return (((A) >>> 12) & 7);
     }
     /*TODO*///#define EXT_INDEX_SCALE(A)        (((A)>>9)&3)
@@ -358,373 +359,376 @@ public class m68kcpuH {
 /*TODO*/// */
 /*TODO*///
 
-    public static long LSL(long A, long C) {
+    public static int LSL(int A, int C) {
         return ((A) << (C));
     }
 
-    public static long LSR(long A, long C) {
+    public static int LSR(int A, int C) {
         return ((A) >>> (C));
     }
     /*TODO*///
 /*TODO*////* Some > 32-bit optimizations */
 /*TODO*///#if M68K_OVER_32_BIT
 /*TODO*////* Shift left and right */
-
-    public static long LSR_32(long A, long C) {
-        return ((A) >>> (C));
-    }
-
-    public static long LSL_32(long A, long C) {
-        return ((A) << (C));
-    }
-    /*TODO*///#else
+/*TODO*///#define LSR_32(A, C) ((A) >> (C))
+/*TODO*///#define LSL_32(A, C) ((A) << (C))
+/*TODO*///#else
 /*TODO*////* We have to do this because the morons at ANSI decided that shifts
 /*TODO*/// * by >= data size are undefined.
 /*TODO*/// */
 /*TODO*///#define LSR_32(A, C) ((C) < 32 ? (A) >> (C) : 0)
 /*TODO*///#define LSL_32(A, C) ((C) < 32 ? (A) << (C) : 0)
+
+    /* java only looks at the low 5 bits of an int shift count */
+    public static int LSR_32(int A, int C) {
+        return ((C) < 32 ? (A) >>> (C) : 0);
+    }
+
+    public static int LSL_32(int A, int C) {
+        return ((C) < 32 ? (A) << (C) : 0);
+    }
 /*TODO*///#endif /* M68K_OVER_32_BIT */
 /*TODO*///
 
-    public static long ROL_8(long A, long C) {
+    public static int ROL_8(int A, int C) {
         return MASK_OUT_ABOVE_8(LSL(A, C) | LSR(A, 8 - (C)));
     }
 
-    public static long ROL_9(long A, long C) {
+    public static int ROL_9(int A, int C) {
         return LSL(A, C) | LSR(A, 9 - (C));
     }
 
-    public static long ROL_16(long A, long C) {
+    public static int ROL_16(int A, int C) {
         return MASK_OUT_ABOVE_16(LSL(A, C) | LSR(A, 16 - (C)));
     }
 
-    public static long ROL_17(long A, long C) {
+    public static int ROL_17(int A, int C) {
         return LSL(A, C) | LSR(A, 17 - (C));
     }
 
-    public static long ROL_32(long A, long C) {
+    public static int ROL_32(int A, int C) {
         return MASK_OUT_ABOVE_32(LSL_32(A, C) | LSR_32(A, 32 - (C)));
     }
 
-    public static long ROL_33(long A, long C) {
+    public static int ROL_33(int A, int C) {
         return (LSL_32(A, C) | LSR_32(A, 33 - (C)));
     }
 
-    public static long ROR_8(long A, long C) {
+    public static int ROR_8(int A, int C) {
         return MASK_OUT_ABOVE_8(LSR(A, C) | LSL(A, 8 - (C)));
     }
 
-    public static long ROR_9(long A, long C) {
+    public static int ROR_9(int A, int C) {
         return LSR(A, C) | LSL(A, 9 - (C));
     }
 
-    public static long ROR_16(long A, long C) {
+    public static int ROR_16(int A, int C) {
         return MASK_OUT_ABOVE_16(LSR(A, C) | LSL(A, 16 - (C)));
     }
 
-    public static long ROR_17(long A, long C) {
+    public static int ROR_17(int A, int C) {
         return LSR(A, C) | LSL(A, 17 - (C));
     }
 
-    public static long ROR_32(long A, long C) {
+    public static int ROR_32(int A, int C) {
         return MASK_OUT_ABOVE_32(LSR_32(A, C) | LSL_32(A, 32 - (C)));
     }
     /*TODO*///#define ROR_33(A, C)                  (LSR_32(A, C) | LSL_32(A, 33-(C)))
 
     /* Access the CPU registers */
-    public static long get_CPU_MODE() {
+    public static int get_CPU_MODE(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.mode;
     }
 
-    public static void set_CPU_MODE(long mode) {
+    public static void set_CPU_MODE(m68k_cpu_core m68k_cpu, int mode) {
         m68k_cpu.mode = mode;
     }
 
-    public static long[] get_CPU_D() {
+    public static int[] get_CPU_D(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.dr;
     }
 
-    public static void set_CPU_D(int reg_num, long value) {
+    public static void set_CPU_D(m68k_cpu_core m68k_cpu, int reg_num, int value) {
         m68k_cpu.dr[reg_num] = value;
     }
 
-    public static long[] get_CPU_A() {
+    public static int[] get_CPU_A(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.ar;
     }
 
-    public static void set_CPU_A(int reg_num, long value) {
+    public static void set_CPU_A(m68k_cpu_core m68k_cpu, int reg_num, int value) {
         m68k_cpu.ar[reg_num] = value;
     }
 
-    public static long get_CPU_PPC() {
+    public static int get_CPU_PPC(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.ppc;
     }
 
-    public static void set_CPU_PPC(long ppc) {
+    public static void set_CPU_PPC(m68k_cpu_core m68k_cpu, int ppc) {
         m68k_cpu.ppc = ppc;
     }
 
-    public static long get_CPU_PC() {
+    public static int get_CPU_PC(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.pc;
     }
 
-    public static void set_CPU_PC(long pc) {
+    public static void set_CPU_PC(m68k_cpu_core m68k_cpu, int pc) {
         m68k_cpu.pc = pc;
     }
 
-    public static long[] get_CPU_SP() {
+    public static int[] get_CPU_SP(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.sp;
     }
 
-    public static void set_CPU_SP(int reg_num, long value) {
+    public static void set_CPU_SP(m68k_cpu_core m68k_cpu, int reg_num, int value) {
         m68k_cpu.sp[reg_num] = value;
     }
 
-    public static long get_CPU_USP() {
+    public static int get_CPU_USP(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.sp[0];
     }
 
-    public static void set_CPU_USP(long usp) {
+    public static void set_CPU_USP(m68k_cpu_core m68k_cpu, int usp) {
         m68k_cpu.sp[0] = usp;
     }
 
-    public static long get_CPU_ISP() {
+    public static int get_CPU_ISP(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.sp[1];
     }
 
-    public static void set_CPU_ISP(long isp) {
+    public static void set_CPU_ISP(m68k_cpu_core m68k_cpu, int isp) {
         m68k_cpu.sp[1] = isp;
     }
 
-    public static long get_CPU_MSP() {
+    public static int get_CPU_MSP(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.sp[3];
     }
 
-    public static void set_CPU_MSP(long msp) {
+    public static void set_CPU_MSP(m68k_cpu_core m68k_cpu, int msp) {
         m68k_cpu.sp[3] = msp;
     }
 
-    public static long get_CPU_VBR() {
+    public static int get_CPU_VBR(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.vbr;
     }
 
-    public static void set_CPU_VBR(long vbr) {
+    public static void set_CPU_VBR(m68k_cpu_core m68k_cpu, int vbr) {
         m68k_cpu.vbr = vbr;
     }
 
-    public static long get_CPU_SFC() {
+    public static int get_CPU_SFC(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.sfc;
     }
 
-    public static void set_CPU_SFC(long sfc) {
+    public static void set_CPU_SFC(m68k_cpu_core m68k_cpu, int sfc) {
         m68k_cpu.sfc = sfc;
     }
 
-    public static long get_CPU_DFC() {
+    public static int get_CPU_DFC(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.dfc;
     }
 
-    public static void set_CPU_DFC(long dfc) {
+    public static void set_CPU_DFC(m68k_cpu_core m68k_cpu, int dfc) {
         m68k_cpu.dfc = dfc;
     }
 
-    public static long get_CPU_CACR() {
+    public static int get_CPU_CACR(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.cacr;
     }
 
-    public static void set_CPU_CACR(long cacr) {
+    public static void set_CPU_CACR(m68k_cpu_core m68k_cpu, int cacr) {
         m68k_cpu.cacr = cacr;
     }
 
-    public static long get_CPU_CAAR() {
+    public static int get_CPU_CAAR(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.caar;
     }
 
-    public static void set_CPU_CAAR(long caar) {
+    public static void set_CPU_CAAR(m68k_cpu_core m68k_cpu, int caar) {
         m68k_cpu.caar = caar;
     }
 
-    public static long get_CPU_IR() {
+    public static int get_CPU_IR(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.ir;
     }
 
-    public static void set_CPU_IR(long ir) {
+    public static void set_CPU_IR(m68k_cpu_core m68k_cpu, int ir) {
         m68k_cpu.ir = ir;
     }
 
-    public static long get_CPU_T1() {
+    public static int get_CPU_T1(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.t1_flag;
     }
 
-    public static void set_CPU_T1(long t1) {
+    public static void set_CPU_T1(m68k_cpu_core m68k_cpu, int t1) {
         m68k_cpu.t1_flag = t1;
     }
 
-    public static long get_CPU_T0() {
+    public static int get_CPU_T0(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.t0_flag;
     }
 
-    public static void set_CPU_T0(long t0) {
+    public static void set_CPU_T0(m68k_cpu_core m68k_cpu, int t0) {
         m68k_cpu.t0_flag = t0;
     }
 
-    public static long get_CPU_S() {
+    public static int get_CPU_S(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.s_flag;
     }
 
-    public static void set_CPU_S(long s) {
+    public static void set_CPU_S(m68k_cpu_core m68k_cpu, int s) {
         m68k_cpu.s_flag = s;
     }
 
-    public static long get_CPU_M() {
+    public static int get_CPU_M(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.m_flag;
     }
 
-    public static void set_CPU_M(long m) {
+    public static void set_CPU_M(m68k_cpu_core m68k_cpu, int m) {
         m68k_cpu.m_flag = m;
     }
 
-    public static long get_CPU_X() {
+    public static int get_CPU_X(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.x_flag;
     }
 
-    public static void set_CPU_X(long x) {
+    public static void set_CPU_X(m68k_cpu_core m68k_cpu, int x) {
         m68k_cpu.x_flag = x;
     }
 
-    public static long get_CPU_N() {
+    public static int get_CPU_N(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.n_flag;
     }
 
-    public static void set_CPU_N(long n) {
+    public static void set_CPU_N(m68k_cpu_core m68k_cpu, int n) {
         m68k_cpu.n_flag = n;
     }
 
-    public static long get_CPU_NOT_Z() {
+    public static int get_CPU_NOT_Z(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.not_z_flag;
     }
 
-    public static void set_CPU_NOT_Z(long not_z) {
+    public static void set_CPU_NOT_Z(m68k_cpu_core m68k_cpu, int not_z) {
         m68k_cpu.not_z_flag = not_z;
     }
 
-    public static long get_CPU_V() {
+    public static int get_CPU_V(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.v_flag;
     }
 
-    public static void set_CPU_V(long v) {
+    public static void set_CPU_V(m68k_cpu_core m68k_cpu, int v) {
         m68k_cpu.v_flag = v;
     }
 
-    public static long get_CPU_C() {
+    public static int get_CPU_C(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.c_flag;
     }
 
-    public static void set_CPU_C(long c) {
+    public static void set_CPU_C(m68k_cpu_core m68k_cpu, int c) {
         m68k_cpu.c_flag = c;
     }
 
-    public static long get_CPU_INT_MASK() {
+    public static int get_CPU_INT_MASK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.int_mask;
     }
 
-    public static void set_CPU_INT_MASK(long int_mask) {
+    public static void set_CPU_INT_MASK(m68k_cpu_core m68k_cpu, int int_mask) {
         m68k_cpu.int_mask = int_mask;
     }
 
-    public static long get_CPU_INT_STATE() {
+    public static int get_CPU_INT_STATE(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.int_state;
     }
 
-    public static void set_CPU_INT_STATE(long int_state) {
+    public static void set_CPU_INT_STATE(m68k_cpu_core m68k_cpu, int int_state) {
         m68k_cpu.int_state = int_state;
     }
 
-    public static long get_CPU_STOPPED() {
+    public static int get_CPU_STOPPED(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.stopped;
     }
 
-    public static void set_CPU_STOPPED(long stopped) {
+    public static void set_CPU_STOPPED(m68k_cpu_core m68k_cpu, int stopped) {
         m68k_cpu.stopped = stopped;
     }
 
-    public static long get_CPU_HALTED() {
+    public static int get_CPU_HALTED(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.halted;
     }
 
-    public static void set_CPU_HALTED(long halted) {
+    public static void set_CPU_HALTED(m68k_cpu_core m68k_cpu, int halted) {
         m68k_cpu.halted = halted;
     }
 
-    public static long get_CPU_INT_CYCLES() {
+    public static int get_CPU_INT_CYCLES(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.int_cycles;
     }
 
-    public static void set_CPU_INT_CYCLES(long int_cycles) {
+    public static void set_CPU_INT_CYCLES(m68k_cpu_core m68k_cpu, int int_cycles) {
         m68k_cpu.int_cycles = int_cycles;
     }
 
-    public static long get_CPU_PREF_ADDR() {
+    public static int get_CPU_PREF_ADDR(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.pref_addr;
     }
 
-    public static void set_CPU_PREF_ADDR(long pref_addr) {
+    public static void set_CPU_PREF_ADDR(m68k_cpu_core m68k_cpu, int pref_addr) {
         m68k_cpu.pref_addr = pref_addr;
     }
 
-    public static long get_CPU_PREF_DATA() {
+    public static int get_CPU_PREF_DATA(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.pref_data;
     }
 
-    public static void set_CPU_PREF_DATA(long pref_data) {
+    public static void set_CPU_PREF_DATA(m68k_cpu_core m68k_cpu, int pref_data) {
         m68k_cpu.pref_data = pref_data;
     }
 
-    public static irqcallbacksPtr get_CPU_INT_ACK_CALLBACK() {
+    public static irqcallbacksPtr get_CPU_INT_ACK_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.int_ack_callback;
     }
 
-    public static void set_CPU_INT_ACK_CALLBACK(irqcallbacksPtr int_ack_callback) {
+    public static void set_CPU_INT_ACK_CALLBACK(m68k_cpu_core m68k_cpu, irqcallbacksPtr int_ack_callback) {
         m68k_cpu.int_ack_callback = int_ack_callback;
     }
 
-    public static bkpt_ack_callbackPtr get_CPU_BKPT_ACK_CALLBACK() {
+    public static bkpt_ack_callbackPtr get_CPU_BKPT_ACK_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.bkpt_ack_callback;
     }
 
-    public static void set_CPU_BKPT_ACK_CALLBACK(bkpt_ack_callbackPtr bkpt_ack_callback) {
+    public static void set_CPU_BKPT_ACK_CALLBACK(m68k_cpu_core m68k_cpu, bkpt_ack_callbackPtr bkpt_ack_callback) {
         m68k_cpu.bkpt_ack_callback = bkpt_ack_callback;
     }
 
-    public static reset_instr_callbackPtr get_CPU_RESET_INSTR_CALLBACK() {
+    public static reset_instr_callbackPtr get_CPU_RESET_INSTR_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.reset_instr_callback;
     }
 
-    public static void set_CPU_RESET_INSTR_CALLBACK(reset_instr_callbackPtr reset_instr_callback) {
+    public static void set_CPU_RESET_INSTR_CALLBACK(m68k_cpu_core m68k_cpu, reset_instr_callbackPtr reset_instr_callback) {
         m68k_cpu.reset_instr_callback = reset_instr_callback;
     }
 
-    public static pc_changed_callbackPtr get_CPU_PC_CHANGED_CALLBACK() {
+    public static pc_changed_callbackPtr get_CPU_PC_CHANGED_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.pc_changed_callback;
     }
 
-    public static void set_CPU_PC_CHANGED_CALLBACK(pc_changed_callbackPtr pc_changed_callback) {
+    public static void set_CPU_PC_CHANGED_CALLBACK(m68k_cpu_core m68k_cpu, pc_changed_callbackPtr pc_changed_callback) {
         m68k_cpu.pc_changed_callback = pc_changed_callback;
     }
 
-    public static set_fc_callbackPtr get_CPU_SET_FC_CALLBACK() {
+    public static set_fc_callbackPtr get_CPU_SET_FC_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.set_fc_callback;
     }
 
-    public static void set_CPU_SET_FC_CALLBACK(set_fc_callbackPtr set_fc_callback) {
+    public static void set_CPU_SET_FC_CALLBACK(m68k_cpu_core m68k_cpu, set_fc_callbackPtr set_fc_callback) {
         m68k_cpu.set_fc_callback = set_fc_callback;
     }
 
-    public static instr_hook_callbackPtr get_CPU_INSTR_HOOK_CALLBACK() {
+    public static instr_hook_callbackPtr get_CPU_INSTR_HOOK_CALLBACK(m68k_cpu_core m68k_cpu) {
         return m68k_cpu.instr_hook_callback;
     }
 
-    public static void set_CPU_INSTR_HOOK_CALLBACK(instr_hook_callbackPtr instr_hook_callback) {
+    public static void set_CPU_INSTR_HOOK_CALLBACK(m68k_cpu_core m68k_cpu, instr_hook_callbackPtr instr_hook_callback) {
         m68k_cpu.instr_hook_callback = instr_hook_callback;
     }
 
@@ -735,39 +739,39 @@ public class m68kcpuH {
 /*TODO*/// */
 /*TODO*////* Data Register Isolation */
 /*TODO*///#define DX (CPU_D[(CPU_IR >> 9) & 7])
-    public static long get_DX() {
-        return get_CPU_D()[(int) ((get_CPU_IR() >>> 9) & 7)] & 0xFFFFFFFFL;
+    public static int get_DX(m68k_cpu_core m68k_cpu) {
+        return get_CPU_D(m68k_cpu)[(get_CPU_IR(m68k_cpu) >>> 9) & 7];
     }
 
-    public static void set_DX(long value) {
-        set_CPU_D((int) ((get_CPU_IR() >>> 9) & 7), value);
+    public static void set_DX(m68k_cpu_core m68k_cpu, int value) {
+        set_CPU_D(m68k_cpu, ((get_CPU_IR(m68k_cpu) >>> 9) & 7), value);
     }
     /*TODO*///#define DY (CPU_D[CPU_IR & 7])
 
-    public static long get_DY() {
-        return get_CPU_D()[(int) (get_CPU_IR() & 7)] & 0xFFFFFFFFL;
+    public static int get_DY(m68k_cpu_core m68k_cpu) {
+        return get_CPU_D(m68k_cpu)[get_CPU_IR(m68k_cpu) & 7];
     }
 
-    public static void set_DY(long value) {
-        set_CPU_D((int) (get_CPU_IR() & 7), value);
+    public static void set_DY(m68k_cpu_core m68k_cpu, int value) {
+        set_CPU_D(m68k_cpu, (get_CPU_IR(m68k_cpu) & 7), value);
     }
     /*TODO*////* Address Register Isolation */
 
-    public static long get_AX() {
-        return get_CPU_A()[(int) ((get_CPU_IR() >>> 9) & 7)] & 0xFFFFFFFFL;
+    public static int get_AX(m68k_cpu_core m68k_cpu) {
+        return get_CPU_A(m68k_cpu)[(get_CPU_IR(m68k_cpu) >>> 9) & 7];
     }
 
-    public static void set_AX(long value) {
-        set_CPU_A((int) ((get_CPU_IR() >>> 9) & 7), value);
+    public static void set_AX(m68k_cpu_core m68k_cpu, int value) {
+        set_CPU_A(m68k_cpu, ((get_CPU_IR(m68k_cpu) >>> 9) & 7), value);
     }
     /*TODO*///#define AX (CPU_A[(CPU_IR >> 9) & 7])
 
-    public static long get_AY() {
-        return get_CPU_A()[(int) (get_CPU_IR() & 7)] & 0xFFFFFFFFL;
+    public static int get_AY(m68k_cpu_core m68k_cpu) {
+        return get_CPU_A(m68k_cpu)[get_CPU_IR(m68k_cpu) & 7];
     }
 
-    public static void set_AY(long value) {
-        set_CPU_A((int) (get_CPU_IR() & 7), value);
+    public static void set_AY(m68k_cpu_core m68k_cpu, int value) {
+        set_CPU_A(m68k_cpu, (get_CPU_IR(m68k_cpu) & 7), value);
     }
     /*TODO*///#define AY (CPU_A[CPU_IR & 7])
 /*TODO*///
@@ -775,217 +779,217 @@ public class m68kcpuH {
 /*TODO*////* Effective Address Calculations */
 /*TODO*///#define EA_AI    AY                                    /* address register indirect */
 
-    public static long EA_AI() {
-        return get_AY();
+    public static int EA_AI(m68k_cpu_core m68k_cpu) {
+        return get_AY(m68k_cpu);
     }
     /*TODO*///#define EA_PI_8  (AY++)                               
 
-    public static long EA_PI_8() {   /* postincrement (size = byte) */
+    public static int EA_PI_8(m68k_cpu_core m68k_cpu) {   /* postincrement (size = byte) */
 
-        return m68k_cpu.ar[(int) (get_CPU_IR() & 7)]++;
+        return m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7]++;
     }
     /*TODO*///#define EA_PI7_8 ((CPU_A[7]+=2)-2)                     /* postincrement (size = byte & AR = 7) */
 
-    public static long EA_PI7_8() {
+    public static int EA_PI7_8(m68k_cpu_core m68k_cpu) {
         return ((m68k_cpu.ar[7] += 2) - 2);
     }
     /*TODO*///#define EA_PI_16 ((AY+=2)-2)                           /* postincrement (size = word) */
 
-    public static long EA_PI_16() {
-        return ((m68k_cpu.ar[(int) (get_CPU_IR() & 7)] += 2) - 2);
+    public static int EA_PI_16(m68k_cpu_core m68k_cpu) {
+        return ((m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7] += 2) - 2);
     }
     /*TODO*///#define EA_PI_32 ((AY+=4)-4)                           /* postincrement (size = long) */
 
-    public static long EA_PI_32() {
-        return ((m68k_cpu.ar[(int) (get_CPU_IR() & 7)] += 4) - 4);
+    public static int EA_PI_32(m68k_cpu_core m68k_cpu) {
+        return ((m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7] += 4) - 4);
     }
     /*TODO*///#define EA_PD_8  (--AY)                                /* predecrement (size = byte) */
 
-    public static long EA_PD_8() {
-        return --m68k_cpu.ar[(int) (get_CPU_IR() & 7)];
+    public static int EA_PD_8(m68k_cpu_core m68k_cpu) {
+        return --m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7];
     }
     /*TODO*///#define EA_PD7_8 (CPU_A[7]-=2)                         /* predecrement (size = byte & AR = 7) */
 
-    public static long EA_PD7_8() {
+    public static int EA_PD7_8(m68k_cpu_core m68k_cpu) {
         return (m68k_cpu.ar[7] -= 2);
     }
     /*TODO*///#define EA_PD_16 (AY-=2)                               /* predecrement (size = word) */
 
-    public static long EA_PD_16() {
-        return m68k_cpu.ar[(int) (get_CPU_IR() & 7)] -= 2;
+    public static int EA_PD_16(m68k_cpu_core m68k_cpu) {
+        return m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7] -= 2;
     }
     /*TODO*///#define EA_PD_32 (AY-=4)                               /* predecrement (size = long) */
 
-    public static long EA_PD_32() {
-        return m68k_cpu.ar[(int) (get_CPU_IR() & 7)] -= 4;
+    public static int EA_PD_32(m68k_cpu_core m68k_cpu) {
+        return m68k_cpu.ar[get_CPU_IR(m68k_cpu) & 7] -= 4;
     }
     /*TODO*///#define EA_DI    (AY+MAKE_INT_16(m68ki_read_imm_16())) /* displacement */
 
-    public static long EA_DI() {
-        return (get_AY() + MAKE_INT_16(m68ki_read_imm_16()));
+    public static int EA_DI(m68k_cpu_core m68k_cpu) {
+        return (get_AY(m68k_cpu) + MAKE_INT_16(m68ki_read_imm_16(m68k_cpu)));
     }
 
-    public static long EA_IX() {
-        return m68ki_get_ea_ix();                   /* indirect + index */
+    public static int EA_IX(m68k_cpu_core m68k_cpu) {
+        return m68ki_get_ea_ix(m68k_cpu);                   /* indirect + index */
 
     }
     /*TODO*///#define EA_AW    MAKE_INT_16(m68ki_read_imm_16())      /* absolute word */
 
-    public static long EA_AW() {
-        return MAKE_INT_16(m68ki_read_imm_16());
+    public static int EA_AW(m68k_cpu_core m68k_cpu) {
+        return MAKE_INT_16(m68ki_read_imm_16(m68k_cpu));
     }
 
-    public static long EA_AL() {
-        return m68ki_read_imm_32();                   /* absolute long */
+    public static int EA_AL(m68k_cpu_core m68k_cpu) {
+        return m68ki_read_imm_32(m68k_cpu);                   /* absolute long */
 
     }
 
-    public static long EA_PCIX() {
-        return m68ki_get_ea_pcix();                   /* pc indirect + index */
+    public static int EA_PCIX(m68k_cpu_core m68k_cpu) {
+        return m68ki_get_ea_pcix(m68k_cpu);                   /* pc indirect + index */
 
     }
     /* Add and Subtract Flag Calculation Macros */
 
-    public static long VFLAG_ADD_8(long S, long D, long R) {
+    public static int VFLAG_ADD_8(int S, int D, int R) {
         return GET_MSB_8((S & D & ~R) | (~S & ~D & R));
     }
 
-    public static long VFLAG_ADD_16(long S, long D, long R) {
+    public static int VFLAG_ADD_16(int S, int D, int R) {
         return GET_MSB_16((S & D & ~R) | (~S & ~D & R));
     }
 
-    public static long VFLAG_ADD_32(long S, long D, long R) {
+    public static int VFLAG_ADD_32(int S, int D, int R) {
         return GET_MSB_32((S & D & ~R) | (~S & ~D & R));
     }
 
-    public static long CFLAG_ADD_8(long S, long D, long R) {
+    public static int CFLAG_ADD_8(int S, int D, int R) {
         return GET_MSB_8((S & D) | (~R & D) | (S & ~R));
     }
 
-    public static long CFLAG_ADD_16(long S, long D, long R) {
+    public static int CFLAG_ADD_16(int S, int D, int R) {
         return GET_MSB_16((S & D) | (~R & D) | (S & ~R));
     }
 
-    public static long CFLAG_ADD_32(long S, long D, long R) {
+    public static int CFLAG_ADD_32(int S, int D, int R) {
         return GET_MSB_32((S & D) | (~R & D) | (S & ~R));
     }
 
-    public static long VFLAG_SUB_8(long S, long D, long R) {
+    public static int VFLAG_SUB_8(int S, int D, int R) {
         return GET_MSB_8((~S & D & ~R) | (S & ~D & R));
     }
 
-    public static long VFLAG_SUB_16(long S, long D, long R) {
+    public static int VFLAG_SUB_16(int S, int D, int R) {
         return GET_MSB_16((~S & D & ~R) | (S & ~D & R));
     }
 
-    public static long VFLAG_SUB_32(long S, long D, long R) {
+    public static int VFLAG_SUB_32(int S, int D, int R) {
         return GET_MSB_32((~S & D & ~R) | (S & ~D & R));
     }
 
-    public static long CFLAG_SUB_8(long S, long D, long R) {
+    public static int CFLAG_SUB_8(int S, int D, int R) {
         return GET_MSB_8((S & ~D) | (R & ~D) | (S & R));
     }
 
-    public static long CFLAG_SUB_16(long S, long D, long R) {
+    public static int CFLAG_SUB_16(int S, int D, int R) {
         return GET_MSB_16((S & ~D) | (R & ~D) | (S & R));
     }
 
-    public static long CFLAG_SUB_32(long S, long D, long R) {
+    public static int CFLAG_SUB_32(int S, int D, int R) {
         return GET_MSB_32((S & ~D) | (R & ~D) | (S & R));
     }
     /* Conditions */
 
-    public static boolean CONDITION_HI() {
-        return (get_CPU_C() == 0 && get_CPU_NOT_Z() != 0);
+    public static boolean CONDITION_HI(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) == 0 && get_CPU_NOT_Z(m68k_cpu) != 0);
     }
     /*TODO*///#define CONDITION_NOT_HI (CPU_C != 0 || CPU_NOT_Z == 0)
 
-    public static boolean CONDITION_LS() {
-        return (get_CPU_C() != 0 || get_CPU_NOT_Z() == 0);
+    public static boolean CONDITION_LS(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) != 0 || get_CPU_NOT_Z(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_NOT_LS() {
-        return (get_CPU_C() == 0 && get_CPU_NOT_Z() != 0);
+    public static boolean CONDITION_NOT_LS(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) == 0 && get_CPU_NOT_Z(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_CC() {
-        return (get_CPU_C() == 0);
+    public static boolean CONDITION_CC(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_NOT_CC() {
-        return (get_CPU_C() != 0);
+    public static boolean CONDITION_NOT_CC(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_CS() {
-        return (get_CPU_C() != 0);
+    public static boolean CONDITION_CS(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_NOT_CS() {
-        return (get_CPU_C() == 0);
+    public static boolean CONDITION_NOT_CS(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_C(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_NE() {
-        return (get_CPU_NOT_Z() != 0);
+    public static boolean CONDITION_NE(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_NOT_NE() {
-        return (get_CPU_NOT_Z() == 0);
+    public static boolean CONDITION_NOT_NE(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_EQ() {
-        return (get_CPU_NOT_Z() == 0);
+    public static boolean CONDITION_EQ(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_NOT_EQ() {
-        return (get_CPU_NOT_Z() != 0);
+    public static boolean CONDITION_NOT_EQ(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_VC() {
-        return (get_CPU_V() == 0);
+    public static boolean CONDITION_VC(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_V(m68k_cpu) == 0);
     }
     /*TODO*///#define CONDITION_NOT_VC (CPU_V != 0)
 
-    public static boolean CONDITION_VS() {
-        return (get_CPU_V() != 0);
+    public static boolean CONDITION_VS(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_V(m68k_cpu) != 0);
     }
     /*TODO*///#define CONDITION_NOT_VS (CPU_V == 0)
 
-    public static boolean CONDITION_PL() {
-        return (get_CPU_N() == 0);
+    public static boolean CONDITION_PL(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_N(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_NOT_PL() {
-        return (get_CPU_N() != 0);
+    public static boolean CONDITION_NOT_PL(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_N(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_MI() {
-        return (get_CPU_N() != 0);
+    public static boolean CONDITION_MI(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_N(m68k_cpu) != 0);
     }
 
-    public static boolean CONDITION_NOT_MI() {
-        return (get_CPU_N() == 0);
+    public static boolean CONDITION_NOT_MI(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_N(m68k_cpu) == 0);
     }
 
-    public static boolean CONDITION_GE() {
-        return ((get_CPU_N() == 0) == (get_CPU_V() == 0));
+    public static boolean CONDITION_GE(m68k_cpu_core m68k_cpu) {
+        return ((get_CPU_N(m68k_cpu) == 0) == (get_CPU_V(m68k_cpu) == 0));
     }
     /*TODO*///#define CONDITION_NOT_GE ((CPU_N == 0) != (CPU_V == 0))
 
-    public static boolean CONDITION_LT() {
-        return ((get_CPU_N() == 0) != (get_CPU_V() == 0));
+    public static boolean CONDITION_LT(m68k_cpu_core m68k_cpu) {
+        return ((get_CPU_N(m68k_cpu) == 0) != (get_CPU_V(m68k_cpu) == 0));
     }
 
-    public static boolean CONDITION_NOT_LT() {
-        return ((get_CPU_N() == 0) == (get_CPU_V() == 0));
+    public static boolean CONDITION_NOT_LT(m68k_cpu_core m68k_cpu) {
+        return ((get_CPU_N(m68k_cpu) == 0) == (get_CPU_V(m68k_cpu) == 0));
     }
 
-    public static boolean CONDITION_GT() {
-        return (get_CPU_NOT_Z() != 0 && (get_CPU_N() == 0) == (get_CPU_V() == 0));
+    public static boolean CONDITION_GT(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) != 0 && (get_CPU_N(m68k_cpu) == 0) == (get_CPU_V(m68k_cpu) == 0));
     }
     /*TODO*///#define CONDITION_NOT_GT (CPU_NOT_Z == 0 || (CPU_N == 0) != (CPU_V == 0))
 
-    public static boolean CONDITION_LE() {
-        return (get_CPU_NOT_Z() == 0 || (get_CPU_N() == 0) != (get_CPU_V() == 0));
+    public static boolean CONDITION_LE(m68k_cpu_core m68k_cpu) {
+        return (get_CPU_NOT_Z(m68k_cpu) == 0 || (get_CPU_N(m68k_cpu) == 0) != (get_CPU_V(m68k_cpu) == 0));
     }
     /*TODO*///#define CONDITION_NOT_LE (CPU_NOT_Z != 0 && (CPU_N == 0) == (CPU_V == 0))
 /*TODO*///
@@ -994,52 +998,52 @@ public class m68kcpuH {
      * NOTE: clock cycles used in here are 99.9% correct for a 68000, not for the
      * higher processors.
      */
-    public static void USE_CLKS(int A) {
-        m68k_clks_left[0] -= (A);
+    public static void USE_CLKS(m68k_cpu_core m68k_cpu, int A) {
+        m68k_cpu.clks_left[0] -= (A);
     }
 
 
     /*TODO*////* Push/pull data to/from the stack */
 /*TODO*///#define m68ki_push_16(A) m68ki_write_16(CPU_A[7]-=2, A)
-    public static void m68ki_push_16(long A) {
-        m68ki_write_16(m68k_cpu.ar[7] -= 2, A);
+    public static void m68ki_push_16(m68k_cpu_core m68k_cpu, int A) {
+        m68ki_write_16(m68k_cpu, m68k_cpu.ar[7] -= 2, A);
     }
     /*TODO*///#define m68ki_push_32(A) m68ki_write_32(CPU_A[7]-=4, A)
 
-    public static void m68ki_push_32(long A) {
-        m68ki_write_32(m68k_cpu.ar[7] -= 4, A);
+    public static void m68ki_push_32(m68k_cpu_core m68k_cpu, int A) {
+        m68ki_write_32(m68k_cpu, m68k_cpu.ar[7] -= 4, A);
     }
     /*TODO*///#define m68ki_pull_16()  m68ki_read_16((CPU_A[7]+=2) - 2)
 
-    public static long m68ki_pull_16() {
-        return m68ki_read_16((m68k_cpu.ar[7] += 2) - 2);
+    public static int m68ki_pull_16(m68k_cpu_core m68k_cpu) {
+        return m68ki_read_16(m68k_cpu, (m68k_cpu.ar[7] += 2) - 2);
     }
 
     /*TODO*///#define m68ki_pull_32()  m68ki_read_32((CPU_A[7]+=4) - 4)
-    public static long m68ki_pull_32() {
-        return m68ki_read_32((m68k_cpu.ar[7] += 4) - 4);
+    public static int m68ki_pull_32(m68k_cpu_core m68k_cpu) {
+        return m68ki_read_32(m68k_cpu, (m68k_cpu.ar[7] += 4) - 4);
     }
     /*TODO*///
 /*TODO*////* branch byte and word are for branches, while long is for jumps.
 /*TODO*/// * So far it's been safe to not call set_pc() for branch word.
 /*TODO*/// */
 
-    public static void m68ki_branch_byte(long A) {
-        set_CPU_PC((get_CPU_PC() + MAKE_INT_8(A)) & 0xFFFFFFFFL);
+    public static void m68ki_branch_byte(m68k_cpu_core m68k_cpu, int A) {
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + MAKE_INT_8(A));
     }
 
-    public static void m68ki_branch_word(long A) {
-        set_CPU_PC((get_CPU_PC() + MAKE_INT_16(A)) & 0xFFFFFFFFL);
+    public static void m68ki_branch_word(m68k_cpu_core m68k_cpu, int A) {
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + MAKE_INT_16(A));
     }
     /*TODO*///#define m68ki_branch_dword(A) CPU_PC += (A)
 
-    public static void m68ki_branch_long(long A) {
-        m68ki_set_pc(A);
+    public static void m68ki_branch_long(m68k_cpu_core m68k_cpu, int A) {
+        m68ki_set_pc(m68k_cpu, A);
     }
 
 
     /* Get the condition code register */
-    public static long m68ki_get_ccr() {
+    public static int m68ki_get_ccr(m68k_cpu_core m68k_cpu) {
         return ((((m68k_cpu.x_flag != 0) ? 1 : 0) << 4)
                 | (((m68k_cpu.n_flag != 0) ? 1 : 0) << 3)
                 | (((m68k_cpu.not_z_flag == 0) ? 1 : 0) << 2)
@@ -1050,7 +1054,7 @@ public class m68kcpuH {
     ;
 
 /* Get the status register */
-    public static long m68ki_get_sr() {
+    public static int m68ki_get_sr(m68k_cpu_core m68k_cpu) {
         return ((((m68k_cpu.t1_flag != 0) ? 1 : 0) << 15)
                 | (((m68k_cpu.t0_flag != 0) ? 1 : 0) << 14)
                 | (((m68k_cpu.s_flag != 0) ? 1 : 0) << 13)
@@ -1132,61 +1136,65 @@ public class m68kcpuH {
     /* M68K CPU core class */
     public static class m68k_cpu_core {
 
-        public long mode;                /* CPU Operation Mode: 68000, 68010, or 68020 */
+        public int mode;                /* CPU Operation Mode: 68000, 68010, or 68020 */
+
+        public int[] dr = new int[8];   /* Data Registers */
+
+        public int[] ar = new int[8];   /* Address Registers */
 
-        public long[] dr = new long[8];   /* Data Registers */
+        public int[][] dar = {dr, ar};  /* Pointers to speed up address register indirect with index calculation */
 
-        public long[] ar = new long[8];   /* Address Registers */
+        public int ppc;                 /* Previous program counter */
 
-        public long ppc;                 /* Previous program counter */
+        public int pc;                  /* Program Counter */
 
-        public long pc;                  /* Program Counter */
+        public int[] sp = new int[4];   /* User, Interrupt, and Master Stack Polongers */
 
-        public long[] sp = new long[4];   /* User, Interrupt, and Master Stack Polongers */
+        public int vbr;                 /* Vector Base Register (68010+) */
 
-        public long vbr;                 /* Vector Base Register (68010+) */
+        public int sfc;                 /* Source Function Code Register (m68010+) */
 
-        public long sfc;                 /* Source Function Code Register (m68010+) */
+        public int dfc;                 /* Destination Function Code Register (m68010+) */
 
-        public long dfc;                 /* Destination Function Code Register (m68010+) */
+        public int cacr;                /* Cache Control Register (m68020+) */
 
-        public long cacr;                /* Cache Control Register (m68020+) */
+        public int caar;                /* Cacge Address Register (m68020+) */
 
-        public long caar;                /* Cacge Address Register (m68020+) */
+        public int ir;                  /* Instruction Register */
 
-        public long ir;                  /* Instruction Register */
+        public int t1_flag;             /* Trace 1 */
 
-        public long t1_flag;             /* Trace 1 */
+        public int t0_flag;             /* Trace 0 */
 
-        public long t0_flag;             /* Trace 0 */
+        public int s_flag;              /* Supervisor */
 
-        public long s_flag;              /* Supervisor */
+        public int m_flag;              /* Master/Interrupt state */
 
-        public long m_flag;              /* Master/Interrupt state */
+        public int x_flag;              /* Extend */
 
-        public long x_flag;              /* Extend */
+        public int n_flag;              /* Negative */
 
-        public long n_flag;              /* Negative */
+        public int not_z_flag;          /* Zero, inverted for speedups */
 
-        public long not_z_flag;          /* Zero, inverted for speedups */
+        public int v_flag;              /* Overflow */
 
-        public long v_flag;              /* Overflow */
+        public int c_flag;              /* Carry */
 
-        public long c_flag;              /* Carry */
+        public int int_mask;            /* I0-I2 */
 
-        public long int_mask;            /* I0-I2 */
+        public int int_state;           /* Current longerrupt state -- ASG: changed from longs_pending */
 
-        public long int_state;           /* Current longerrupt state -- ASG: changed from longs_pending */
+        public int stopped;             /* Stopped state */
 
-        public long stopped;             /* Stopped state */
+        public int halted;              /* Halted state */
 
-        public long halted;              /* Halted state */
+        public int int_cycles;          /* ASG: extra cycles from generated interrupts */
 
-        public long int_cycles;          /* ASG: extra cycles from generated interrupts */
+        public int pref_addr;           /* Last prefetch address */
 
-        public long pref_addr;           /* Last prefetch address */
+        public int pref_data;           /* Data in the prefetch queue */
 
-        public long pref_data;           /* Data in the prefetch queue */
+        public transient int[] clks_left = new int[1]; /* Number of clocks remaining, the icount of the interface */
 
         /* Callbacks to host */
         irqcallbacksPtr int_ack_callback;  /* Interrupt Acknowledge */
@@ -1207,97 +1215,97 @@ public class m68kcpuH {
     /* =========================== UTILITY FUNCTIONS ========================== */
     /* ======================================================================== */
     /* Set the function code and read memory from anywhere. */
-    public static long m68ki_read_8(long address) {
+    public static int m68ki_read_8(m68k_cpu_core m68k_cpu, int address) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        return m68k_read_memory_8((int) ADDRESS_68K(address));
+        return m68k_read_memory_8(ADDRESS_68K(m68k_cpu, address));
     }
 
-    public static long m68ki_read_16(long address) {
+    public static int m68ki_read_16(m68k_cpu_core m68k_cpu, int address) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        return m68k_read_memory_16((int) ADDRESS_68K(address));
+        return m68k_read_memory_16(ADDRESS_68K(m68k_cpu, address));
     }
 
-    public static long m68ki_read_32(long address) {
+    public static int m68ki_read_32(m68k_cpu_core m68k_cpu, int address) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        return m68k_read_memory_32((int) ADDRESS_68K(address));
+        return m68k_read_memory_32(ADDRESS_68K(m68k_cpu, address));
     }
 
 
     /* Set the function code and write memory to anywhere. */
-    public static void m68ki_write_8(long address, long value) {
+    public static void m68ki_write_8(m68k_cpu_core m68k_cpu, int address, int value) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        m68k_write_memory_8((int) ADDRESS_68K(address), (int) value);
+        m68k_write_memory_8(ADDRESS_68K(m68k_cpu, address), value);
     }
 
-    public static void m68ki_write_16(long address, long value) {
+    public static void m68ki_write_16(m68k_cpu_core m68k_cpu, int address, int value) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        m68k_write_memory_16((int) ADDRESS_68K(address), (int) value);
+        m68k_write_memory_16(ADDRESS_68K(m68k_cpu, address), value);
     }
 
-    public static void m68ki_write_32(long address, long value) {
+    public static void m68ki_write_32(m68k_cpu_core m68k_cpu, int address, int value) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_DATA : FUNCTION_CODE_USER_DATA);
-        m68k_write_memory_32((int) ADDRESS_68K(address), (int) value);
+        m68k_write_memory_32(ADDRESS_68K(m68k_cpu, address), value);
     }
 
 
     /* Set the function code and read memory immediately following the PC. */
-    public static long m68ki_read_imm_8() {
+    public static int m68ki_read_imm_8(m68k_cpu_core m68k_cpu) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_PROGRAM : FUNCTION_CODE_USER_PROGRAM);
-        if (MASK_OUT_BELOW_2(get_CPU_PC()) != get_CPU_PREF_ADDR()) {
-            set_CPU_PREF_ADDR(MASK_OUT_BELOW_2(get_CPU_PC()));
-            set_CPU_PREF_DATA(m68k_read_immediate_32((int) ADDRESS_68K(get_CPU_PREF_ADDR())));
+        if (MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)) != get_CPU_PREF_ADDR(m68k_cpu)) {
+            set_CPU_PREF_ADDR(m68k_cpu, MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)));
+            set_CPU_PREF_DATA(m68k_cpu, m68k_read_immediate_32(ADDRESS_68K(m68k_cpu, get_CPU_PREF_ADDR(m68k_cpu))));
         }
         //CPU_PC += 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);//unsingned?
-        return MASK_OUT_ABOVE_8(get_CPU_PREF_DATA() >>> ((2 - ((get_CPU_PC() - 2) & 2)) << 3));
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);//unsingned?
+        return MASK_OUT_ABOVE_8(get_CPU_PREF_DATA(m68k_cpu) >>> ((2 - ((get_CPU_PC(m68k_cpu) - 2) & 2)) << 3));
     }
 
-    public static long m68ki_read_imm_16() {
+    public static int m68ki_read_imm_16(m68k_cpu_core m68k_cpu) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_PROGRAM : FUNCTION_CODE_USER_PROGRAM);
-        if (MASK_OUT_BELOW_2(get_CPU_PC()) != get_CPU_PREF_ADDR()) {
-            set_CPU_PREF_ADDR(MASK_OUT_BELOW_2(get_CPU_PC()));
-            set_CPU_PREF_DATA(m68k_read_immediate_32((int) ADDRESS_68K(get_CPU_PREF_ADDR())));
+        if (MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)) != get_CPU_PREF_ADDR(m68k_cpu)) {
+            set_CPU_PREF_ADDR(m68k_cpu, MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)));
+            set_CPU_PREF_DATA(m68k_cpu, m68k_read_immediate_32(ADDRESS_68K(m68k_cpu, get_CPU_PREF_ADDR(m68k_cpu))));
         }
         //CPU_PC += 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);//unsingned?
-        return MASK_OUT_ABOVE_16(get_CPU_PREF_DATA() >>> ((2 - ((get_CPU_PC() - 2) & 2)) << 3));
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);//unsingned?
+        return MASK_OUT_ABOVE_16(get_CPU_PREF_DATA(m68k_cpu) >>> ((2 - ((get_CPU_PC(m68k_cpu) - 2) & 2)) << 3));
 
     }
 
-    public static long m68ki_read_imm_32() {
+    public static int m68ki_read_imm_32(m68k_cpu_core m68k_cpu) {
 
-        long temp_val;
+        int temp_val;
 
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_PROGRAM : FUNCTION_CODE_USER_PROGRAM);
-        if (MASK_OUT_BELOW_2(get_CPU_PC()) != get_CPU_PREF_ADDR()) {
-            set_CPU_PREF_ADDR(MASK_OUT_BELOW_2(get_CPU_PC()));
-            set_CPU_PREF_DATA(m68k_read_immediate_32((int) ADDRESS_68K(get_CPU_PREF_ADDR())));
+        if (MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)) != get_CPU_PREF_ADDR(m68k_cpu)) {
+            set_CPU_PREF_ADDR(m68k_cpu, MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)));
+            set_CPU_PREF_DATA(m68k_cpu, m68k_read_immediate_32(ADDRESS_68K(m68k_cpu, get_CPU_PREF_ADDR(m68k_cpu))));
         }
-        temp_val = get_CPU_PREF_DATA() & 0xFFFFFFFFL;
+        temp_val = get_CPU_PREF_DATA(m68k_cpu);
         //CPU_PC += 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);//unsingned?
-        if (MASK_OUT_BELOW_2(get_CPU_PC()) != get_CPU_PREF_ADDR()) {
-            set_CPU_PREF_ADDR(MASK_OUT_BELOW_2(get_CPU_PC()));
-            set_CPU_PREF_DATA(m68k_read_immediate_32((int) ADDRESS_68K(get_CPU_PREF_ADDR())));
-            temp_val = MASK_OUT_ABOVE_32(((temp_val << 16)) | ((get_CPU_PREF_DATA() >>> 16) & 0xFFFFL));
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);//unsingned?
+        if (MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)) != get_CPU_PREF_ADDR(m68k_cpu)) {
+            set_CPU_PREF_ADDR(m68k_cpu, MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)));
+            set_CPU_PREF_DATA(m68k_cpu, m68k_read_immediate_32(ADDRESS_68K(m68k_cpu, get_CPU_PREF_ADDR(m68k_cpu))));
+            temp_val = MASK_OUT_ABOVE_32(((temp_val << 16)) | ((get_CPU_PREF_DATA(m68k_cpu) >>> 16) & 0xFFFF));
         }
         //CPU_PC += 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);//unsingned?
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);//unsingned?
 
         return temp_val;
     }
 
 
     /* Set the function code and read an instruction immediately following the PC. */
-    public static long m68ki_read_instruction() {
+    public static int m68ki_read_instruction(m68k_cpu_core m68k_cpu) {
         //m68ki_set_fc(CPU_S ? FUNCTION_CODE_SUPERVISOR_PROGRAM : FUNCTION_CODE_USER_PROGRAM);
-        if (MASK_OUT_BELOW_2(get_CPU_PC()) != get_CPU_PREF_ADDR()) {
-            set_CPU_PREF_ADDR(MASK_OUT_BELOW_2(get_CPU_PC()));
-            set_CPU_PREF_DATA(m68k_read_immediate_32((int) ADDRESS_68K(get_CPU_PREF_ADDR())));
+        if (MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)) != get_CPU_PREF_ADDR(m68k_cpu)) {
+            set_CPU_PREF_ADDR(m68k_cpu, MASK_OUT_BELOW_2(get_CPU_PC(m68k_cpu)));
+            set_CPU_PREF_DATA(m68k_cpu, m68k_read_immediate_32(ADDRESS_68K(m68k_cpu, get_CPU_PREF_ADDR(m68k_cpu))));
         }
         //CPU_PC += 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);//unsingned?
-        return MASK_OUT_ABOVE_16(get_CPU_PREF_DATA() >>> ((2 - ((get_CPU_PC() - 2) & 2)) << 3));
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);//unsingned?
+        return MASK_OUT_ABOVE_16(get_CPU_PREF_DATA(m68k_cpu) >>> ((2 - ((get_CPU_PC(m68k_cpu) - 2) & 2)) << 3));
     }
 
     /*TODO*///
@@ -1336,11 +1344,11 @@ public class m68kcpuH {
 /*TODO*///
 /*TODO*///
 /* Decode address register indirect with index */
-    public static long m68ki_get_ea_ix() {
-        long extension = m68ki_read_imm_16();
-        long ea_index = m68k_cpu_dar[(int) (EXT_INDEX_AR(extension) != 0 ? 1 : 0)][(int) EXT_INDEX_REGISTER(extension)];
-        long base = get_AY();
-        long outer = 0;
+    public static int m68ki_get_ea_ix(m68k_cpu_core m68k_cpu) {
+        int extension = m68ki_read_imm_16(m68k_cpu);
+        int ea_index = m68k_cpu.dar[EXT_INDEX_AR(extension) != 0 ? 1 : 0][EXT_INDEX_REGISTER(extension)];
+        int base = get_AY(m68k_cpu);
+        int outer = 0;
 
         /* Sign-extend the index value if needed */
         if (EXT_INDEX_LONG(extension) == 0) {
@@ -1348,7 +1356,7 @@ public class m68kcpuH {
         }
 
         /* If we're running 010 or less, there's no scale or full extension word mode */
-        if ((get_CPU_MODE() & CPU_MODE_010_LESS) != 0) {
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_010_LESS) != 0) {
             return (base + ea_index + MAKE_INT_8(extension));
         }
 
@@ -1378,12 +1386,12 @@ public class m68kcpuH {
     }
 
     /* Decode address register indirect with index for MOVE destination */
-    public static long m68ki_get_ea_ix_dst() {
-        long extension = m68ki_read_imm_16();
-        long ea_index = m68k_cpu_dar[(int) (EXT_INDEX_AR(extension) != 0 ? 1 : 0)][(int) EXT_INDEX_REGISTER(extension)];
-        long base = get_AX(); /* This is the only thing different from m68ki_get_ea_ix() */
+    public static int m68ki_get_ea_ix_dst(m68k_cpu_core m68k_cpu) {
+        int extension = m68ki_read_imm_16(m68k_cpu);
+        int ea_index = m68k_cpu.dar[EXT_INDEX_AR(extension) != 0 ? 1 : 0][EXT_INDEX_REGISTER(extension)];
+        int base = get_AX(m68k_cpu); /* This is the only thing different from m68ki_get_ea_ix() */
 
-        long outer = 0;
+        int outer = 0;
 
         /* Sign-extend the index value if needed */
         if (EXT_INDEX_LONG(extension) == 0) {
@@ -1391,7 +1399,7 @@ public class m68kcpuH {
         }
 
         /* If we're running 010 or less, there's no scale or full extension word mode */
-        if ((get_CPU_MODE() & CPU_MODE_010_LESS) != 0) {
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_010_LESS) != 0) {
             return (base + ea_index + MAKE_INT_8(extension));
         }
 
@@ -1421,14 +1429,14 @@ public class m68kcpuH {
     }
 
     /* Decode program counter indirect with index */
-    public static long m68ki_get_ea_pcix() {
+    public static int m68ki_get_ea_pcix(m68k_cpu_core m68k_cpu) {
 
         //uint base = (CPU_PC += 2) - 2;
-        set_CPU_PC((get_CPU_PC() + 2) & 0xFFFFFFFFL);
-        long base = get_CPU_PC() - 2;
-        long extension = m68ki_read_16(base);
-        long ea_index = m68k_cpu_dar[(int) (EXT_INDEX_AR(extension) != 0 ? 1 : 0)][(int) EXT_INDEX_REGISTER(extension)];
-        long outer = 0;
+        set_CPU_PC(m68k_cpu, get_CPU_PC(m68k_cpu) + 2);
+        int base = get_CPU_PC(m68k_cpu) - 2;
+        int extension = m68ki_read_16(m68k_cpu, base);
+        int ea_index = m68k_cpu.dar[EXT_INDEX_AR(extension) != 0 ? 1 : 0][EXT_INDEX_REGISTER(extension)];
+        int outer = 0;
 
         /* Sign-extend the index value if needed */
         if (EXT_INDEX_LONG(extension) == 0) {
@@ -1436,7 +1444,7 @@ public class m68kcpuH {
         }
 
         /* If we're running 010 or less, there's no scale or full extension word mode */
-        if ((get_CPU_MODE() & CPU_MODE_010_LESS) != 0) {
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_010_LESS) != 0) {
             return (base + ea_index + MAKE_INT_8(extension));
         }
         throw new UnsupportedOperationException("Unimplemented");
@@ -1465,16 +1473,16 @@ public class m68kcpuH {
     }
     /* Set the S flag and change the active stack pointer. */
 
-    public static void m68ki_set_s_flag(int value) {
+    public static void m68ki_set_s_flag(m68k_cpu_core m68k_cpu, int value) {
         /* ASG: Only do the rest if we're changing */
         value = (value != 0) ? 1 : 0;
-        if (get_CPU_S() != value) {
+        if (get_CPU_S(m68k_cpu) != value) {
             /* Backup the old stack pointer */
-            set_CPU_SP((int) (get_CPU_S() | (get_CPU_M() & (get_CPU_S() << 1))), get_CPU_A()[7]);
+            set_CPU_SP(m68k_cpu, (get_CPU_S(m68k_cpu) | (get_CPU_M(m68k_cpu) & (get_CPU_S(m68k_cpu) << 1))), get_CPU_A(m68k_cpu)[7]);
             /* Set the S flag */
-            set_CPU_S(value);
+            set_CPU_S(m68k_cpu, value);
             /* Set the new stack pointer */
-            set_CPU_A(7, get_CPU_SP()[(int) (get_CPU_S() | (get_CPU_M() & (get_CPU_S() << 1)))]);
+            set_CPU_A(m68k_cpu, 7, get_CPU_SP(m68k_cpu)[get_CPU_S(m68k_cpu) | (get_CPU_M(m68k_cpu) & (get_CPU_S(m68k_cpu) << 1))]);
         }
     }
 
@@ -1495,53 +1503,53 @@ public class m68kcpuH {
 /*TODO*///}
 /*TODO*///
 /*TODO*////* Set the S and M flags and change the active stack pointer. */
-    public static void m68ki_set_sm_flag(long s_value, long m_value) {
+    public static void m68ki_set_sm_flag(m68k_cpu_core m68k_cpu, int s_value, int m_value) {
         /* ASG: Only do the rest if we're changing */
-        s_value = (s_value != 0) ? 1L : 0L;
+        s_value = (s_value != 0) ? 1 : 0;
         m_value = (m_value != 0 && (m68k_cpu.mode & CPU_MODE_EC020_PLUS) != 0) ? 1 : 0 << 1;
-        if (get_CPU_S() != s_value || get_CPU_M() != m_value) {
+        if (get_CPU_S(m68k_cpu) != s_value || get_CPU_M(m68k_cpu) != m_value) {
             /* Backup the old stack pointer */
-            m68k_cpu.sp[(int) (get_CPU_S() | (get_CPU_M() & (get_CPU_S() << 1)))] = get_CPU_A()[7];
+            m68k_cpu.sp[get_CPU_S(m68k_cpu) | (get_CPU_M(m68k_cpu) & (get_CPU_S(m68k_cpu) << 1))] = get_CPU_A(m68k_cpu)[7];
             /* Set the S and M flags */
-            set_CPU_S(s_value != 0 ? 1L : 0L);
-            set_CPU_M((m_value != 0 && (m68k_cpu.mode & CPU_MODE_EC020_PLUS) != 0) ? 1 : 0 << 1);
+            set_CPU_S(m68k_cpu, s_value != 0 ? 1 : 0);
+            set_CPU_M(m68k_cpu, (m_value != 0 && (m68k_cpu.mode & CPU_MODE_EC020_PLUS) != 0) ? 1 : 0 << 1);
             /* Set the new stack pointer */
-            set_CPU_A(7, m68k_cpu.sp[(int) (get_CPU_S() | (get_CPU_M() & (get_CPU_S() << 1)))]);
+            set_CPU_A(m68k_cpu, 7, m68k_cpu.sp[get_CPU_S(m68k_cpu) | (get_CPU_M(m68k_cpu) & (get_CPU_S(m68k_cpu) << 1))]);
         }
     }
 
 
     /* Set the condition code register */
-    public static void m68ki_set_ccr(long value) {
-        set_CPU_X(BIT_4(value));
-        set_CPU_N(BIT_3(value));
-        set_CPU_NOT_Z(BIT_2(value) == 0 ? 1 : 0);
-        set_CPU_V(BIT_1(value));
-        set_CPU_C(BIT_0(value));
+    public static void m68ki_set_ccr(m68k_cpu_core m68k_cpu, int value) {
+        set_CPU_X(m68k_cpu, BIT_4(value));
+        set_CPU_N(m68k_cpu, BIT_3(value));
+        set_CPU_NOT_Z(m68k_cpu, BIT_2(value) == 0 ? 1 : 0);
+        set_CPU_V(m68k_cpu, BIT_1(value));
+        set_CPU_C(m68k_cpu, BIT_0(value));
     }
 
     /* Set the status register */
-    public static void m68ki_set_sr(long value) {
+    public static void m68ki_set_sr(m68k_cpu_core m68k_cpu, int value) {
         /* ASG: detect changes to the INT_MASK */
-        long old_mask = get_CPU_INT_MASK();
+        int old_mask = get_CPU_INT_MASK(m68k_cpu);
 
         /* Mask out the "unimplemented" bits */
-        value &= m68k_sr_implemented_bits[(int) get_CPU_MODE()];
+        value &= m68k_sr_implemented_bits[get_CPU_MODE(m68k_cpu)];
 
         /* Now set the status register */
-        set_CPU_T1(BIT_F(value));
-        set_CPU_T0(BIT_E(value));
-        set_CPU_INT_MASK((value >> 8) & 7);
-        set_CPU_X(BIT_4(value));
-        set_CPU_N(BIT_3(value));
-        set_CPU_NOT_Z(BIT_2(value) == 0L ? 1L : 0L);
-        set_CPU_V(BIT_1(value));
-        set_CPU_C(BIT_0(value));
-        m68ki_set_sm_flag(BIT_D(value), BIT_C(value));
+        set_CPU_T1(m68k_cpu, BIT_F(value));
+        set_CPU_T0(m68k_cpu, BIT_E(value));
+        set_CPU_INT_MASK(m68k_cpu, (value >> 8) & 7);
+        set_CPU_X(m68k_cpu, BIT_4(value));
+        set_CPU_N(m68k_cpu, BIT_3(value));
+        set_CPU_NOT_Z(m68k_cpu, BIT_2(value) == 0 ? 1 : 0);
+        set_CPU_V(m68k_cpu, BIT_1(value));
+        set_CPU_C(m68k_cpu, BIT_0(value));
+        m68ki_set_sm_flag(m68k_cpu, BIT_D(value), BIT_C(value));
 
         /* ASG: detect changes to the INT_MASK */
-        if (get_CPU_INT_MASK() != old_mask) {
-            m68ki_check_interrupts();
+        if (get_CPU_INT_MASK(m68k_cpu) != old_mask) {
+            m68ki_check_interrupts(m68k_cpu);
         }
     }
     /*TODO*///
@@ -1572,74 +1580,74 @@ public class m68kcpuH {
 /*TODO*/// * the PC.
 /*TODO*/// */
 
-    public static void m68ki_set_pc(long address) {
+    public static void m68ki_set_pc(m68k_cpu_core m68k_cpu, int address) {
         /* Set the program counter */
-        set_CPU_PC(address & 0xFFFFFFFFL);
+        set_CPU_PC(m68k_cpu, address);
         /* Inform the host program */
         /* MAME */
-        change_pc24((int) ADDRESS_68K(address));
+        change_pc24(ADDRESS_68K(m68k_cpu, address));
         /*
          m68ki_pc_changed(ADDRESS_68K(address));
          */
     }
     /* Process an exception */
 
-    public static void m68ki_exception(long vector) {
+    public static void m68ki_exception(m68k_cpu_core m68k_cpu, int vector) {
         /* Save the old status register */
-        long old_sr = m68ki_get_sr();
+        int old_sr = m68ki_get_sr(m68k_cpu);
 
         /* Use up some clock cycles */
-        USE_CLKS(m68k_exception_cycle_table[(int) vector]);
+        USE_CLKS(m68k_cpu, m68k_exception_cycle_table[vector]);
 
         /* Turn off stopped state and trace flag, clear pending traces */
-        set_CPU_STOPPED(0);
-        set_CPU_T1(0);
-        set_CPU_T0(0);
+        set_CPU_STOPPED(m68k_cpu, 0);
+        set_CPU_T1(m68k_cpu, 0);
+        set_CPU_T0(m68k_cpu, 0);
 
         /* Enter supervisor mode */
-        m68ki_set_s_flag(1);
+        m68ki_set_s_flag(m68k_cpu, 1);
         /* Push a stack frame */
-        if ((get_CPU_MODE() & CPU_MODE_010_PLUS) != 0) {
-            m68ki_push_16(vector << 2); /* This is format 0 */
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_010_PLUS) != 0) {
+            m68ki_push_16(m68k_cpu, vector << 2); /* This is format 0 */
 
         }
-        m68ki_push_32(get_CPU_PPC());	/* save previous PC, ie. PC that contains an offending instruction */
+        m68ki_push_32(m68k_cpu, get_CPU_PPC(m68k_cpu));	/* save previous PC, ie. PC that contains an offending instruction */
 
-        m68ki_push_16(old_sr);
+        m68ki_push_16(m68k_cpu, old_sr);
         /* Generate a new program counter from the vector */
-        m68ki_set_pc(m68ki_read_32((vector << 2) + get_CPU_VBR()));
+        m68ki_set_pc(m68k_cpu, m68ki_read_32(m68k_cpu, (vector << 2) + get_CPU_VBR(m68k_cpu)));
     }
     /* Process an interrupt (or trap) */
 
-    public static void m68ki_interrupt(long vector) {
+    public static void m68ki_interrupt(m68k_cpu_core m68k_cpu, int vector) {
         /* Save the old status register */
-        long old_sr = m68ki_get_sr();
+        int old_sr = m68ki_get_sr(m68k_cpu);
 
         /* Use up some clock cycles */
         /* ASG: just keep them pending */
         /* USE_CLKS(m68k_exception_cycle_table[vector]);*/
-        set_CPU_INT_CYCLES(get_CPU_INT_CYCLES() + m68k_exception_cycle_table[(int) vector]);
+        set_CPU_INT_CYCLES(m68k_cpu, get_CPU_INT_CYCLES(m68k_cpu) + m68k_exception_cycle_table[vector]);
 
         /* Turn off stopped state and trace flag, clear pending traces */
-        set_CPU_STOPPED(0);
-        set_CPU_T1(0);
-        set_CPU_T0(0);
+        set_CPU_STOPPED(m68k_cpu, 0);
+        set_CPU_T1(m68k_cpu, 0);
+        set_CPU_T0(m68k_cpu, 0);
 
         /* Enter supervisor mode */
-        m68ki_set_s_flag(1);
+        m68ki_set_s_flag(m68k_cpu, 1);
         /* Push a stack frame */
-        if ((get_CPU_MODE() & CPU_MODE_010_PLUS) != 0) {
-            m68ki_push_16(vector << 2); /* This is format 0 */
+        if ((get_CPU_MODE(m68k_cpu) & CPU_MODE_010_PLUS) != 0) {
+            m68ki_push_16(m68k_cpu, vector << 2); /* This is format 0 */
 
         }
-        m68ki_push_32(get_CPU_PC());
-        m68ki_push_16(old_sr);
+        m68ki_push_32(m68k_cpu, get_CPU_PC(m68k_cpu));
+        m68ki_push_16(m68k_cpu, old_sr);
         /* Generate a new program counter from the vector */
-        m68ki_set_pc(m68ki_read_32((vector << 2) + get_CPU_VBR()));
+        m68ki_set_pc(m68k_cpu, m68ki_read_32(m68k_cpu, (vector << 2) + get_CPU_VBR(m68k_cpu)));
     }
     /* Service an interrupt request */
 
-    public static void m68ki_service_interrupt(long pending_mask) /* ASG: added parameter here */ {
+    public static void m68ki_service_interrupt(m68k_cpu_core m68k_cpu, int pending_mask) /* ASG: added parameter here */ {
         int int_level = 7;
         int vector;
 
@@ -1648,7 +1656,7 @@ public class m68kcpuH {
       ;
 
         /* Get the exception vector */
-        switch (vector = get_CPU_INT_ACK_CALLBACK().handler(int_level)) {
+        switch (vector = get_CPU_INT_ACK_CALLBACK(m68k_cpu).handler(int_level)) {
             case 0x00:
             case 0x01:
                 /* vectors 0 and 1 are ignored since they are for reset only */
@@ -1923,15 +1931,15 @@ public class m68kcpuH {
         }
 
         /* If vector is uninitialized, call the uninitialized interrupt vector */
-        if (m68ki_read_32(vector << 2) == 0) {
+        if (m68ki_read_32(m68k_cpu, vector << 2) == 0) {
             vector = EXCEPTION_UNINITIALIZED_INTERRUPT;
         }
 
         /* Generate an interupt */
-        m68ki_interrupt(vector);
+        m68ki_interrupt(m68k_cpu, vector);
 
         /* Set the interrupt mask to the level of the one being serviced */
-        set_CPU_INT_MASK(int_level);
+        set_CPU_INT_MASK(m68k_cpu, int_level);
         if (m68klog != null) {
             fprintf(m68klog, "service_interrupt :PC:%d,PPC:%d,mode:%d,dr0:%d,dr1:%d,dr2:%d,dr3:%d,dr4:%d,dr5:%d,dr6:%d,dr7:%d,ar0:%d,ar1:%d,ar2:%d,ar3:%d,ar4:%d,ar5:%d,ar6:%d,ar7:%d,sp0:%d,sp1:%d,sp2:%d,sp3:%d,vbr:%d,sfc:%d,dfc:%d,cacr:%d,caar:%d,ir:%d,t1:%d,t0:%d,s:%d,m:%d,x:%d,n:%d,nz:%d,v:%d,c:%d,intm:%d,ints:%d,stop:%d,halt:%d,intc:%d,prefa:%d,prefd:%d\n", m68k_cpu.pc, m68k_cpu.ppc, m68k_cpu.mode, m68k_cpu.dr[0], m68k_cpu.dr[1], m68k_cpu.dr[2], m68k_cpu.dr[3], m68k_cpu.dr[4], m68k_cpu.dr[5], m68k_cpu.dr[6], m68k_cpu.dr[7], m68k_cpu.ar[0], m68k_cpu.ar[1], m68k_cpu.ar[2], m68k_cpu.ar[3], m68k_cpu.ar[4], m68k_cpu.ar[5], m68k_cpu.ar[6], m68k_cpu.ar[7], m68k_cpu.sp[0], m68k_cpu.sp[1], m68k_cpu.sp[2], m68k_cpu.sp[3], m68k_cpu.vbr, m68k_cpu.sfc, m68k_cpu.dfc, m68k_cpu.cacr, m68k_cpu.caar, m68k_cpu.ir, m68k_cpu.t1_flag, m68k_cpu.t0_flag, m68k_cpu.s_flag, m68k_cpu.m_flag, m68k_cpu.x_flag, m68k_cpu.n_flag, m68k_cpu.not_z_flag, m68k_cpu.v_flag, m68k_cpu.c_flag, m68k_cpu.int_mask, m68k_cpu.int_state, m68k_cpu.stopped, m68k_cpu.halted, m68k_cpu.int_cycles, m68k_cpu.pref_addr, m68k_cpu.pref_data);
         }
@@ -1939,11 +1947,11 @@ public class m68kcpuH {
 
 
     /* ASG: Check for interrupts */
-    public static void m68ki_check_interrupts() {
+    public static void m68ki_check_interrupts(m68k_cpu_core m68k_cpu) {
 
-        long pending_mask = 1 << get_CPU_INT_STATE();
-        if ((pending_mask & m68k_int_masks[(int) get_CPU_INT_MASK()]) != 0L) {
-            m68ki_service_interrupt(pending_mask);
+        int pending_mask = 1 << get_CPU_INT_STATE(m68k_cpu);
+        if ((pending_mask & m68k_int_masks[get_CPU_INT_MASK(m68k_cpu)]) != 0) {
+            m68ki_service_interrupt(m68k_cpu, pending_mask);
         }
     }
 }
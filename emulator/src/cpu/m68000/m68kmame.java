@@ -11,9 +11,13 @@ import static cpu.m68000.m68kH.*;
 import static cpu.m68000.m68kopsH.*;
 import static cpu.m68000.m68kops.*;
 import static cpu.m68000.m68kcpu.*;
+import static cpu.m68000.m68kcpuH.*;
 
 public class m68kmame extends cpu_interface {
 
+    /* the core of the active CPU, a context switch swaps it */
+    m68k_cpu_core m68k_cpu = new m68k_cpu_core();
+
     public m68kmame() {
         cpu_num = CPU_M68000;
         num_irqs = 8;
@@ -30,13 +34,13 @@ public class m68kmame extends cpu_interface {
         abits1 = ABITS1_24;
         abits2 = ABITS2_24;
         abitsmin = ABITS_MIN_24;
-        icount = m68k_clks_left;
-        m68k_clks_left[0] = 0;
+        icount = m68k_cpu.clks_left;
+        icount[0] = 0;
     }
 
     @Override
     public void reset(Object param) {
-        m68k_pulse_reset(param);
+        m68k_pulse_reset(m68k_cpu, param);
     }
 
     @Override
@@ -46,33 +50,35 @@ public class m68kmame extends cpu_interface {
 
     @Override
     public int execute(int cycles) {
-        return m68k_execute(cycles);
+        return m68k_execute(m68k_cpu, cycles);
     }
 
     @Override
     public Object init_context() {
-        Object reg = new m68k_cpu_context();
+        m68k_cpu_core reg = new m68k_cpu_core();
+        reg.clks_left = icount;	/* timer.c holds on to the icount of the interface */
         return reg;
     }
 
     @Override
     public Object get_context() {
-        throw new UnsupportedOperationException("Not supported yet.");
-        /*TODO*///	if( dst )
-/*TODO*///		m68k_get_context(dst);
-/*TODO*///	return sizeof(m68k_cpu_context);
+        return m68k_cpu;
     }
 
     @Override
     public void set_context(Object reg) {
-        throw new UnsupportedOperationException("Not supported yet.");
-        /*TODO*///	if( src )
-        /*TODO*///		m68k_set_context(src);
+        if (reg != null) {
+            m68k_cpu = (m68k_cpu_core) reg;
+            m68ki_set_pc(m68k_cpu, m68k_cpu.pc);
+
+            /* ASG: check for interrupts */
+            m68ki_check_interrupts(m68k_cpu);
+        }
     }
 
     @Override
     public int get_pc() {
-        return (int) m68k_peek_pc();
+        return m68k_peek_pc(m68k_cpu);
     }
 
     @Override
@@ -101,7 +107,7 @@ public class m68kmame extends cpu_interface {
 /*TODO*///        case M68K_ISP: return m68k_peek_isp();
 /*TODO*///        case M68K_USP: return m68k_peek_usp();
             case /*M68K_SR*/ 4:
-                return (int) m68k_peek_sr();
+                return m68k_peek_sr(m68k_cpu);
             /*TODO*///        case M68K_VBR: return 0; /* missing m68k_peek_vbr(); */
 /*TODO*///		case M68K_SFC: return 0; /* missing m68k_peek_sfc(); */
 /*TODO*///		case M68K_DFC: return 0; /* missing m68k_peek_dfc(); */
@@ -121,7 +127,7 @@ public class m68kmame extends cpu_interface {
 /*TODO*///		case M68K_A5: return m68k_peek_ar(5);
 /*TODO*///		case M68K_A6: return m68k_peek_ar(6);
 /*TODO*///		case M68K_A7: return m68k_peek_ar(7);
-		case REG_PREVIOUSPC: return (int)m68k_peek_ppc();
+		case REG_PREVIOUSPC: return m68k_peek_ppc(m68k_cpu);
 /*TODO*////* TODO: return contents of [SP + wordsize * (REG_SP_CONTENTS-regnum)] */
             default:
                 throw new UnsupportedOperationException("Not supported yet.");
@@ -178,13 +184,13 @@ public class m68kmame extends cpu_interface {
     public void set_nmi_line(int state) {
         switch (state) {
             case CLEAR_LINE:
-                m68k_clear_irq(7);
+                m68k_clear_irq(m68k_cpu, 7);
                 return;
             case ASSERT_LINE:
-                m68k_assert_irq(7);
+                m68k_assert_irq(m68k_cpu, 7);
                 return;
             default:
-                m68k_assert_irq(7);
+                m68k_assert_irq(m68k_cpu, 7);
                 return;
         }
     }
@@ -194,20 +200,20 @@ public class m68kmame extends cpu_interface {
 
         switch (state) {
             case CLEAR_LINE:
-                m68k_clear_irq(irqline);
+                m68k_clear_irq(m68k_cpu, irqline);
                 return;
             case ASSERT_LINE:
-                m68k_assert_irq(irqline);
+                m68k_assert_irq(m68k_cpu, irqline);
                 return;
             default:
-                m68k_assert_irq(irqline);
+                m68k_assert_irq(m68k_cpu, irqline);
                 return;
         }
     }
 
     @Override
     public void set_irq_callback(irqcallbacksPtr callback) {
-        m68k_set_int_ack_callback(callback);
+        m68k_set_int_ack_callback(m68k_cpu, callback);
     }
 
     @Override
@@ -11,6 +11,7 @@ import static mame.memoryH.*;
 import static mame.mame.*;
 import static mame.cpuintrf.*;
 import static cpu.z80.z80daaH.*;
+import static cpu.z80.z80dynarec.z80_dynarec;
 
 
 public class z80 extends cpu_interface {
@@ -150,6 +151,7 @@ public class z80 extends cpu_interface {
         public Z80_DaisyChain[] irq = new Z80_DaisyChain[Z80_MAXDAISY];
         public irqcallbacksPtr irq_callback;
         public int     extra_cycles;       /* extra cycles for interrupts */
+        public int     after_EI;           /* executing the instruction after EI */
     };
     
     public static final int CF  =0x01;
@@ -213,7 +215,6 @@ public class z80 extends cpu_interface {
 
     private static Z80_Regs Z80 = new Z80_Regs();
     private static int EA;
-    private static int after_EI = 0;
 
 	
     private static int  /*UINT8*/ SZ[]        = new int[256];/* zero and sign flags */
@@ -363,6 +364,245 @@ public class z80 extends cpu_interface {
            z80_ICount[0] -= (cycles / cyclesum) * cyclesum;
        }
     }
+    /****************************************************************************/
+    /* Spin loop skipping, enabled with -z80spin. A short loop that only reads  */
+    /* memory which can't change during the timeslice (see                      */
+    /* cpu_readmem16_constant), tests it and branches back behaves the same way */
+    /* in every iteration until the slice ends, since other CPUs and timers     */
+    /* only run between slices. Once such a loop went round a full iteration,   */
+    /* the rest of the slice is burnt like the JR $ busy loops above.           */
+    /****************************************************************************/
+    public static int z80_spin = 0;
+    public static long[] z80_spin_cycles = new long[MAX_CPU];	/* cycles skipped per cpu */
+    public static int[] z80_spin_skips = new int[MAX_CPU];	/* times a loop was skipped */
+
+    static final int SPIN_MAX_LENGTH = 16;	/* longest loop body looked at, in bytes */
+
+    /* registers tracked by spin_loop(), bits 0-7 use the opcode's r encoding */
+    static final int SPIN_A = 1 << 7;
+    static final int SPIN_FLAGS = 1 << 8;	/* S, Z, H, P and N */
+    static final int SPIN_CARRY = 1 << 9;
+
+    static int spin_pc = -1;	/* branch which last closed a loop in this slice */
+    static int spin_icount;	/* z80_ICount when it did */
+    static int spin_no_loop = -1;	/* branch found not to close a polling loop in this slice */
+    static int spin_reads, spin_writes;	/* registers read before written, written */
+    static int spin_iteration_opcodes;
+
+    public static void z80_spin_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-z80spin") == 0) {
+                z80_spin = 1;
+            }
+        }
+    }
+
+    public static void z80_spin_report() {
+        for (int i = 0; i < MAX_CPU && Machine.drv.cpu[i].cpu_type != 0; i++) {
+            if ((Machine.drv.cpu[i].cpu_type & ~CPU_FLAGS_MASK) == CPU_Z80) {
+                printf("z80spin: %s cpu #%d, %d cycles skipped in %d spin loops\n",
+                        Machine.gamedrv.name, i, z80_spin_cycles[i], z80_spin_skips[i]);
+            }
+        }
+    }
+
+    static void spin_read(int regs) {
+        spin_reads |= regs & ~spin_writes;
+    }
+
+    /* register r (opcode encoding) read by an instruction, -1 for (HL) when it */
+    /* doesn't read constant memory                                             */
+    static int spin_read_r(int r) {
+        if (r == 6) {
+            spin_read(1 << 4 | 1 << 5);
+            return cpu_readmem16_constant(Z80.HL.D) != 0 ? 0 : -1;
+        }
+        spin_read(1 << r);
+        return 0;
+    }
+
+    /* T-states of one iteration of the loop from start to the branch at end, */
+    /* -1 if it isn't a side effect free polling loop                         */
+    static int spin_loop(int start, int end) {
+        int pc = start;
+        int cycles = 0;
+
+        spin_reads = spin_writes = 0;
+        spin_iteration_opcodes = 0;
+        while (pc != end) {
+            if (((end - pc) & 0xffff) > SPIN_MAX_LENGTH) {
+                return -1;	/* ran past the branch */
+            }
+            int op = cpu_readop(pc) & 0xFF;
+            int r = op & 7;
+
+            spin_iteration_opcodes++;
+            cycles += cc_op[op];
+            if (op == 0x00) {	/* NOP */
+                pc += 1;
+            } else if (op == 0x0a || op == 0x1a) {	/* LD A,(BC) / LD A,(DE) */
+                int rp = (op == 0x0a) ? Z80.BC.D : Z80.DE.D;
+
+                spin_read(op == 0x0a ? 1 << 0 | 1 << 1 : 1 << 2 | 1 << 3);
+                if (cpu_readmem16_constant(rp) == 0) {
+                    return -1;
+                }
+                spin_writes |= SPIN_A;
+                pc += 1;
+            } else if (op == 0x3a) {	/* LD A,(w) */
+                int ea = cpu_readop_arg((pc + 1) & 0xffff) | (cpu_readop_arg((pc + 2) & 0xffff) << 8);
+
+                if (cpu_readmem16_constant(ea) == 0) {
+                    return -1;
+                }
+                spin_writes |= SPIN_A;
+                pc += 3;
+            } else if (op >= 0x40 && op <= 0x7f && op != 0x76) {	/* LD r,r' / LD r,(HL) */
+                if (spin_read_r(r) < 0) {
+                    return -1;
+                }
+                spin_writes |= 1 << ((op >> 3) & 7);
+                pc += 1;
+            } else if (op >= 0xa0 && op <= 0xbf) {	/* AND / XOR / OR / CP r */
+                if (op == 0xaf) {
+                    /* XOR A doesn't depend on A */
+                } else if (spin_read_r(r) < 0) {
+                    return -1;
+                } else {
+                    spin_read(SPIN_A);
+                }
+                spin_writes |= (op < 0xb8 ? SPIN_A : 0) | SPIN_FLAGS | SPIN_CARRY;
+                pc += 1;
+            } else if (op == 0xe6 || op == 0xee || op == 0xf6 || op == 0xfe) {	/* AND / XOR / OR / CP n */
+                spin_read(SPIN_A);
+                spin_writes |= (op != 0xfe ? SPIN_A : 0) | SPIN_FLAGS | SPIN_CARRY;
+                pc += 2;
+            } else if (op == 0xcb) {	/* BIT b,r */
+                int op2 = cpu_readop_arg((pc + 1) & 0xffff) & 0xFF;
+
+                if (op2 < 0x40 || op2 > 0x7f || spin_read_r(op2 & 7) < 0) {
+                    return -1;
+                }
+                spin_iteration_opcodes++;
+                cycles += cc_cb[op2];
+                spin_writes |= SPIN_FLAGS;	/* the carry is kept */
+                pc += 2;
+            } else if ((op & 0xe7) == 0x20) {	/* JR cc,o out of the loop, not taken */
+                int target = (pc + 2 + (byte) cpu_readop_arg((pc + 1) & 0xffff)) & 0xffff;
+
+                if (((target - start) & 0xffff) <= ((end - start) & 0xffff)) {
+                    return -1;
+                }
+                spin_read(op == 0x20 || op == 0x28 ? SPIN_FLAGS : SPIN_CARRY);
+                pc += 2;
+            } else if ((op & 0xc7) == 0xc2) {	/* JP cc,a out of the loop, not taken */
+                int target = cpu_readop_arg((pc + 1) & 0xffff) | (cpu_readop_arg((pc + 2) & 0xffff) << 8);
+
+                if (((target - start) & 0xffff) <= ((end - start) & 0xffff)) {
+                    return -1;
+                }
+                spin_read(op == 0xd2 || op == 0xda ? SPIN_CARRY : SPIN_FLAGS);
+                pc += 3;
+            } else {
+                return -1;
+            }
+            pc &= 0xffff;
+        }
+
+        /* a register read before it is written sees the previous iteration's */
+        /* value, the iterations would differ                                 */
+        if ((spin_reads & spin_writes) != 0) {
+            return -1;
+        }
+        return cycles;
+    }
+
+    /* a taken branch from PREPC back to PC costing branch_cycles, skip the */
+    /* rest of the slice when it closes a polling loop                      */
+    void SPIN(int branch_cycles)
+    {
+        int start = Z80.PC.D;
+        int end = Z80.PREPC.D;
+
+        if (Z80.after_EI != 0 || end == spin_no_loop || ((end - start) & 0xffff) > SPIN_MAX_LENGTH) {
+            return;
+        }
+
+        /* only skip once a full iteration ran from the top, before that the */
+        /* registers may still hold what they had when the loop was entered  */
+        if (spin_pc != end) {
+            spin_pc = end;
+            spin_icount = z80_ICount[0];
+            return;
+        }
+
+        int cycles = spin_loop(start, end);
+        if (cycles < 0) {
+            spin_no_loop = end;	/* the code doesn't change during the slice */
+            return;
+        }
+
+        int iteration = cycles + branch_cycles;
+        if (spin_icount - z80_ICount[0] == iteration) {
+            int n = z80_ICount[0] / iteration;
+
+            if (n > 0) {
+                int cpu = cpu_getactivecpu();
+
+                Z80.R = (Z80.R + n * (spin_iteration_opcodes + 1)) & 0xFF;
+                z80_ICount[0] -= n * iteration;
+                z80_spin_cycles[cpu] += (long) n * iteration;
+                z80_spin_skips[cpu]++;
+            }
+        }
+        spin_icount = z80_ICount[0];
+    }
+
+    /****************************************************************************/
+    /* Translated code of -z80dynarec, see z80dynarec.java. The interpreter     */
+    /* runs the instructions no block was translated for.                       */
+    /****************************************************************************/
+    int dynarec_opbase;	/* opbase_changes when the block was entered */
+
+    void dynarec_execute()
+    {
+        z80dynarec cache = z80dynarec.dynarec_cache(cpu_getactivecpu());
+
+        do
+        {
+            z80dynarec.block b = cache.lookup(this, Z80.PC.D);
+
+            if (b != null)
+            {
+                dynarec_opbase = opbase_changes;
+                b.handler();
+            }
+            else
+            {
+                Z80.PREPC.SetD(Z80.PC.D); //_PPC = _PCD;
+                Z80.R= (Z80.R +1) & 0xFF;//_R++;
+                int op = ROP();
+                z80_ICount[0] -= cc_op[op];
+                Z80op[op].handler();
+            }
+        } while( z80_ICount[0] > 0 );
+    }
+
+    /* called by a block before each instruction, fetches is 2 for a prefix */
+    public void dynarec_fetch(int cycles, int fetches)
+    {
+        Z80.PREPC.SetD(Z80.PC.D); //_PPC = _PCD;
+        Z80.PC.AddD(fetches);
+        Z80.R = (Z80.R + fetches) & 0xFF;
+        z80_ICount[0] -= cycles;
+    }
+
+    /* called by a block after each instruction but the last, 1 to leave it */
+    public int dynarec_next(int pc)
+    {
+        return (Z80.PC.D != pc || z80_ICount[0] <= 0 || opbase_changes != dynarec_opbase) ? 1 : 0;
+    }
+
     /***************************************************************
      * adjust cycle count by n T-states
      ***************************************************************/
@@ -1049,6 +1289,7 @@ public class z80 extends cpu_interface {
         {
             Z80.PC.SetD(ARG16() & 0xFFFF);
             change_pc16(Z80.PC.D);
+            if (z80_spin != 0) SPIN(10);
         }
         else
         {
@@ -4271,7 +4512,7 @@ public class z80 extends cpu_interface {
         /* speed up busy loop */                                    
 	if( Z80.PC.D == oldpc ) 										
 	{															
-		if( after_EI==0 ) 										
+		if( Z80.after_EI==0 ) 										
 			BURNODD( z80_ICount[0], 1, 12 );						
 	}															
 	else														
@@ -4282,7 +4523,7 @@ public class z80 extends cpu_interface {
 			/* NOP - JR $-1 or EI - JR $-1 */					
 			if ( op == 0x00 || op == 0xfb ) 					
 			{													
-				if( after_EI==0 ) 								
+				if( Z80.after_EI==0 ) 								
 					BURNODD( z80_ICount[0]-4, 2, 4+12 );			
 			}													
 		}														
@@ -4290,10 +4531,11 @@ public class z80 extends cpu_interface {
 		/* LD SP,#xxxx - JR $-3 */								
 		if( Z80.PC.D == oldpc-3 && op == 0x31 ) 					
 		{														
-			if( after_EI==0 ) 									
+			if( Z80.after_EI==0 ) 									
 				BURNODD( z80_ICount[0]-12, 2, 10+12 ); 			
 		}														
         }    
+        if (z80_spin != 0) SPIN(cc_op[0x18]);
     }};
 
     opcode op_1a = new opcode() { public void handler() /* LD   A,(DE)	  */
@@ -4324,6 +4566,7 @@ public class z80 extends cpu_interface {
             Z80.PC.SetD((Z80.PC.D + arg) & 0xFFFF);/* so don't do _PC += ARG() */
             z80_ICount[0] -= 5; 
             change_pc16(Z80.PC.D);
+            if (z80_spin != 0) SPIN(cc_op[0x20] + 5);
         }
         else
         {
@@ -4366,6 +4609,7 @@ public class z80 extends cpu_interface {
             Z80.PC.SetD((Z80.PC.D + arg) & 0xFFFF);/* so don't do _PC += ARG() */
             z80_ICount[0] -= 5; 
             change_pc16(Z80.PC.D);
+            if (z80_spin != 0) SPIN(cc_op[0x28] + 5);
         }
         else
         {
@@ -4415,6 +4659,7 @@ public class z80 extends cpu_interface {
             Z80.PC.SetD((Z80.PC.D + arg) & 0xFFFF);/* so don't do _PC += ARG() */
             z80_ICount[0] -= 5; 
             change_pc16(Z80.PC.D);
+            if (z80_spin != 0) SPIN(cc_op[0x30] + 5);
         }
         else
         {
@@ -4461,6 +4706,7 @@ public class z80 extends cpu_interface {
             Z80.PC.SetD((Z80.PC.D + arg) & 0xFFFF);/* so don't do _PC += ARG() */
             z80_ICount[0] -= 5; 
             change_pc16(Z80.PC.D);
+            if (z80_spin != 0) SPIN(cc_op[0x38] + 5);
         }
         else
         {
@@ -4538,7 +4784,7 @@ public class z80 extends cpu_interface {
     opcode op_76 = new opcode() { public void handler(){ /* HALT			  */
         Z80.PC.AddD(-1);// _PC--;                                                      
         Z80.HALT = 1;                                                  
-    	if( after_EI==0) 											
+    	if( Z80.after_EI==0) 											
     		burn.handler(z80_ICount[0]); 								
     }};
     
@@ -4617,6 +4863,7 @@ public class z80 extends cpu_interface {
     { 
         Z80.PC.SetD(ARG16());											
     	change_pc16(Z80.PC.D);												
+        if (z80_spin != 0) SPIN(cc_op[0xc3]);
  //above is a speedup for the JR instruction first check if it work correctly and then we will see :D (shadow)      
         /*TODO*///	unsigned oldpc = _PCD-1;									\
         /*TODO*///	_PCD = ARG16(); 											\
@@ -4843,11 +5090,11 @@ public class z80 extends cpu_interface {
     	    Z80.R= (Z80.R +1) & 0xFF;//_R++;													
     	    if( Z80.irq_state != CLEAR_LINE || Z80.request_irq >= 0 )								
     	    {														
-    		after_EI = 1;	/* avoid cycle skip hacks */	
+    		Z80.after_EI = 1;	/* avoid cycle skip hacks */	
                 int op = ROP();
                 z80_ICount[0] -= cc_op[op];
                 Z80op[op].handler();									
-    		after_EI = 0;										
+    		Z80.after_EI = 0;										
                 if(errorlog!=null) fprintf(errorlog, "Z80#%d EI takes irq\n", cpu_getactivecpu()); 
                 take_interrupt();                                  
             }                                                      
@@ -5214,8 +5461,11 @@ public class z80 extends cpu_interface {
   
     	z80_ICount[0] = cycles - Z80.extra_cycles;
    	Z80.extra_cycles = 0;
+        spin_pc = spin_no_loop = -1;
     
-       do
+       if (z80_dynarec != 0)
+           dynarec_execute();
+       else do
     	{
            Z80.PREPC.SetD(Z80.PC.D); //_PPC = _PCD;
            Z80.R= (Z80.R +1) & 0xFF;//_R++;
@@ -5632,7 +5882,12 @@ public class z80 extends cpu_interface {
 
     @Override
     public Object get_context() {
-       Z80_Regs Regs = new Z80_Regs();
+       return get_context(new Z80_Regs());
+    }
+
+    @Override
+    public Object get_context(Object dst) {
+       Z80_Regs Regs = (Z80_Regs)dst;
        Regs.PREPC.SetD(Z80.PREPC.D);
        Regs.PC.SetD(Z80.PC.D);
        Regs.SP.SetD(Z80.SP.D);
@@ -5662,6 +5917,7 @@ public class z80 extends cpu_interface {
        // public Z80_DaisyChain[] irq = new Z80_DaisyChain[Z80_MAXDAISY];
        Regs.irq_callback = Z80.irq_callback;
        Regs.extra_cycles = Z80.extra_cycles;
+       Regs.after_EI = Z80.after_EI;
        return Regs;
     }
 
@@ -5697,7 +5953,7 @@ public class z80 extends cpu_interface {
        // public Z80_DaisyChain[] irq = new Z80_DaisyChain[Z80_MAXDAISY];
         Z80.irq_callback = Regs.irq_callback;
         Z80.extra_cycles = Regs.extra_cycles;
-    
+        Z80.after_EI = Regs.after_EI;
     }
 
     @Override
@@ -0,0 +1,515 @@
+package cpu.z80;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+
+import mame.driverH.MachineDriver;
+import static arcadeflex.libc_old.*;
+import static cpu.z80.z80.*;
+import static mame.cpuintrfH.*;
+import static mame.driverH.*;
+import static mame.mame.*;
+import static mame.memory.*;
+import static mame.memoryH.*;
+
+/**
+ * Dynamic recompiler of the Z80 core, -z80dynarec. A run of Z80 code the
+ * interpreter went through often enough is translated into a JVM class whose
+ * handler() calls the opcode handler of every instruction, each from its own
+ * call site. The JIT sees a single handler at every site and inlines it, and
+ * the opcode fetch and the dispatch through Z80op[] are gone. The cycles of
+ * every instruction are constants in the translated code.
+ *
+ * After every instruction the translated code goes back to execute() unless
+ * the PC is where the translation expects it, the timeslice goes on and the
+ * opcode base is still the one translated from: taken branches, interrupts,
+ * repeated block instructions, the end of the slice and a cpu_setbank() or
+ * SET_OP_BASE mapping other code in all leave the block. Only code the CPU
+ * can't write to (ROM, see cpu_writemem16_ignored) is translated, code in
+ * RAM, which may modify itself, is always interpreted. Blocks are kept per
+ * CPU, address and OP_ROM, so code in a bank switched back in is translated
+ * once.
+ *
+ * The classes are written here directly. They are version 49, which needs no
+ * stack maps.
+ */
+public class z80dynarec {
+
+    public static int z80_dynarec = 0;
+
+    static final int DYNAREC_HOT = 16;	/* runs of an address interpreted before it is translated */
+    static final int DYNAREC_RETRY = -4096;	/* hot count after a failed translation */
+    static final int DYNAREC_MAX_INSTRUCTIONS = 32;
+    static final int DYNAREC_MAX_CHAIN = 4;	/* blocks kept per address, for banked code */
+
+    /* a translated block, the generated class implements handler() */
+    public static abstract class block implements opcode {
+
+        public z80 cpu;
+        public opcode[] h;	/* the handler of every instruction */
+
+        block next;	/* the other blocks at the same address */
+        char[] rom;	/* the OP_ROM translated from */
+        int rom_offset;
+    }
+
+    /* the blocks of one cpu */
+    MachineDriver drv;
+    block[] blocks = new block[0x10000];
+    int[] hot = new int[0x10000];
+
+    /* the classes of the blocks, dropped with the cache so a new machine */
+    /* doesn't keep the classes of the last one loaded                     */
+    block_loader loader;
+
+    int translated_blocks, translated_instructions, failed_translations;
+    long translate_time, interpreted, entered;
+
+    static z80dynarec[] caches = new z80dynarec[MAX_CPU];
+    static int class_count;
+
+    public static void z80_dynarec_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-z80dynarec") == 0) {
+                z80_dynarec = 1;
+            }
+        }
+    }
+
+    public static void z80_dynarec_report() {
+        for (int i = 0; i < MAX_CPU && Machine.drv.cpu[i].cpu_type != 0; i++) {
+            z80dynarec cache = caches[i];
+
+            if ((Machine.drv.cpu[i].cpu_type & ~CPU_FLAGS_MASK) != CPU_Z80 || cache == null || cache.drv != Machine.drv) {
+                continue;
+            }
+            printf("z80dynarec: %s cpu #%d, %d blocks (%d instructions) translated in %.1f ms, %d addresses left to the interpreter\n",
+                    Machine.gamedrv.name, i, cache.translated_blocks, cache.translated_instructions,
+                    cache.translate_time * 1000.0 / UCLOCKS_PER_SEC, cache.failed_translations);
+            printf("z80dynarec: %s cpu #%d, %d blocks run, %d instructions interpreted\n",
+                    Machine.gamedrv.name, i, cache.entered, cache.interpreted);
+        }
+    }
+
+    /* blocks run by cpu of the current machine */
+    public static long z80_dynarec_entered(int cpu) {
+        z80dynarec cache = caches[cpu];
+
+        return cache != null && cache.drv == Machine.drv ? cache.entered : 0;
+    }
+
+    /* the blocks of cpu, made anew for every machine */
+    static z80dynarec dynarec_cache(int cpu) {
+        z80dynarec cache = caches[cpu];
+
+        if (cache == null || cache.drv != Machine.drv) {
+            cache = caches[cpu] = new z80dynarec();
+            cache.drv = Machine.drv;
+        }
+        return cache;
+    }
+
+    /* the block at pc for the current OP_ROM, null to interpret the instruction */
+    block lookup(z80 cpu, int pc) {
+        for (block b = blocks[pc]; b != null; b = b.next) {
+            if (b.rom == OP_ROM.memory && b.rom_offset == OP_ROM.offset) {
+                entered++;
+                return b;
+            }
+        }
+
+        if (++hot[pc] == DYNAREC_HOT) {
+            long start = uclock();
+            block b = translate(cpu, pc);
+
+            translate_time += uclock() - start;
+            if (b != null) {
+                /* the newest first, drop the oldest of a long chain */
+                b.next = blocks[pc];
+                blocks[pc] = b;
+                block last = b;
+                for (int i = 1; i < DYNAREC_MAX_CHAIN && last.next != null; i++) {
+                    last = last.next;
+                }
+                last.next = null;
+                hot[pc] = 0;
+                entered++;
+                return b;
+            }
+            failed_translations++;
+            hot[pc] = DYNAREC_RETRY;
+        }
+        interpreted++;
+        return null;
+    }
+
+    /**
+     * *************************************************************************
+     * Translation
+     * *************************************************************************
+     */
+    /* 1 if len opcode bytes at pc can be read and the CPU can't change them */
+    static int translatable(int pc, int len) {
+        int size = OP_ROM.memory.length;
+
+        if (pc + len > 0x10000 || OP_ROM.offset + pc < 0 || OP_ROM.offset + pc + len > size) {
+            return 0;
+        }
+        for (int i = 0; i < len; i++) {
+            if (cpu_writemem16_ignored(pc + i) == 0) {
+                return 0;
+            }
+        }
+        return 1;
+    }
+
+    static int main_length(int op) {
+        if ((op & 0xc7) == 0x06 || op == 0x10 || op == 0x18 || (op & 0xe7) == 0x20
+                || (op & 0xc7) == 0xc6 || op == 0xd3 || op == 0xdb) {
+            return 2;	/* LD r,n  DJNZ  JR  ALU n  OUT (n),A  IN A,(n) */
+        }
+        if ((op & 0xcf) == 0x01 || (op & 0xe7) == 0x22 || (op & 0xc7) == 0xc2
+                || op == 0xc3 || (op & 0xc7) == 0xc4 || op == 0xcd) {
+            return 3;	/* LD rr,nn  LD (nn)  JP  CALL */
+        }
+        return 1;
+    }
+
+    /* bytes of the instruction at pc. A wrong length only ends the block */
+    /* early, the PC is checked after every instruction                   */
+    static int instruction_length(int pc) {
+        int op = cpu_readop(pc);
+        int op2 = cpu_readop(pc + 1);
+
+        switch (op) {
+            case 0xcb:
+                return 2;
+            case 0xed:
+                return (op2 & 0xc7) == 0x43 ? 4 : 2;	/* LD (nn),rr  LD rr,(nn) */
+            case 0xdd:
+            case 0xfd:
+                if (op2 == 0xcb || op2 == 0x36) {
+                    return 4;	/* DD CB o xx  LD (IX+o),n */
+                }
+                if (op2 == 0x34 || op2 == 0x35 || ((op2 & 0xc7) == 0x46 && op2 != 0x76)
+                        || ((op2 & 0xf8) == 0x70 && op2 != 0x76) || (op2 & 0xc7) == 0x86) {
+                    return 3;	/* the (IX+o) forms */
+                }
+                return 1 + main_length(op2);
+        }
+        return main_length(op);
+    }
+
+    /* 1 if no instruction follows op in a block: jumps, returns, HALT and EI */
+    static int block_end(int op, int op2) {
+        switch (op) {
+            case 0x18:
+            case 0x76:
+            case 0xc3:
+            case 0xc9:
+            case 0xcd:
+            case 0xe9:
+            case 0xfb:
+                return 1;
+            case 0xed:
+                return (op2 & 0xc7) == 0x45 ? 1 : 0;	/* RETN  RETI */
+            case 0xdd:
+            case 0xfd:
+                return op2 == 0xe9 ? 1 : 0;	/* JP (IX) */
+        }
+        return (op & 0xc7) == 0xc7 ? 1 : 0;	/* RST */
+    }
+
+    block translate(z80 cpu, int start) {
+        opcode[] handlers = new opcode[DYNAREC_MAX_INSTRUCTIONS];
+        int[] cycles = new int[DYNAREC_MAX_INSTRUCTIONS];
+        int[] fetches = new int[DYNAREC_MAX_INSTRUCTIONS];
+        int[] next = new int[DYNAREC_MAX_INSTRUCTIONS];
+        int n = 0;
+        int pc = start;
+
+        while (n < DYNAREC_MAX_INSTRUCTIONS && translatable(pc, 4) != 0) {
+            int len = instruction_length(pc);
+
+            if (translatable(pc, len) == 0) {
+                break;
+            }
+            int op = cpu_readop(pc);
+            int op2 = cpu_readop(pc + 1);
+
+            switch (op) {
+                case 0xcb:
+                    handlers[n] = cpu.Z80cb[op2];
+                    cycles[n] = cc_op[op] + cc_cb[op2];
+                    fetches[n] = 2;
+                    break;
+                case 0xdd:
+                    handlers[n] = cpu.Z80dd[op2];
+                    cycles[n] = cc_op[op] + cc_dd[op2];
+                    fetches[n] = 2;
+                    break;
+                case 0xed:
+                    handlers[n] = cpu.Z80ed[op2];
+                    cycles[n] = cc_op[op] + cc_ed[op2];
+                    fetches[n] = 2;
+                    break;
+                case 0xfd:
+                    handlers[n] = cpu.Z80fd[op2];
+                    cycles[n] = cc_op[op] + cc_dd[op2];	/* cc_fd and cc_dd are the same */
+                    fetches[n] = 2;
+                    break;
+                default:
+                    handlers[n] = cpu.Z80op[op];
+                    cycles[n] = cc_op[op];
+                    fetches[n] = 1;
+                    break;
+            }
+            next[n++] = pc + len;
+            if (block_end(op, op2) != 0) {
+                break;
+            }
+            pc += len;
+        }
+        if (n == 0) {
+            return null;
+        }
+
+        block b;
+        try {
+            if (loader == null) {
+                loader = new block_loader();
+            }
+            String name = "cpu.z80.z80block" + (++class_count);
+            byte[] code = block_class(name.replace('.', '/'), n, cycles, fetches, next);
+
+            b = (block) loader.define(name, code).getConstructor().newInstance();
+        } catch (Exception | LinkageError e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "z80dynarec: block at %04x not translated, %s\n", start, e.toString());
+            }
+            return null;
+        }
+
+        b.cpu = cpu;
+        b.h = new opcode[n];
+        System.arraycopy(handlers, 0, b.h, 0, n);
+        b.rom = OP_ROM.memory;
+        b.rom_offset = OP_ROM.offset;
+        translated_blocks++;
+        translated_instructions += n;
+        return b;
+    }
+
+    static class block_loader extends ClassLoader {
+
+        block_loader() {
+            super(z80dynarec.class.getClassLoader());
+        }
+
+        Class<?> define(String name, byte[] code) {
+            return defineClass(name, code, 0, code.length);
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * Class files
+     * *************************************************************************
+     */
+    static final int CONSTANT_Utf8 = 1;
+    static final int CONSTANT_Integer = 3;
+    static final int CONSTANT_Class = 7;
+    static final int CONSTANT_Fieldref = 9;
+    static final int CONSTANT_Methodref = 10;
+    static final int CONSTANT_InterfaceMethodref = 11;
+    static final int CONSTANT_NameAndType = 12;
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    static final int ALOAD_0 = 0x2a;
+    static final int ICONST_0 = 0x03;
+    static final int BIPUSH = 0x10;
+    static final int LDC_W = 0x13;
+    static final int AALOAD = 0x32;
+    static final int IFEQ = 0x99;
+    static final int RETURN = 0xb1;
+    static final int GETFIELD = 0xb4;
+    static final int INVOKEVIRTUAL = 0xb6;
+    static final int INVOKESPECIAL = 0xb7;
+    static final int INVOKEINTERFACE = 0xb9;
+
+    static class constant_pool {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        HashMap<String, Integer> entries = new HashMap<String, Integer>();
+        int count = 1;
+
+        int add(String key) {
+            Integer index = entries.get(key);
+
+            if (index != null) {
+                return -index;
+            }
+            entries.put(key, count);
+            return count++;
+        }
+
+        int utf8(String s) throws IOException {
+            int index = add("U" + s);
+
+            if (index > 0) {
+                out.writeByte(CONSTANT_Utf8);
+                out.writeUTF(s);
+            }
+            return Math.abs(index);
+        }
+
+        int integer(int value) throws IOException {
+            int index = add("I" + value);
+
+            if (index > 0) {
+                out.writeByte(CONSTANT_Integer);
+                out.writeInt(value);
+            }
+            return Math.abs(index);
+        }
+
+        int class_ref(String name) throws IOException {
+            int utf8 = utf8(name);
+            int index = add("C" + name);
+
+            if (index > 0) {
+                out.writeByte(CONSTANT_Class);
+                out.writeShort(utf8);
+            }
+            return Math.abs(index);
+        }
+
+        int member_ref(int tag, String owner, String name, String type) throws IOException {
+            int owner_index = class_ref(owner);
+            int name_index = utf8(name);
+            int type_index = utf8(type);
+            int nat = add("N" + name + " " + type);
+
+            if (nat > 0) {
+                out.writeByte(CONSTANT_NameAndType);
+                out.writeShort(name_index);
+                out.writeShort(type_index);
+            }
+            int index = add("M" + owner + " " + name + " " + type);
+
+            if (index > 0) {
+                out.writeByte(tag);
+                out.writeShort(owner_index);
+                out.writeShort(Math.abs(nat));
+            }
+            return Math.abs(index);
+        }
+    }
+
+    /* the class of a block of n instructions: for each one            */
+    /*     cpu.dynarec_fetch(cycles, fetches); h[i].handler();          */
+    /*     if (cpu.dynarec_next(next) != 0) return;                     */
+    static byte[] block_class(String name, int n, int[] cycles, int[] fetches, int[] next) throws IOException {
+        String block_name = "cpu/z80/z80dynarec$block";
+        constant_pool pool = new constant_pool();
+        int this_class = pool.class_ref(name);
+        int super_class = pool.class_ref(block_name);
+        int super_init = pool.member_ref(CONSTANT_Methodref, block_name, "<init>", "()V");
+        int cpu_field = pool.member_ref(CONSTANT_Fieldref, block_name, "cpu", "Lcpu/z80/z80;");
+        int h_field = pool.member_ref(CONSTANT_Fieldref, block_name, "h", "[Lcpu/z80/z80$opcode;");
+        int fetch = pool.member_ref(CONSTANT_Methodref, "cpu/z80/z80", "dynarec_fetch", "(II)V");
+        int next_check = pool.member_ref(CONSTANT_Methodref, "cpu/z80/z80", "dynarec_next", "(I)I");
+        int handler = pool.member_ref(CONSTANT_InterfaceMethodref, "cpu/z80/z80$opcode", "handler", "()V");
+        int init_name = pool.utf8("<init>");
+        int handler_name = pool.utf8("handler");
+        int void_type = pool.utf8("()V");
+        int code_name = pool.utf8("Code");
+
+        ByteArrayOutputStream init_bytes = new ByteArrayOutputStream();
+        DataOutputStream init = new DataOutputStream(init_bytes);
+
+        init.writeByte(ALOAD_0);
+        init.writeByte(INVOKESPECIAL);
+        init.writeShort(super_init);
+        init.writeByte(RETURN);
+
+        ByteArrayOutputStream code_bytes = new ByteArrayOutputStream();
+        DataOutputStream code = new DataOutputStream(code_bytes);
+
+        for (int i = 0; i < n; i++) {
+            code.writeByte(ALOAD_0);
+            code.writeByte(GETFIELD);
+            code.writeShort(cpu_field);
+            code.writeByte(BIPUSH);
+            code.writeByte(cycles[i]);
+            code.writeByte(ICONST_0 + fetches[i]);
+            code.writeByte(INVOKEVIRTUAL);
+            code.writeShort(fetch);
+
+            code.writeByte(ALOAD_0);
+            code.writeByte(GETFIELD);
+            code.writeShort(h_field);
+            code.writeByte(BIPUSH);
+            code.writeByte(i);
+            code.writeByte(AALOAD);
+            code.writeByte(INVOKEINTERFACE);
+            code.writeShort(handler);
+            code.writeByte(1);
+            code.writeByte(0);
+
+            if (i + 1 < n) {
+                code.writeByte(ALOAD_0);
+                code.writeByte(GETFIELD);
+                code.writeShort(cpu_field);
+                code.writeByte(LDC_W);
+                code.writeShort(pool.integer(next[i]));
+                code.writeByte(INVOKEVIRTUAL);
+                code.writeShort(next_check);
+                code.writeByte(IFEQ);
+                code.writeShort(4);	/* over the return */
+                code.writeByte(RETURN);
+            }
+        }
+        code.writeByte(RETURN);
+
+        ByteArrayOutputStream class_bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(class_bytes);
+
+        out.writeInt(0xcafebabe);
+        out.writeShort(0);
+        out.writeShort(49);
+        out.writeShort(pool.count);
+        pool.bytes.writeTo(out);
+        out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        out.writeShort(this_class);
+        out.writeShort(super_class);
+        out.writeShort(0);	/* interfaces */
+        out.writeShort(0);	/* fields */
+        out.writeShort(2);	/* methods */
+        write_method(out, init_name, void_type, code_name, 1, init_bytes.toByteArray());
+        write_method(out, handler_name, void_type, code_name, 3, code_bytes.toByteArray());
+        out.writeShort(0);	/* attributes */
+        return class_bytes.toByteArray();
+    }
+
+    static void write_method(DataOutputStream out, int name, int type, int code_name, int max_stack, byte[] code) throws IOException {
+        out.writeShort(ACC_PUBLIC);
+        out.writeShort(name);
+        out.writeShort(type);
+        out.writeShort(1);	/* attributes */
+        out.writeShort(code_name);
+        out.writeInt(12 + code.length);
+        out.writeShort(max_stack);
+        out.writeShort(1);	/* max_locals */
+        out.writeInt(code.length);
+        out.write(code);
+        out.writeShort(0);	/* exception table */
+        out.writeShort(0);	/* attributes */
+    }
+}
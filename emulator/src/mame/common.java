@@ -15,6 +15,7 @@ import static mame.osdependH.*;
 import static arcadeflex.libc.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static arcadeflex.bench.bench_mode;
 public class common {
     
     /* These globals are only kept on a machine basis - LBO 042898 */
@@ -35,6 +36,44 @@ public class common {
 		+ "images is a violation of copyright law and should be promptly reported to the\n"
 		+ "authors so that appropriate legal action can be taken.\n\n");
     }
+
+    /* fill the space of a missing ROM with pseudo random data, seeded by the  */
+    /* expected CRC so every run gets the same bytes                          */
+    static void fill_missing_rom(char[] mem, RomModule rom, int seed)
+    {
+            int length = rom.length & ~ROMFLAG_MASK;
+            int i;
+
+            for (i = 0;i < length;i++)
+            {
+                    seed = seed * 1103515245 + 12345;
+                    if ((rom.length & ROMFLAG_ALTERNATE) != 0)
+                            mem[(rom.offset ^ 1) + 2*i] = (char)((seed >>> 16) & 0xff);	/* ROM_LOAD_EVEN and ROM_LOAD_ODD */
+                    else
+                            mem[rom.offset + i] = (char)((seed >>> 16) & 0xff);
+            }
+    }
+
+    /* the reset vector points to a run of NOPs jumping back to its start, */
+    /* the interrupt vectors to the same run                             */
+    static void synthetic_68000_code(UBytePtr rom)
+    {
+            int length = rom.memory.length & ~1;
+            int i;
+
+            for (i = 0;i < 0x100;i += 4)
+            {
+                    rom.WRITE_WORD(i, 0x0000);
+                    rom.WRITE_WORD(i + 2, 0x0100);
+            }
+            rom.WRITE_WORD(2, 0x0000);	/* stack pointer */
+            for (i = 0x100;i < length - 6;i += 2)
+                    rom.WRITE_WORD(i, 0x4e71);	/* NOP */
+            rom.WRITE_WORD(i, 0x4ef9);	/* JMP $100 */
+            rom.WRITE_WORD(i + 2, 0x0000);
+            rom.WRITE_WORD(i + 4, 0x0100);
+    }
+
     /***************************************************************************
 
       Read ROMs into memory.
@@ -53,6 +92,7 @@ public class common {
             int fatalerror = 0;
             int total_roms,current_rom;
             String buf="";
+            int[] synthetic_code = new int[MAX_CPU];	/* cpus whose code is missing in -bench */
 
 
             total_roms = current_rom = 0;
@@ -312,8 +352,14 @@ public class common {
                             }
                             else
                             {
+                                    /* the benchmark runs on generated data when the ROM set isn't there */
+                                    if (bench_mode != 0)
+                                    {
+                                        buf +=sprintf("%-12s NOT FOUND (SYNTHETIC DATA)\n",name);
+                                        warning = 1;
+                                    }
                                     /* allow for a NO GOOD DUMP KNOWN rom to be missing */
-                                    if (expchecksum == 0)
+                                    else if (expchecksum == 0)
                                     {
                                         buf +=sprintf("%-12s NOT FOUND (NO GOOD DUMP KNOWN)\n",name);
                                         warning = 1;
@@ -328,24 +374,15 @@ public class common {
                                     {
                                             if (fatalerror == 0)
                                             {
-                                                    int i;
-                                                throw new UnsupportedOperationException("Unsupported readrom() case fatalerror");  
-                                                    /* fill space with random data */
-/*TODO*/ //                                                     if (romp[romp_ptr].length & ROMFLAG_ALTERNATE)
-/*TODO*/ //                                                     {
-/*TODO*/ //                                                             unsigned char *c;
-
-                                                            /* ROM_LOAD_EVEN and ROM_LOAD_ODD */
-/*TODO*/ //                                                             c = Machine.memory_region[region] + (romp[romp_ptr].offset ^ 1);
-                                                  
- /*TODO*/ //                                                            for (i = 0;i < (romp[romp_ptr].length & ~ROMFLAG_MASK);i++)
- /*TODO*/ //                                                                    c[2*i] = rand();
-/*TODO*/ //                                                     }
-/*TODO*/ //                                                     else
-/*TODO*/ //                                                     {
-/*TODO*/ //                                                             for (i = 0;i < (romp[romp_ptr].length & ~ROMFLAG_MASK);i++)
-/*TODO*/ //                                                                     Machine.memory_region[region][romp[romp_ptr].offset + i] = rand();
-/*TODO*/ //                                                     }
+                                                    int type = Machine.memory_region_type[region] & ~REGIONFLAG_MASK;
+
+                                                    /* fill space with random data. The code of the cpus is left */
+                                                    /* cleared for the benchmark, random opcodes would run into  */
+                                                    /* the unemulated ones                                        */
+                                                    if (bench_mode == 0 || type < REGION_CPU1 || type > REGION_CPU8)
+                                                            fill_missing_rom(Machine.memory_region[region], romp[romp_ptr], expchecksum);
+                                                    else
+                                                            synthetic_code[type - REGION_CPU1] = 1;
                                             }
                                             romp_ptr++;
                                     } while (romp[romp_ptr].length!=0 && (romp[romp_ptr].name == null || romp[romp_ptr].name.compareTo("-1") == 0));
@@ -370,6 +407,15 @@ public class common {
                                                         counter++;
                                                            
                                                     }*/
+            /* a 68000 runs off the end of cleared code, give it a loop to run */
+            for (region = 0;region < MAX_CPU;region++)
+            {
+                    int type = Machine.drv.cpu[region].cpu_type & ~CPU_FLAGS_MASK;
+
+                    if (synthetic_code[region] != 0 && type >= CPU_M68000 && type <= CPU_M68020)
+                            synthetic_68000_code(memory_region(REGION_CPU1 + region));
+            }
+
             /* final status display */
             osd_display_loading_rom_message(null,current_rom,total_roms);
 
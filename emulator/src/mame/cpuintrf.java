@@ -35,6 +35,10 @@ import cpu.nec.v30;
 import cpu.nec.v33;
 import cpu.m6502.n2a03;
 import static mame.sndintrf.*;
+import static arcadeflex.bench.*;
+import static mame.state.*;
+import static mame.runahead.*;
+import static mame.rewind.*;
 
 
 public class cpuintrf {
@@ -140,7 +144,8 @@ public class cpuintrf {
     }
 
     static Object GETCONTEXT(int index) {
-        return cpu.get(index).intf.get_context();
+        /* copied into the CPU's context object by the cores that can, as in C */
+        return cpu.get(index).intf.get_context(cpu.get(index).context);
     }
 
     static void SETCONTEXT(int index, Object context) {
@@ -469,6 +474,10 @@ public class cpuintrf {
             cpu_vblankreset();
             current_frame = 0;
 
+            if (bench_mode != 0) {
+                bench_start();
+            }
+
             /* loop until the user quits */
             usres = 0;
             int cpunum_table[] = new int[1];
@@ -476,11 +485,30 @@ public class cpuintrf {
             while (usres == 0) {
                 int cpunum;
 
+                /* keep the real frame just over for rewinding */
+                if (rewind_frame_ended != 0) {
+                    rewind_record();
+                }
+
+                /* run ahead of the frame just over, or go back to it; the */
+                /* snapshot rewind just took is the one run-ahead keeps     */
+                if (runahead_frame_ended != 0) {
+                    runahead_update();
+                }
+
                 /* was machine_reset() called? */
                 if (have_to_reset != 0) {
                     continue reset;
                 }
 
+                /* save or load the machine now that no CPU is running */
+                if (state_pending != 0) {
+                    state_update();
+                }
+                if (rewind_pending != 0) {
+                    rewind_back();
+                }
+
                 /* ask the timer system to schedule */
                 if (timer_schedule_cpu(cpunum_table, cycles_table) != 0) {
                     cpunum = cpunum_table[0];
@@ -499,7 +527,14 @@ public class cpuintrf {
                     SET_OP_BASE(activecpu, GETPC(activecpu));
 
                     /* run for the requested number of cycles */
-                    ran = EXECUTE(activecpu, cycles_running);
+                    if (bench_mode != 0) {
+                        long start = uclock();
+                        ran = EXECUTE(activecpu, cycles_running);
+                        bench_cpu_time[activecpu] += uclock() - start;
+                        bench_cpu_cycles[activecpu] += ran;
+                    } else {
+                        ran = EXECUTE(activecpu, cycles_running);
+                    }
 
                     /* update based on how many cycles we really ran */
                     cpu.get(activecpu).totalcycles += ran;
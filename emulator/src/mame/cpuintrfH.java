@@ -59,6 +59,7 @@ public class cpuintrfH {
         public burnPtr burn;
         public abstract Object init_context(); //not in mame , used specific for arcadeflex
         public abstract Object get_context(); //different from mame returns reg object and not size since java doesn't support references
+        public Object get_context(Object dst) { return get_context(); } //as mame, copies into dst if the core can, else returns a new reg object
         public abstract void set_context(Object reg);
         public abstract int  get_pc();
         public abstract void set_pc(int val);
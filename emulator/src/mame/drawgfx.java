@@ -1,5 +1,7 @@
 
 package mame;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import static arcadeflex.libc_old.*;
 import static mame.osdependH.*;
 import static mame.drawgfxH.*;
@@ -8,6 +10,9 @@ import static mame.driverH.*;
 import static arcadeflex.libc.*;
 import static arcadeflex.video.*;
 import static arcadeflex.ptrlib.*;
+import static arcadeflex.gfxcache.*;
+import static mame.palette.palette_shadow_table;
+import static mame.palette.palette_highlight_table;
 public class drawgfx {
 
 /*TODO*///#define BL0 0
@@ -19,7 +24,7 @@ public class drawgfx {
 /*TODO*///
 /*TODO*///
 /*TODO*///
-/*TODO*///UINT8 gfx_drawmode_table[256];
+    public static char[] gfx_drawmode_table = new char[256];
     public static plot_pixel_procPtr plot_pixel;
     public static read_pixel_procPtr read_pixel;
 /*TODO*///
@@ -34,70 +39,179 @@ public class drawgfx {
     }
 /*TODO*///
 /*TODO*///
-    public static void decodechar(GfxElement gfx, int num, UBytePtr src, GfxLayout gl) 
+    /* planar_expand[bit][data] spreads the 8 bits of a plane byte over the 8 */
+    /* pixel bytes of a long, as value 1 << bit, leftmost pixel in the lowest */
+    static final long[][] planar_expand = new long[8][256];
+
+    static
+    {
+        for (int bit = 0;bit < 8;bit++)
+        {
+            for (int data = 0;data < 256;data++)
+            {
+                for (int k = 0;k < 8;k++)
+                {
+                    if ((data & (0x80 >> k)) != 0)
+                        planar_expand[bit][data] |= (long)(1 << bit) << (8 * k);
+                }
+            }
+        }
+    }
+
+    /* returns 1 if every plane, row and character of gl starts on a byte and */
+    /* each 8 pixels of a row are 8 consecutive bits, so decodechar() can     */
+    /* take a whole byte of each plane at a time                              */
+    public static int gfxlayout_regular(GfxLayout gl)
     {
-	int plane,x,y;
-	UBytePtr dp;
-	int offs;
+	int plane,x,y,k;
 
-	offs = num * gl.charincrement;
-        
-        dp = new UBytePtr(gfx.gfxdata, (num * gfx.char_modulo));
-	for (y = 0;y < gfx.height;y++)
+	if (gl.planes > 8 || (gl.width & 7) != 0 || (gl.charincrement & 7) != 0)
+		return 0;
+	for (plane = 0;plane < gl.planes;plane++)
 	{
-		int yoffs;
-
-		yoffs = y;
-		for (x = 0;x < gfx.width;x++)
+		if ((gl.planeoffset[plane] & 7) != 0)
+			return 0;
+	}
+	for (y = 0;y < gl.height;y++)
+	{
+		if ((gl.yoffset[y] & 7) != 0)
+			return 0;
+	}
+	for (x = 0;x < gl.width;x += 8)
+	{
+		if ((gl.xoffset[x] & 7) != 0)
+			return 0;
+		for (k = 1;k < 8;k++)
 		{
-			int xoffs;
+			if (gl.xoffset[x + k] != gl.xoffset[x] + k)
+				return 0;
+		}
+	}
+	return 1;
+    }
+
+    public static void decodechar(GfxElement gfx, int num, UBytePtr src, GfxLayout gl)
+    {
+	decodechar(gfx, num, src, gl, gfxlayout_regular(gl));
+    }
+
+    /* regular 0 takes the layout bit by bit, whatever gfxlayout_regular() says */
+    public static void decodechar(GfxElement gfx, int num, UBytePtr src, GfxLayout gl, int regular)
+    {
+	int plane,x,y,k;
+	byte[] dp = gfx.gfxdata;
+	int offs = num * gl.charincrement;
+	int xstep, ystep;	/* gfxdata distance between neighbour pixels of the layout */
+	int pens = 0;
 
-			xoffs = x;
+	/* the layout is decoded in its own order and stored rotated if needed */
+	if ((Machine.orientation & ORIENTATION_SWAP_XY)!=0)
+	{
+		xstep = gfx.line_modulo;
+		ystep = 1;
+	}
+	else
+	{
+		xstep = 1;
+		ystep = gfx.line_modulo;
+	}
+
+	for (y = 0;y < gl.height;y++)
+	{
+		int d = num * gfx.char_modulo + y * ystep;
 
-			dp.write(x, 0);//dp[x] = 0;
-			if ((Machine.orientation & ORIENTATION_SWAP_XY)!=0)
+		if (regular != 0)
+		{
+			for (x = 0;x < gl.width;x += 8)
 			{
+				int bitoffs = offs + gl.yoffset[y] + gl.xoffset[x];
+				long pixels = 0;
+
 				for (plane = 0;plane < gl.planes;plane++)
+					pixels |= planar_expand[gl.planes-1-plane][src.read((bitoffs + gl.planeoffset[plane]) >> 3)];
+
+				for (k = 0;k < 8;k++)
 				{
-					if ((readbit(src,offs + gl.planeoffset[plane] + gl.yoffset[xoffs] + gl.xoffset[yoffs]))!=0)
-                                            dp.write(x, dp.read(x) | (1 << (gl.planes-1-plane)));
-                                            
+					int pen = (int)(pixels >>> (8 * k)) & 0xff;
+
+					dp[d] = (byte)pen;
+					pens |= 1 << pen;
+					d += xstep;
 				}
 			}
-			else
+		}
+		else
+		{
+			for (x = 0;x < gl.width;x++)
 			{
+				int bitoffs = offs + gl.yoffset[y] + gl.xoffset[x];
+				int pen = 0;
+
 				for (plane = 0;plane < gl.planes;plane++)
 				{
-					if ((readbit(src,offs + gl.planeoffset[plane] + gl.yoffset[yoffs] + gl.xoffset[xoffs]))!=0)
-					dp.write(x, dp.read(x) | (1 << (gl.planes-1-plane)));
-
+					if (readbit(src,bitoffs + gl.planeoffset[plane]) != 0)
+						pen |= 1 << (gl.planes-1-plane);
 				}
+				dp[d] = (byte)pen;
+				pens |= 1 << pen;
+				d += xstep;
 			}
 		}
-		dp.inc(gfx.line_modulo);  
 	}
 
-
+	/* fill the pen_usage array with info on the used pens */
 	if (gfx.pen_usage!=null)
-	{
-		/* fill the pen_usage array with info on the used pens */
-		gfx.pen_usage[num] = 0;
+		gfx.pen_usage[num] = pens;
+    }
 
-                dp = new UBytePtr(gfx.gfxdata, (num * gfx.char_modulo));
-		for (y = 0;y < gfx.height;y++)
-		{
-			for (x = 0;x < gfx.width;x++)
-			{
-				gfx.pen_usage[num] |= 1 << dp.read(x);
-			}
-			dp.inc(gfx.line_modulo);// dp+= gfx->line_modulo;
-		}
-	}
+    /* characters decoded by one task */
+    static final int DECODE_BATCH = 256;
+
+    /* the pool big sets are decoded on */
+    public static ForkJoinPool decode_pool = ForkJoinPool.commonPool();
+
+    /* decodes the characters from start to end, split into DECODE_BATCH sized tasks */
+    static class decodechar_task extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;	/* never serialized, RecursiveAction asks for one */
+
+        GfxElement gfx;
+        UBytePtr src;
+        GfxLayout gl;
+        int regular;
+        int start, end;
+
+        decodechar_task(GfxElement gfx, UBytePtr src, GfxLayout gl, int regular, int start, int end)
+        {
+            this.gfx = gfx;
+            this.src = src;
+            this.gl = gl;
+            this.regular = regular;
+            this.start = start;
+            this.end = end;
+        }
+
+        protected void compute()
+        {
+            if (end - start <= DECODE_BATCH)
+            {
+                for (int c = start;c < end;c++)
+                    decodechar(gfx,c,src,gl,regular);
+            }
+            else
+            {
+                int mid = (start + end) >>> 1;
+                invokeAll(new decodechar_task(gfx, src, gl, regular, start, mid), new decodechar_task(gfx, src, gl, regular, mid, end));
+            }
+        }
     }
+
     public static GfxElement decodegfx(UBytePtr src, GfxLayout gl) 
     {
 	int c;
 	GfxElement gfx;
+	String cachename;
+	int regular;
 
         if ((gfx = new GfxElement()) == null)
 		return null;
@@ -115,7 +229,7 @@ public class drawgfx {
 
 	gfx.line_modulo = gfx.width;
 	gfx.char_modulo = gfx.line_modulo * gfx.height;
-	if ((gfx.gfxdata = new char[gl.total * gfx.char_modulo]) == null)
+	if ((gfx.gfxdata = new byte[gl.total * gfx.char_modulo]) == null)
 	{
 		gfx=null;
 		return null;
@@ -129,8 +243,24 @@ public class drawgfx {
 		gfx.pen_usage = new int[gfx.total_elements];
 		/* no need to check for failure, the code can work without pen_usage */
 
-	for (c = 0;c < gl.total;c++)
-		decodechar(gfx,c,src,gl);
+	/* a warm start gets the set from the gfx cache instead of decoding it */
+	cachename = gfxcache_name(src, gl, gfx.width, gfx.height, Machine.orientation & ORIENTATION_SWAP_XY);
+	if (cachename != null && gfxcache_load(cachename, gfx) != 0)
+		return gfx;
+
+	/* every character only writes its own gfxdata and pen_usage entries, */
+	/* so big sets are split across the cores with the same result      */
+	regular = gfxlayout_regular(gl);
+	if (gl.total >= 2 * DECODE_BATCH)
+		decode_pool.invoke(new decodechar_task(gfx, src, gl, regular, 0, gl.total));
+	else
+	{
+		for (c = 0;c < gl.total;c++)
+			decodechar(gfx,c,src,gl,regular);
+	}
+
+	if (cachename != null)
+		gfxcache_save(cachename, gfx);
 
 	return gfx;
     }
@@ -483,11 +613,105 @@ public class drawgfx {
         }	
 	else
         {
-            throw new UnsupportedOperationException("copybitmap_core16");
-            //copybitmap_core16(dest,src,flipx,flipy,sx,sy,clip,transparency,transparent_color);
+            copybitmap_core16(dest,src,flipx,flipy,sx,sy,clip,transparency,transparent_color);
         }
 		
     }
+    static void copybitmap_core16(osd_bitmap dest, osd_bitmap src, int flipx, int flipy, int sx, int sy, rectangle clip, int transparency, int transparent_color)
+    {
+            int ox; int oy; int ex; int ey;
+            /* check bounds */
+            ox = sx;
+            oy = sy;
+            ex = sx + src.width - 1;
+            if (sx < 0) sx = 0;
+            if (clip != null && sx < clip.min_x) sx = clip.min_x;
+            if (ex >= dest.width) ex = dest.width - 1;
+            if (clip != null && ex > clip.max_x) ex = clip.max_x;
+            if (sx > ex) return;
+            ey = sy + src.height - 1; if (sy < 0) sy = 0;
+            if (clip != null && sy < clip.min_y) sy = clip.min_y;
+            if (ey >= dest.height) ey = dest.height - 1;
+            if (clip != null && ey > clip.max_y) ey = clip.max_y;
+            if (sy > ey) return;
+
+            osd_mark_dirty (sx,sy,ex,ey,0);	/* ASG 971011 */
+
+            char[] sdata = src.line[0].memory;
+            char[] ddata = dest.line[0].memory;
+            int s = src.line[0].offset; /* source data, two bytes a pixel */
+            int sw = ex - sx + 1; /* source width */
+            int sh = ey - sy + 1; /* source height */
+            int sm = src.line[1].offset - src.line[0].offset; /* source modulo in bytes */
+            int d = dest.line[sy].offset + 2 * sx; /* dest data */
+            int dm = dest.line[1].offset - dest.line[0].offset; /* dest modulo in bytes */
+            int dir = 2;
+
+            if (flipx!=0)
+            {
+                s += 2 * (src.width - 1 - (sx - ox));
+                dir = -2;
+            }
+            else
+                s += 2 * (sx - ox);
+
+            if (flipy!=0)
+            {
+                s += sm * (src.height - 1 - (sy - oy));
+                sm = -sm;
+            }
+            else
+                s += sm * (sy - oy);
+
+            while (sh != 0)
+            {
+                if (transparency == TRANSPARENCY_NONE && flipx == 0)
+                    System.arraycopy(sdata, s, ddata, d, 2 * sw);
+                else
+                {
+                    for (int x = 0; x < sw; x++)
+                    {
+                        int sp = s + dir * x;
+                        int dp = d + 2 * x;
+                        int pen = sdata[sp] | sdata[sp + 1] << 8;
+
+                        if (transparency == TRANSPARENCY_PEN_TABLE)
+                        {
+                            /* the bitmap holds pens already, so only those the table covers get a mode */
+                            if (pen != transparent_color)
+                            {
+                                switch (pen < 256 ? gfx_drawmode_table[pen] : DRAWMODE_SOURCE)
+                                {
+                                    case DRAWMODE_SOURCE:
+                                        break;
+                                    case DRAWMODE_SHADOW:
+                                        pen = palette_shadow_table[ddata[dp] | ddata[dp + 1] << 8];
+                                        break;
+                                    case DRAWMODE_HIGHLIGHT:
+                                        pen = palette_highlight_table[ddata[dp] | ddata[dp + 1] << 8];
+                                        break;
+                                    default:
+                                        continue;
+                                }
+                                ddata[dp] = (char) (pen & 0xff);
+                                ddata[dp + 1] = (char) ((pen >> 8) & 0xff);
+                            }
+                        }
+                        else if (transparency == TRANSPARENCY_NONE
+                                || (transparency == TRANSPARENCY_THROUGH && (ddata[dp] | ddata[dp + 1] << 8) == transparent_color)
+                                || (transparency == TRANSPARENCY_PENS && ((1 << pen) & transparent_color) == 0)
+                                || (transparency != TRANSPARENCY_THROUGH && transparency != TRANSPARENCY_PENS && pen != transparent_color))
+                        {
+                            ddata[dp] = sdata[sp];
+                            ddata[dp + 1] = sdata[sp + 1];
+                        }
+                    }
+                }
+                s += sm;
+                d += dm;
+                sh--;
+            }
+    }
     static void copybitmap_core8(osd_bitmap dest, osd_bitmap src, int flipx, int flipy, int sx, int sy, rectangle clip, int transparency, int transparent_color)
     {
             int ox; int oy; int ex; int ey; 
@@ -505,6 +729,8 @@ public class drawgfx {
             if (ey >= dest.height) ey = dest.height - 1;
             if (clip != null && ey > clip.max_y) ey = clip.max_y;
             if (sy > ey) return;
+
+            osd_mark_dirty (sx,sy,ex,ey,0);	/* ASG 971011 */
          
             UBytePtr sd = new UBytePtr(src.line[0]); /* source data */
             int sw = ex - sx + 1; /* source width */
@@ -562,7 +788,7 @@ public class drawgfx {
             
             while (srcheight != 0)
             {
-                System.arraycopy(srcdata.memory, (int)srcdata.offset, dstdata.memory, (int)dstdata.offset, srcwidth);
+                System.arraycopy(srcdata.memory, srcdata.offset, dstdata.memory, dstdata.offset, srcwidth);
                 //memcpy(dstdata,srcdata,srcwidth * sizeof(UINT8));
                 srcdata.offset += srcmodulo;
                 dstdata.offset += dstmodulo;
@@ -624,7 +850,7 @@ public class drawgfx {
                     sd4.base += 4;
                     dstdata.offset += 4;
                 }
-                srcdata.set(sd4.readCA(), sd4.getBase());//srcdata = (unsigned char *)sd4;
+                srcdata.offset = sd4.getBase();//srcdata = (unsigned char *)sd4;
                 while (dstdata.offset < end)
                 {
                     int col = srcdata.read(0); srcdata.offset++;
@@ -677,7 +903,7 @@ public class drawgfx {
                     sd4.base -= 4;
                     dstdata.offset += 4;
                 } 
-                srcdata.set(sd4.readCA(), sd4.getBase());//srcdata = (unsigned char *)sd4;
+                srcdata.offset = sd4.getBase();//srcdata = (unsigned char *)sd4;
                 while (dstdata.offset < end)
                 {
                     int col = srcdata.read(3); srcdata.offset--;
@@ -886,118 +1112,117 @@ public class drawgfx {
     			}
     		}
     	}
-    /*TODO*///
-    /*TODO*///	/* ASG 980209 -- new 16-bit part */
+    
+    	/* ASG 980209 -- new 16-bit part */
     	else
     	{
-            throw new UnsupportedOperationException("Unsupported drawgfxzoom depth =16");
-    /*TODO*///		int sprite_screen_height = (scaley*source_bmp->height+0x8000)>>16;
-    /*TODO*///		int sprite_screen_width = (scalex*source_bmp->width+0x8000)>>16;
-    /*TODO*///
-    /*TODO*///		/* compute sprite increment per screen pixel */
-    /*TODO*///		int dx = (source_bmp->width<<16)/sprite_screen_width;
-    /*TODO*///		int dy = (source_bmp->height<<16)/sprite_screen_height;
-    /*TODO*///
-    /*TODO*///		int ex = sx+sprite_screen_width;
-    /*TODO*///		int ey = sy+sprite_screen_height;
-    /*TODO*///
-    /*TODO*///		int x_index_base;
-    /*TODO*///		int y_index;
-    /*TODO*///
-    /*TODO*///		if( flipx )
-    /*TODO*///		{
-    /*TODO*///			x_index_base = (sprite_screen_width-1)*dx;
-    /*TODO*///			dx = -dx;
-    /*TODO*///		}
-    /*TODO*///		else
-    /*TODO*///		{
-    /*TODO*///			x_index_base = 0;
-    /*TODO*///		}
-    /*TODO*///
-    /*TODO*///		if( flipy )
-    /*TODO*///		{
-    /*TODO*///			y_index = (sprite_screen_height-1)*dy;
-    /*TODO*///			dy = -dy;
-    /*TODO*///		}
-    /*TODO*///		else
-    /*TODO*///		{
-    /*TODO*///			y_index = 0;
-    /*TODO*///		}
-    /*TODO*///
-    /*TODO*///		if( clip )
-    /*TODO*///		{
-    /*TODO*///			if( sx < clip->min_x)
-    /*TODO*///			{ /* clip left */
-    /*TODO*///				int pixels = clip->min_x-sx;
-    /*TODO*///				sx += pixels;
-    /*TODO*///				x_index_base += pixels*dx;
-    /*TODO*///			}
-    /*TODO*///			if( sy < clip->min_y )
-    /*TODO*///			{ /* clip top */
-    /*TODO*///				int pixels = clip->min_y-sy;
-    /*TODO*///				sy += pixels;
-    /*TODO*///				y_index += pixels*dy;
-    /*TODO*///			}
-    /*TODO*///			/* NS 980211 - fixed incorrect clipping */
-    /*TODO*///			if( ex > clip->max_x+1 )
-    /*TODO*///			{ /* clip right */
-    /*TODO*///				int pixels = ex-clip->max_x-1;
-    /*TODO*///				ex -= pixels;
-    /*TODO*///			}
-    /*TODO*///			if( ey > clip->max_y+1 )
-    /*TODO*///			{ /* clip bottom */
-    /*TODO*///				int pixels = ey-clip->max_y-1;
-    /*TODO*///				ey -= pixels;
-    /*TODO*///			}
-    /*TODO*///		}
-    /*TODO*///
-    /*TODO*///		if( ex>sx )
-    /*TODO*///		{ /* skip if inner loop doesn't draw anything */
-    /*TODO*///			int y;
-    /*TODO*///
-    /*TODO*///			switch (transparency)
-    /*TODO*///			{
-    /*TODO*///				case TRANSPARENCY_NONE:
-    /*TODO*///					for( y=sy; y<ey; y++ )
-    /*TODO*///					{
-    /*TODO*///						unsigned short *source = (unsigned short *)source_bmp->line[(y_index>>16)];
-    /*TODO*///						unsigned short *dest = (unsigned short *)dest_bmp->line[y];
-    /*TODO*///
-    /*TODO*///						int x, x_index = x_index_base;
-    /*TODO*///						for( x=sx; x<ex; x++ )
-    /*TODO*///						{
-    /*TODO*///							dest[x] = source[x_index>>16];
-    /*TODO*///							x_index += dx;
-    /*TODO*///						}
-    /*TODO*///
-    /*TODO*///						y_index += dy;
-    /*TODO*///					}
-    /*TODO*///					break;
-    /*TODO*///
-    /*TODO*///				case TRANSPARENCY_PEN:
-    /*TODO*///				case TRANSPARENCY_COLOR:
-    /*TODO*///					for( y=sy; y<ey; y++ )
-    /*TODO*///					{
-    /*TODO*///						unsigned short *source = (unsigned short *)source_bmp->line[(y_index>>16)];
-    /*TODO*///						unsigned short *dest = (unsigned short *)dest_bmp->line[y];
-    /*TODO*///
-    /*TODO*///						int x, x_index = x_index_base;
-    /*TODO*///						for( x=sx; x<ex; x++ )
-    /*TODO*///						{
-    /*TODO*///							int c = source[x_index>>16];
-    /*TODO*///							if( c != transparent_color ) dest[x] = c;
-    /*TODO*///							x_index += dx;
-    /*TODO*///						}
-    /*TODO*///
-    /*TODO*///						y_index += dy;
-    /*TODO*///					}
-    /*TODO*///					break;
-    /*TODO*///
-    /*TODO*///				case TRANSPARENCY_THROUGH:
-    /*TODO*///usrintf_showmessage("copybitmapzoom() TRANSPARENCY_THROUGH");
-    /*TODO*///					break;
-    /*TODO*///			}
-    /*TODO*///		}
+    		int sprite_screen_height = (scaley*source_bmp.height+0x8000)>>16;
+    		int sprite_screen_width = (scalex*source_bmp.width+0x8000)>>16;
+    
+    		/* compute sprite increment per screen pixel */
+    		int dx = (source_bmp.width<<16)/sprite_screen_width;
+    		int dy = (source_bmp.height<<16)/sprite_screen_height;
+    
+    		int ex = sx+sprite_screen_width;
+    		int ey = sy+sprite_screen_height;
+    
+    		int x_index_base;
+    		int y_index;
+    
+    		if( flipx!=0 )
+    		{
+    			x_index_base = (sprite_screen_width-1)*dx;
+    			dx = -dx;
+    		}
+    		else
+    		{
+    			x_index_base = 0;
+    		}
+    
+    		if( flipy!=0 )
+    		{
+    			y_index = (sprite_screen_height-1)*dy;
+    			dy = -dy;
+    		}
+    		else
+    		{
+    			y_index = 0;
+    		}
+    
+    		if( clip!=null )
+    		{
+    			if( sx < clip.min_x)
+    			{ /* clip left */
+    				int pixels = clip.min_x-sx;
+    				sx += pixels;
+    				x_index_base += pixels*dx;
+    			}
+    			if( sy < clip.min_y )
+    			{ /* clip top */
+    				int pixels = clip.min_y-sy;
+    				sy += pixels;
+    				y_index += pixels*dy;
+    			}
+    			/* NS 980211 - fixed incorrect clipping */
+    			if( ex > clip.max_x+1 )
+    			{ /* clip right */
+    				int pixels = ex-clip.max_x-1;
+    				ex -= pixels;
+    			}
+    			if( ey > clip.max_y+1 )
+    			{ /* clip bottom */
+    				int pixels = ey-clip.max_y-1;
+    				ey -= pixels;
+    			}
+    		}
+    
+    		if( ex>sx )
+    		{ /* skip if inner loop doesn't draw anything */
+    			int y;
+    
+    			switch (transparency)
+    			{
+    				case TRANSPARENCY_NONE:
+    					for( y=sy; y<ey; y++ )
+    					{
+    						UBytePtr source = source_bmp.line[y_index>>16];
+    						UBytePtr dest = dest_bmp.line[y];
+    
+    						int x, x_index = x_index_base;
+    						for( x=sx; x<ex; x++ )
+    						{
+    							dest.WRITE_WORD(2*x,source.READ_WORD(2*(x_index>>16)));
+    							x_index += dx;
+    						}
+    
+    						y_index += dy;
+    					}
+    					break;
+    
+    				case TRANSPARENCY_PEN:
+    				case TRANSPARENCY_COLOR:
+    					for( y=sy; y<ey; y++ )
+    					{
+    						UBytePtr source = source_bmp.line[y_index>>16];
+    						UBytePtr dest = dest_bmp.line[y];
+    
+    						int x, x_index = x_index_base;
+    						for( x=sx; x<ex; x++ )
+    						{
+    							int c = source.READ_WORD(2*(x_index>>16));
+    							if( c != transparent_color ) dest.WRITE_WORD(2*x,c);
+    							x_index += dx;
+    						}
+    
+    						y_index += dy;
+    					}
+    					break;
+    
+    				case TRANSPARENCY_THROUGH:
+                                        throw new UnsupportedOperationException("Unsupported copybitmapzoom TRANSPARENCY_THROUGH");
+    					//break;
+    			}
+    		}
     	}
     }
 
@@ -1305,23 +1530,11 @@ public class drawgfx {
     	/* ASG 980211 */
     	if (dest.depth == 16)
     	{
-            throw new UnsupportedOperationException("Unsupported fillbitmap depth =16");
-    /*TODO*///		if ((pen >> 8) == (pen & 0xff))
-    /*TODO*///		{
-    /*TODO*///			for (y = sy;y <= ey;y++)
-    /*TODO*///				memset(&dest->line[y][sx*2],pen&0xff,(ex-sx+1)*2);
-    /*TODO*///		}
-    /*TODO*///		else
-    /*TODO*///		{
-    /*TODO*///			unsigned short *sp = (unsigned short *)dest->line[sy];
-    /*TODO*///			int x;
-    /*TODO*///
-    /*TODO*///			for (x = sx;x <= ex;x++)
-    /*TODO*///				sp[x] = pen;
-    /*TODO*///			sp+=sx;
-    /*TODO*///			for (y = sy+1;y <= ey;y++)
-    /*TODO*///				memcpy(&dest->line[y][sx*2],sp,(ex-sx+1)*2);
-    /*TODO*///		}
+                for (y = sy;y <= ey;y++)
+                {
+                    for (int k = sx; k <= ex; k++)
+                        dest.line[y].WRITE_WORD(2 * k, pen);
+                }
     	}
     	else
     	{
@@ -1522,7 +1735,7 @@ public class drawgfx {
 				{
 					for( y=sy; y<ey; y++ )
 					{
-						UBytePtr source = new UBytePtr(gfx.gfxdata, (source_base+(y_index>>16)) * gfx.line_modulo);
+						GfxDataPtr source = new GfxDataPtr(gfx.gfxdata, (source_base+(y_index>>16)) * gfx.line_modulo);
 						UBytePtr dest = dest_bmp.line[y];
 
 						int x, x_index = x_index_base;
@@ -1565,117 +1778,116 @@ public class drawgfx {
 	/* ASG 980209 -- new 16-bit part */
 	else
 	{
-            throw new UnsupportedOperationException("drawgfxzoom");
-/*TODO*///		if( gfx && gfx->colortable )
-/*TODO*///		{
-/*TODO*///			const unsigned short *pal = &gfx->colortable[gfx->color_granularity * (color % gfx->total_colors)]; /* ASG 980209 */
-/*TODO*///			int source_base = (code % gfx->total_elements) * gfx->height;
-/*TODO*///
-/*TODO*///			int sprite_screen_height = (scaley*gfx->height+0x8000)>>16;
-/*TODO*///			int sprite_screen_width = (scalex*gfx->width+0x8000)>>16;
-/*TODO*///
-/*TODO*///			/* compute sprite increment per screen pixel */
-/*TODO*///			int dx = (gfx->width<<16)/sprite_screen_width;
-/*TODO*///			int dy = (gfx->height<<16)/sprite_screen_height;
-/*TODO*///
-/*TODO*///			int ex = sx+sprite_screen_width;
-/*TODO*///			int ey = sy+sprite_screen_height;
-/*TODO*///
-/*TODO*///			int x_index_base;
-/*TODO*///			int y_index;
-/*TODO*///
-/*TODO*///			if( flipx )
-/*TODO*///			{
-/*TODO*///				x_index_base = (sprite_screen_width-1)*dx;
-/*TODO*///				dx = -dx;
-/*TODO*///			}
-/*TODO*///			else
-/*TODO*///			{
-/*TODO*///				x_index_base = 0;
-/*TODO*///			}
-/*TODO*///
-/*TODO*///			if( flipy )
-/*TODO*///			{
-/*TODO*///				y_index = (sprite_screen_height-1)*dy;
-/*TODO*///				dy = -dy;
-/*TODO*///			}
-/*TODO*///			else
-/*TODO*///			{
-/*TODO*///				y_index = 0;
-/*TODO*///			}
-/*TODO*///
-/*TODO*///			if( clip )
-/*TODO*///			{
-/*TODO*///				if( sx < clip->min_x)
-/*TODO*///				{ /* clip left */
-/*TODO*///					int pixels = clip->min_x-sx;
-/*TODO*///					sx += pixels;
-/*TODO*///					x_index_base += pixels*dx;
-/*TODO*///				}
-/*TODO*///				if( sy < clip->min_y )
-/*TODO*///				{ /* clip top */
-/*TODO*///					int pixels = clip->min_y-sy;
-/*TODO*///					sy += pixels;
-/*TODO*///					y_index += pixels*dy;
-/*TODO*///				}
-/*TODO*///				/* NS 980211 - fixed incorrect clipping */
-/*TODO*///				if( ex > clip->max_x+1 )
-/*TODO*///				{ /* clip right */
-/*TODO*///					int pixels = ex-clip->max_x-1;
-/*TODO*///					ex -= pixels;
-/*TODO*///				}
-/*TODO*///				if( ey > clip->max_y+1 )
-/*TODO*///				{ /* clip bottom */
-/*TODO*///					int pixels = ey-clip->max_y-1;
-/*TODO*///					ey -= pixels;
-/*TODO*///				}
-/*TODO*///			}
-/*TODO*///
-/*TODO*///			if( ex>sx )
-/*TODO*///			{ /* skip if inner loop doesn't draw anything */
-/*TODO*///				int y;
-/*TODO*///
-/*TODO*///				/* case 1: TRANSPARENCY_PEN */
-/*TODO*///				if (transparency == TRANSPARENCY_PEN)
-/*TODO*///				{
-/*TODO*///					for( y=sy; y<ey; y++ )
-/*TODO*///					{
-/*TODO*///						unsigned char *source = gfx->gfxdata + (source_base+(y_index>>16)) * gfx->line_modulo;
-/*TODO*///						unsigned short *dest = (unsigned short *)dest_bmp->line[y];
-/*TODO*///
-/*TODO*///						int x, x_index = x_index_base;
-/*TODO*///						for( x=sx; x<ex; x++ )
-/*TODO*///						{
-/*TODO*///							int c = source[x_index>>16];
-/*TODO*///							if( c != transparent_color ) dest[x] = pal[c];
-/*TODO*///							x_index += dx;
-/*TODO*///						}
-/*TODO*///
-/*TODO*///						y_index += dy;
-/*TODO*///					}
-/*TODO*///				}
-/*TODO*///
-/*TODO*///				/* case 2: TRANSPARENCY_COLOR */
-/*TODO*///				else if (transparency == TRANSPARENCY_COLOR)
-/*TODO*///				{
-/*TODO*///					for( y=sy; y<ey; y++ )
-/*TODO*///					{
-/*TODO*///						unsigned char *source = gfx->gfxdata + (source_base+(y_index>>16)) * gfx->line_modulo;
-/*TODO*///						unsigned short *dest = (unsigned short *)dest_bmp->line[y];
-/*TODO*///
-/*TODO*///						int x, x_index = x_index_base;
-/*TODO*///						for( x=sx; x<ex; x++ )
-/*TODO*///						{
-/*TODO*///							int c = pal[source[x_index>>16]];
-/*TODO*///							if( c != transparent_color ) dest[x] = c;
-/*TODO*///							x_index += dx;
-/*TODO*///						}
-/*TODO*///
-/*TODO*///						y_index += dy;
-/*TODO*///					}
-/*TODO*///				}
-/*TODO*///			}
-/*TODO*///		}
+		if( gfx!=null && gfx.colortable!=null )
+		{
+			CharPtr pal = new CharPtr(gfx.colortable,gfx.color_granularity * (color % gfx.total_colors)); /* ASG 980209 */
+			int source_base = (code % gfx.total_elements) * gfx.height;
+
+			int sprite_screen_height = (scaley*gfx.height+0x8000)>>16;
+			int sprite_screen_width = (scalex*gfx.width+0x8000)>>16;
+
+			/* compute sprite increment per screen pixel */
+			int dx = (gfx.width<<16)/sprite_screen_width;
+			int dy = (gfx.height<<16)/sprite_screen_height;
+
+			int ex = sx+sprite_screen_width;
+			int ey = sy+sprite_screen_height;
+
+			int x_index_base;
+			int y_index;
+
+			if( flipx!=0 )
+			{
+				x_index_base = (sprite_screen_width-1)*dx;
+				dx = -dx;
+			}
+			else
+			{
+				x_index_base = 0;
+			}
+
+			if( flipy!=0 )
+			{
+				y_index = (sprite_screen_height-1)*dy;
+				dy = -dy;
+			}
+			else
+			{
+				y_index = 0;
+			}
+
+			if( clip!=null )
+			{
+				if( sx < clip.min_x)
+				{ /* clip left */
+					int pixels = clip.min_x-sx;
+					sx += pixels;
+					x_index_base += pixels*dx;
+				}
+				if( sy < clip.min_y )
+				{ /* clip top */
+					int pixels = clip.min_y-sy;
+					sy += pixels;
+					y_index += pixels*dy;
+				}
+				/* NS 980211 - fixed incorrect clipping */
+				if( ex > clip.max_x+1 )
+				{ /* clip right */
+					int pixels = ex-clip.max_x-1;
+					ex -= pixels;
+				}
+				if( ey > clip.max_y+1 )
+				{ /* clip bottom */
+					int pixels = ey-clip.max_y-1;
+					ey -= pixels;
+				}
+			}
+
+			if( ex>sx )
+			{ /* skip if inner loop doesn't draw anything */
+				int y;
+
+				/* case 1: TRANSPARENCY_PEN */
+				if (transparency == TRANSPARENCY_PEN)
+				{
+					for( y=sy; y<ey; y++ )
+					{
+						GfxDataPtr source = new GfxDataPtr(gfx.gfxdata, (source_base+(y_index>>16)) * gfx.line_modulo);
+						UBytePtr dest = dest_bmp.line[y];
+
+						int x, x_index = x_index_base;
+						for( x=sx; x<ex; x++ )
+						{
+							int c = source.read(x_index>>16);
+							if( c != transparent_color ) dest.WRITE_WORD(2*x,pal.read(c));
+							x_index += dx;
+						}
+
+						y_index += dy;
+					}
+				}
+
+				/* case 2: TRANSPARENCY_COLOR */
+				else if (transparency == TRANSPARENCY_COLOR)
+				{
+					for( y=sy; y<ey; y++ )
+					{
+						GfxDataPtr source = new GfxDataPtr(gfx.gfxdata, (source_base+(y_index>>16)) * gfx.line_modulo);
+						UBytePtr dest = dest_bmp.line[y];
+
+						int x, x_index = x_index_base;
+						for( x=sx; x<ex; x++ )
+						{
+							int c = pal.read(source.read(x_index>>16));
+							if( c != transparent_color ) dest.WRITE_WORD(2*x,c);
+							x_index += dx;
+						}
+
+						y_index += dy;
+					}
+				}
+			}
+		}
 	}
     }
 /*TODO*///
@@ -2006,12 +2218,12 @@ public class drawgfx {
 /*TODO*///})
 /*TODO*///
 /*TODO*///
-        public static void blockmove_transpen8(UBytePtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transpen)
+        public static void blockmove_transpen8(GfxDataPtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transpen)
         {
             
             int end;
             int trans4;
-            IntPtr sd4;//UINT32 *sd4;
+            GfxDataPtr sd4;//UINT32 *sd4;
             
             srcmodulo -= srcwidth;
             dstmodulo -= srcwidth;
@@ -2029,11 +2241,11 @@ public class drawgfx {
                     dstdata.offset++;
                 }
 
-                sd4 = new IntPtr(srcdata);//sd4 = (UINT32 *)srcdata;
+                sd4 = new GfxDataPtr(srcdata);//sd4 = (UINT32 *)srcdata;
                 while (dstdata.offset <= end - 4)
                 {
                     int col4;
-                    if ((col4 = sd4.read(0)) != trans4)
+                    if ((col4 = sd4.READ_DWORD(0)) != trans4)
                     {
                         int  xod4;
                         xod4= col4 ^ trans4;
@@ -2046,10 +2258,10 @@ public class drawgfx {
                         if ((xod4 & 0xff000000) != 0)
                             dstdata.write(3,paldata.read((col4>>24) & 0xff));
                     }
-                    sd4.base += 4;
+                    sd4.offset += 4;
                     dstdata.offset += 4;
                 }
-                srcdata.set(sd4.readCA(), sd4.getBase());//srcdata = (unsigned char *)sd4;
+                srcdata.offset = sd4.offset;//srcdata = (unsigned char *)sd4;
                 
                 while (dstdata.offset < end)
                 {
@@ -2122,11 +2334,11 @@ public class drawgfx {
 /*TODO*///	}
 /*TODO*///})
 /*TODO*///
-    public static void blockmove_transpen_flipx8(UBytePtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transpen)
+    public static void blockmove_transpen_flipx8(GfxDataPtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transpen)
     {
     
             int end;
-            IntPtr sd4 = new IntPtr(srcdata);//UINT32 *sd4;
+            GfxDataPtr sd4 = new GfxDataPtr(srcdata);//UINT32 *sd4;
             srcmodulo += srcwidth;
             dstmodulo -= srcwidth;
             srcdata.offset -= 3;
@@ -2146,11 +2358,11 @@ public class drawgfx {
                 }
  
              
-                sd4.base = srcdata.offset;
+                sd4.offset = srcdata.offset;
                 while (dstdata.offset <= end - 4)
                 {
                     int col4;//UINT32 col4
-                    if ((col4 = sd4.read(0)) != trans4)//if ((col4 = *(sd4--)) != trans4)
+                    if ((col4 = sd4.READ_DWORD(0)) != trans4)//if ((col4 = *(sd4--)) != trans4)
                     {
                         int xod4; //UINT32 xod4;
 
@@ -2164,10 +2376,10 @@ public class drawgfx {
                         if ((xod4 & 0x000000ff) != 0)
                             dstdata.write(3, paldata.read(col4 &0xff));
                     }
-                    sd4.base -= 4;
+                    sd4.offset -= 4;
                     dstdata.offset += 4;
                 }
-                srcdata.offset = sd4.base;
+                srcdata.offset = sd4.offset;
                 while (dstdata.offset < end)
                 {
                     int col = srcdata.read(3);
@@ -2247,10 +2459,10 @@ public class drawgfx {
 /*TODO*///
 /*TODO*///#define PEN_IS_OPAQUE ((1<<col)&transmask) == 0
 /*TODO*///
-    static void blockmove_transmask8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transmask)
+    static void blockmove_transmask8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transmask)
     {
         int end;
-	IntPtr sd4;//UINT32 *sd4;
+	GfxDataPtr sd4;//UINT32 *sd4;
 
 	srcmodulo -= srcwidth;
 	dstmodulo -= srcwidth;
@@ -2267,13 +2479,13 @@ public class drawgfx {
 			if (((1<<col)&transmask) == 0) dstdata.write(0,paldata.read(col)); //*dstdata = paldata[col];
 			dstdata.offset++;
 		}
-		sd4 = new IntPtr(srcdata);//sd4 = (UINT32 *)srcdata;
+		sd4 = new GfxDataPtr(srcdata);//sd4 = (UINT32 *)srcdata;
 		while (dstdata.offset <= end - 4)
 		{
 			int col;
 			int col4;
 
-			col4 = sd4.read(0);
+			col4 = sd4.READ_DWORD(0);
 			col = (col4 >>  0) & 0xff;
 			if (((1<<col)&transmask) == 0) dstdata.write(0,paldata.read(col));
 			col = (col4 >>  8) & 0xff;
@@ -2282,10 +2494,10 @@ public class drawgfx {
 			if (((1<<col)&transmask) == 0) dstdata.write(2,paldata.read(col));
 			col = (col4 >> 24) & 0xff;
 			if (((1<<col)&transmask) == 0) dstdata.write(3,paldata.read(col));
-			sd4.base += 4;
+			sd4.offset += 4;
                         dstdata.offset += 4;
 		}
-                srcdata.set(sd4.readCA(), sd4.getBase());//srcdata = (unsigned char *)sd4;
+                srcdata.offset = sd4.offset;//srcdata = (unsigned char *)sd4;
 		
 		while (dstdata.offset < end)
 		{
@@ -2358,10 +2570,10 @@ public class drawgfx {
 /*TODO*///	}
 /*TODO*///})
 /*TODO*///
-    static void blockmove_transmask_flipx8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transmask)
+    static void blockmove_transmask_flipx8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transmask)
     {
         int end;
-	IntPtr sd4;//UINT32 *sd4;
+	GfxDataPtr sd4;//UINT32 *sd4;
 
 	srcmodulo += srcwidth;
 	dstmodulo -= srcwidth;
@@ -2380,12 +2592,12 @@ public class drawgfx {
 			if (((1<<col)&transmask) == 0) dstdata.write(0,paldata.read(col)); //*dstdata = paldata[col];
 			dstdata.offset++;
 		}
-		sd4 = new IntPtr(srcdata);//sd4 = (UINT32 *)srcdata;
+		sd4 = new GfxDataPtr(srcdata);//sd4 = (UINT32 *)srcdata;
 		while (dstdata.offset <= end - 4)
 		{
 			int col;
 			int col4;
-			col4 = sd4.read(0);//col4 = *(sd4--);
+			col4 = sd4.READ_DWORD(0);//col4 = *(sd4--);
 			col = (col4 >> 24) & 0xff;
 			if (((1<<col)&transmask) == 0) dstdata.write(0,paldata.read(col));
 			col = (col4 >> 16) & 0xff;
@@ -2394,10 +2606,10 @@ public class drawgfx {
 			if (((1<<col)&transmask) == 0) dstdata.write(2,paldata.read(col));
 			col = (col4 >>  0) & 0xff;
 			if (((1<<col)&transmask) == 0) dstdata.write(3,paldata.read(col));
-			sd4.base -= 4;
+			sd4.offset -= 4;
                         dstdata.offset += 4;
 		}
-                srcdata.set(sd4.readCA(), sd4.getBase());//srcdata = (unsigned char *)sd4;
+                srcdata.offset = sd4.offset;//srcdata = (unsigned char *)sd4;
 		
 		while (dstdata.offset < end)
 		{
@@ -2476,7 +2688,7 @@ public class drawgfx {
 /*TODO*///
     
 //mostly unchecked TODO recheck it sometime (shadow)    
-    public static void blockmove_transcolor8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
+    public static void blockmove_transcolor8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
     {
             int end;
             //const unsigned short *lookupdata = Machine->game_colortable + (paldata - Machine->remapped_colortable);
@@ -2491,8 +2703,8 @@ public class drawgfx {
 		while (dstdata.offset < end)
 		{
 			//if (lookupdata[*srcdata] != transcolor) *dstdata = paldata[*srcdata];
-                    if (lookupdata.memory[lookupdata.base+srcdata.memory[srcdata.offset]] != transcolor)
-                            dstdata.memory[dstdata.offset] = paldata.read(srcdata.memory[srcdata.offset]);
+                    if (lookupdata.memory[lookupdata.base+srcdata.read()] != transcolor)
+                            dstdata.memory[dstdata.offset] = paldata.read(srcdata.read());
 
 			srcdata.inc();
 			dstdata.inc();
@@ -2530,7 +2742,7 @@ public class drawgfx {
 /*TODO*///	}
 /*TODO*///})
 /*TODO*///
-        public static void blockmove_transcolor_flipx8(UBytePtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
+        public static void blockmove_transcolor_flipx8(GfxDataPtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
         {
             int end;
 
@@ -2545,8 +2757,8 @@ public class drawgfx {
                 end = (int)(dstdata.offset + srcwidth);
                 while (dstdata.offset < end)
                 {
-                   if (lookupdata.memory[lookupdata.base+srcdata.memory[srcdata.offset]] != transcolor)
-                            dstdata.memory[dstdata.offset] = paldata.read(srcdata.memory[srcdata.offset]);
+                   if (lookupdata.memory[lookupdata.base+srcdata.read()] != transcolor)
+                            dstdata.memory[dstdata.offset] = paldata.read(srcdata.read());
                     srcdata.offset--;
                     dstdata.offset++;
                 }
@@ -2585,7 +2797,7 @@ public class drawgfx {
 /*TODO*///})
 /*TODO*///
 /*TODO*///
-    public static void blockmove_transthrough8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
+    public static void blockmove_transthrough8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
     {
             int end;
             srcmodulo -= srcwidth;
@@ -2597,7 +2809,7 @@ public class drawgfx {
 		while (dstdata.offset < end)
 		{
                     if(dstdata.read()==transcolor) 
-                        dstdata.memory[dstdata.offset] = paldata.read(srcdata.memory[srcdata.offset]);
+                        dstdata.memory[dstdata.offset] = paldata.read(srcdata.read());
                     srcdata.inc();
                     dstdata.inc();
                 }
@@ -2632,7 +2844,7 @@ public class drawgfx {
 /*TODO*///	}
 /*TODO*///})
 /*TODO*///
-    public static void blockmove_transthrough_flipx8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
+    public static void blockmove_transthrough_flipx8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int transcolor)
     {
             int end;
             srcmodulo += srcwidth;
@@ -2644,7 +2856,7 @@ public class drawgfx {
 		while (dstdata.offset < end)
 		{
                     if(dstdata.read()==transcolor) 
-                        dstdata.memory[dstdata.offset] = paldata.read(srcdata.memory[srcdata.offset]);
+                        dstdata.memory[dstdata.offset] = paldata.read(srcdata.read());
                     srcdata.offset--;
                     dstdata.inc();
                 }
@@ -2867,7 +3079,7 @@ public class drawgfx {
 /*TODO*///	}
 /*TODO*///})
 /*TODO*///
-       public static void blockmove_opaque8(UBytePtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata)
+       public static void blockmove_opaque8(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata)
        {
            int end;
 
@@ -2900,7 +3112,7 @@ public class drawgfx {
                     srcheight--;
             }
        }
-        static void blockmove_opaque_flipx8(UBytePtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata)
+        static void blockmove_opaque_flipx8(GfxDataPtr srcdata, int srcwidth, int srcheight, int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata)
         {
            
             int end;
@@ -2963,7 +3175,7 @@ public class drawgfx {
 
             osd_mark_dirty (sx,sy,ex,ey,0);	/* ASG 971011 */
             
-            	UBytePtr sd = new UBytePtr(gfx.gfxdata,code * gfx.char_modulo);		/* source data */
+            	GfxDataPtr sd = new GfxDataPtr(gfx.gfxdata,code * gfx.char_modulo);		/* source data */
 		int sw = ex-sx+1;										/* source width */
 		int sh = ey-sy+1;										/* source height */
 		int sm = gfx.line_modulo;								/* source modulo */
@@ -3068,7 +3280,127 @@ public class drawgfx {
             int code, int color, int flipx, int flipy, int sx, int sy,
             rectangle clip, int transparency, int transparent_color)
         {
-             throw new UnsupportedOperationException("Unsupported drawgfx!! Here you go nickblame :D");
+            int ox;
+            int oy;
+            int ex;
+            int ey;
+
+
+            /* check bounds */
+            ox = sx;
+            oy = sy;
+
+            ex = sx + gfx.width-1;
+            if (sx < 0) sx = 0;
+            if (clip!=null && sx < clip.min_x) sx = clip.min_x;
+            if (ex >= dest.width) ex = dest.width-1;
+            if (clip!=null && ex > clip.max_x) ex = clip.max_x;
+            if (sx > ex) return;
+
+            ey = sy + gfx.height-1;
+            if (sy < 0) sy = 0;
+            if (clip!=null && sy < clip.min_y) sy = clip.min_y;
+            if (ey >= dest.height) ey = dest.height-1;
+            if (clip!=null && ey > clip.max_y) ey = clip.max_y;
+            if (sy > ey) return;
+
+            osd_mark_dirty (sx,sy,ex,ey,0);	/* ASG 971011 */
+
+		GfxDataPtr sd = new GfxDataPtr(gfx.gfxdata,code * gfx.char_modulo);		/* source data */
+		int sw = ex-sx+1;										/* source width */
+		int sh = ey-sy+1;										/* source height */
+		int sm = gfx.line_modulo;								/* source modulo */
+		UBytePtr dd = new UBytePtr(dest.line[sy],2*sx);		/* dest data, two bytes a pixel */
+		int dm = dest.line[1].offset-dest.line[0].offset;	/* dest modulo in bytes */
+                CharPtr paldata = new CharPtr(gfx.colortable,gfx.color_granularity*color);
+
+		if (flipx!=0)
+			sd.offset += (gfx.width -1 -(sx-ox));
+		else
+			sd.offset += (sx-ox);
+
+		if (flipy!=0)
+		{
+			sd.offset += (sm * (gfx.height -1 -(sy-oy)));
+			sm = -sm;
+		}
+		else
+			sd.offset += (sm * (sy-oy));
+
+		switch (transparency)
+		{
+			case TRANSPARENCY_NONE:
+			case TRANSPARENCY_PEN:
+			case TRANSPARENCY_PENS:
+			case TRANSPARENCY_COLOR:
+			case TRANSPARENCY_THROUGH:
+			case TRANSPARENCY_PEN_TABLE:
+				blockmove16(sd,sw,sh,sm,dd,dm,paldata,flipx,transparency,transparent_color);
+				break;
+		}
+        }
+
+        /* the 16 bit counterpart of the blockmove_*8 family: one loop for all the */
+        /* transparency modes, the destination holds a little endian pen per pixel */
+        static void blockmove16(GfxDataPtr srcdata,int srcwidth,int srcheight,int srcmodulo, UBytePtr dstdata, int dstmodulo, CharPtr paldata, int flipx, int transparency, int transparent_color)
+        {
+            byte[] sdata = srcdata.memory;
+            char[] ddata = dstdata.memory;
+            char[] pal = paldata.memory;
+            int pbase = paldata.base;
+            int dir = flipx != 0 ? -1 : 1;
+            int s = srcdata.offset;
+            int d = dstdata.offset;
+
+            while (srcheight != 0)
+            {
+                for (int x = 0; x < srcwidth; x++)
+                {
+                    int col = sdata[s + dir * x] & 0xff;
+                    int dp = d + 2 * x;
+                    int draw;
+
+                    switch (transparency)
+                    {
+                        case TRANSPARENCY_PEN:
+                            draw = col != transparent_color ? 1 : 0;
+                            break;
+                        case TRANSPARENCY_PENS:
+                            draw = ((1 << col) & transparent_color) == 0 ? 1 : 0;
+                            break;
+                        case TRANSPARENCY_COLOR:
+                            /* the test is done on the unremapped color, as in blockmove_transcolor8 */
+                            draw = Machine.game_colortable[pbase + col] != transparent_color ? 1 : 0;
+                            break;
+                        case TRANSPARENCY_THROUGH:
+                            draw = (ddata[dp] | ddata[dp + 1] << 8) == transparent_color ? 1 : 0;
+                            break;
+                        case TRANSPARENCY_PEN_TABLE:
+                            draw = col != transparent_color ? gfx_drawmode_table[col] : DRAWMODE_NONE;
+                            break;
+                        default:
+                            draw = 1;
+                            break;
+                    }
+                    if (draw != 0)
+                    {
+                        int pen;
+
+                        if (transparency == TRANSPARENCY_PEN_TABLE && draw == DRAWMODE_SHADOW)
+                            pen = palette_shadow_table[ddata[dp] | ddata[dp + 1] << 8];
+                        else if (transparency == TRANSPARENCY_PEN_TABLE && draw == DRAWMODE_HIGHLIGHT)
+                            pen = palette_highlight_table[ddata[dp] | ddata[dp + 1] << 8];
+                        else
+                            pen = pal[pbase + col];
+
+                        ddata[dp] = (char) (pen & 0xff);
+                        ddata[dp + 1] = (char) ((pen >> 8) & 0xff);
+                    }
+                }
+                s += srcmodulo;
+                d += dstmodulo;
+                srcheight--;
+            }
         }
 /*TODO*///DECLARE(drawgfx_core,(
 /*TODO*///		struct osd_bitmap *dest,const struct GfxElement *gfx,
@@ -42,7 +42,7 @@ public class drawgfxH {
 								/* (bit 0 = pen 0, and so on). This is used by */
 								/* drawgfgx() to do optimizations like skipping */
 								/* drawing of a totally transparent characters */
-	public char[] gfxdata; //unsigned char *gfxdata;	/* pixel data */
+	public byte[] gfxdata; //unsigned char *gfxdata;	/* pixel data */
 	public int line_modulo;	/* amount to add to get to the next line (usually = width) */
 	public int char_modulo;	/* = line_modulo * height */
     };
@@ -0,0 +1,196 @@
+package mame;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.IdentityHashMap;
+
+import static arcadeflex.libc_old.*;
+import static mame.driverH.*;
+import static mame.gamelist.*;
+import static mame.mame.errorlog;
+
+/**
+ * Lookup of the games without building driver.drivers[]. Touching that table
+ * runs the static initializers of every driver class, and with them the ROM
+ * and input port macros of every game, just to start one. The generated
+ * gamelist holds one line per entry of drivers[], in the same order so a
+ * game index means the same in both, and names the class and field holding
+ * the GameDriver, which is only loaded for the game being started.
+ *
+ * gamelist.java is rewritten from drivers[] with -mkgamelist <file> whenever
+ * drivers are added to driver.java.
+ */
+public class driverindex {
+
+    /* columns of a gamelist line */
+    public static final int GAME_NAME = 0;
+    public static final int GAME_PARENT = 1;	/* empty for an original */
+    public static final int GAME_SOURCE = 2;
+    public static final int GAME_YEAR = 3;
+    public static final int GAME_MANUFACTURER = 4;
+    public static final int GAME_CLASS = 5;
+    public static final int GAME_FIELD = 6;
+
+    public static String mkgamelist_file;	/* -mkgamelist, write the list and quit */
+
+    static String[][] games_split = new String[gamelist.length][];
+
+    public static int driverindex_count() {
+        return gamelist.length;
+    }
+
+    public static String driverindex_info(int game, int column) {
+        if (games_split[game] == null) {
+            games_split[game] = gamelist[game].split("\t", -1);
+        }
+        return games_split[game][column];
+    }
+
+    /* index of the named game, -1 if there is no such game */
+    public static int driverindex_find(String name) {
+        for (int i = 0; i < gamelist.length; i++) {
+            if (stricmp(name, driverindex_info(i, GAME_NAME)) == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /* the driver of a game, loading only the class that defines it */
+    public static GameDriver driverindex_get(int game) {
+        String reason;
+
+        try {
+            Class<?> c = Class.forName(driverindex_info(game, GAME_CLASS));
+            Object drv = c.getField(driverindex_info(game, GAME_FIELD)).get(null);
+
+            if (drv instanceof GameDriver && ((GameDriver) drv).name.equals(driverindex_info(game, GAME_NAME))) {
+                return (GameDriver) drv;
+            }
+            reason = "names another game";
+        } catch (ReflectiveOperationException e) {
+            /* the class or field is gone or was renamed */
+            reason = e.toString();
+        }
+        /* the list is out of date, fall back to the full table */
+        printf("gamelist entry %d (%s) is stale: %s, run -mkgamelist\n", game, driverindex_info(game, GAME_NAME), reason);
+        if (errorlog != null) {
+            fprintf(errorlog, "gamelist entry %d is stale: %s, run -mkgamelist\n", game, reason);
+        }
+        return driver.drivers[game];
+    }
+
+    public static void driverindex_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-mkgamelist") == 0) {
+                i++;
+                if (i < argc) {
+                    mkgamelist_file = argv[i];
+                }
+            }
+        }
+    }
+
+    /* write gamelist.java from drivers[], 0 on success */
+    public static int driverindex_generate(String filename) {
+        IdentityHashMap<GameDriver, String[]> where = new IdentityHashMap<GameDriver, String[]>();
+        GameDriver[] drivers = driver.drivers;
+        int count = 0;
+
+        while (drivers[count] != null) {
+            count++;
+        }
+        for (int i = 0; i < count; i++) {
+            if (!where.containsKey(drivers[i])) {
+                find_driver_class(drivers[i], where);
+            }
+        }
+
+        try {
+            PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(filename), "UTF-8"));
+
+            out.println("package mame;");
+            out.println();
+            out.println("/**");
+            out.println(" * Generated from driver.drivers[] by -mkgamelist, don't edit. One entry per");
+            out.println(" * game: name, parent, source file, year, manufacturer, class and field of");
+            out.println(" * its GameDriver, tab separated. See driverindex.");
+            out.println(" */");
+            out.println("public class gamelist {");
+            out.println();
+            out.println("    public static final String[] gamelist = {");
+            for (int i = 0; i < count; i++) {
+                GameDriver drv = drivers[i];
+                String[] loc = where.get(drv);
+
+                if (loc == null) {
+                    printf("can't find the class of driver %s\n", drv.name);
+                    out.close();
+                    return 1;
+                }
+                out.println("        \"" + escape(drv.name) + "\\t"
+                        + (drv.clone_of != null ? escape(drv.clone_of.name) : "") + "\\t"
+                        + escape(drv.source_file) + "\\t" + escape(drv.year) + "\\t"
+                        + escape(drv.manufacturer) + "\\t" + loc[0] + "\\t" + loc[1] + "\",");
+            }
+            out.println("    };");
+            out.println("}");
+            out.close();
+        } catch (IOException e) {
+            printf("can't write %s\n", filename);
+            return 1;
+        }
+        printf("%d games written to %s\n", count, filename);
+        return 0;
+    }
+
+    /* look for the driver's field in the class named after its source file */
+    static void find_driver_class(GameDriver drv, IdentityHashMap<GameDriver, String[]> where) {
+        String base = drv.source_file.replace(".java", "").replace(".c", "");
+        String[] candidates = {"drivers." + base, "drivers._" + base, "drivers.WIP." + base, "drivers.WIP._" + base};
+
+        for (String name : candidates) {
+            try {
+                Class<?> c = Class.forName(name);
+
+                for (Field f : c.getFields()) {
+                    if (Modifier.isStatic(f.getModifiers()) && f.getType() == GameDriver.class) {
+                        Object value = f.get(null);
+
+                        if (value != null && !where.containsKey(value)) {
+                            where.put((GameDriver) value, new String[]{name, f.getName()});
+                        }
+                    }
+                }
+                if (where.containsKey(drv)) {
+                    return;
+                }
+            } catch (ClassNotFoundException e) {
+            } catch (IllegalAccessException e) {
+            }
+        }
+    }
+
+    static String escape(String s) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(' ');
+            } else if (c > 0x7e) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
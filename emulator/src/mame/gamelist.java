@@ -0,0 +1,1105 @@
+package mame;
+
+/**
+ * Generated from driver.drivers[] by -mkgamelist, don't edit. One entry per
+ * game: name, parent, source file, year, manufacturer, class and field of
+ * its GameDriver, tab separated. See driverindex.
+ */
+public class gamelist {
+
+    public static final String[] gamelist = {
+        "superpac\t\tsuperpac.java\t1982\tNamco\tdrivers.superpac\tdriver_superpac",
+        "superpcm\tsuperpac\tsuperpac.java\t1982\t[Namco] (Bally Midway license)\tdrivers.superpac\tdriver_superpcm",
+        "pacnpal\t\tsuperpac.java\t1983\tNamco\tdrivers.superpac\tdriver_pacnpal",
+        "pacnchmp\tpacnpal\tsuperpac.java\t1983\tNamco\tdrivers.superpac\tdriver_pacnchmp",
+        "pengo\t\tpengo.java\t1982\tSega\tdrivers.pengo\tdriver_pengo",
+        "pengo2\tpengo\tpengo.java\t1982\tSega\tdrivers.pengo\tdriver_pengo2",
+        "pengo2u\tpengo\tpengo.java\t1982\tSega\tdrivers.pengo\tdriver_pengo2u",
+        "penta\tpengo\tpengo.java\t1982\tbootleg\tdrivers.pengo\tdriver_penta",
+        "mappy\t\tmappy.java\t1983\tNamco\tdrivers.mappy\tdriver_mappy",
+        "mappyjp\tmappy\tmappy.java\t1983\tNamco\tdrivers.mappy\tdriver_mappyjp",
+        "digdug2\t\tmappy.java\t1985\tNamco\tdrivers.mappy\tdriver_digdug2",
+        "digdug2a\tdigdug2\tmappy.java\t1985\tNamco\tdrivers.mappy\tdriver_digdug2a",
+        "todruaga\t\tmappy.java\t1984\tNamco\tdrivers.mappy\tdriver_todruaga",
+        "todruagb\ttodruaga\tmappy.java\t1984\tNamco\tdrivers.mappy\tdriver_todruagb",
+        "motos\t\tmappy.java\t1985\tNamco\tdrivers.mappy\tdriver_motos",
+        "digdug\t\tdigdug.java\t1982\tNamco\tdrivers.digdug\tdriver_digdug",
+        "digdugb\tdigdug\tdigdug.java\t1982\tNamco\tdrivers.digdug\tdriver_digdugb",
+        "digdugat\tdigdug\tdigdug.java\t1982\t[Namco] (Atari license)\tdrivers.digdug\tdriver_digdugat",
+        "dzigzag\tdigdug\tdigdug.java\t1982\tbootleg\tdrivers.digdug\tdriver_dzigzag",
+        "phozon\t\tphozon.java\t1983\tNamco\tdrivers.phozon\tdriver_phozon",
+        "ladybug\t\tladybug.java\t1981\tUniversal\tdrivers.ladybug\tdriver_ladybug",
+        "ladybugb\tladybug\tladybug.java\t1982\tbootleg\tdrivers.ladybug\tdriver_ladybugb",
+        "snapjack\t\tladybug.java\t1981?\tUniversal\tdrivers.ladybug\tdriver_snapjack",
+        "cavenger\t\tladybug.java\t1981\tUniversal\tdrivers.ladybug\tdriver_cavenger",
+        "bankp\t\tbankp.java\t1984\tSega\tdrivers.bankp\tdriver_bankp",
+        "pingpong\t\tpingpong.java\t1985\tKonami\tdrivers.pingpong\tdriver_pingpong",
+        "mikie\t\tmikie.java\t1984\tKonami\tdrivers.mikie\tdriver_mikie",
+        "mikiej\tmikie\tmikie.java\t1984\tKonami\tdrivers.mikie\tdriver_mikiej",
+        "mikiehs\tmikie\tmikie.java\t1984\tKonami\tdrivers.mikie\tdriver_mikiehs",
+        "tp84\t\ttp84.java\t1984\tKonami\tdrivers.tp84\tdriver_tp84",
+        "tp84a\ttp84\ttp84.java\t1984\tKonami\tdrivers.tp84\tdriver_tp84a",
+        "bombjack\t\tbombjack.java\t1984\tTehkan\tdrivers.bombjack\tdriver_bombjack",
+        "bombjac2\tbombjack\tbombjack.java\t1984\tTehkan\tdrivers.bombjack\tdriver_bombjac2",
+        "pbaction\t\tpbaction.java\t1985\tTehkan\tdrivers.pbaction\tdriver_pbaction",
+        "pbactio2\tpbaction\tpbaction.java\t1985\tTehkan\tdrivers.pbaction\tdriver_pbactio2",
+        "pooyan\t\tpooyan.java\t1982\tKonami\tdrivers.pooyan\tdriver_pooyan",
+        "pooyans\tpooyan\tpooyan.java\t1982\t[Konami] (Stern license)\tdrivers.pooyan\tdriver_pooyans",
+        "pootan\tpooyan\tpooyan.java\t1982\tbootleg\tdrivers.pooyan\tdriver_pootan",
+        "rocnrope\t\trocnrope.java\t1983\tKonami\tdrivers.rocnrope\tdriver_rocnrope",
+        "rocnropk\trocnrope\trocnrope.java\t1983\tKonami + Kosuka\tdrivers.rocnrope\tdriver_rocnropk",
+        "jungler\t\tlocomotn.java\t1981\tKonami\tdrivers.locomotn\tdriver_jungler",
+        "junglers\tjungler\tlocomotn.java\t1981\t[Konami] (Stern license)\tdrivers.locomotn\tdriver_junglers",
+        "locomotn\t\tlocomotn.java\t1982\tKonami (Centuri license)\tdrivers.locomotn\tdriver_locomotn",
+        "gutangtn\tlocomotn\tlocomotn.java\t1982\tKonami (Sega license)\tdrivers.locomotn\tdriver_gutangtn",
+        "cottong\tlocomotn\tlocomotn.java\t1982\tbootleg\tdrivers.locomotn\tdriver_cottong",
+        "commsega\t\tlocomotn.java\t1983\tSega\tdrivers.locomotn\tdriver_commsega",
+        "funkybee\t\tfunkybee.java\t1982\tOrca Corporation\tdrivers.funkybee\tdriver_funkybee",
+        "skylancr\t\tfunkybee.java\t1983\tOrca (Esco Trading Co license)\tdrivers.funkybee\tdriver_skylancr",
+        "bagman\t\tbagman.java\t1982\tValadon Automation\tdrivers.bagman\tdriver_bagman",
+        "bagnard\tbagman\tbagman.java\t1982\tValadon Automation\tdrivers.bagman\tdriver_bagnard",
+        "bagmans\tbagman\tbagman.java\t1982\tValadon Automation (Stern license)\tdrivers.bagman\tdriver_bagmans",
+        "bagmans2\tbagman\tbagman.java\t1982\tValadon Automation (Stern license)\tdrivers.bagman\tdriver_bagmans2",
+        "sbagman\t\tbagman.java\t1984\tValadon Automation\tdrivers.bagman\tdriver_sbagman",
+        "sbagmans\tsbagman\tbagman.java\t1984\tValadon Automation (Stern license)\tdrivers.bagman\tdriver_sbagmans",
+        "pickin\t\tbagman.java\t1983\tValadon Automation\tdrivers.bagman\tdriver_pickin",
+        "frogger\t\tfrogger.java\t1981\tKonami\tdrivers.frogger\tdriver_frogger",
+        "frogseg1\tfrogger\tfrogger.java\t1981\t[Konami] (Sega license)\tdrivers.frogger\tdriver_frogseg1",
+        "frogseg2\tfrogger\tfrogger.java\t1981\t[Konami] (Sega license)\tdrivers.frogger\tdriver_frogseg2",
+        "froggrmc\tfrogger\tfrogger.java\t1981\tbootleg?\tdrivers.frogger\tdriver_froggrmc",
+        "hexa\t\thexa.java\t????\tD. R. Korea\tdrivers.hexa\tdriver_hexa",
+        "vulgus\t\tvulgus.java\t1984\tCapcom\tdrivers.vulgus\tdriver_vulgus",
+        "vulgus2\tvulgus\tvulgus.java\t1984\tCapcom\tdrivers.vulgus\tdriver_vulgus2",
+        "vulgusj\tvulgus\tvulgus.java\t1984\tCapcom\tdrivers.vulgus\tdriver_vulgusj",
+        "sonson\t\tsonson.java\t1984\tCapcom\tdrivers.sonson\tdriver_sonson",
+        "1942\t\t_1942.java\t1984\tCapcom\tdrivers._1942\tdriver_1942",
+        "1942a\t1942\t_1942.java\t1984\tCapcom\tdrivers._1942\tdriver_1942a",
+        "1942b\t1942\t_1942.java\t1984\tCapcom\tdrivers._1942\tdriver_1942b",
+        "sqixbl\tsuperqix\tsuperqix.java\t1987\tbootleg\tdrivers.superqix\tdriver_sqixbl",
+        "amidar\t\tamidar.java\t1981\tKonami\tdrivers.amidar\tdriver_amidar",
+        "amidaru\tamidar\tamidar.java\t1982\tKonami (Stern license)\tdrivers.amidar\tdriver_amidaru",
+        "amidaro\tamidar\tamidar.java\t1982\tKonami (Olympia license)\tdrivers.amidar\tdriver_amidaro",
+        "amigo\tamidar\tamidar.java\t1982\tbootleg\tdrivers.amidar\tdriver_amigo",
+        "turtles\t\tamidar.java\t1981\t[Konami] (Stern license)\tdrivers.amidar\tdriver_turtles",
+        "turpin\tturtles\tamidar.java\t1981\t[Konami] (Sega license)\tdrivers.amidar\tdriver_turpin",
+        "600\tturtles\tamidar.java\t1981\tKonami\tdrivers.amidar\tdriver_600",
+        "gyrodine\t\tkyugo.java\t1984\tTaito Corporation\tdrivers.kyugo\tdriver_gyrodine",
+        "sonofphx\t\tkyugo.java\t1985\tAssociated Overseas MFR, Inc\tdrivers.kyugo\tdriver_sonofphx",
+        "repulse\tsonofphx\tkyugo.java\t1985\tSega\tdrivers.kyugo\tdriver_repulse",
+        "99lstwar\tsonofphx\tkyugo.java\t1985\tProma\tdrivers.kyugo\tdriver_99lstwar",
+        "99lstwra\tsonofphx\tkyugo.java\t1985\tProma\tdrivers.kyugo\tdriver_99lstwra",
+        "flashgal\t\tkyugo.java\t1985\tSega\tdrivers.kyugo\tdriver_flashgal",
+        "srdmissn\t\tkyugo.java\t1986\tTaito Corporation\tdrivers.kyugo\tdriver_srdmissn",
+        "airwolf\t\tkyugo.java\t1987\tKyugo\tdrivers.kyugo\tdriver_airwolf",
+        "skywolf\tairwolf\tkyugo.java\t1987\tbootleg\tdrivers.kyugo\tdriver_skywolf",
+        "skywolf2\tairwolf\tkyugo.java\t1987\tbootleg\tdrivers.kyugo\tdriver_skywolf2",
+        "pacman\t\tpacman.java\t1980\tNamco\tdrivers.pacman\tdriver_pacman",
+        "pacmanjp\tpacman\tpacman.java\t1980\tNamco\tdrivers.pacman\tdriver_pacmanjp",
+        "pacmanm\tpacman\tpacman.java\t1980\t[Namco] (Midway license)\tdrivers.pacman\tdriver_pacmanm",
+        "npacmod\tpacman\tpacman.java\t1981\tNamco\tdrivers.pacman\tdriver_npacmod",
+        "pacmod\tpacman\tpacman.java\t1981\t[Namco] (Midway license)\tdrivers.pacman\tdriver_pacmod",
+        "hangly\tpacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_hangly",
+        "hangly2\tpacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_hangly2",
+        "puckman\tpacman\tpacman.java\t1980\thack\tdrivers.pacman\tdriver_puckman",
+        "pacheart\tpacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_pacheart",
+        "piranha\tpacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_piranha",
+        "pacplus\t\tpacman.java\t1982\t[Namco] (Midway license)\tdrivers.pacman\tdriver_pacplus",
+        "mspacman\t\tpacman.java\t1981\tbootleg\tdrivers.pacman\tdriver_mspacman",
+        "mspacatk\tmspacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_mspacatk",
+        "pacgal\tmspacman\tpacman.java\t1981\thack\tdrivers.pacman\tdriver_pacgal",
+        "maketrax\tcrush\tpacman.java\t1981\t[Kural] (Williams license)\tdrivers.pacman\tdriver_maketrax",
+        "crush\t\tpacman.java\t1981\tKural Samno Electric\tdrivers.pacman\tdriver_crush",
+        "crush2\tcrush\tpacman.java\t1981\tKural Esco Electric\tdrivers.pacman\tdriver_crush2",
+        "crush3\tcrush\tpacman.java\t1981\tKural Electric\tdrivers.pacman\tdriver_crush3",
+        "mbrush\tcrush\tpacman.java\t1981\tbootleg\tdrivers.pacman\tdriver_mbrush",
+        "paintrlr\tcrush\tpacman.java\t1981\tbootleg\tdrivers.pacman\tdriver_paintrlr",
+        "eyes\t\tpacman.java\t1982\tDigitrex Techstar (Rock-ola license)\tdrivers.pacman\tdriver_eyes",
+        "eyes2\teyes\tpacman.java\t1982\tTechstar Inc. (Rock-ola license)\tdrivers.pacman\tdriver_eyes2",
+        "mrtnt\t\tpacman.java\t1983\tTelko\tdrivers.pacman\tdriver_mrtnt",
+        "ponpoko\t\tpacman.java\t1982\tSigma Ent. Inc.\tdrivers.pacman\tdriver_ponpoko",
+        "ponpokov\tponpoko\tpacman.java\t1982\tSigma Ent. Inc. (Venture Line license)\tdrivers.pacman\tdriver_ponpokov",
+        "theglob\t\tpacman.java\t1983\tEpos Corporation\tdrivers.pacman\tdriver_theglob",
+        "beastf\ttheglob\tpacman.java\t1984\tEpos Corporation\tdrivers.pacman\tdriver_beastf",
+        "dremshpr\t\tpacman.java\t1982\tSanritsu\tdrivers.pacman\tdriver_dremshpr",
+        "vanvan\t\tpacman.java\t1983\tKarateco\tdrivers.pacman\tdriver_vanvan",
+        "vanvans\tvanvan\tpacman.java\t1983\tSanritsu\tdrivers.pacman\tdriver_vanvans",
+        "alibaba\t\tpacman.java\t1982\tSega\tdrivers.pacman\tdriver_alibaba",
+        "bogeyman\t\tbogeyman.java\t1985\tTechnos Japan\tdrivers.bogeyman\tdriver_bogeyman",
+        "espial\t\tespial.java\t1983\t[Orca] Thunderbolt\tdrivers.espial\tdriver_espial",
+        "espiale\tespial\tespial.java\t1983\t[Orca] Thunderbolt\tdrivers.espial\tdriver_espiale",
+        "kangaroo\t\tkangaroo.java\t1982\tSun Electronics\tdrivers.kangaroo\tdriver_kangaroo",
+        "kangaroa\tkangaroo\tkangaroo.java\t1982\t[Sun Electronics] (Atari license)\tdrivers.kangaroo\tdriver_kangaroa",
+        "kangarob\tkangaroo\tkangaroo.java\t1982\tbootleg\tdrivers.kangaroo\tdriver_kangarob",
+        "stinger\t\twiz.java\t1983\tSeibu Denshi\tdrivers.wiz\tdriver_stinger",
+        "scion\t\twiz.java\t1984\tSeibu Denshi\tdrivers.wiz\tdriver_scion",
+        "scionc\tscion\twiz.java\t1984\tSeibu Denshi [Cinematronics license]\tdrivers.wiz\tdriver_scionc",
+        "wiz\t\twiz.java\t1985\tSeibu Kaihatsu Inc.\tdrivers.wiz\tdriver_wiz",
+        "wizt\twiz\twiz.java\t1985\tTaito Corp.\tdrivers.wiz\tdriver_wizt",
+        "appoooh\t\tappoooh.java\t1984\tSega\tdrivers.appoooh\tdriver_appoooh",
+        "retofinv\t\tretofinv.java\t1985\tTaito Corporation\tdrivers.retofinv\tdriver_retofinv",
+        "retofin1\tretofinv\tretofinv.java\t1985\tbootleg\tdrivers.retofinv\tdriver_retofin1",
+        "retofin2\tretofinv\tretofinv.java\t1985\tbootleg\tdrivers.retofinv\tdriver_retofin2",
+        "scregg\t\tscregg.java\t1983\tTechnos\tdrivers.scregg\tdriver_scregg",
+        "eggs\tscregg\tscregg.java\t1983\t[Technos] Universal USA\tdrivers.scregg\tdriver_eggs",
+        "yamato\t\tyamato.java\t1983\tSega\tdrivers.yamato\tdriver_yamato",
+        "yamato2\tyamato\tyamato.java\t1983\tSega\tdrivers.yamato\tdriver_yamato2",
+        "starjack\t\tsystem1.java\t1983\tSega\tdrivers.system1\tdriver_starjack",
+        "starjacs\tstarjack\tsystem1.java\t1983\tStern\tdrivers.system1\tdriver_starjacs",
+        "regulus\t\tsystem1.java\t1983\tSega\tdrivers.system1\tdriver_regulus",
+        "regulusu\tregulus\tsystem1.java\t1983\tSega\tdrivers.system1\tdriver_regulusu",
+        "upndown\t\tsystem1.java\t1983\tSega\tdrivers.system1\tdriver_upndown",
+        "mrviking\t\tsystem1.java\t1984\tSega\tdrivers.system1\tdriver_mrviking",
+        "mrvikinj\tmrviking\tsystem1.java\t1984\tSega\tdrivers.system1\tdriver_mrvikinj",
+        "swat\t\tsystem1.java\t1984\tCoreland / Sega\tdrivers.system1\tdriver_swat",
+        "flicky\t\tsystem1.java\t1984\tSega\tdrivers.system1\tdriver_flicky",
+        "flicky2\tflicky\tsystem1.java\t1984\tSega\tdrivers.system1\tdriver_flicky2",
+        "bullfgtj\t\tsystem1.java\t1984\tSega / Coreland\tdrivers.system1\tdriver_bullfgtj",
+        "pitfall2\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_pitfall2",
+        "pitfallu\tpitfall2\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_pitfallu",
+        "seganinj\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_seganinj",
+        "seganinu\tseganinj\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_seganinu",
+        "nprinces\tseganinj\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_nprinces",
+        "nprincsu\tseganinj\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_nprincsu",
+        "nprincsb\tseganinj\tsystem1.java\t1985\tbootleg?\tdrivers.system1\tdriver_nprincsb",
+        "imsorry\t\tsystem1.java\t1985\tCoreland / Sega\tdrivers.system1\tdriver_imsorry",
+        "imsorryj\timsorry\tsystem1.java\t1985\tCoreland / Sega\tdrivers.system1\tdriver_imsorryj",
+        "teddybb\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_teddybb",
+        "hvymetal\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_hvymetal",
+        "myhero\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_myhero",
+        "myheroj\tmyhero\tsystem1.java\t1985\tCoreland / Sega\tdrivers.system1\tdriver_myheroj",
+        "myherok\tmyhero\tsystem1.java\t1985\tCoreland / Sega\tdrivers.system1\tdriver_myherok",
+        "chplftb\tchplft\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_chplftb",
+        "chplftbl\tchplft\tsystem1.java\t1985\tbootleg\tdrivers.system1\tdriver_chplftbl",
+        "4dwarrio\t\tsystem1.java\t1985\tCoreland / Sega\tdrivers.system1\tdriver_4dwarrio",
+        "wboy\t\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wboy",
+        "wboy2\twboy\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wboy2",
+        "wboy4\twboy\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wboy4",
+        "wboyu\twboy\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wboyu",
+        "wboy4u\twboy\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wboy4u",
+        "wbdeluxe\twboy\tsystem1.java\t1986\tSega (Escape license)\tdrivers.system1\tdriver_wbdeluxe",
+        "wbml\t\tsystem1.java\t1987\tbootleg\tdrivers.system1\tdriver_wbml",
+        "wbmlju\twbml\tsystem1.java\t1987\tSega / Westone\tdrivers.system1\tdriver_wbmlju",
+        "jack\t\tjack.java\t1982\tCinematronics\tdrivers.jack\tdriver_jack",
+        "jack2\tjack\tjack.java\t1982\tCinematronics\tdrivers.jack\tdriver_jack2",
+        "jack3\tjack\tjack.java\t1982\tCinematronics\tdrivers.jack\tdriver_jack3",
+        "treahunt\tjack\tjack.java\t1982\tHara Industries\tdrivers.jack\tdriver_treahunt",
+        "zzyzzyxx\t\tjack.java\t1982\tCinematronics + Advanced Microcomputer Systems\tdrivers.jack\tdriver_zzyzzyxx",
+        "zzyzzyx2\tzzyzzyxx\tjack.java\t1982\tCinematronics + Advanced Microcomputer Systems\tdrivers.jack\tdriver_zzyzzyx2",
+        "brix\tzzyzzyxx\tjack.java\t1982\tCinematronics + Advanced Microcomputer Systems\tdrivers.jack\tdriver_brix",
+        "freeze\t\tjack.java\t????\tCinematronics\tdrivers.jack\tdriver_freeze",
+        "sucasino\t\tjack.java\t1982\tData Amusement\tdrivers.jack\tdriver_sucasino",
+        "timeplt\t\ttimeplt.java\t1982\tKonami\tdrivers.timeplt\tdriver_timeplt",
+        "timepltc\ttimeplt\ttimeplt.java\t1982\tKonami (Centuri license)\tdrivers.timeplt\tdriver_timepltc",
+        "spaceplt\ttimeplt\ttimeplt.java\t1982\tbootleg\tdrivers.timeplt\tdriver_spaceplt",
+        "psurge\t\ttimeplt.java\t1988\t<unknown>\tdrivers.timeplt\tdriver_psurge",
+        "mrdo\t\tmrdo.java\t1982\tUniversal\tdrivers.mrdo\tdriver_mrdo",
+        "mrdot\tmrdo\tmrdo.java\t1982\tUniversal (Taito license)\tdrivers.mrdo\tdriver_mrdot",
+        "mrdofix\tmrdo\tmrdo.java\t1982\tUniversal (Taito license)\tdrivers.mrdo\tdriver_mrdofix",
+        "mrlo\tmrdo\tmrdo.java\t1982\tbootleg\tdrivers.mrdo\tdriver_mrlo",
+        "mrdu\tmrdo\tmrdo.java\t1982\tbootleg\tdrivers.mrdo\tdriver_mrdu",
+        "mrdoy\tmrdo\tmrdo.java\t1982\tbootleg\tdrivers.mrdo\tdriver_mrdoy",
+        "yankeedo\tmrdo\tmrdo.java\t1982\thack\tdrivers.mrdo\tdriver_yankeedo",
+        "battlnts\t\tbattlnts.java\t1987\tKonami\tdrivers.battlnts\tdriver_battlnts",
+        "battlntj\tbattlnts\tbattlnts.java\t1987\tKonami\tdrivers.battlnts\tdriver_battlntj",
+        "gemini\t\ttecmo.java\t1987\tTecmo\tdrivers.tecmo\tdriver_gemini",
+        "silkworm\t\ttecmo.java\t1988\tTecmo\tdrivers.tecmo\tdriver_silkworm",
+        "silkwrm2\tsilkworm\ttecmo.java\t1988\tTecmo\tdrivers.tecmo\tdriver_silkwrm2",
+        "scobra\t\tscobra.java\t1981\tKonami\tdrivers.scobra\tdriver_scobra",
+        "scobras\tscobra\tscobra.java\t1981\t[Konami] (Stern license)\tdrivers.scobra\tdriver_scobras",
+        "scobrab\tscobra\tscobra.java\t1981\tbootleg\tdrivers.scobra\tdriver_scobrab",
+        "stratgyx\t\tscobra.java\t1981\tKonami\tdrivers.scobra\tdriver_stratgyx",
+        "stratgys\tstratgyx\tscobra.java\t1981\t[Konami] (Stern license)\tdrivers.scobra\tdriver_stratgys",
+        "armorcar\t\tscobra.java\t1981\tStern\tdrivers.scobra\tdriver_armorcar",
+        "armorca2\tarmorcar\tscobra.java\t1981\tStern\tdrivers.scobra\tdriver_armorca2",
+        "spdcoin\t\tscobra.java\t1984\tStern\tdrivers.scobra\tdriver_spdcoin",
+        "tazmania\t\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_tazmania",
+        "tazmani2\ttazmania\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_tazmani2",
+        "calipso\t\tscobra.java\t1982\t[Stern] (Tago license)\tdrivers.scobra\tdriver_calipso",
+        "anteater\t\tscobra.java\t1982\t[Stern] (Tago license)\tdrivers.scobra\tdriver_anteater",
+        "rescue\t\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_rescue",
+        "minefld\t\tscobra.java\t1983\tStern\tdrivers.scobra\tdriver_minefld",
+        "losttomb\t\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_losttomb",
+        "losttmbh\tlosttomb\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_losttmbh",
+        "superbon\t\tscobra.java\t1982\tbootleg\tdrivers.scobra\tdriver_superbon",
+        "hustler\t\tscobra.java\t1981\tKonami\tdrivers.scobra\tdriver_hustler",
+        "billiard\thustler\tscobra.java\t1981\tbootleg\tdrivers.scobra\tdriver_billiard",
+        "hustlerb\thustler\tscobra.java\t1981\tbootleg\tdrivers.scobra\tdriver_hustlerb",
+        "scramble\t\tscramble.java\t1981\tKonami\tdrivers.scramble\tdriver_scramble",
+        "scrambls\tscramble\tscramble.java\t1981\t[Konami] (Stern license)\tdrivers.scramble\tdriver_scrambls",
+        "atlantis\t\tscramble.java\t1981\tComsoft\tdrivers.scramble\tdriver_atlantis",
+        "atlants2\tatlantis\tscramble.java\t1981\tComsoft\tdrivers.scramble\tdriver_atlants2",
+        "theend\t\tscramble.java\t1980\tKonami\tdrivers.scramble\tdriver_theend",
+        "theends\ttheend\tscramble.java\t1980\t[Konami] (Stern license)\tdrivers.scramble\tdriver_theends",
+        "ckongs\tckong\tscramble.java\t1981\tbootleg\tdrivers.scramble\tdriver_ckongs",
+        "froggers\tfrogger\tscramble.java\t1981\tbootleg\tdrivers.scramble\tdriver_froggers",
+        "amidars\tamidar\tscramble.java\t1982\tKonami\tdrivers.scramble\tdriver_amidars",
+        "triplep\t\tscramble.java\t1982\tKKI\tdrivers.scramble\tdriver_triplep",
+        "knockout\ttriplep\tscramble.java\t1982\tKKK\tdrivers.scramble\tdriver_knockout",
+        "mariner\t\tscramble.java\t1981\tAmenip\tdrivers.scramble\tdriver_mariner",
+        "hotshock\t\tscramble.java\t1982\tE.G. Felaco\tdrivers.scramble\tdriver_hotshock",
+        "thehustl\t\tbattlnts.java\t1987\tKonami\tdrivers.battlnts\tdriver_thehustl",
+        "thehustj\tthehustl\tbattlnts.java\t1987\tKonami\tdrivers.battlnts\tdriver_thehustj",
+        "speedbal\t\tspeedbal.java\t1987\tTecfri\tdrivers.speedbal\tdriver_speedbal",
+        "hcastle\t\thcastle.java\t1988\tKonami\tdrivers.hcastle\tdriver_hcastle",
+        "hcastlea\thcastle\thcastle.java\t1988\tKonami\tdrivers.hcastle\tdriver_hcastlea",
+        "hcastlej\thcastle\thcastle.java\t1988\tKonami\tdrivers.hcastle\tdriver_hcastlej",
+        "blktiger\t\tblktiger.java\t1987\tCapcom\tdrivers.blktiger\tdriver_blktiger",
+        "bktigerb\tblktiger\tblktiger.java\t1987\tbootleg\tdrivers.blktiger\tdriver_bktigerb",
+        "blkdrgon\tblktiger\tblktiger.java\t1987\tCapcom\tdrivers.blktiger\tdriver_blkdrgon",
+        "blkdrgnb\tblktiger\tblktiger.java\t1987\tbootleg\tdrivers.blktiger\tdriver_blkdrgnb",
+        "citycon\t\tcitycon.java\t1985\tJaleco\tdrivers.citycon\tdriver_citycon",
+        "citycona\tcitycon\tcitycon.java\t1985\tJaleco\tdrivers.citycon\tdriver_citycona",
+        "cruisin\tcitycon\tcitycon.java\t1985\tJaleco (Kitkorp license)\tdrivers.citycon\tdriver_cruisin",
+        "ironhors\t\tironhors.java\t1986\tKonami\tdrivers.ironhors\tdriver_ironhors",
+        "dairesya\tironhors\tironhors.java\t1986\t[Konami] (Kawakusu license)\tdrivers.ironhors\tdriver_dairesya",
+        "wc90\t\twc90.java\t1989\tTecmo\tdrivers.wc90\tdriver_wc90",
+        "gundealr\t\tgundealr.java\t1990\tDooyong\tdrivers.gundealr\tdriver_gundealr",
+        "gundeala\tgundealr\tgundealr.java\t????\tDooyong\tdrivers.gundealr\tdriver_gundeala",
+        "yamyam\t\tgundealr.java\t1990\tDooyong\tdrivers.gundealr\tdriver_yamyam",
+        "wiseguy\tyamyam\tgundealr.java\t1990\tDooyong\tdrivers.gundealr\tdriver_wiseguy",
+        "commando\t\tcommando.java\t1985\tCapcom\tdrivers.commando\tdriver_commando",
+        "commandu\tcommando\tcommando.java\t1985\tCapcom (Data East USA license)\tdrivers.commando\tdriver_commandu",
+        "commandj\tcommando\tcommando.java\t1985\tCapcom\tdrivers.commando\tdriver_commandj",
+        "spaceinv\tcommando\tcommando.java\t1985\tbootleg\tdrivers.commando\tdriver_spaceinv",
+        "brkthru\t\tbrkthru.java\t1986\tData East USA\tdrivers.brkthru\tdriver_brkthru",
+        "brkthruj\tbrkthru\tbrkthru.java\t1986\tData East Corporation\tdrivers.brkthru\tdriver_brkthruj",
+        "darwin\t\tbrkthru.java\t1986\tData East Corporation\tdrivers.brkthru\tdriver_darwin",
+        "gunsmoke\t\tgunsmoke.java\t1985\tCapcom\tdrivers.gunsmoke\tdriver_gunsmoke",
+        "gunsmrom\tgunsmoke\tgunsmoke.java\t1985\tCapcom (Romstar license)\tdrivers.gunsmoke\tdriver_gunsmrom",
+        "gunsmoka\tgunsmoke\tgunsmoke.java\t1986\tCapcom\tdrivers.gunsmoke\tdriver_gunsmoka",
+        "gunsmokj\tgunsmoke\tgunsmoke.java\t1985\tCapcom\tdrivers.gunsmoke\tdriver_gunsmokj",
+        "gng\t\tgng.java\t1985\tCapcom\tdrivers.gng\tdriver_gng",
+        "gnga\tgng\tgng.java\t1985\tCapcom\tdrivers.gng\tdriver_gnga",
+        "gngt\tgng\tgng.java\t1985\tCapcom (Taito America license)\tdrivers.gng\tdriver_gngt",
+        "makaimur\tgng\tgng.java\t1985\tCapcom\tdrivers.gng\tdriver_makaimur",
+        "makaimuc\tgng\tgng.java\t1985\tCapcom\tdrivers.gng\tdriver_makaimuc",
+        "makaimug\tgng\tgng.java\t1985\tCapcom\tdrivers.gng\tdriver_makaimug",
+        "diamond\t\tgng.java\t1989\tKH Video\tdrivers.gng\tdriver_diamond",
+        "1943\t\t_1943.java\t1987\tCapcom\tdrivers._1943\tdriver_1943",
+        "1943j\t1943\t_1943.java\t1987\tCapcom\tdrivers._1943\tdriver_1943j",
+        "sidearms\t\tsidearms.java\t1986\tCapcom\tdrivers.sidearms\tdriver_sidearms",
+        "sidearmr\tsidearms\tsidearms.java\t1988\tCapcom (Romstar license)\tdrivers.sidearms\tdriver_sidearmr",
+        "sidearjp\tsidearms\tsidearms.java\t1986\tCapcom\tdrivers.sidearms\tdriver_sidearjp",
+        "turtship\t\tsidearms.java\t1988\tPhilko\tdrivers.sidearms\tdriver_turtship",
+        "pcktgal\t\tpcktgal.java\t1987\tData East Corporation\tdrivers.pcktgal\tdriver_pcktgal",
+        "pcktgalb\tpcktgal\tpcktgal.java\t1989\tbootleg\tdrivers.pcktgal\tdriver_pcktgalb",
+        "pcktgal2\tpcktgal\tpcktgal.java\t1989\tData East Corporation\tdrivers.pcktgal\tdriver_pcktgal2",
+        "spool3\tpcktgal\tpcktgal.java\t1989\tData East Corporation\tdrivers.pcktgal\tdriver_spool3",
+        "spool3i\tpcktgal\tpcktgal.java\t1990\tData East Corporation (I-Vics license)\tdrivers.pcktgal\tdriver_spool3i",
+        "minivadr\t\tminivadr.java\t1990\tTaito Corporation\tdrivers.minivadr\tdriver_minivadr",
+        "copsnrob\t\tcopsnrob.java\t1976\tAtari\tdrivers.copsnrob\tdriver_copsnrob",
+        "sectionz\t\tlwings.java\t1985\tCapcom\tdrivers.lwings\tdriver_sectionz",
+        "sctionza\tsectionz\tlwings.java\t1985\tCapcom\tdrivers.lwings\tdriver_sctionza",
+        "trojan\t\tlwings.java\t1986\tCapcom\tdrivers.lwings\tdriver_trojan",
+        "trojanr\ttrojan\tlwings.java\t1986\tCapcom (Romstar license)\tdrivers.lwings\tdriver_trojanr",
+        "trojanj\ttrojan\tlwings.java\t1986\tCapcom\tdrivers.lwings\tdriver_trojanj",
+        "lwings\t\tlwings.java\t1986\tCapcom\tdrivers.lwings\tdriver_lwings",
+        "lwings2\tlwings\tlwings.java\t1986\tCapcom\tdrivers.lwings\tdriver_lwings2",
+        "lwingsjp\tlwings\tlwings.java\t1986\tCapcom\tdrivers.lwings\tdriver_lwingsjp",
+        "tnk3\t\tsnk.java\t1985\tSNK\tdrivers.WIP.snk\tdriver_tnk3",
+        "tnk3j\ttnk3\tsnk.java\t1985\tSNK\tdrivers.WIP.snk\tdriver_tnk3j",
+        "fitegolf\t\tsnk.java\t1988\tSNK\tdrivers.WIP.snk\tdriver_fitegolf",
+        "tdfever\t\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_tdfever",
+        "tdfeverj\ttdfever\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_tdfeverj",
+        "exedexes\t\texedexes.java\t1985\tCapcom\tdrivers.exedexes\tdriver_exedexes",
+        "savgbees\texedexes\texedexes.java\t1985\tCapcom (Memetron license)\tdrivers.exedexes\tdriver_savgbees",
+        "boblbobl\tbublbobl\tbublbobl.java\t1986\tbootleg\tdrivers.WIP.bublbobl\tdriver_boblbobl",
+        "sboblbob\tbublbobl\tbublbobl.java\t1986\tbootleg\tdrivers.WIP.bublbobl\tdriver_sboblbob",
+        "tokiob\ttokio\tbublbobl.java\t1986\tbootleg\tdrivers.WIP.bublbobl\tdriver_tokiob",
+        "nova2001\t\tnova2001.java\t1983\tUPL\tdrivers.nova2001\tdriver_nova2001",
+        "nov2001u\tnova2001\tnova2001.java\t1983\tUPL (Universal license)\tdrivers.nova2001\tdriver_nov2001u",
+        "pkunwar\t\tpkunwar.java\t1985\tUPL\tdrivers.pkunwar\tdriver_pkunwar",
+        "pkunwarj\tpkunwar\tpkunwar.java\t1985\tUPL\tdrivers.pkunwar\tdriver_pkunwarj",
+        "gsword\t\tgsword.java\t1984\tTaito Corporation\tdrivers.gsword\tdriver_gsword",
+        "kicker\t\tshaolins.java\t1985\tKonami\tdrivers.shaolins\tdriver_kicker",
+        "shaolins\tkicker\tshaolins.java\t1985\tKonami\tdrivers.shaolins\tdriver_shaolins",
+        "empcity\t\tstfight.java\t1986\tSeibu Kaihatsu\tdrivers.stfight\tdriver_empcity",
+        "empcityj\tempcity\tstfight.java\t1986\t[Seibu Kaihatsu] (Taito license)\tdrivers.stfight\tdriver_empcityj",
+        "stfight\tempcity\tstfight.java\t1986\tSeibu Kaihatsu\tdrivers.stfight\tdriver_stfight",
+        "jrpacman\t\tjrpacman.java\t1983\tBally Midway\tdrivers.jrpacman\tdriver_jrpacman",
+        "travrusa\t\ttravrusa.java\t1983\tIrem\tdrivers.travrusa\tdriver_travrusa",
+        "motorace\ttravrusa\ttravrusa.java\t1983\tIrem (Williams license)\tdrivers.travrusa\tdriver_motorace",
+        "troangel\t\ttroangel.java\t1983\tIrem\tdrivers.troangel\tdriver_troangel",
+        "kungfum\t\tm62.java\t1984\tIrem\tdrivers.m62\tdriver_kungfum",
+        "kungfud\tkungfum\tm62.java\t1984\tIrem (Data East license)\tdrivers.m62\tdriver_kungfud",
+        "spartanx\tkungfum\tm62.java\t1984\tIrem\tdrivers.m62\tdriver_spartanx",
+        "kungfub\tkungfum\tm62.java\t1984\tbootleg\tdrivers.m62\tdriver_kungfub",
+        "kungfub2\tkungfum\tm62.java\t1984\tbootleg\tdrivers.m62\tdriver_kungfub2",
+        "ldrun\t\tm62.java\t1984\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_ldrun",
+        "ldruna\tldrun\tm62.java\t1984\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_ldruna",
+        "ldrun2\t\tm62.java\t1984\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_ldrun2",
+        "ldrun3\t\tm62.java\t1985\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_ldrun3",
+        "ldrun4\t\tm62.java\t1986\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_ldrun4",
+        "lotlot\t\tm62.java\t1985\tIrem (licensed from Tokuma Shoten)\tdrivers.m62\tdriver_lotlot",
+        "kidniki\t\tm62.java\t1986\tIrem (Data East USA license)\tdrivers.m62\tdriver_kidniki",
+        "yanchamr\tkidniki\tm62.java\t1986\tIrem\tdrivers.m62\tdriver_yanchamr",
+        "spelunkr\t\tm62.java\t1985\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_spelunkr",
+        "spelunk2\t\tm62.java\t1986\tIrem (licensed from Broderbund)\tdrivers.m62\tdriver_spelunk2",
+        "skydiver\t\tskydiver.java\t1978\tAtari\tdrivers.skydiver\tdriver_skydiver",
+        "mpatrol\t\tmpatrol.java\t1982\tIrem\tdrivers.mpatrol\tdriver_mpatrol",
+        "mpatrolw\tmpatrol\tmpatrol.java\t1982\tIrem (Williams license)\tdrivers.mpatrol\tdriver_mpatrolw",
+        "mranger\tmpatrol\tmpatrol.java\t1982\tbootleg\tdrivers.mpatrol\tdriver_mranger",
+        "yard\t\tyard.java\t1983\tIrem\tdrivers.yard\tdriver_yard",
+        "vsyard\tyard\tyard.java\t1984\tIrem\tdrivers.yard\tdriver_vsyard",
+        "vsyard2\tyard\tyard.java\t1984\tIrem\tdrivers.yard\tdriver_vsyard2",
+        "athena\t\tsnk.java\t1986\tSNK\tdrivers.WIP.snk\tdriver_athena",
+        "ftsoccer\t\tsnk.java\t1988\tSNK\tdrivers.WIP.snk\tdriver_ftsoccer",
+        "srumbler\t\tsrumbler.java\t1986\tCapcom\tdrivers.srumbler\tdriver_srumbler",
+        "srumblr2\tsrumbler\tsrumbler.java\t1986\tCapcom\tdrivers.srumbler\tdriver_srumblr2",
+        "rushcrsh\tsrumbler\tsrumbler.java\t1986\tCapcom\tdrivers.srumbler\tdriver_rushcrsh",
+        "galivan\t\tgalivan.java\t1985\tNichibutsu\tdrivers.galivan\tdriver_galivan",
+        "galivan2\tgalivan\tgalivan.java\t1985\tNichibutsu\tdrivers.galivan\tdriver_galivan2",
+        "dangar\t\tgalivan.java\t1986\tNichibutsu\tdrivers.galivan\tdriver_dangar",
+        "dangar2\tdangar\tgalivan.java\t1986\tNichibutsu\tdrivers.galivan\tdriver_dangar2",
+        "dangarb\tdangar\tgalivan.java\t1986\tbootleg\tdrivers.galivan\tdriver_dangarb",
+        "ninjemak\t\tgalivan.java\t1986\tNichibutsu\tdrivers.galivan\tdriver_ninjemak",
+        "youma\tninjemak\tgalivan.java\t1986\tNichibutsu\tdrivers.galivan\tdriver_youma",
+        "circusc\t\tcircusc.java\t1984\tKonami\tdrivers.circusc\tdriver_circusc",
+        "circusc2\tcircusc\tcircusc.java\t1984\tKonami\tdrivers.circusc\tdriver_circusc2",
+        "circuscc\tcircusc\tcircusc.java\t1984\tKonami (Centuri licence)\tdrivers.circusc\tdriver_circuscc",
+        "circusce\tcircusc\tcircusc.java\t1984\tKonami (Centuri licence)\tdrivers.circusc\tdriver_circusce",
+        "shackled\t\tdec8.java\t1986\tData East USA\tdrivers.WIP.dec8\tdriver_shackled",
+        "breywood\tshackled\tdec8.java\t1986\tData East Corporation\tdrivers.WIP.dec8\tdriver_breywood",
+        "csilver\t\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_csilver",
+        "cclimber\t\tcclimber.java\t1980\tNichibutsu\tdrivers.cclimber\tdriver_cclimber",
+        "cclimbrj\tcclimber\tcclimber.java\t1980\tNichibutsu\tdrivers.cclimber\tdriver_cclimbrj",
+        "ccboot\tcclimber\tcclimber.java\t1980\tbootleg\tdrivers.cclimber\tdriver_ccboot",
+        "ccboot2\tcclimber\tcclimber.java\t1980\tbootleg\tdrivers.cclimber\tdriver_ccboot2",
+        "ckong\t\tcclimber.java\t1981\tFalcon\tdrivers.cclimber\tdriver_ckong",
+        "ckonga\tckong\tcclimber.java\t1981\tFalcon\tdrivers.cclimber\tdriver_ckonga",
+        "ckongjeu\tckong\tcclimber.java\t1981\tbootleg\tdrivers.cclimber\tdriver_ckongjeu",
+        "ckongo\tckong\tcclimber.java\t1981\tbootleg\tdrivers.cclimber\tdriver_ckongo",
+        "ckongalc\tckong\tcclimber.java\t1981\tbootleg\tdrivers.cclimber\tdriver_ckongalc",
+        "monkeyd\tckong\tcclimber.java\t1981\tbootleg\tdrivers.cclimber\tdriver_monkeyd",
+        "rpatrolb\t\tcclimber.java\t????\tbootleg\tdrivers.cclimber\tdriver_rpatrolb",
+        "silvland\trpatrolb\tcclimber.java\t????\tFalcon\tdrivers.cclimber\tdriver_silvland",
+        "swimmer\t\tcclimber.java\t1982\tTehkan\tdrivers.cclimber\tdriver_swimmer",
+        "swimmera\tswimmer\tcclimber.java\t1982\tTehkan\tdrivers.cclimber\tdriver_swimmera",
+        "guzzler\t\tcclimber.java\t1983\tTehkan\tdrivers.cclimber\tdriver_guzzler",
+        "gwar\t\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_gwar",
+        "gwarj\tgwar\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_gwarj",
+        "gwarb\tgwar\tsnk.java\t1987\tbootleg\tdrivers.WIP.snk\tdriver_gwarb",
+        "psychos\t\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_psychos",
+        "psychosj\tpsychos\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_psychosj",
+        "chopper\t\tsnk.java\t1988\tSNK\tdrivers.WIP.snk\tdriver_chopper",
+        "legofair\tchopper\tsnk.java\t1988\tSNK\tdrivers.WIP.snk\tdriver_legofair",
+        "tehkanwc\t\ttehkanwc.java\t1985\tTehkan\tdrivers.WIP.tehkanwc\tdriver_tehkanwc",
+        "solomon\t\tsolomon.java\t1986\tTecmo\tdrivers.solomon\tdriver_solomon",
+        "sauro\t\tsauro.java\t1987\tTecfri\tdrivers.WIP.sauro\tdriver_sauro",
+        "missile\t\tmissile.java\t1980\tAtari\tdrivers.missile\tdriver_missile",
+        "missile2\tmissile\tmissile.java\t1980\tAtari\tdrivers.missile\tdriver_missile2",
+        "suprmatk\tmissile\tmissile.java\t1981\tAtari + Gencomp\tdrivers.missile\tdriver_suprmatk",
+        "moonwar2\t\tscobra.java\t1981\tStern\tdrivers.scobra\tdriver_moonwar2",
+        "monwar2a\tmoonwar2\tscobra.java\t1981\tStern\tdrivers.scobra\tdriver_monwar2a",
+        "arkatayt\tarkanoid\tarkanoid.java\t1986\tbootleg\tdrivers.WIP.arkanoid\tdriver_arkatayt",
+        "arkbloc2\tarkanoid\tarkanoid.java\t1986\tbootleg\tdrivers.WIP.arkanoid\tdriver_arkbloc2",
+        "arkangc\tarkanoid\tarkanoid.java\t1986\tbootleg\tdrivers.WIP.arkanoid\tdriver_arkangc",
+        "razmataz\t\tzaxxon.java\t1983\tSega\tdrivers.zaxxon\tdriver_razmataz",
+        "goindol\t\tgoindol.java\t1987\tSun a Electronics\tdrivers.goindol\tdriver_goindol",
+        "homo\tgoindol\tgoindol.java\t1987\tbootleg\tdrivers.goindol\tdriver_homo",
+        "marineb\t\tmarineb.java\t1982\tOrca\tdrivers.marineb\tdriver_marineb",
+        "changes\t\tmarineb.java\t1982\tOrca\tdrivers.marineb\tdriver_changes",
+        "looper\tchanges\tmarineb.java\t1982\tOrca\tdrivers.marineb\tdriver_looper",
+        "springer\t\tmarineb.java\t1982\tOrca\tdrivers.marineb\tdriver_springer",
+        "hoccer\t\tmarineb.java\t1983\tEastern Micro Electronics, Inc.\tdrivers.marineb\tdriver_hoccer",
+        "hoccer2\thoccer\tmarineb.java\t1983\tEastern Micro Electronics, Inc.\tdrivers.marineb\tdriver_hoccer2",
+        "hopprobo\t\tmarineb.java\t1983\tSega\tdrivers.marineb\tdriver_hopprobo",
+        "wanted\t\tmarineb.java\t1984\tSigma Ent. Inc.\tdrivers.marineb\tdriver_wanted",
+        "ccastles\t\tccastles.java\t1983\tAtari\tdrivers.ccastles\tdriver_ccastles",
+        "ccastle2\tccastles\tccastles.java\t1983\tAtari\tdrivers.ccastles\tdriver_ccastle2",
+        "centiped\t\tcentiped.java\t1980\tAtari\tdrivers.centiped\tdriver_centiped",
+        "centipd2\tcentiped\tcentiped.java\t1980\tAtari\tdrivers.centiped\tdriver_centipd2",
+        "centipdb\tcentiped\tcentiped.java\t1980\tbootleg\tdrivers.centiped\tdriver_centipdb",
+        "centipb2\tcentiped\tcentiped.java\t1980\tbootleg\tdrivers.centiped\tdriver_centipb2",
+        "higemaru\t\thigemaru.java\t1984\tCapcom\tdrivers.higemaru\tdriver_higemaru",
+        "flyboyb\tflyboy\tfastfred.java\t1982\tKaneko\tdrivers.fastfred\tdriver_flyboyb",
+        "fastfred\tflyboy\tfastfred.java\t1982\tAtari\tdrivers.fastfred\tdriver_fastfred",
+        "jumpcoas\t\tfastfred.java\t1983\tKaneko\tdrivers.fastfred\tdriver_jumpcoas",
+        "zodiack\t\tzodiack.java\t1983\tOrca (Esco Trading Co, Inc)\tdrivers.zodiack\tdriver_zodiack",
+        "dogfight\t\tzodiack.java\t1983\t[Orca] Thunderbolt\tdrivers.zodiack\tdriver_dogfight",
+        "moguchan\t\tzodiack.java\t1982\tOrca (Eastern Commerce Inc. license) (bootleg?)\tdrivers.zodiack\tdriver_moguchan",
+        "percuss\t\tzodiack.java\t1981\tOrca\tdrivers.zodiack\tdriver_percuss",
+        "kingofb\t\tkingobox.java\t1985\tWoodplace Inc.\tdrivers.kingobox\tdriver_kingofb",
+        "ringking\tkingofb\tkingobox.java\t1985\tData East USA\tdrivers.kingobox\tdriver_ringking",
+        "spaceskr\t\ttaitosj.java\t1981\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_spaceskr",
+        "junglek\t\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_junglek",
+        "junglkj2\tjunglek\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_junglkj2",
+        "jungleh\tjunglek\ttaitosj.java\t1982\tTaito America Corporation\tdrivers.WIP.taitosj\tdriver_jungleh",
+        "alpine\t\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_alpine",
+        "alpinea\talpine\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_alpinea",
+        "timetunl\t\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_timetunl",
+        "wwestern\t\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_wwestern",
+        "wwester1\twwestern\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_wwester1",
+        "elevatob\televator\ttaitosj.java\t1983\tbootleg\tdrivers.WIP.taitosj\tdriver_elevatob",
+        "bioatack\t\ttaitosj.java\t1983\tTaito Corporation (Fox Video Games license)\tdrivers.WIP.taitosj\tdriver_bioatack",
+        "hwrace\t\ttaitosj.java\t1983\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_hwrace",
+        "blueprnt\t\tblueprnt.java\t1982\t[Zilec] Bally Midway\tdrivers.blueprnt\tdriver_blueprnt",
+        "blueprnj\tblueprnt\tblueprnt.java\t1982\t[Zilec] Jaleco\tdrivers.blueprnt\tdriver_blueprnj",
+        "kchamp\t\tkchamp.java\t1984\tData East USA\tdrivers.kchamp\tdriver_kchamp",
+        "karatedo\tkchamp\tkchamp.java\t1984\tData East Corporation\tdrivers.kchamp\tdriver_karatedo",
+        "kchampvs\tkchamp\tkchamp.java\t1984\tData East USA\tdrivers.kchamp\tdriver_kchampvs",
+        "karatevs\tkchamp\tkchamp.java\t1984\tData East Corporation\tdrivers.kchamp\tdriver_karatevs",
+        "tutankhm\t\ttutankhm.java\t1982\tKonami\tdrivers.tutankhm\tdriver_tutankhm",
+        "tutankst\ttutankhm\ttutankhm.java\t1982\t[Konami] (Stern license)\tdrivers.tutankhm\tdriver_tutankst",
+        "mgakuen\t\tmitchell.java\t1988\tYuga\tdrivers.mitchell\tdriver_mgakuen",
+        "mgakuen2\t\tmitchell.java\t1989\tFace\tdrivers.mitchell\tdriver_mgakuen2",
+        "pkladies\t\tmitchell.java\t1989\tMitchell\tdrivers.mitchell\tdriver_pkladies",
+        "pang\t\tmitchell.java\t1989\tMitchell\tdrivers.mitchell\tdriver_pang",
+        "pangb\tpang\tmitchell.java\t1989\tbootleg\tdrivers.mitchell\tdriver_pangb",
+        "bbros\tpang\tmitchell.java\t1989\tCapcom\tdrivers.mitchell\tdriver_bbros",
+        "pompingw\tpang\tmitchell.java\t1989\tMitchell\tdrivers.mitchell\tdriver_pompingw",
+        "cworld\t\tmitchell.java\t1989\tCapcom\tdrivers.mitchell\tdriver_cworld",
+        "hatena\t\tmitchell.java\t1990\tCapcom\tdrivers.mitchell\tdriver_hatena",
+        "spang\t\tmitchell.java\t1990\tMitchell\tdrivers.mitchell\tdriver_spang",
+        "sbbros\tspang\tmitchell.java\t1990\tMitchell + Capcom\tdrivers.mitchell\tdriver_sbbros",
+        "rollerg\t\trollerg.java\t1991\tKonami\tdrivers.rollerg\tdriver_rollerg",
+        "rollergj\trollerg\trollerg.java\t1991\tKonami\tdrivers.rollerg\tdriver_rollergj",
+        "raiden\t\traiden.java\t1990\tSeibu Kaihatsu\tdrivers.WIP.raiden\tdriver_raiden",
+        "raidenk\traiden\traiden.java\t1990\tSeibu Kaihatsu (IBL Corporation license)\tdrivers.WIP.raiden\tdriver_raidenk",
+        "snowbros\t\tsnowbros.java\t1990\tToaplan (Romstar license)\tdrivers.snowbros\tdriver_snowbros",
+        "snowbroa\tsnowbros\tsnowbros.java\t1990\tToaplan (Romstar license)\tdrivers.snowbros\tdriver_snowbroa",
+        "snowbrob\tsnowbros\tsnowbros.java\t1990\tToaplan (Romstar license)\tdrivers.snowbros\tdriver_snowbrob",
+        "snowbroj\tsnowbros\tsnowbros.java\t1990\tToaplan (Romstar license)\tdrivers.snowbros\tdriver_snowbroj",
+        "galpanic\t\tgalpanic.java\t1990\tKaneko\tdrivers.galpanic\tdriver_galpanic",
+        "zaxxon\t\tzaxxon.java\t1982\tSega\tdrivers.zaxxon\tdriver_zaxxon",
+        "zaxxon2\tzaxxon\tzaxxon.java\t1982\tSega\tdrivers.zaxxon\tdriver_zaxxon2",
+        "zaxxonb\tzaxxon\tzaxxon.java\t1982\tbootleg\tdrivers.zaxxon\tdriver_zaxxonb",
+        "szaxxon\t\tzaxxon.java\t1982\tSega\tdrivers.zaxxon\tdriver_szaxxon",
+        "futspy\t\tzaxxon.java\t1984\tSega\tdrivers.zaxxon\tdriver_futspy",
+        "congo\t\tcongo.java\t1983\tSega\tdrivers.congo\tdriver_congo",
+        "tiptop\tcongo\tcongo.java\t1983\tSega\tdrivers.congo\tdriver_tiptop",
+        "galaga\t\tgalaga.java\t1981\tNamco\tdrivers.galaga\tdriver_galaga",
+        "galagamw\tgalaga\tgalaga.java\t1981\t[Namco] (Midway license)\tdrivers.galaga\tdriver_galagamw",
+        "galagads\tgalaga\tgalaga.java\t1981\thack\tdrivers.galaga\tdriver_galagads",
+        "gallag\tgalaga\tgalaga.java\t1982\tbootleg\tdrivers.galaga\tdriver_gallag",
+        "galagab2\tgalaga\tgalaga.java\t1981\tbootleg\tdrivers.galaga\tdriver_galagab2",
+        "galaga84\tgalaga\tgalaga.java\t1984\thack\tdrivers.galaga\tdriver_galaga84",
+        "nebulbee\tgalaga\tgalaga.java\t1984\thack\tdrivers.galaga\tdriver_nebulbee",
+        "rallyx\t\trallyx.java\t1980\tNamco\tdrivers.rallyx\tdriver_rallyx",
+        "rallyx\t\trallyx.java\t1980\tNamco\tdrivers.rallyx\tdriver_rallyx",
+        "nrallyx\t\trallyx.java\t1981\tNamco\tdrivers.rallyx\tdriver_nrallyx",
+        "sbasketb\t\tsbasketb.java\t1984\tKonami\tdrivers.sbasketb\tdriver_sbasketb",
+        "trackfld\t\ttrackfld.java\t1983\tKonami\tdrivers.WIP.trackfld\tdriver_trackfld",
+        "trackflc\ttrackfld\ttrackfld.java\t1983\tKonami (Centuri license)\tdrivers.WIP.trackfld\tdriver_trackflc",
+        "hyprolym\ttrackfld\ttrackfld.java\t1983\tKonami\tdrivers.WIP.trackfld\tdriver_hyprolym",
+        "hyperspt\t\thyperspt.java\t1984\tKonami (Centuri license)\tdrivers.WIP.hyperspt\tdriver_hyperspt",
+        "hpolym84\thyperspt\thyperspt.java\t1984\tKonami\tdrivers.WIP.hyperspt\tdriver_hpolym84",
+        "roadf\t\thyperspt.java\t1984\tKonami\tdrivers.WIP.hyperspt\tdriver_roadf",
+        "rockrage\t\trockrage.java\t1986\tKonami\tdrivers.rockrage\tdriver_rockrage",
+        "rockragj\trockrage\trockrage.java\t1986\tKonami\tdrivers.rockrage\tdriver_rockragj",
+        "yiear\t\tyiear.java\t1985\tKonami\tdrivers.yiear\tdriver_yiear",
+        "yiear2\tyiear\tyiear.java\t1985\tKonami\tdrivers.yiear\tdriver_yiear2",
+        "astrof\t\tastrof.java\t1980\tData East\tdrivers.astrof\tdriver_astrof",
+        "astrof2\tastrof\tastrof.java\t1980\tData East\tdrivers.astrof\tdriver_astrof2",
+        "astrof3\tastrof\tastrof.java\t1980\tData East\tdrivers.astrof\tdriver_astrof3",
+        "tomahawk\t\tastrof.java\t1980\tData East\tdrivers.astrof\tdriver_tomahawk",
+        "tomahaw5\ttomahawk\tastrof.java\t1980\tData East\tdrivers.astrof\tdriver_tomahaw5",
+        "tokib\ttoki\ttoki.java\t1989\tbootleg\tdrivers.toki\tdriver_tokib",
+        "sasuke\t\trockola.java\t1980\tSNK\tdrivers.rockola\tdriver_sasuke",
+        "satansat\t\trockola.java\t1981\tSNK\tdrivers.rockola\tdriver_satansat",
+        "zarzon\tsatansat\trockola.java\t1981\t[SNK] (Taito America license)\tdrivers.rockola\tdriver_zarzon",
+        "vanguard\t\trockola.java\t1981\tSNK\tdrivers.rockola\tdriver_vanguard",
+        "vangrdce\tvanguard\trockola.java\t1981\tSNK (Centuri license)\tdrivers.rockola\tdriver_vangrdce",
+        "fantasy\t\trockola.java\t1981\t[SNK] (Rock-ola license)\tdrivers.rockola\tdriver_fantasy",
+        "fantasyj\tfantasy\trockola.java\t1981\tSNK\tdrivers.rockola\tdriver_fantasyj",
+        "pballoon\t\trockola.java\t1982\tSNK\tdrivers.rockola\tdriver_pballoon",
+        "nibbler\t\trockola.java\t1982\tRock-ola\tdrivers.rockola\tdriver_nibbler",
+        "nibblera\tnibbler\trockola.java\t1982\tRock-ola\tdrivers.rockola\tdriver_nibblera",
+        "qix\t\tqix.java\t1981\tTaito America Corporation\tdrivers.WIP.qix\tdriver_qix",
+        "qixa\tqix\tqix.java\t1981\tTaito America Corporation\tdrivers.WIP.qix\tdriver_qixa",
+        "qixb\tqix\tqix.java\t1981\tTaito America Corporation\tdrivers.WIP.qix\tdriver_qixb",
+        "qix2\tqix\tqix.java\t1981\tTaito America Corporation\tdrivers.WIP.qix\tdriver_qix2",
+        "ddragonb\tddragon\tddragon.java\t1987\tbootleg\tdrivers.WIP.ddragon\tdriver_ddragonb",
+        "ddragon2\t\tddragon.java\t1988\tTechnos\tdrivers.WIP.ddragon\tdriver_ddragon2",
+        "vigilant\t\tvigilant.java\t1988\tIrem\tdrivers.vigilant\tdriver_vigilant",
+        "vigilntu\tvigilant\tvigilant.java\t1988\tIrem (Data East USA license)\tdrivers.vigilant\tdriver_vigilntu",
+        "vigilntj\tvigilant\tvigilant.java\t1988\tIrem\tdrivers.vigilant\tdriver_vigilntj",
+        "kikcubic\t\tvigilant.java\t1988\tIrem\tdrivers.vigilant\tdriver_kikcubic",
+        "jackal\t\tjackal.java\t1986\tKonami\tdrivers.WIP.jackal\tdriver_jackal",
+        "topgunr\tjackal\tjackal.java\t1986\tKonami\tdrivers.WIP.jackal\tdriver_topgunr",
+        "jackalj\tjackal\tjackal.java\t1986\tKonami\tdrivers.WIP.jackal\tdriver_jackalj",
+        "aliens\t\taliens.java\t1990\tKonami\tdrivers.aliens\tdriver_aliens",
+        "aliens2\taliens\taliens.java\t1990\tKonami\tdrivers.aliens\tdriver_aliens2",
+        "aliensu\taliens\taliens.java\t1990\tKonami\tdrivers.aliens\tdriver_aliensu",
+        "aliensj\taliens\taliens.java\t1990\tKonami\tdrivers.aliens\tdriver_aliensj",
+        "simpsons\t\tsimpsons.java\t1991\tKonami\tdrivers.simpsons\tdriver_simpsons",
+        "simpsn2p\tsimpsons\tsimpsons.java\t1991\tKonami\tdrivers.simpsons\tdriver_simpsn2p",
+        "simps2pj\tsimpsons\tsimpsons.java\t1991\tKonami\tdrivers.simpsons\tdriver_simps2pj",
+        "surpratk\t\tsurpratk.java\t1990\tKonami\tdrivers.surpratk\tdriver_surpratk",
+        "vendetta\t\tvendetta.java\t1991\tKonami\tdrivers.vendetta\tdriver_vendetta",
+        "vendett2\tvendetta\tvendetta.java\t1991\tKonami\tdrivers.vendetta\tdriver_vendett2",
+        "vendettj\tvendetta\tvendetta.java\t1991\tKonami\tdrivers.vendetta\tdriver_vendettj",
+        "crimfght\t\tcrimfght.java\t1989\tKonami\tdrivers.crimfght\tdriver_crimfght",
+        "crimfgt2\tcrimfght\tcrimfght.java\t1989\tKonami\tdrivers.crimfght\tdriver_crimfgt2",
+        "crimfgtj\tcrimfght\tcrimfght.java\t1989\tKonami\tdrivers.crimfght\tdriver_crimfgtj",
+        "gladiatr\t\tgladiatr.java\t1986\tTaito America Corporation\tdrivers.WIP.gladiatr\tdriver_gladiatr",
+        "ogonsiro\tgladiatr\tgladiatr.java\t1986\tTaito Corporation\tdrivers.WIP.gladiatr\tdriver_ogonsiro",
+        "jailbrek\t\tjailbrek.java\t1986\tKonami\tdrivers.WIP.jailbrek\tdriver_jailbrek",
+        "atetris\t\tatetris.java\t1988\tAtari Games\tdrivers.WIP.atetris\tdriver_atetris",
+        "atetrisa\tatetris\tatetris.java\t1988\tAtari Games\tdrivers.WIP.atetris\tdriver_atetrisa",
+        "atetrisb\tatetris\tatetris.java\t1988\tbootleg\tdrivers.WIP.atetris\tdriver_atetrisb",
+        "atetcktl\tatetris\tatetris.java\t1989\tAtari Games\tdrivers.WIP.atetris\tdriver_atetcktl",
+        "atetckt2\tatetris\tatetris.java\t1989\tAtari Games\tdrivers.WIP.atetris\tdriver_atetckt2",
+        "bchopper\t\tm72.java\t1987\tIrem\tdrivers.WIP.m72\tdriver_bchopper",
+        "mrheli\tbchopper\tm72.java\t1987\tIrem\tdrivers.WIP.m72\tdriver_mrheli",
+        "nspirit\t\tm72.java\t1988\tIrem\tdrivers.WIP.m72\tdriver_nspirit",
+        "nspiritj\tnspirit\tm72.java\t1988\tIrem\tdrivers.WIP.m72\tdriver_nspiritj",
+        "imgfight\t\tm72.java\t1988\tIrem\tdrivers.WIP.m72\tdriver_imgfight",
+        "rtype2\t\tm72.java\t1989\tIrem\tdrivers.WIP.m72\tdriver_rtype2",
+        "rtype2j\trtype2\tm72.java\t1989\tIrem\tdrivers.WIP.m72\tdriver_rtype2j",
+        "gallop\t\tm72.java\t1991\tIrem\tdrivers.WIP.m72\tdriver_gallop",
+        "lizwiz\t\tpacman.java\t1985\tTechstar (Sunn license)\tdrivers.pacman\tdriver_lizwiz",
+        "skykid\t\tskykid.java\t1985\tNamco\tdrivers.WIP.skykid\tdriver_skykid",
+        "rtype\t\tm72.java\t1987\tIrem\tdrivers.WIP.m72\tdriver_rtype",
+        "rtypeu\trtype\tm72.java\t1987\tIrem (Nintendo of America license)\tdrivers.WIP.m72\tdriver_rtypeu",
+        "rtypeb\trtype\tm72.java\t1987\tbootleg\tdrivers.WIP.m72\tdriver_rtypeb",
+        "loht\t\tm72.java\t1989\tIrem\tdrivers.WIP.m72\tdriver_loht",
+        "xmultipl\t\tm72.java\t1989\tIrem\tdrivers.WIP.m72\tdriver_xmultipl",
+        "dbreed\t\tm72.java\t1989\tIrem\tdrivers.WIP.m72\tdriver_dbreed",
+        "1943kai\t\t_1943.java\t1987\tCapcom\tdrivers._1943\tdriver_1943kai",
+        "dyger\t\tsidearms.java\t1989\tPhilko\tdrivers.sidearms\tdriver_dyger",
+        "battroad\t\tm62.java\t1984\tIrem\tdrivers.m62\tdriver_battroad",
+        "bladestl\t\tbladestl.java\t1987\tKonami\tdrivers.WIP.bladestl\tdriver_bladestl",
+        "bladstle\tbladestl\tbladestl.java\t1987\tKonami\tdrivers.WIP.bladestl\tdriver_bladstle",
+        "lkage\t\tlkage.java\t1984\tTaito Corporation\tdrivers.WIP.lkage\tdriver_lkage",
+        "lkageb\tlkage\tlkage.java\t1984\tbootleg\tdrivers.WIP.lkage\tdriver_lkageb",
+        "waterski\t\ttaitosj.java\t1983\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_waterski",
+        "block\t\tmitchell.java\t1991\tCapcom\tdrivers.mitchell\tdriver_block",
+        "blockj\tblock\tmitchell.java\t1991\tCapcom\tdrivers.mitchell\tdriver_blockj",
+        "blockbl\tblock\tmitchell.java\t1991\tbootleg\tdrivers.mitchell\tdriver_blockbl",
+        "rygar\t\ttecmo.java\t1986\tTecmo\tdrivers.tecmo\tdriver_rygar",
+        "rygar2\trygar\ttecmo.java\t1986\tTecmo\tdrivers.tecmo\tdriver_rygar2",
+        "rygarj\trygar\ttecmo.java\t1986\tTecmo\tdrivers.tecmo\tdriver_rygarj",
+        "pacland\t\tpacland.java\t1984\tNamco\tdrivers.WIP.pacland\tdriver_pacland",
+        "pacland2\tpacland\tpacland.java\t1984\tNamco\tdrivers.WIP.pacland\tdriver_pacland2",
+        "pacland3\tpacland\tpacland.java\t1984\tNamco\tdrivers.WIP.pacland\tdriver_pacland3",
+        "paclandm\tpacland\tpacland.java\t1984\t[Namco] (Bally Midway license)\tdrivers.WIP.pacland\tdriver_paclandm",
+        "drgnbstr\t\tskykid.java\t1984\tNamco\tdrivers.WIP.skykid\tdriver_drgnbstr",
+        "sidepckt\t\tsidepckt.java\t1986\tData East Corporation\tdrivers.WIP.sidepckt\tdriver_sidepckt",
+        "sidepctj\tsidepckt\tsidepckt.java\t1986\tData East Corporation\tdrivers.WIP.sidepckt\tdriver_sidepctj",
+        "sidepctb\tsidepckt\tsidepckt.java\t1986\tbootleg\tdrivers.WIP.sidepckt\tdriver_sidepctb",
+        "ghostb\t\tdec8.java\t1987\tData East USA\tdrivers.WIP.dec8\tdriver_ghostb",
+        "ghostb3\tghostb\tdec8.java\t1987\tData East USA\tdrivers.WIP.dec8\tdriver_ghostb3",
+        "meikyuh\tghostb\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_meikyuh",
+        "srdarwin\t\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_srdarwin",
+        "gondo\t\tdec8.java\t1987\tData East USA\tdrivers.WIP.dec8\tdriver_gondo",
+        "makyosen\tgondo\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_makyosen",
+        "garyoret\t\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_garyoret",
+        "cobracom\t\tdec8.java\t1988\tData East Corporation\tdrivers.WIP.dec8\tdriver_cobracom",
+        "cobracmj\tcobracom\tdec8.java\t1988\tData East Corporation\tdrivers.WIP.dec8\tdriver_cobracmj",
+        "ddribble\t\tddrible.java\t1986\tKonami\tdrivers.WIP.ddrible\tdriver_ddribble",
+        "saturn\t\tblueprnt.java\t1983\t[Zilec] Jaleco\tdrivers.blueprnt\tdriver_saturn",
+        "raidena\traiden\traiden.java\t1990\tSeibu Kaihatsu\tdrivers.WIP.raiden\tdriver_raidena",
+        "lastmiss\t\tdec8.java\t1986\tData East USA\tdrivers.WIP.dec8\tdriver_lastmiss",
+        "lastmss2\tlastmiss\tdec8.java\t1986\tData East USA\tdrivers.WIP.dec8\tdriver_lastmss2",
+        "lnc\t\tbtime.java\t1981\tData East Corporation\tdrivers.WIP.btime\tdriver_lnc",
+        "zoar\t\tbtime.java\t1982\tData East USA\tdrivers.WIP.btime\tdriver_zoar",
+        "btime\t\tbtime.java\t1982\tData East Corporation\tdrivers.WIP.btime\tdriver_btime",
+        "btime2\tbtime\tbtime.java\t1982\tData East Corporation\tdrivers.WIP.btime\tdriver_btime2",
+        "btimem\tbtime\tbtime.java\t1982\tData East (Bally Midway license)\tdrivers.WIP.btime\tdriver_btimem",
+        "wtennis\t\tbtime.java\t1982\tbootleg\tdrivers.WIP.btime\tdriver_wtennis",
+        "brubber\t\tbtime.java\t1982\tData East\tdrivers.WIP.btime\tdriver_brubber",
+        "bnj\tbrubber\tbtime.java\t1982\tData East USA (Bally Midway license)\tdrivers.WIP.btime\tdriver_bnj",
+        "caractn\tbrubber\tbtime.java\t1983\tbootleg\tdrivers.WIP.btime\tdriver_caractn",
+        "disco\t\tbtime.java\t1982\tData East\tdrivers.WIP.btime\tdriver_disco",
+        "mmonkey\t\tbtime.java\t1982\tTechnos + Roller Tron\tdrivers.WIP.btime\tdriver_mmonkey",
+        "cookrace\tbtime\tbtime.java\t1982\tbootleg\tdrivers.WIP.btime\tdriver_cookrace",
+        "mystston\t\tmystston.java\t1984\tTechnos\tdrivers.WIP.mystston\tdriver_mystston",
+        "docastle\t\tdocastle.java\t1983\tUniversal\tdrivers.WIP.docastle\tdriver_docastle",
+        "docastl2\tdocastle\tdocastle.java\t1983\tUniversal\tdrivers.WIP.docastle\tdriver_docastl2",
+        "douni\tdocastle\tdocastle.java\t1983\tUniversal\tdrivers.WIP.docastle\tdriver_douni",
+        "dorunrun\t\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_dorunrun",
+        "dorunru2\tdorunrun\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_dorunru2",
+        "dorunruc\tdorunrun\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_dorunruc",
+        "spiero\tdorunrun\tdocastle.java\t1987\tUniversal\tdrivers.WIP.docastle\tdriver_spiero",
+        "dowild\t\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_dowild",
+        "jjack\t\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_jjack",
+        "kickridr\t\tdocastle.java\t1984\tUniversal\tdrivers.WIP.docastle\tdriver_kickridr",
+        "brain\t\tsystem1.java\t1986\tCoreland / Sega\tdrivers.system1\tdriver_brain",
+        "tokisens\t\tsystem1.java\t1987\tSega\tdrivers.system1\tdriver_tokisens",
+        "mars\t\tscramble.java\t1981\tArtic\tdrivers.scramble\tdriver_mars",
+        "devilfsh\t\tscramble.java\t1982\tArtic\tdrivers.scramble\tdriver_devilfsh",
+        "newsin7\t\tscramble.java\t1983\tATW USA, Inc.\tdrivers.scramble\tdriver_newsin7",
+        "airbustr\t\tairbustr.java\t1990\tKaneko (Namco license)\tdrivers.WIP.airbustr\tdriver_airbustr",
+        "oscar\t\tdec8.java\t1988\tData East USA\tdrivers.WIP.dec8\tdriver_oscar",
+        "oscarj\toscar\tdec8.java\t1987\tData East Corporation\tdrivers.WIP.dec8\tdriver_oscarj",
+        "ikari\t\tsnk.java\t1986\tSNK\tdrivers.WIP.snk\tdriver_ikari",
+        "ikarijp\tikari\tsnk.java\t1986\tSNK\tdrivers.WIP.snk\tdriver_ikarijp",
+        "ikarijpb\tikari\tsnk.java\t1986\tbootleg\tdrivers.WIP.snk\tdriver_ikarijpb",
+        "victroad\t\tsnk.java\t1986\tSNK\tdrivers.WIP.snk\tdriver_victroad",
+        "dogosoke\tvictroad\tsnk.java\t1986\tSNK\tdrivers.WIP.snk\tdriver_dogosoke",
+        "bermudat\t\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_bermudat",
+        "bermudaj\tbermudat\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_bermudaj",
+        "bermudaa\tbermudat\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_bermudaa",
+        "worldwar\tbermudat\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_worldwar",
+        "gridiron\t\ttehkanwc.java\t1985\tTehkan\tdrivers.WIP.tehkanwc\tdriver_gridiron",
+        "baraduke\t\tbaraduke.java\t1985\tNamco\tdrivers.WIP.baraduke\tdriver_baraduke",
+        "metrocrs\t\tbaraduke.java\t1985\tNamco\tdrivers.WIP.baraduke\tdriver_metrocrs",
+        "mnight\t\tmnight.java\t1987\tUPL (Kawakus license)\tdrivers.WIP.mnight\tdriver_mnight",
+        "arkarea\t\tmnight.java\t1988\tUPL\tdrivers.WIP.mnight\tdriver_arkarea",
+        "ringkin3\tkingofb\tkingobox.java\t1985\tData East USA\tdrivers.kingobox\tdriver_ringkin3",
+        "topgunbl\tjackal\tjackal.java\t1987\tbootleg\tdrivers.WIP.jackal\tdriver_topgunbl",
+        "dokaben\t\tmitchell.java\t1989\tCapcom\tdrivers.mitchell\tdriver_dokaben",
+        "marukin\t\tmitchell.java\t1990\tYuga\tdrivers.mitchell\tdriver_marukin",
+        "qtono1\t\tmitchell.java\t1991\tCapcom\tdrivers.mitchell\tdriver_qtono1",
+        "qsangoku\t\tmitchell.java\t1991\tCapcom\tdrivers.mitchell\tdriver_qsangoku",
+        "majtitle\t\tm72.java\t1990\tIrem\tdrivers.WIP.m72\tdriver_majtitle",
+        "hharry\t\tm72.java\t1990\tIrem\tdrivers.WIP.m72\tdriver_hharry",
+        "hharryu\thharry\tm72.java\t1990\tIrem America\tdrivers.WIP.m72\tdriver_hharryu",
+        "dkgensan\thharry\tm72.java\t1990\tIrem\tdrivers.WIP.m72\tdriver_dkgensan",
+        "superqix\t\tsuperqix.java\t1987\tTaito\tdrivers.superqix\tdriver_superqix",
+        "jumpshot\t\tpacman.java\t????\t<unknown>\tdrivers.pacman\tdriver_jumpshot",
+        "fnkyfish\t\tkangaroo.java\t1981\tSun Electronics\tdrivers.kangaroo\tdriver_fnkyfish",
+        "shtngmst\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_shtngmst",
+        "chplft\t\tsystem1.java\t1985\tSega\tdrivers.system1\tdriver_chplft",
+        "wboy3\twboy\tsystem1.java\t????\t<unknown>\tdrivers.system1\tdriver_wboy3",
+        "gardia\t\tsystem1.java\t1986\tSega / Coreland\tdrivers.system1\tdriver_gardia",
+        "gardiab\tgardia\tsystem1.java\t1986\tbootleg\tdrivers.system1\tdriver_gardiab",
+        "blockgal\t\tsystem1.java\t1987\tSega / Vic Tokai\tdrivers.system1\tdriver_blockgal",
+        "blckgalb\tblockgal\tsystem1.java\t1987\tbootleg\tdrivers.system1\tdriver_blckgalb",
+        "wbmlj\twbml\tsystem1.java\t1987\tSega / Westone\tdrivers.system1\tdriver_wbmlj",
+        "wbmlj2\twbml\tsystem1.java\t1987\tSega / Westone\tdrivers.system1\tdriver_wbmlj2",
+        "dakkochn\t\tsystem1.java\t1987\tSega\tdrivers.system1\tdriver_dakkochn",
+        "ufosensi\t\tsystem1.java\t1988\tSega\tdrivers.system1\tdriver_ufosensi",
+        "darkplnt\t\tscobra.java\t1982\tStern\tdrivers.scobra\tdriver_darkplnt",
+        "spy\t\tspy.java\t1989\tKonami\tdrivers.spy\tdriver_spy",
+        "farwest\tironhors\tironhors.java\t1986\tbootleg?\tdrivers.ironhors\tdriver_farwest",
+        "avengers\t\tlwings.java\t1987\tCapcom\tdrivers.lwings\tdriver_avengers",
+        "avenger2\tavengers\tlwings.java\t1987\tCapcom\tdrivers.lwings\tdriver_avenger2",
+        "tokio\t\tbublbobl.java\t1986\tTaito\tdrivers.WIP.bublbobl\tdriver_tokio",
+        "gwara\tgwar\tsnk.java\t1987\tSNK\tdrivers.WIP.snk\tdriver_gwara",
+        "teedoff\t\ttehkanwc.java\t1986\tTecmo\tdrivers.WIP.tehkanwc\tdriver_teedoff",
+        "formatz\t\taeroboto.java\t1984\tJaleco\tdrivers.WIP.aeroboto\tdriver_formatz",
+        "aeroboto\tformatz\taeroboto.java\t1984\t[Jaleco] (Williams license)\tdrivers.WIP.aeroboto\tdriver_aeroboto",
+        "flyboy\t\tfastred.java\t1982\tKaneko\tdrivers.fastfred\tdriver_flyboy",
+        "ringkin2\tkingofb\tkingobox.java\t1985\t<unknown>\tdrivers.kingobox\tdriver_ringkin2",
+        "kikstart\t\ttaitosj.java\t1984\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_kikstart",
+        "ddragon\t\tddragon.java\t1987\tbootleg?\tdrivers.WIP.ddragon\tdriver_ddragon",
+        "toki\t\ttoki.java\t1989\tTad\tdrivers.toki\tdriver_toki",
+        "toki2\ttoki\ttoki.java\t1989\tTad\tdrivers.toki\tdriver_toki2",
+        "toki3\ttoki\ttoki.java\t1989\tTad\tdrivers.toki\tdriver_toki3",
+        "tokiu\ttoki\ttoki.java\t1989\tTad (Fabtek license)\tdrivers.toki\tdriver_tokiu",
+        "xsleena\t\txain.java\t1986\tTechnos\tdrivers.WIP.xain\tdriver_xsleena",
+        "xsleenab\txsleena\txain.java\t1986\tbootleg\tdrivers.WIP.xain\tdriver_xsleenab",
+        "solarwar\txsleena\txain.java\t1986\t[Technos] Taito (Memetron license)\tdrivers.WIP.xain\tdriver_solarwar",
+        "frontlin\t\ttaitosj.java\t1982\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_frontlin",
+        "elevator\t\ttaitosj.java\t1983\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_elevator",
+        "tinstar\t\ttaitosj.java\t1983\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_tinstar",
+        "sfposeid\t\ttaitosj.java\t1984\tTaito Corporation\tdrivers.WIP.taitosj\tdriver_sfposeid",
+        "hyprolyb\ttrackfld\ttrackfld.java\t1983\tbootleg\tdrivers.WIP.trackfld\tdriver_hyprolyb",
+        "gberet\t\tgberet.java\t1985\tKonami\tdrivers.WIP.gberet\tdriver_gberet",
+        "rushatck\tgberet\tgberet.java\t1985\tKonami\tdrivers.WIP.gberet\tdriver_rushatck",
+        "gberetb\tgberet\tgberet.java\t1985\tbootleg\tdrivers.WIP.gberet\tdriver_gberetb",
+        "mrgoemon\t\tgberet.java\t1986\tKonami\tdrivers.WIP.gberet\tdriver_mrgoemon",
+        "mainevt\t\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_mainevt",
+        "mainevt2\tmainevt\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_mainevt2",
+        "ringohja\tmainevt\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_ringohja",
+        "devstors\t\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_devstors",
+        "devstor2\tdevstors\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_devstor2",
+        "devstor3\tdevstors\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_devstor3",
+        "garuka\tdevstors\tmainevt.java\t1988\tKonami\tdrivers.WIP.mainevt\tdriver_garuka",
+        "exprraid\t\texprraid.java\t1986\tData East USA\tdrivers.WIP.exprraid\tdriver_exprraid",
+        "wexpress\texprraid\texprraid.java\t1986\tData East Corporation\tdrivers.WIP.exprraid\tdriver_wexpress",
+        "wexpresb\texprraid\texprraid.java\t1986\tbootleg\tdrivers.WIP.exprraid\tdriver_wexpresb",
+        "roadf2\troadf\thyperspt.java\t1984\tKonami\tdrivers.WIP.hyperspt\tdriver_roadf2",
+        "arkanoid\t\tarkanoid.java\t1986\tTaito Corporation Japan\tdrivers.WIP.arkanoid\tdriver_arkanoid",
+        "arknoidu\tarkanoid\tarkanoid.java\t1986\tTaito America Corporation (Romstar license)\tdrivers.WIP.arkanoid\tdriver_arknoidu",
+        "arknoidj\tarkanoid\tarkanoid.java\t1986\tTaito Corporation\tdrivers.WIP.arkanoid\tdriver_arknoidj",
+        "bublbobl\t\tbublbobl.java\t1986\tTaito Corporation\tdrivers.WIP.bublbobl\tdriver_bublbobl",
+        "bublbobr\tbublbobl\tbublbobl.java\t1986\tTaito America Corporation (Romstar license)\tdrivers.WIP.bublbobl\tdriver_bublbobr",
+        "bubbobr1\tbublbobl\tbublbobl.java\t1986\tTaito America Corporation (Romstar license)\tdrivers.WIP.bublbobl\tdriver_bubbobr1",
+        "psychic5\t\tpsychic5.java\t1987\tJaleco\tdrivers.WIP.psychic5\tdriver_psychic5",
+        "bottom9\t\tbottom9.java\t1989\tKonami\tdrivers.WIP.bottom9\tdriver_bottom9",
+        "bottom9n\tbottom9\tbottom9.java\t1989\tKonami\tdrivers.WIP.bottom9\tdriver_bottom9n",
+        "88games\t\t_88games.java\t1988\tKonami\tdrivers.WIP._88games\tdriver_88games",
+        "konami88\t88games\t_88games.java\t1988\tKonami\tdrivers.WIP._88games\tdriver_konami88",
+        "hypsptsp\t88games\t_88games.java\t1988\tKonami\tdrivers.WIP._88games\tdriver_hypsptsp",
+        "blockhl\t\tblockhl.java\t1989\tKonami\tdrivers.WIP.blockhl\tdriver_blockhl",
+        "quarth\tblockhl\tblockhl.java\t1989\tKonami\tdrivers.WIP.blockhl\tdriver_quarth",
+        "scontra\t\tthunderx.java\t1988\tKonami\tdrivers.WIP.thunderx\tdriver_scontra",
+        "scontraj\tscontra\tthunderx.java\t1988\tKonami\tdrivers.WIP.thunderx\tdriver_scontraj",
+        "gbusters\t\tgbusters.java\t1988\tKonami\tdrivers.WIP.gbusters\tdriver_gbusters",
+        "crazycop\tgbusters\tgbusters.java\t1988\tKonami\tdrivers.WIP.gbusters\tdriver_crazycop",
+        "extrmatn\t\ttnzs.java\t1987\t[Taito] World Games\tdrivers.WIP.tnzs\tdriver_extrmatn",
+        "arkanoi2\t\ttnzs.java\t1987\tTaito Corporation Japan\tdrivers.WIP.tnzs\tdriver_arkanoi2",
+        "ark2us\tarkanoi2\ttnzs.java\t1987\tTaito America Corporation (Romstar license)\tdrivers.WIP.tnzs\tdriver_ark2us",
+        "ark2jp\tarkanoi2\ttnzs.java\t1987\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_ark2jp",
+        "plumppop\t\ttnzs.java\t1987\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_plumppop",
+        "drtoppel\t\ttnzs.java\t1987\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_drtoppel",
+        "chukatai\t\ttnzs.java\t1988\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_chukatai",
+        "tnzs\t\ttnzs.java\t1988\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_tnzs",
+        "tnzsb\ttnzs\ttnzs.java\t1988\tbootleg\tdrivers.WIP.tnzs\tdriver_tnzsb",
+        "tnzs2\ttnzs\ttnzs.java\t1988\tTaito Corporation Japan\tdrivers.WIP.tnzs\tdriver_tnzs2",
+        "insectx\t\ttnzs.java\t1989\tTaito Corporation Japan\tdrivers.WIP.tnzs\tdriver_insectx",
+        "kageki\t\ttnzs.java\t1988\tTaito America Corporation (Romstar license)\tdrivers.WIP.tnzs\tdriver_kageki",
+        "kagekij\tkageki\ttnzs.java\t1988\tTaito Corporation\tdrivers.WIP.tnzs\tdriver_kagekij",
+        "matmania\t\tmatmania.java\t1985\tTechnos (Taito America license)\tdrivers.WIP.matmania\tdriver_matmania",
+        "excthour\tmatmania\tmatmania.java\t1985\tTechnos (Taito license)\tdrivers.WIP.matmania\tdriver_excthour",
+        "maniach\t\tmatmania.java\t1986\tTechnos (Taito America license)\tdrivers.WIP.matmania\tdriver_maniach",
+        "maniach2\tmaniach\tmatmania.java\t1986\tTechnos (Taito America license)\tdrivers.WIP.matmania\tdriver_maniach2",
+        "renegade\t\trenegade.java\t1986\tTechnos (Taito America license)\tdrivers.WIP.renegade\tdriver_renegade",
+        "kuniokun\trenegade\trenegade.java\t1986\tTechnos\tdrivers.WIP.renegade\tdriver_kuniokun",
+        "kuniokub\trenegade\trenegade.java\t1986\tbootleg\tdrivers.WIP.renegade\tdriver_kuniokub",
+        "mx5000\t\tflkatck.java\t1987\tKonami\tdrivers.WIP.flkatck\tdriver_mx5000",
+        "flkatck\tmx5000\tflkatck.java\t1987\tKonami\tdrivers.WIP.flkatck\tdriver_flkatck",
+        "tigerh\t\tslapfght.java\t1985\tTaito\tdrivers.WIP.slapfght\tdriver_tigerh",
+        "tigerh2\ttigerh\tslapfght.java\t1985\tTaito\tdrivers.WIP.slapfght\tdriver_tigerh2",
+        "tigerhj\ttigerh\tslapfght.java\t1985\tTaito\tdrivers.WIP.slapfght\tdriver_tigerhj",
+        "slapfigh\t\tslapfght.java\t1986\tTaito\tdrivers.WIP.slapfght\tdriver_slapfigh",
+        "alcon\tslapfigh\tslapfght.java\t1986\t<unknown>\tdrivers.WIP.slapfght\tdriver_alcon",
+        "getstar\t\tslapfght.java\t1986\tTaito\tdrivers.WIP.slapfght\tdriver_getstar",
+        "getstarj\tgetstar\tslapfght.java\t1986\tTaito\tdrivers.WIP.slapfght\tdriver_getstarj",
+        "tigerhb1\ttigerh\tslapfght.java\t1985\tbootleg\tdrivers.WIP.slapfght\tdriver_tigerhb1",
+        "tigerhb2\ttigerh\tslapfght.java\t1985\tbootleg\tdrivers.WIP.slapfght\tdriver_tigerhb2",
+        "slapbtjp\tslapfigh\tslapfght.java\t1986\tbootleg\tdrivers.WIP.slapfght\tdriver_slapbtjp",
+        "slapbtuk\tslapfigh\tslapfght.java\t1986\tbootleg\tdrivers.WIP.slapfght\tdriver_slapbtuk",
+        "getstarb\tgetstar\tslapfght.java\t1986\tbootleg\tdrivers.WIP.slapfght\tdriver_getstarb",
+        "marvins\t\tmarvins.java\t1983\tSNK\tdrivers.WIP.marvins\tdriver_marvins",
+        "madcrash\t\tmarvins.java\t1984\tSNK\tdrivers.WIP.marvins\tdriver_madcrash",
+        "vangrd2\t\tmarvins.java\t1984\tSNK\tdrivers.WIP.marvins\tdriver_vangrd2",
+        "contra\t\tcontra.java\t1987\tKonami\tdrivers.WIP.contra\tdriver_contra",
+        "contrab\tcontra\tcontra.java\t1987\tbootleg\tdrivers.WIP.contra\tdriver_contrab",
+        "contraj\tcontra\tcontra.java\t1987\tKonami\tdrivers.WIP.contra\tdriver_contraj",
+        "contrajb\tcontra\tcontra.java\t1987\tbootleg\tdrivers.WIP.contra\tdriver_contrajb",
+        "gryzor\tcontra\tcontra.java\t1987\tKonami\tdrivers.WIP.contra\tdriver_gryzor",
+        "combasc\t\tcombatsc.java\t1988\tKonami\tdrivers.WIP.combatsc\tdriver_combasc",
+        "combasct\tcombasc\tcombatsc.java\t1987\tKonami\tdrivers.WIP.combatsc\tdriver_combasct",
+        "combascj\tcombasc\tcombatsc.java\t1987\tKonami\tdrivers.WIP.combatsc\tdriver_combascj",
+        "bootcamp\tcombasc\tcombatsc.java\t1987\tKonami\tdrivers.WIP.combatsc\tdriver_bootcamp",
+        "combascb\tcombasc\tcombatsc.java\t1988\tbootleg\tdrivers.WIP.combatsc\tdriver_combascb",
+        "cheekyms\t\tcheekyms.java\t1980\tUniversal\tdrivers.WIP.cheekyms\tdriver_cheekyms",
+        "astinvad\t\tz80bw.java\t1980\tStern\tdrivers.WIP.z80bw\tdriver_astinvad",
+        "kamikaze\tastinvad\tz80bw.java\t1979\tLeijac Corporation\tdrivers.WIP.z80bw\tdriver_kamikaze",
+        "spaceint\t\tz80bw.java\t1980\tShoei\tdrivers.WIP.z80bw\tdriver_spaceint",
+        "wardner\t\twardner.java\t1987\t[Toaplan] Taito Corporation Japan\tdrivers.WIP.wardner\tdriver_wardner",
+        "pyros\twardner\twardner.java\t1987\t[Toaplan] Taito America Corporation\tdrivers.WIP.wardner\tdriver_pyros",
+        "wardnerj\twardner\twardner.java\t1987\t[Toaplan] Taito Corporation\tdrivers.WIP.wardner\tdriver_wardnerj",
+        "shootout\t\tshootout.java\t1985\tData East USA\tdrivers.WIP.shootout\tdriver_shootout",
+        "shootouj\tshootout\tshootout.java\t1985\tData East USA\tdrivers.WIP.shootout\tdriver_shootouj",
+        "shootoub\tshootout\tshootout.java\t1985\tbootleg\tdrivers.WIP.shootout\tdriver_shootoub",
+        "foodf\t\tfoodf.java\t1982\tAtari\tdrivers.WIP.foodf\tdriver_foodf",
+        "bjtwin\t\tbjtwin.java\t1993\tNMK\tdrivers.WIP.bjtwin\tdriver_bjtwin",
+        "sf1\t\tsf1.java\t1987\tCapcom\tdrivers.WIP.sf1\tdriver_sf1",
+        "sf1us\tsf1\tsf1.java\t1987\tCapcom\tdrivers.WIP.sf1\tdriver_sf1us",
+        "sf1jp\tsf1\tsf1.java\t1987\tCapcom\tdrivers.WIP.sf1\tdriver_sf1jp",
+        "rastan\t\trastan.java\t1987\tTaito Corporation Japan\tdrivers.WIP.rastan\tdriver_rastan",
+        "rastanu\trastan\trastan.java\t1987\tTaito America Corporation\tdrivers.WIP.rastan\tdriver_rastanu",
+        "rastanu2\trastan\trastan.java\t1987\tTaito America Corporation\tdrivers.WIP.rastan\tdriver_rastanu2",
+        "rastsaga\trastan\trastan.java\t1987\tTaito Corporation\tdrivers.WIP.rastan\tdriver_rastsaga",
+        "rainbow\t\trainbow.java\t1987\tTaito Corporation\tdrivers.WIP.rainbow\tdriver_rainbow",
+        "rainbowe\trainbow\trainbow.java\t1988\tTaito Corporation\tdrivers.WIP.rainbow\tdriver_rainbowe",
+        "jumping\trainbow\trainbow.java\t1989\tbootleg\tdrivers.WIP.rainbow\tdriver_jumping",
+        "cabal\t\tcabal.java\t1988\tTad (Fabtek license)\tdrivers.WIP.cabal\tdriver_cabal",
+        "cabal2\tcabal\tcabal.java\t1988\tTad (Fabtek license)\tdrivers.WIP.cabal\tdriver_cabal2",
+        "cabalbl\tcabal\tcabal.java\t1988\tbootleg\tdrivers.WIP.cabal\tdriver_cabalbl",
+        "xmen\t\txmen.java\t1992\tKonami\tdrivers.WIP.xmen\tdriver_xmen",
+        "xmen6p\txmen\txmen.java\t1992\tKonami\tdrivers.WIP.xmen\tdriver_xmen6p",
+        "xmen2pj\txmen\txmen.java\t1992\tKonami\tdrivers.WIP.xmen\tdriver_xmen2pj",
+        "galaxian\t\tgalaxian.java\t1979\tNamco\tdrivers.galaxian\tdriver_galaxian",
+        "galmidw\tgalaxian\tgalaxian.java\t1979\t[Namco] (Midway license)\tdrivers.galaxian\tdriver_galmidw",
+        "superg\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_superg",
+        "galaxb\tgalaxian\tgalaxian.java\t1979\tbootleg\tdrivers.galaxian\tdriver_galaxb",
+        "galapx\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_galapx",
+        "galap1\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_galap1",
+        "galap4\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_galap4",
+        "galturbo\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_galturbo",
+        "swarm\tgalaxian\tgalaxian.java\t1979\thack\tdrivers.galaxian\tdriver_swarm",
+        "pisces\t\tgalaxian.java\t????\t<unknown>\tdrivers.galaxian\tdriver_pisces",
+        "uniwars\t\tgalaxian.java\t1980\tIrem\tdrivers.galaxian\tdriver_uniwars",
+        "gteikoku\tuniwars\tgalaxian.java\t1980\tIrem\tdrivers.galaxian\tdriver_gteikoku",
+        "spacbatt\tuniwars\tgalaxian.java\t1980\tbootleg\tdrivers.galaxian\tdriver_spacbatt",
+        "warofbug\t\tgalaxian.java\t1981\tArmenia\tdrivers.galaxian\tdriver_warofbug",
+        "redufo\t\tgalaxian.java\t????\tHara Industries??\tdrivers.galaxian\tdriver_redufo",
+        "pacmanbl\tpacman\tgalaxian.java\t1981\tbootleg\tdrivers.galaxian\tdriver_pacmanbl",
+        "devilfsg\tdevilfsh\tgalaxian.java\t1984\tVision / Artic\tdrivers.galaxian\tdriver_devilfsg",
+        "zigzag\t\tgalaxian.java\t1982\tLAX\tdrivers.galaxian\tdriver_zigzag",
+        "zigzag2\tzigzag\tgalaxian.java\t1982\tLAX\tdrivers.galaxian\tdriver_zigzag2",
+        "jumpbug\t\tgalaxian.java\t1981\tRock-ola\tdrivers.galaxian\tdriver_jumpbug",
+        "jumpbugb\tjumpbug\tgalaxian.java\t1981\tbootleg\tdrivers.galaxian\tdriver_jumpbugb",
+        "levers\t\tgalaxian.java\t1983\tRock-ola\tdrivers.galaxian\tdriver_levers",
+        "azurian\t\tgalaxian.java\t1982\tRait Electronics Ltd\tdrivers.galaxian\tdriver_azurian",
+        "orbitron\t\tgalaxian.java\t????\tSignatron USA\tdrivers.galaxian\tdriver_orbitron",
+        "mooncrgx\tmooncrst\tgalaxian.java\t1980\tbootleg\tdrivers.galaxian\tdriver_mooncrgx",
+        "mooncrst\t\tgalaxian.java\t1980\tNichibutsu\tdrivers.galaxian\tdriver_mooncrst",
+        "mooncrsg\tmooncrst\tgalaxian.java\t1980\tGremlin\tdrivers.galaxian\tdriver_mooncrsg",
+        "smooncrs\tmooncrst\tgalaxian.java\t1980\tGremlin\tdrivers.galaxian\tdriver_smooncrs",
+        "mooncrsb\tmooncrst\tgalaxian.java\t1980\tbootleg\tdrivers.galaxian\tdriver_mooncrsb",
+        "mooncrs2\tmooncrst\tgalaxian.java\t1980\tNichibutsu\tdrivers.galaxian\tdriver_mooncrs2",
+        "fantazia\tmooncrst\tgalaxian.java\t1980\tbootleg\tdrivers.galaxian\tdriver_fantazia",
+        "eagle\tmooncrst\tgalaxian.java\t1980\tCenturi\tdrivers.galaxian\tdriver_eagle",
+        "eagle2\tmooncrst\tgalaxian.java\t1980\tCenturi\tdrivers.galaxian\tdriver_eagle2",
+        "moonqsr\t\tgalaxian.java\t1980\tNichibutsu\tdrivers.galaxian\tdriver_moonqsr",
+        "checkman\t\tgalaxian.java\t1982\tZilec-Zenitone\tdrivers.galaxian\tdriver_checkman",
+        "checkmaj\tcheckman\tgalaxian.java\t1982\tJaleco\tdrivers.galaxian\tdriver_checkmaj",
+        "streakng\t\tgalaxian.java\t1980\tShoei\tdrivers.galaxian\tdriver_streakng",
+        "blkhole\t\tgalaxian.java\t????\tTDS\tdrivers.galaxian\tdriver_blkhole",
+        "moonal2\t\tgalaxian.java\t1980\tNichibutsu\tdrivers.galaxian\tdriver_moonal2",
+        "moonal2b\tmoonal2\tgalaxian.java\t1980\tNichibutsu\tdrivers.galaxian\tdriver_moonal2b",
+        "kingball\t\tgalaxian.java\t1980\tNamco\tdrivers.galaxian\tdriver_kingball",
+        "terracre\t\tterracre.java\t1985\tNichibutsu\tdrivers.WIP.terracre\tdriver_terracre",
+        "terracrb\tterracre\tterracre.java\t1985\tNichibutsu\tdrivers.WIP.terracre\tdriver_terracrb",
+        "terracra\tterracre\tterracre.java\t1985\tNichibutsu\tdrivers.WIP.terracre\tdriver_terracra",
+        "punchout\t\tpunchout.java\t1984\tNintendo\tdrivers.WIP.punchout\tdriver_punchout",
+        "spnchout\t\tpunchout.java\t1984\tNintendo\tdrivers.WIP.punchout\tdriver_spnchout",
+        "spnchotj\tspnchout\tpunchout.java\t1984\tNintendo\tdrivers.WIP.punchout\tdriver_spnchotj",
+        "armwrest\t\tpunchout.java\t1985\tNintendo\tdrivers.WIP.punchout\tdriver_armwrest",
+        "kengo\t\tm72.java\t1991\tIrem\tdrivers.WIP.m72\tdriver_kengo",
+        "poundfor\t\tm72.java\t????\t?????\tdrivers.WIP.m72\tdriver_poundfor",
+        "bmaster\t\tm92.java\t1991\tIrem\tdrivers.WIP.m92\tdriver_bmaster",
+        "gunforce\t\tm92.java\t1991\tIrem\tdrivers.WIP.m92\tdriver_gunforce",
+        "gunforcu\tgunforce\tm92.java\t1991\tIrem America\tdrivers.WIP.m92\tdriver_gunforcu",
+        "hook\t\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_hook",
+        "hooku\thook\tm92.java\t1992\tIrem America\tdrivers.WIP.m92\tdriver_hooku",
+        "mysticri\t\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_mysticri",
+        "gunhohki\tmysticri\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_gunhohki",
+        "uccops\t\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_uccops",
+        "uccopsj\tuccops\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_uccopsj",
+        "rtypeleo\t\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_rtypeleo",
+        "majtitl2\t\tm92.java\t1992\tIrem\tdrivers.WIP.m92\tdriver_majtitl2",
+        "skingame\tmajtitl2\tm92.java\t1992\tIrem America\tdrivers.WIP.m92\tdriver_skingame",
+        "skingam2\tmajtitl2\tm92.java\t1992\tIrem America\tdrivers.WIP.m92\tdriver_skingam2",
+        "inthunt\t\tm92.java\t1993\tIrem\tdrivers.WIP.m92\tdriver_inthunt",
+        "kaiteids\tinthunt\tm92.java\t1993\tIrem\tdrivers.WIP.m92\tdriver_kaiteids",
+        "lethalth\t\tm92.java\t1991\tIrem\tdrivers.WIP.m92\tdriver_lethalth",
+        "thndblst\tlethalth\tm92.java\t1991\tIrem\tdrivers.WIP.m92\tdriver_thndblst",
+        "psoldier\t\tm92.java\t1993\tIrem\tdrivers.WIP.m92\tdriver_psoldier",
+        "sdungeon\t\tqix.java\t1981\tTaito America Corporation\tdrivers.WIP.qix\tdriver_sdungeon",
+        "elecyoyo\t\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_elecyoyo",
+        "elecyoy2\telecyoyo\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_elecyoy2",
+        "kram\t\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_kram",
+        "kram2\tkram\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_kram2",
+        "zookeep\t\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_zookeep",
+        "zookeep2\tzookeep\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_zookeep2",
+        "zookeep3\tzookeep\tqix.java\t1982\tTaito America Corporation\tdrivers.WIP.qix\tdriver_zookeep3",
+        "superman\t\tsuperman.java\t1988\tTaito Corporation\tdrivers.WIP.superman\tdriver_superman",
+        "ssi\t\tssi.java\t1990\tTaito Corporation Japan\tdrivers.WIP.ssi\tdriver_ssi",
+        "majest12\tssi\tssi.java\t1990\tTaito Corporation\tdrivers.WIP.ssi\tdriver_majest12",
+        "liquidk\t\ttaitof2.java\t1990\tTaito Corporation Japan\tdrivers.WIP.taitof2\tdriver_liquidk",
+        "liquidku\tliquidk\ttaitof2.java\t1990\tTaito America Corporation\tdrivers.WIP.taitof2\tdriver_liquidku",
+        "mizubaku\tliquidk\ttaitof2.java\t1990\tTaito Corporation\tdrivers.WIP.taitof2\tdriver_mizubaku",
+        "growl\t\ttaitof2.java\t1990\tTaito Corporation Japan\tdrivers.WIP.taitof2\tdriver_growl",
+        "growlu\tgrowl\ttaitof2.java\t1990\tTaito America Corporation\tdrivers.WIP.taitof2\tdriver_growlu",
+        "runark\tgrowl\ttaitof2.java\t1990\tTaito Corporation\tdrivers.WIP.taitof2\tdriver_runark",
+        "rallybik\t\ttoaplan1.java\t1988\t[Toaplan] Taito Corporation\tdrivers.toaplan1\tdriver_rallybik",
+        "truxton\t\ttoaplan1.java\t1988\t[Toaplan] Taito Corporation\tdrivers.toaplan1\tdriver_truxton",
+        "hellfire\t\ttoaplan1.java\t1989\tToaplan (Taito license)\tdrivers.toaplan1\tdriver_hellfire",
+        "zerowing\t\ttoaplan1.java\t1989\tToaplan\tdrivers.toaplan1\tdriver_zerowing",
+        "demonwld\t\ttoaplan1.java\t1989\tToaplan (Taito license)\tdrivers.toaplan1\tdriver_demonwld",
+        "fireshrk\t\ttoaplan1.java\t1990\tToaplan\tdrivers.toaplan1\tdriver_fireshrk",
+        "samesame\tfireshrk\ttoaplan1.java\t1989\tToaplan\tdrivers.toaplan1\tdriver_samesame",
+        "outzone\t\ttoaplan1.java\t1990\tToaplan\tdrivers.toaplan1\tdriver_outzone",
+        "outzonep\toutzone\ttoaplan1.java\t1990\tbootleg\tdrivers.toaplan1\tdriver_outzonep",
+        "vimana\t\ttoaplan1.java\t1991\tToaplan\tdrivers.toaplan1\tdriver_vimana",
+        "vimana2\tvimana\ttoaplan1.java\t1991\tToaplan\tdrivers.toaplan1\tdriver_vimana2",
+        "vimanan\tvimana\ttoaplan1.java\t1991\tToaplan (Nova Apparate GMBH  Co license)\tdrivers.toaplan1\tdriver_vimanan",
+        "tekipaki\t\ttoaplan2.java\t1991\tToaplan\tdrivers.toaplan2\tdriver_tekipaki",
+        "ghox\t\ttoaplan2.java\t1991\tToaplan\tdrivers.toaplan2\tdriver_ghox",
+        "dogyuun\t\ttoaplan2.java\t1991\tToaplan\tdrivers.toaplan2\tdriver_dogyuun",
+        "kbash\t\ttoaplan2.java\t1993\tToaplan\tdrivers.toaplan2\tdriver_kbash",
+        "pipibibs\t\ttoaplan2.java\t1991\tToaplan\tdrivers.toaplan2\tdriver_pipibibs",
+        "whoopee\tpipibibs\ttoaplan2.java\t1991\tToaplan\tdrivers.toaplan2\tdriver_whoopee",
+        "vfive\t\ttoaplan2.java\t1993\tToaplan\tdrivers.toaplan2\tdriver_vfive",
+        "batsugun\t\ttoaplan2.java\t1993\tToaplan\tdrivers.toaplan2\tdriver_batsugun",
+        "snowbro2\t\ttoaplan2.java\t1994\t[Toaplan] Hanafram\tdrivers.toaplan2\tdriver_snowbro2",
+        "tigeroad\t\ttigeroad.java\t1987\tCapcom (Romstar license)\tdrivers.tigeroad\tdriver_tigeroad",
+        "toramich\ttigeroad\ttigeroad.java\t1987\tCapcom\tdrivers.tigeroad\tdriver_toramich",
+        "f1dream\t\ttigeroad.java\t1988\tCapcom (Romstar license)\tdrivers.tigeroad\tdriver_f1dream",
+        "f1dreamb\tf1dream\ttigeroad.java\t1988\tbootleg\tdrivers.tigeroad\tdriver_f1dreamb",
+        "lastduel\t\tlastduel.java\t1988\tCapcom\tdrivers.WIP.lastduel\tdriver_lastduel",
+        "lstduela\tlastduel\tlastduel.java\t1988\tCapcom\tdrivers.WIP.lastduel\tdriver_lstduela",
+        "lstduelb\tlastduel\tlastduel.java\t1988\tbootleg\tdrivers.WIP.lastduel\tdriver_lstduelb",
+        "madgear\t\tlastduel.java\t1989\tCapcom\tdrivers.WIP.lastduel\tdriver_madgear",
+        "madgearj\tmadgear\tlastduel.java\t1989\tCapcom\tdrivers.WIP.lastduel\tdriver_madgearj",
+        "ledstorm\tmadgear\tlastduel.java\t1988\tCapcom\tdrivers.WIP.lastduel\tdriver_ledstorm",
+        "forgottn\t\tcps1.java\t1988\tCapcom\tdrivers.WIP.cps1\tdriver_forgottn",
+        "lostwrld\tforgottn\tcps1.java\t1988\tCapcom\tdrivers.WIP.cps1\tdriver_lostwrld",
+        "ghouls\t\tcps1.java\t1988\tCapcom\tdrivers.WIP.cps1\tdriver_ghouls",
+        "ghoulsu\tghouls\tcps1.java\t1988\tCapcom\tdrivers.WIP.cps1\tdriver_ghoulsu",
+        "ghoulsj\tghouls\tcps1.java\t1988\tCapcom\tdrivers.WIP.cps1\tdriver_ghoulsj",
+        "strider\t\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_strider",
+        "striderj\tstrider\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_striderj",
+        "stridrja\tstrider\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_stridrja",
+        "dwj\t\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_dwj",
+        "willow\t\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_willow",
+        "willowj\twillow\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_willowj",
+        "unsquad\t\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_unsquad",
+        "area88\tunsquad\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_area88",
+        "ffight\t\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_ffight",
+        "ffightu\tffight\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_ffightu",
+        "ffightj\tffight\tcps1.java\t1989\tCapcom\tdrivers.WIP.cps1\tdriver_ffightj",
+        "1941\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_1941",
+        "1941j\t1941\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_1941j",
+        "mercs\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mercs",
+        "mercsu\tmercs\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mercsu",
+        "mercsj\tmercs\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mercsj",
+        "mtwins\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mtwins",
+        "chikij\tmtwins\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_chikij",
+        "msword\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_msword",
+        "mswordu\tmsword\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mswordu",
+        "mswordj\tmsword\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_mswordj",
+        "cawing\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_cawing",
+        "cawingj\tcawing\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_cawingj",
+        "nemo\t\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_nemo",
+        "nemoj\tnemo\tcps1.java\t1990\tCapcom\tdrivers.WIP.cps1\tdriver_nemoj",
+        "sf2\t\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2",
+        "sf2a\tsf2\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2a",
+        "sf2b\tsf2\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2b",
+        "sf2e\tsf2\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2e",
+        "sf2j\tsf2\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2j",
+        "sf2jb\tsf2\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_sf2jb",
+        "3wonders\t\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_3wonders",
+        "wonder3\t3wonders\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_wonder3",
+        "kod\t\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_kod",
+        "kodj\tkod\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_kodj",
+        "kodb\tkod\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_kodb",
+        "captcomm\t\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_captcomm",
+        "captcomu\tcaptcomm\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_captcomu",
+        "captcomj\tcaptcomm\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_captcomj",
+        "knights\t\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_knights",
+        "knightsj\tknights\tcps1.java\t1991\tCapcom\tdrivers.WIP.cps1\tdriver_knightsj",
+        "sf2ce\t\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2ce",
+        "sf2cea\tsf2ce\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2cea",
+        "sf2ceb\tsf2ce\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2ceb",
+        "sf2cej\tsf2ce\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2cej",
+        "sf2rb\tsf2ce\tcps1.java\t1992\thack\tdrivers.WIP.cps1\tdriver_sf2rb",
+        "sf2red\tsf2ce\tcps1.java\t1992\thack\tdrivers.WIP.cps1\tdriver_sf2red",
+        "sf2accp2\tsf2ce\tcps1.java\t1992\thack\tdrivers.WIP.cps1\tdriver_sf2accp2",
+        "varth\t\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_varth",
+        "varthu\tvarth\tcps1.java\t1992\tCapcom (Romstar license)\tdrivers.WIP.cps1\tdriver_varthu",
+        "varthj\tvarth\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_varthj",
+        "cworld2j\t\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_cworld2j",
+        "wof\t\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_wof",
+        "wofj\twof\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_wofj",
+        "sf2t\tsf2ce\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2t",
+        "sf2tj\tsf2ce\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_sf2tj",
+        "dino\t\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_dino",
+        "dinoj\tdino\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_dinoj",
+        "punisher\t\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_punisher",
+        "punishru\tpunisher\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_punishru",
+        "punishrj\tpunisher\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_punishrj",
+        "slammast\t\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_slammast",
+        "mbomberj\tslammast\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_mbomberj",
+        "mbombrd\tslammast\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_mbombrd",
+        "mbombrdj\tslammast\tcps1.java\t1993\tCapcom\tdrivers.WIP.cps1\tdriver_mbombrdj",
+        "pnickj\t\tcps1.java\t1994\tCapcom (licensed from Compile)\tdrivers.WIP.cps1\tdriver_pnickj",
+        "qad\t\tcps1.java\t1992\tCapcom\tdrivers.WIP.cps1\tdriver_qad",
+        "qadj\tqad\tcps1.java\t1994\tCapcom\tdrivers.WIP.cps1\tdriver_qadj",
+        "qtono2\t\tcps1.java\t1995\tCapcom\tdrivers.WIP.cps1\tdriver_qtono2",
+        "pang3\t\tcps1.java\t1995\tMitchell\tdrivers.WIP.cps1\tdriver_pang3",
+        "megaman\t\tcps1.java\t1995\tCapcom\tdrivers.WIP.cps1\tdriver_megaman",
+        "rockmanj\tmegaman\tcps1.java\t1995\tCapcom\tdrivers.WIP.cps1\tdriver_rockmanj",
+        "sfzch\t\tcps1.java\t1995\tCapcom\tdrivers.WIP.cps1\tdriver_sfzch",
+        "altbeast\t\tsystem16.java\t1988\tSega\tdrivers.system16\tdriver_altbeast",
+        "atomicp\t\tsystem16.java\t1990\tPhilko\tdrivers.system16\tdriver_atomicp",
+        "dduxbl\t\tsystem16.java\t1989\tbootleg\tdrivers.system16\tdriver_dduxbl",
+        "fpointbl\tfpoint\tsystem16.java\t1989\tbootleg\tdrivers.system16\tdriver_fpointbl",
+        "goldnaxe\t\tsystem16.java\t1989\tSega\tdrivers.system16\tdriver_goldnaxe",
+        "sdi\t\tsystem16.java\t1987\tSega\tdrivers.system16\tdriver_sdi",
+        "shinobi\t\tsystem16.java\t1987\tSega\tdrivers.system16\tdriver_shinobi",
+        "tetrisbl\ttetris\tsystem16.java\t1988\tbootleg\tdrivers.system16\tdriver_tetrisbl",
+        "wb3\t\tsystem16.java\t1988\tSega / Westone\tdrivers.system16\tdriver_wb3",
+        "karnov\t\tkarnov.java\t1987\tData East USA\tdrivers.WIP.karnov\tdriver_karnov",
+        "karnovj\tkarnov\tkarnov.java\t1987\tData East Corporation\tdrivers.WIP.karnov\tdriver_karnovj",
+        "chelnov\t\tkarnov.java\t1988\tData East USA\tdrivers.WIP.karnov\tdriver_chelnov",
+        "chelnovj\tchelnov\tkarnov.java\t1988\tData East Corporation\tdrivers.WIP.karnov\tdriver_chelnovj",
+        "hbarrel\t\tdec0.java\t1987\tData East USA\tdrivers.WIP.dec0\tdriver_hbarrel",
+        "hbarrelw\thbarrel\tdec0.java\t1987\tData East Corporation\tdrivers.WIP.dec0\tdriver_hbarrelw",
+        "baddudes\t\tdec0.java\t1988\tData East USA\tdrivers.WIP.dec0\tdriver_baddudes",
+        "drgninja\tbaddudes\tdec0.java\t1988\tData East Corporation\tdrivers.WIP.dec0\tdriver_drgninja",
+        "robocop\t\tdec0.java\t1988\tData East Corporation\tdrivers.WIP.dec0\tdriver_robocop",
+        "robocopu\trobocop\tdec0.java\t1988\tData East USA\tdrivers.WIP.dec0\tdriver_robocopu",
+        "robocpu0\trobocop\tdec0.java\t1988\tData East USA\tdrivers.WIP.dec0\tdriver_robocpu0",
+        "robocopb\trobocop\tdec0.java\t1988\tbootleg\tdrivers.WIP.dec0\tdriver_robocopb",
+        "hippodrm\t\tdec0.java\t1989\tData East USA\tdrivers.WIP.dec0\tdriver_hippodrm",
+        "ffantasy\thippodrm\tdec0.java\t1989\tData East Corporation\tdrivers.WIP.dec0\tdriver_ffantasy",
+        "slyspy\t\tdec0.java\t1989\tData East USA\tdrivers.WIP.dec0\tdriver_slyspy",
+        "slyspy2\tslyspy\tdec0.java\t1989\tData East USA\tdrivers.WIP.dec0\tdriver_slyspy2",
+        "secretag\tslyspy\tdec0.java\t1989\tData East Corporation\tdrivers.WIP.dec0\tdriver_secretag",
+        "midres\t\tdec0.java\t1989\tData East Corporation\tdrivers.WIP.dec0\tdriver_midres",
+        "midresu\tmidres\tdec0.java\t1989\tData East USA\tdrivers.WIP.dec0\tdriver_midresu",
+        "midresj\tmidres\tdec0.java\t1989\tData East Corporation\tdrivers.WIP.dec0\tdriver_midresj",
+        "bouldash\t\tdec0.java\t1990\tData East Corporation (licensed from First Star)\tdrivers.WIP.dec0\tdriver_bouldash",
+        "stoneage\tcninja\tcninja.java\t1991\tbootleg\tdrivers.WIP.cninja\tdriver_stoneage",
+        "tumblep\t\ttumblep.java\t1991\tData East Corporation\tdrivers.WIP.tumblep\tdriver_tumblep",
+        "tumblepj\ttumblep\ttumblep.java\t1991\tData East Corporation\tdrivers.WIP.tumblep\tdriver_tumblepj",
+        "tumblepb\ttumblep\ttumblep.java\t1991\tbootleg\tdrivers.WIP.tumblep\tdriver_tumblepb",
+        "tumblep2\ttumblep\ttumblep.java\t1991\tbootleg\tdrivers.WIP.tumblep\tdriver_tumblep2",
+        "gaiden\t\tgaiden.java\t1988\tTecmo\tdrivers.gaiden\tdriver_gaiden",
+        "shadoww\tgaiden\tgaiden.java\t1988\tTecmo\tdrivers.gaiden\tdriver_shadoww",
+        "tknight\t\tgaiden.java\t1989\tTecmo\tdrivers.gaiden\tdriver_tknight",
+        "wildfang\ttknight\tgaiden.java\t1989\tTecmo\tdrivers.gaiden\tdriver_wildfang",
+        "ajax\t\tajax.java\t1987\tKonami\tdrivers.WIP.ajax\tdriver_ajax",
+        "ajaxj\tajax\tajax.java\t1987\tKonami\tdrivers.WIP.ajax\tdriver_ajaxj",
+        "parodius\t\tparodius.java\t1990\tKonami\tdrivers.WIP.parodius\tdriver_parodius",
+        "nemesis\t\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_nemesis",
+        "nemesuk\tnemesis\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_nemesuk",
+        "konamigt\t\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_konamigt",
+        "salamand\t\tnemesis.java\t1986\tKonami\tdrivers.WIP.nemesis\tdriver_salamand",
+        "lifefrce\tsalamand\tnemesis.java\t1986\tKonami\tdrivers.WIP.nemesis\tdriver_lifefrce",
+        "lifefrcj\tsalamand\tnemesis.java\t1986\tKonami\tdrivers.WIP.nemesis\tdriver_lifefrcj",
+        "rf2\tkonamigt\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_rf2",
+        "twinbee\t\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_twinbee",
+        "gradius\tnemesis\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_gradius",
+        "gwarrior\t\tnemesis.java\t1985\tKonami\tdrivers.WIP.nemesis\tdriver_gwarrior",
+        "mia\t\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_mia",
+        "mia2\tmia\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_mia2",
+        "tmnt\t\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_tmnt",
+        "tmht\ttmnt\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_tmht",
+        "tmntj\ttmnt\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_tmntj",
+        "tmht2p\ttmnt\ttmnt.java\t1989\tKonami\tdrivers.WIP.tmnt\tdriver_tmht2p",
+        "tmnt2pj\ttmnt\ttmnt.java\t1990\tKonami\tdrivers.WIP.tmnt\tdriver_tmnt2pj",
+        "punkshot\t\ttmnt.java\t1990\tKonami\tdrivers.WIP.tmnt\tdriver_punkshot",
+        "punksht2\tpunkshot\ttmnt.java\t1990\tKonami\tdrivers.WIP.tmnt\tdriver_punksht2",
+        "lgtnfght\t\ttmnt.java\t1990\tKonami\tdrivers.WIP.tmnt\tdriver_lgtnfght",
+        "trigon\tlgtnfght\ttmnt.java\t1990\tKonami\tdrivers.WIP.tmnt\tdriver_trigon",
+        "ssriders\t\ttmnt.java\t1991\tKonami\tdrivers.WIP.tmnt\tdriver_ssriders",
+        "thndrx2\t\ttmnt.java\t1991\tKonami\tdrivers.WIP.tmnt\tdriver_thndrx2",
+        "shuuz\t\tshuuz.java\t1990\tAtari Games\tdrivers.WIP.shuuz\tdriver_shuuz",
+        "shuuz2\tshuuz\tshuuz.java\t1990\tAtari Games\tdrivers.WIP.shuuz\tdriver_shuuz2",
+        "ikari3\t\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_ikari3",
+        "pow\t\tsnk68.java\t1988\tSNK\tdrivers.WIP.snk68\tdriver_pow",
+        "powj\tpow\tsnk68.java\t1988\tSNK\tdrivers.WIP.snk68\tdriver_powj",
+        "searchar\t\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_searchar",
+        "sercharu\tsearchar\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_sercharu",
+        "streetsm\t\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_streetsm",
+        "streets1\tstreetsm\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_streets1",
+        "streetsj\tstreetsm\tsnk68.java\t1989\tSNK\tdrivers.WIP.snk68\tdriver_streetsj",
+        "prehisle\t\tprehisle.java\t1989\tSNK\tdrivers.WIP.prehisle\tdriver_prehisle",
+        "prehislu\tprehisle\tprehisle.java\t1989\tSNK of America\tdrivers.WIP.prehisle\tdriver_prehislu",
+        "gensitou\tprehisle\tprehisle.java\t1989\tSNK\tdrivers.WIP.prehisle\tdriver_gensitou",
+        "timesold\t\talpha68k.java\t1987\tSNK / Romstar\tdrivers.WIP.alpha68k\tdriver_timesold",
+        "timesol1\ttimesold\talpha68k.java\t1987\tSNK / Romstar\tdrivers.WIP.alpha68k\tdriver_timesol1",
+        "btlfield\ttimesold\talpha68k.java\t1987\tSNK / Romstar\tdrivers.WIP.alpha68k\tdriver_btlfield",
+        "skysoldr\t\talpha68k.java\t1988\tSNK / Romstar\tdrivers.WIP.alpha68k\tdriver_skysoldr",
+        "goldmedl\t\talpha68k.java\t1988\tSNK\tdrivers.WIP.alpha68k\tdriver_goldmedl",
+        "skyadvnt\t\talpha68k.java\t1989\tSNK of America (licensed from Alpha)\tdrivers.WIP.alpha68k\tdriver_skyadvnt",
+        "gangwars\t\talpha68k.java\t1989\tAlpha\tdrivers.WIP.alpha68k\tdriver_gangwars",
+        "gangwarb\tgangwars\talpha68k.java\t1989\tbootleg\tdrivers.WIP.alpha68k\tdriver_gangwarb",
+        "sbasebal\t\talpha68k.java\t1989\tSNK of America (licensed from Alpha)\tdrivers.WIP.alpha68k\tdriver_sbasebal",
+        "ctribe\t\tddragon3.java\t1990\tTechnos\tdrivers.WIP.ddragon3\tdriver_ctribe",
+        "ctribeb\tctribe\tddragon3.java\t1990\tbootleg\tdrivers.WIP.ddragon3\tdriver_ctribeb",
+        "ddragon3\t\tddragon3.java\t1990\tTechnos\tdrivers.WIP.ddragon3\tdriver_ddragon3",
+        "ddrago3b\tddragon3\tddragon3.java\t1990\tbootleg\tdrivers.WIP.ddragon3\tdriver_ddrago3b",
+        "berzerk\t\tberzerk.java\t1980\tStern\tdrivers.WIP.berzerk\tdriver_berzerk",
+        "berzerk1\tberzerk\tberzerk.java\t1980\tStern\tdrivers.WIP.berzerk\tdriver_berzerk1",
+        "frenzy\t\tberzerk.java\t1982\tStern\tdrivers.WIP.berzerk\tdriver_frenzy",
+        "dynduke\t\tdynduke.java\t1989\tSeibu Kaihatsu (Fabtek license)\tdrivers.WIP.dynduke\tdriver_dynduke",
+        "dbldyn\tdynduke\tdynduke.java\t1989\tSeibu Kaihatsu (Fabtek license)\tdrivers.WIP.dynduke\tdriver_dbldyn",
+        "bloodbro\t\tbloodbro.java\t1990\tTad\tdrivers.WIP.bloodbro\tdriver_bloodbro",
+        "weststry\tbloodbro\tbloodbro.java\t1990\tbootleg\tdrivers.WIP.bloodbro\tdriver_weststry",
+        "pspikes\t\taerofgt.java\t1991\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_pspikes",
+        "svolly91\tpspikes\taerofgt.java\t1991\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_svolly91",
+        "turbofrc\t\taerofgt.java\t1991\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_turbofrc",
+        "aerofgt\t\taerofgt.java\t1992\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_aerofgt",
+        "aerofgtb\taerofgt\taerofgt.java\t1992\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_aerofgtb",
+        "aerofgtc\taerofgt\taerofgt.java\t1992\tVideo System Co.\tdrivers.WIP.aerofgt\tdriver_aerofgtc",
+        "splash\t\tgaelco.java\t1992\tGaelco\tdrivers.gaelco\tdriver_splash",
+        "berlwall\t\tkaneko16.java\t1991\tKaneko\tdrivers.WIP.kaneko16\tdriver_berlwall",
+        "berlwalt\tberlwall\tkaneko16.java\t1991\tKaneko\tdrivers.WIP.kaneko16\tdriver_berlwalt",
+        "gtmr\t\tkaneko16.java\t1994\tKaneko\tdrivers.WIP.kaneko16\tdriver_gtmr",
+        "gtmre\tgtmr\tkaneko16.java\t1994\tKaneko\tdrivers.WIP.kaneko16\tdriver_gtmre",
+        "kof94\tneogeo\tneogeo.java\t1994\tSNK\tdrivers.WIP.neogeo\tdriver_kof94",
+        "aof2\tneogeo\tneogeo.java\t1994\tSNK\tdrivers.WIP.neogeo\tdriver_aof2",
+        "mslug\tneogeo\tneogeo.java\t1996\tNazca\tdrivers.WIP.neogeo\tdriver_mslug",
+    };
+}
@@ -0,0 +1,195 @@
+package mame;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import static arcadeflex.libc_old.*;
+import static mame.inputportH.*;
+import static mame.mame.errorlog;
+
+/**
+ * Input logs of -record and -playback, the arcadeflex replacement of the
+ * .inp files. inputport logs the input port values every frame and the
+ * analog ports whenever they are read; played back in the same order they
+ * replace what the keyboard and joysticks gave, so a game runs the same
+ * way every time.
+ *
+ * A log is a little endian header (magic, version, game name) followed by
+ * one entry per logged group of ports: a LEB128 mask of the ports whose
+ * value differs from the last one logged for them, then the new values as
+ * 16 bit words. A frame where no input changed takes a single byte.
+ */
+public class inputlog {
+
+    static final int INPUTLOG_MAGIC = 0x504e4941;	/* "AINP" */
+    static final int INPUTLOG_VERSION = 1;
+    static final int INPUTLOG_BUFFER = 0x10000;
+
+    FileChannel channel;
+    ByteBuffer buffer;
+    int writing;
+    char[] last = new char[MAX_INPUT_PORTS];	/* the value of each port in the log so far */
+    public String game;
+    public long entries;
+
+    /* create a log for game, null if the file can't be written */
+    public static inputlog inputlog_create(String filename, String game) {
+        inputlog log = new inputlog();
+
+        try {
+            log.channel = new FileOutputStream(filename).getChannel();
+        } catch (IOException e) {
+            return null;
+        }
+        log.writing = 1;
+        log.game = game;
+        log.buffer = ByteBuffer.allocateDirect(INPUTLOG_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        log.buffer.putInt(INPUTLOG_MAGIC);
+        log.buffer.putInt(INPUTLOG_VERSION);
+        log.buffer.put((byte) game.length());
+        for (int i = 0; i < game.length(); i++) {
+            log.buffer.put((byte) game.charAt(i));
+        }
+        return log;
+    }
+
+    /* open a log for playback, null if it can't be read or isn't a log */
+    public static inputlog inputlog_open(String filename) {
+        inputlog log = new inputlog();
+
+        try {
+            log.channel = new FileInputStream(filename).getChannel();
+        } catch (IOException e) {
+            return null;
+        }
+        log.buffer = ByteBuffer.allocateDirect(INPUTLOG_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+        log.buffer.limit(0);
+        if (fill(log, 9) == 0 || log.buffer.getInt() != INPUTLOG_MAGIC || log.buffer.getInt() != INPUTLOG_VERSION) {
+            inputlog_close(log);
+            return null;
+        }
+
+        int len = log.buffer.get() & 0xff;
+        char[] name = new char[len];
+
+        if (fill(log, len) == 0) {
+            inputlog_close(log);
+            return null;
+        }
+        for (int i = 0; i < len; i++) {
+            name[i] = (char) (log.buffer.get() & 0xff);
+        }
+        log.game = new String(name);
+        return log;
+    }
+
+    public static void inputlog_close(inputlog log) {
+        try {
+            if (log.writing != 0) {
+                flush(log);
+            }
+            log.channel.close();
+        } catch (IOException e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "inputlog: error closing the log\n");
+            }
+        }
+    }
+
+    /* log count ports of values starting at first */
+    public static void inputlog_write(inputlog log, char[] values, int first, int count) {
+        int mask = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (values[first + i] != log.last[first + i]) {
+                mask |= 1 << i;
+            }
+        }
+
+        if (log.buffer.remaining() < 5 + 2 * count) {
+            try {
+                flush(log);
+            } catch (IOException e) {
+                if (errorlog != null) {
+                    fprintf(errorlog, "inputlog: write error\n");
+                }
+                log.buffer.clear();
+            }
+        }
+
+        do {
+            log.buffer.put((byte) ((mask & 0x7f) | (mask > 0x7f ? 0x80 : 0)));
+            mask >>>= 7;
+        } while (mask != 0);
+
+        for (int i = 0; i < count; i++) {
+            if (values[first + i] != log.last[first + i]) {
+                log.buffer.putShort((short) values[first + i]);
+                log.last[first + i] = values[first + i];
+            }
+        }
+        log.entries++;
+    }
+
+    /* replace count ports of values starting at first by the logged ones, */
+    /* 0 once the log is over                                              */
+    public static int inputlog_read(inputlog log, char[] values, int first, int count) {
+        int mask = 0;
+        int shift = 0;
+        int b;
+
+        do {
+            if (fill(log, 1) == 0) {
+                return 0;
+            }
+            b = log.buffer.get() & 0xff;
+            mask |= (b & 0x7f) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+
+        if (fill(log, 2 * Integer.bitCount(mask)) == 0) {
+            return 0;
+        }
+        for (int i = 0; i < count; i++) {
+            if ((mask & (1 << i)) != 0) {
+                log.last[first + i] = (char) log.buffer.getShort();
+            }
+            values[first + i] = log.last[first + i];
+        }
+        log.entries++;
+        return 1;
+    }
+
+    static void flush(inputlog log) throws IOException {
+        log.buffer.flip();
+        while (log.buffer.hasRemaining()) {
+            log.channel.write(log.buffer);
+        }
+        log.buffer.clear();
+    }
+
+    /* make sure len bytes can be read from the buffer, 0 at the end of the log */
+    static int fill(inputlog log, int len) {
+        if (log.buffer.remaining() >= len) {
+            return 1;
+        }
+        log.buffer.compact();
+        try {
+            while (log.buffer.position() < len) {
+                if (log.channel.read(log.buffer) < 0) {
+                    log.buffer.flip();
+                    return 0;
+                }
+            }
+        } catch (IOException e) {
+            log.buffer.flip();
+            return 0;
+        }
+        log.buffer.flip();
+        return 1;
+    }
+}
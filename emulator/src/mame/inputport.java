@@ -4,6 +4,7 @@ import static arcadeflex.libc_old.*;
 import java.util.HashMap;
 import static mame.driverH.*;
 import static mame.inputportH.*;
+import static mame.inputlog.*;
 import static mame.inputH.*;
 import static mame.input.*;
 import static mame.mame.*;
@@ -12,6 +13,7 @@ import static mame.cpuintrf.*;
 import static mame.cpuintrfH.*;
 import static mame.osdependH.*;
 import static mame.commonH.*;
+import static mame.runahead.*;
 
 
 public class inputport {
@@ -115,6 +117,9 @@ public class inputport {
                 new ipd(IPT_UI_SHOW_COLORS, "Show Colors", SEQ_DEF_2(KEYCODE_F11, KEYCODE_LCONTROL)),
                 new ipd(IPT_UI_SNAPSHOT, "Save Snapshot", SEQ_DEF_1(KEYCODE_F12)),
                 new ipd(IPT_UI_TOGGLE_CHEAT, "Toggle Cheat", SEQ_DEF_1(KEYCODE_F5)),
+                new ipd(IPT_UI_SAVE_STATE, "Save State", SEQ_DEF_2(KEYCODE_F7, KEYCODE_LSHIFT)),
+                new ipd(IPT_UI_LOAD_STATE, "Load State", SEQ_DEF_3(KEYCODE_F7, CODE_NOT, KEYCODE_LSHIFT)),
+                new ipd(IPT_UI_REWIND, "Rewind", SEQ_DEF_1(KEYCODE_F6)),
                 new ipd(IPT_UI_UP, "UI Up", SEQ_DEF_3(KEYCODE_UP, CODE_OR, JOYCODE_1_UP)),
                 new ipd(IPT_UI_DOWN, "UI Down", SEQ_DEF_3(KEYCODE_DOWN, CODE_OR, JOYCODE_1_DOWN)),
                 new ipd(IPT_UI_LEFT, "UI Left", SEQ_DEF_3(KEYCODE_LEFT, CODE_OR, JOYCODE_1_LEFT)),
@@ -995,10 +1000,7 @@ public class inputport {
         input_port_value[port] &= ~Machine.input_ports[input_analog[port]].mask;
         input_port_value[port] |= ((current * sensitivity + 50) / 100) & Machine.input_ports[input_analog[port]].mask;
 
-        /*TODO*///            if (playback)
-/*TODO*///                     readword(playback,&input_port_value[port]);
-/*TODO*///             if (record)
-/*TODO*///                     writeword(record,input_port_value[port]);
+        log_input_ports(port, 1);
     }
     public static final int MAX_INPUT_BITS = 1024;
     static int[] impulsecount = new int[MAX_INPUT_BITS];
@@ -1230,20 +1232,28 @@ public class inputport {
             }
         }
 
-        /*TODO*///            if (playback)
-/*TODO*///            {
-/*TODO*///                    int i;
-/*TODO*///
-/*TODO*///                    for (i = 0; i < MAX_INPUT_PORTS; i ++)
-/*TODO*///                            readword(playback,&input_port_value[i]);
-/*TODO*///            }
-/*TODO*///            if (record)
-/*TODO*///            {
-/*TODO*///                    int i;
-/*TODO*///
-/*TODO*///                    for (i = 0; i < MAX_INPUT_PORTS; i ++)
-/*TODO*///                            writeword(record,input_port_value[i]);
-/*TODO*///            }
+        log_input_ports(0, MAX_INPUT_PORTS);
+    }
+
+    /* -playback replaces the ports' values by the logged ones, -record logs them */
+    static void log_input_ports(int first, int count) {
+        if (runahead_speculating != 0) {
+            /* frames run ahead keep playing back what the last real one read */
+            if (playback != null) {
+                System.arraycopy(playback.last, first, input_port_value, first, count);
+            }
+            return;
+        }
+        if (playback != null && inputlog_read(playback, input_port_value, first, count) == 0) {
+            if (errorlog != null) {
+                fprintf(errorlog, "playback finished after %d entries\n", playback.entries);
+            }
+            inputlog_close(playback);
+            playback = null;
+        }
+        if (record != null) {
+            inputlog_write(record, input_port_value, first, count);
+        }
     }
     /* used the the CPU interface to notify that VBlank has ended, so we can update */
     /* IPT_VBLANK input ports. */
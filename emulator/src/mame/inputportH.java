@@ -137,7 +137,10 @@ public class inputportH {
     public static final int IPT_UI_SHOW_PROFILER= 75;
     public static final int IPT_UI_SHOW_COLORS = 76;
     public static final int IPT_UI_TOGGLE_UI = 77;
-    public static final int __ipt_max = 78;
+    public static final int IPT_UI_SAVE_STATE = 78;
+    public static final int IPT_UI_LOAD_STATE = 79;
+    public static final int IPT_UI_REWIND = 80;
+    public static final int __ipt_max = 81;
 
     public static final int IPF_MASK       =0xffffff00;
     public static final int IPF_UNUSED     =0x80000000;	/* The bit is not used by this game, but is used */
@@ -21,6 +21,8 @@ package mame;
  * @author george
  */
 import arcadeflex.MainStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinTask;
 import static arcadeflex.ptrlib.*;
 import static mame.mameH.*;
 import static mame.driverH.*;
@@ -30,6 +32,7 @@ import static arcadeflex.libc_old.*;
 import static arcadeflex.fileio.*;
 import static arcadeflex.libc.*;
 import static mame.driver.*;
+import static mame.driverindex.*;
 import static arcadeflex.osdepend.*;
 import static mame.common.*;
 import static mame.drawgfx.*;
@@ -49,6 +52,10 @@ import static mame.tilemapC.*;
 import static mame.sndintrf.*;
 import static mame.osdependH.*;
 import static mame.spriteC.*;
+import static arcadeflex.bench.*;
+import static mame.state.*;
+import static mame.runahead.*;
+import static mame.rewind.*;
 
 public class mame {
 
@@ -59,9 +66,9 @@ public class mame {
     /* Variables to hold the status of various game options */
     public static GameOptions options = new GameOptions();
     public static FILE errorlog;
-    public static FILE record;   /* for -record */
+    public static inputlog record;   /* for -record */
 
-    public static FILE playback; /* for -playback */
+    public static inputlog playback; /* for -playback */
 
     public static int mame_debug; /* !0 when -debug option is specified */
 
@@ -80,7 +87,7 @@ public class mame {
         playback = options.playback;
         mame_debug = options.mame_debug;
 
-        Machine.gamedrv = gamedrv = drivers[game];
+        Machine.gamedrv = gamedrv = driverindex_get(game);
         Machine.drv = drv = gamedrv.drv;
 
         /* copy configuration */
@@ -295,6 +302,21 @@ public class mame {
  /*TODO*/ //           }
     }
 
+    static class decodegfx_task implements Callable<GfxElement> {
+
+        UBytePtr src;
+        GfxLayout gl;
+
+        decodegfx_task(UBytePtr src, GfxLayout gl) {
+            this.src = src;
+            this.gl = gl;
+        }
+
+        public GfxElement call() {
+            return decodegfx(src, gl);
+        }
+    }
+
     public static int vh_open() {
         int i;
 
@@ -314,6 +336,8 @@ public class mame {
         /* convert_color_prom() routine (in palette_init()) because it might need to check the */
         /* Machine.gfx[] data */
         if (drv.gfxdecodeinfo != null) {
+            ForkJoinTask<?>[] decode = new ForkJoinTask<?>[MAX_GFX_ELEMENTS];
+
             for (i = 0; i < drv.gfxdecodeinfo.length && i < MAX_GFX_ELEMENTS && drv.gfxdecodeinfo[i].memory_region != -1; i++) {
                 int reglen = 8 * memory_region_length(drv.gfxdecodeinfo[i].memory_region);
                 GfxLayout glcopy = new GfxLayout();
@@ -341,7 +365,12 @@ public class mame {
                                 + reglen * FRAC_NUM(glcopy.yoffset[j]) / FRAC_DEN(glcopy.yoffset[j]);
                     }
                 }
-                if ((Machine.gfx[i] = decodegfx(new UBytePtr(memory_region(drv.gfxdecodeinfo[i].memory_region), drv.gfxdecodeinfo[i].start), glcopy)) == null) {
+
+                /* the banks are decoded in parallel, each one on all cores too */
+                decode[i] = decode_pool.submit(new decodegfx_task(new UBytePtr(memory_region(drv.gfxdecodeinfo[i].memory_region), drv.gfxdecodeinfo[i].start), glcopy));
+            }
+            for (i = 0; i < drv.gfxdecodeinfo.length && i < MAX_GFX_ELEMENTS && drv.gfxdecodeinfo[i].memory_region != -1; i++) {
+                if ((Machine.gfx[i] = (GfxElement) decode[i].join()) == null) {
                     vh_close();
                     return 1;
                 }
@@ -425,14 +454,27 @@ public class mame {
         /* the user interface must be called between vh_update() and osd_update_video_and_audio(), */
         /* to allow it to overlay things on the game display. We must call it even */
         /* if the frame is skipped, to keep a consistent timing. */
+        /* Frames run ahead or behind the one shown don't count, see runahead. */
+        if (video_suppressed == 0)
+        {
             if (handle_user_interface()!=0)
                     /* quit if the user asked to */
                     return 1;
+        }
             
         osd_update_video_and_audio();
 
         if (drv.vh_eof_callback!=null) drv.vh_eof_callback.handler(); 
 
+        if (rewind_size != 0)
+            rewind_frame_done();
+        if (runahead_frames != 0)
+            runahead_frame_done();
+
+        /* stop once the benchmark has run all its frames */
+        if (bench_mode != 0 && video_suppressed == 0 && bench_frame_done() != 0)
+                return 1;
+
         return 0;
     }
 
@@ -448,7 +490,9 @@ public class mame {
     {
     	int res = 1;
     
-    
+    	state_init();
+    	runahead_init();
+    	rewind_init();
     	if (vh_open() == 0)
     	{
     		tilemap_init();
@@ -479,13 +523,13 @@ public class mame {
     				{
     					/* if there is no saved config, it must be first time we run this game, */
     					/* so show the disclaimer. */
-    					if(MainStream.inst == null){
+    					if(MainStream.inst == null && bench_mode == 0){
                                             if (showcopyright()!=0) return userquit_goto();
                                         }
                                         
     				}
     
-    				if (showgamewarnings() == 0)  /* show info about incorrect behaviour (wrong colors etc.) */
+    				if (bench_mode != 0 || showgamewarnings() == 0)  /* show info about incorrect behaviour (wrong colors etc.) */
     				{
     					init_user_interface();
     /*TODO*///
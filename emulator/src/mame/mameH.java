@@ -82,8 +82,8 @@ public class mameH {
 	{
 	  public GameOptions() {};
             public FILE errorlog;
-            public FILE record;
-            public FILE playback;
+            public inputlog record;
+            public inputlog playback;
             public int mame_debug;
             public int cheat;
             public int gui_host;
@@ -11,6 +11,8 @@ import static mame.cpuintrf.*;
 import static mame.common.*;
 import static mame.commonH.*;
 import static arcadeflex.ptrlib.*;
+import static mame.sndintrf.soundlatch_r;
+import static mame.sndintrf.soundlatch2_r;
 
 public class memory {
     static int BYTE_XOR_BE(int a) { return a ^ 1; }
@@ -45,10 +47,12 @@ public class memory {
 /*TODO*/ //
     public static UBytePtr OP_RAM = new UBytePtr();
     public static UBytePtr OP_ROM = new UBytePtr();
+    public static int opbase_changes;	/* bumped whenever OP_RAM/OP_ROM are moved */
 
-    static void SET_OP_RAMROM(UBytePtr _base) {
-        OP_ROM = new UBytePtr(_base, (OP_ROM.offset - OP_RAM.offset));
-        OP_RAM = new UBytePtr(_base);
+    static void SET_OP_RAMROM(UBytePtr _base, int offset) {
+        OP_ROM.set(_base.memory, _base.offset + offset + (OP_ROM.offset - OP_RAM.offset));
+        OP_RAM.set(_base.memory, _base.offset + offset);
+        opbase_changes++;
     }
 
     public static UByte ophw = new UByte(); /* op-code hardware number */
@@ -1031,8 +1035,9 @@ public class memory {
 
         /* op code memory pointer */
         ophw.set((char) HT_RAM);
-        OP_RAM = cpu_bankbase[0];
-        OP_ROM = romptr[activecpu];
+        OP_RAM.set(cpu_bankbase[0], 0);
+        OP_ROM.set(romptr[activecpu], 0);
+        opbase_changes++;
     }
 
     public static void memory_shutdown() {
@@ -1096,87 +1101,111 @@ public class memory {
 /*TODO*/ //
 
     public static int cpu_readmem16(int address) {
-        UByte hw = new UByte();
-
         /* first-level lookup */
-        hw.set(cur_mrhard[address >>> (ABITS2_16 + ABITS_MIN_16)]);
+        int hw = cur_mrhard[address >>> (ABITS2_16 + ABITS_MIN_16)];
 
         /* for compatibility with setbankhandler, 8-bit systems must call handlers */
         /* for banked memory reads/writes */
-        if (hw.read() == HT_RAM) {
+        if (hw == HT_RAM) {
             return cpu_bankbase[HT_RAM].memory[cpu_bankbase[HT_RAM].offset + address];
         }
 
         /* second-level lookup */
-        if (hw.read() >= MH_HARDMAX) {
-            hw.set((char) (hw.read() - MH_HARDMAX));
-            hw.set(readhardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))));
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = readhardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))];
 
             /* for compatibility with setbankhandler, 8-bit systems must call handlers */
             /* for banked memory reads/writes */
-            if (hw.read() == HT_RAM) {
+            if (hw == HT_RAM) {
                 return cpu_bankbase[HT_RAM].read(address);
             }
         }
         /* fall back to handler */
 
-        return memoryreadhandler[hw.read()].handler(address - memoryreadoffset[hw.read()]);
+        return memoryreadhandler[hw].handler(address - memoryreadoffset[hw]);
     }
 
-    public static int cpu_readmem20(int address) {
-        UByte hw = new UByte();
+    /* 1 if reading address on the active 16 bit cpu has no side effect and   */
+    /* returns the same value as long as the cpu itself doesn't write there:  */
+    /* RAM, ROM, banks and the sound latches, which only change in timer      */
+    /* callbacks, i.e. between two timeslices                                 */
+    public static int cpu_readmem16_constant(int address) {
+        int hw = cur_mrhard[address >>> (ABITS2_16 + ABITS_MIN_16)];
+
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = readhardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))];
+        }
+        if (hw == HT_RAM || (hw >= HT_BANK1 && hw <= HT_BANKMAX) || hw == HT_NOP) {
+            return 1;
+        }
+        if (hw >= HT_USER && (memoryreadhandler[hw] == soundlatch_r || memoryreadhandler[hw] == soundlatch2_r)) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /* 1 if the active 16 bit cpu can't change address by writing to it: */
+    /* ROM, NOP and unmapped memory                                       */
+    public static int cpu_writemem16_ignored(int address) {
+        int hw = cur_mwhard[address >>> (ABITS2_16 + ABITS_MIN_16)];
+
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = writehardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))];
+        }
+        return (hw == HT_ROM || hw == HT_NOP || hw == HT_NON) ? 1 : 0;
+    }
 
+    public static int cpu_readmem20(int address) {
         /* first-level lookup */
-        hw.set(cur_mrhard[address >>> (ABITS2_20 + ABITS_MIN_20)]);
+        int hw = cur_mrhard[address >>> (ABITS2_20 + ABITS_MIN_20)];
 
         /* for compatibility with setbankhandler, 8-bit systems must call handlers */
         /* for banked memory reads/writes */
-        if (hw.read() == HT_RAM) {
+        if (hw == HT_RAM) {
             return cpu_bankbase[HT_RAM].memory[cpu_bankbase[HT_RAM].offset + address];
         }
 
         /* second-level lookup */
-        if (hw.read() >= MH_HARDMAX) {
-            hw.set((char) (hw.read() - MH_HARDMAX));
-            hw.set(readhardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_20) & MHMASK(ABITS2_20))));
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = readhardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_20) & MHMASK(ABITS2_20))];
 
             /* for compatibility with setbankhandler, 8-bit systems must call handlers */
             /* for banked memory reads/writes */
-            if (hw.read() == HT_RAM) {
+            if (hw == HT_RAM) {
                 return cpu_bankbase[HT_RAM].read(address);
             }
         }
         /* fall back to handler */
 
-        return memoryreadhandler[hw.read()].handler(address - memoryreadoffset[hw.read()]);
+        return memoryreadhandler[hw].handler(address - memoryreadoffset[hw]);
+    }
+    public static int cpu_readmem24(int address) {
+        /* first-level lookup */
+        int hw = cur_mrhard[address >>> (ABITS2_24 + ABITS_MIN_24)];
+
+        if (hw <= HT_BANKMAX) {
+            return cpu_bankbase[hw].memory[BYTE_XOR_BE(address) - memoryreadoffset[hw]];
+        }
+
+        /* second-level lookup */
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = readhardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+
+            if (hw <= HT_BANKMAX) {
+                return cpu_bankbase[hw].memory[BYTE_XOR_BE(address) - memoryreadoffset[hw]];
+            }
+        }
+
+        /* fall back to handler */
+        int shift = (address & 1) << 3;
+        int data = memoryreadhandler[hw].handler((address & ~1) - memoryreadoffset[hw]);
+        return (data >> (shift ^ 8)) & 0xff;
     }
-    public static int cpu_readmem24(int address)																	
-{																						
-	UByte hw = new UByte();																			
-																						
-	/* first-level lookup */															
-	hw.set(cur_mrhard[address >>> (ABITS2_24 + ABITS_MIN_24)]);			
-																																
-	if (hw.read() <= HT_BANKMAX)										
-	{																																		
-           return cpu_bankbase[hw.read()].memory[BYTE_XOR_BE(address) - memoryreadoffset[hw.read()]];			
-	}																					
-																						
-	/* second-level lookup */															
-	if (hw.read() >= MH_HARDMAX)																
-	{																					
-		hw.set((char) (hw.read() - MH_HARDMAX));																
-		hw.set(readhardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))));	
-																																
-		if (hw.read() <= HT_BANKMAX)									
-		{																																
-				return cpu_bankbase[hw.read()].memory[BYTE_XOR_BE(address) - memoryreadoffset[hw.read()]];	
-		}																				
-	}																																									
-		int shift = (address & 1) << 3;													
-		int data = (memoryreadhandler[hw.read()]).handler((address & ~1) - memoryreadoffset[hw.read()]);																
-		return (data >> (shift ^ 8)) & 0xff;																															
-}
     /*TODO*/ ///* generic byte-sized read handler */
 /*TODO*/ //#define READBYTE(name,type,abits)														\
 /*TODO*/ //int name(int address)																	\
@@ -1234,25 +1263,25 @@ public class memory {
 /*TODO*/ ///* generic word-sized read handler (16-bit aligned only!) */
 
     public static int cpu_readmem24_word(int address) {
-        UByte hw = new UByte();	
         /* handle aligned case first */
         if ((address & 1) == 0) {
-            /* first-level lookup */				
-                hw.set(cur_mrhard[address >>> (ABITS2_24 + ABITS_MIN_24)]);		
-		if (hw.read() <= HT_BANKMAX)															
-			return cpu_bankbase[hw.read()].READ_WORD(address - memoryreadoffset[hw.read()]);		
-																						
-		/* second-level lookup */														
-		if (hw.read() >= MH_HARDMAX)															
-		{																				
-			hw.set((char) (hw.read() - MH_HARDMAX));															
-			hw.set(readhardware.memory[(hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))]);	
-			if (hw.read() <= HT_BANKMAX)														
-				return cpu_bankbase[hw.read()].READ_WORD(address - memoryreadoffset[hw.read()]);	
-		}																				
-																						
-		/* fall back to handler */														
-		return (memoryreadhandler[hw.read()]).handler(address - memoryreadoffset[hw.read()]);	
+            /* first-level lookup */
+            int hw = cur_mrhard[address >>> (ABITS2_24 + ABITS_MIN_24)];
+            if (hw <= HT_BANKMAX) {
+                return cpu_bankbase[hw].READ_WORD(address - memoryreadoffset[hw]);
+            }
+
+            /* second-level lookup */
+            if (hw >= MH_HARDMAX) {
+                hw -= MH_HARDMAX;
+                hw = readhardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+                if (hw <= HT_BANKMAX) {
+                    return cpu_bankbase[hw].READ_WORD(address - memoryreadoffset[hw]);
+                }
+            }
+
+            /* fall back to handler */
+            return memoryreadhandler[hw].handler(address - memoryreadoffset[hw]);
         } /* unaligned case */ else {
             int data = cpu_readmem24(address) << 8;
             return data | (cpu_readmem24(address + 1) & 0xff);
@@ -1306,40 +1335,38 @@ public class memory {
 /*TODO*/ //#define READLONG(name,type,abits,align)			
 
     public static int cpu_readmem24_dword(int address) {
-        int word1, word2;																
-	UByte hw1 = new UByte();	
-        UByte hw2 = new UByte();	
+        int word1, word2;
         if (/*align == ALWAYS_ALIGNED || */(address & 1) == 0) {
-            //int address2 = (address + 2) & ADDRESS_MASK(24);								
-	int address2 = (int)((address + 2) & ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) | ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) - 1)));																				
-		/* first-level lookup */														
-		hw1.set(cur_mrhard[address >> (ABITS2_24 + ABITS_MIN_24)]);		
-		hw2.set(cur_mrhard[address2 >> (ABITS2_24 + ABITS_MIN_24)]);		
-																						
-		/* second-level lookup */														
-		if (hw1.read() >= MH_HARDMAX)															
-		{																				
-			hw1.set((char) (hw1.read() - MH_HARDMAX));															
-			hw1.set(readhardware.memory[(hw1.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))]);	
-		}																				
-		if (hw2.read() >= MH_HARDMAX)															
-		{																				
-			hw2.set((char) (hw2.read() - MH_HARDMAX));															
-			hw2.set(readhardware.memory[(hw2.read() << MH_SBITS) + ((address2 >> ABITS_MIN_24) & MHMASK(ABITS2_24))]);	
-		}																				
-																						
-		/* process each word */															
-		if (hw1.read() <= HT_BANKMAX)															
-			word1 = cpu_bankbase[hw1.read()].READ_WORD(address - memoryreadoffset[hw1.read()]);		
-		else																			
-			word1 = (memoryreadhandler[hw1.read()]).handler(address - memoryreadoffset[hw1.read()]);			
-		if (hw2.read() <= HT_BANKMAX)															
-			word2 = cpu_bankbase[hw2.read()].READ_WORD(address2 - memoryreadoffset[hw2.read()]);	
-		else																			
-			word2 = (memoryreadhandler[hw2.read()]).handler(address2 - memoryreadoffset[hw2.read()]);		
-																						
-		/* fall back to handler */																												
-			return ((word1 << 16)) | (word2 & 0xffff);	
+            //int address2 = (address + 2) & ADDRESS_MASK(24);
+            int address2 = (int) ((address + 2) & ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) | ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) - 1)));
+            /* first-level lookup */
+            int hw1 = cur_mrhard[address >> (ABITS2_24 + ABITS_MIN_24)];
+            int hw2 = cur_mrhard[address2 >> (ABITS2_24 + ABITS_MIN_24)];
+
+            /* second-level lookup */
+            if (hw1 >= MH_HARDMAX) {
+                hw1 -= MH_HARDMAX;
+                hw1 = readhardware.memory[(hw1 << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+            }
+            if (hw2 >= MH_HARDMAX) {
+                hw2 -= MH_HARDMAX;
+                hw2 = readhardware.memory[(hw2 << MH_SBITS) + ((address2 >> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+            }
+
+            /* process each word */
+            if (hw1 <= HT_BANKMAX) {
+                word1 = cpu_bankbase[hw1].READ_WORD(address - memoryreadoffset[hw1]);
+            } else {
+                word1 = memoryreadhandler[hw1].handler(address - memoryreadoffset[hw1]);
+            }
+            if (hw2 <= HT_BANKMAX) {
+                word2 = cpu_bankbase[hw2].READ_WORD(address2 - memoryreadoffset[hw2]);
+            } else {
+                word2 = memoryreadhandler[hw2].handler(address2 - memoryreadoffset[hw2]);
+            }
+
+            /* fall back to handler */
+            return ((word1 << 16)) | (word2 & 0xffff);
         } else {
             int data = cpu_readmem24(address) << 24;
             data |= cpu_readmem24_word(address + 1) << 8;
@@ -1447,183 +1474,150 @@ public class memory {
     //TODO CHECK IF IT IS Valid (added it only for testing) (shadow)
     public static void cpu_writemem16(int address, int data) {
         /* first-level lookup */
-        UByte hw = new UByte();
-        hw.set(cur_mwhard[address >>> (ABITS2_16 + ABITS_MIN_16)]);
+        int hw = cur_mwhard[address >>> (ABITS2_16 + ABITS_MIN_16)];
 
         /* for compatibility with setbankhandler, 8-bit systems must call handlers */
         /* for banked memory reads/writes */
-        if (hw.read() == HT_RAM) {
+        if (hw == HT_RAM) {
             cpu_bankbase[HT_RAM].memory[cpu_bankbase[HT_RAM].offset + address] = (char) data;
             return;
         }
 
         /* second-level lookup */
-        if (hw.read() >= MH_HARDMAX) {
-            hw.set((char) (hw.read() - MH_HARDMAX));
-            hw.set(writehardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))));
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = writehardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_16) & MHMASK(ABITS2_16))];
             /* for compatibility with setbankhandler, 8-bit systems must call handlers */
             /* for banked memory reads/writes */
-            if (hw.read() == HT_RAM) {
+            if (hw == HT_RAM) {
                 cpu_bankbase[HT_RAM].write(address, data);
                 return;
             }
         }
 
-        memorywritehandler[hw.read()].handler(address - memorywriteoffset[hw.read()], data);
+        memorywritehandler[hw].handler(address - memorywriteoffset[hw], data);
     }
 
     public static void cpu_writemem20(int address, int data) {
         /* first-level lookup */
-        UByte hw = new UByte();
-        hw.set(cur_mwhard[address >>> (ABITS2_20 + ABITS_MIN_20)]);
+        int hw = cur_mwhard[address >>> (ABITS2_20 + ABITS_MIN_20)];
 
         /* for compatibility with setbankhandler, 8-bit systems must call handlers */
         /* for banked memory reads/writes */
-        if (hw.read() == HT_RAM) {
+        if (hw == HT_RAM) {
             cpu_bankbase[HT_RAM].memory[cpu_bankbase[HT_RAM].offset + address] = (char) data;
             return;
         }
 
         /* second-level lookup */
-        if (hw.read() >= MH_HARDMAX) {
-            hw.set((char) (hw.read() - MH_HARDMAX));
-            hw.set(writehardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_20) & MHMASK(ABITS2_20))));
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = writehardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_20) & MHMASK(ABITS2_20))];
             /* for compatibility with setbankhandler, 8-bit systems must call handlers */
             /* for banked memory reads/writes */
-            if (hw.read() == HT_RAM) {
+            if (hw == HT_RAM) {
                 cpu_bankbase[HT_RAM].write(address, data);
                 return;
             }
         }
 
-        memorywritehandler[hw.read()].handler(address - memorywriteoffset[hw.read()], data);
+        memorywritehandler[hw].handler(address - memorywriteoffset[hw], data);
     }
-    public static void cpu_writemem24(int address, int data)														
-    {																						
-            UByte hw = new UByte();																			
-
-            /* first-level lookup */															
-            hw.set(cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)]);
-            if (hw.read() <= HT_BANKMAX)										
-            {																																		
-                            cpu_bankbase[hw.read()].memory[BYTE_XOR_BE(address) - memorywriteoffset[hw.read()]] = (char)data;				
-                    return;																			
-            }																					
-
-            /* second-level lookup */															
-            if (hw.read() >= MH_HARDMAX)																
-            {																					
-                    hw.set((char) (hw.read() - MH_HARDMAX));	
-                    hw.set(writehardware.read((hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))));
-                    	
-
-                    if (hw.read() <= HT_BANKMAX)									
-                    {																																	
-                            cpu_bankbase[hw.read()].memory[BYTE_XOR_BE(address) - memorywriteoffset[hw.read()]] = (char)data;	
-                            return;																		
-                    }																				
-            }																					
-
-            /* fall back to handler */																																			
-                    int shift = (address & 1) << 3;													
-                    shift ^= 8;																	
-                    data = (0xff000000 >>> shift) | ((data & 0xff) << shift);	//unsigned??					
-                    address &= ~1;																																					
-            (memorywritehandler[hw.read()]).handler(address - memorywriteoffset[hw.read()], data);					
+    public static void cpu_writemem24(int address, int data) {
+        /* first-level lookup */
+        int hw = cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)];
+        if (hw <= HT_BANKMAX) {
+            cpu_bankbase[hw].memory[BYTE_XOR_BE(address) - memorywriteoffset[hw]] = (char) data;
+            return;
+        }
+
+        /* second-level lookup */
+        if (hw >= MH_HARDMAX) {
+            hw -= MH_HARDMAX;
+            hw = writehardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+
+            if (hw <= HT_BANKMAX) {
+                cpu_bankbase[hw].memory[BYTE_XOR_BE(address) - memorywriteoffset[hw]] = (char) data;
+                return;
+            }
+        }
+
+        /* fall back to handler */
+        int shift = (address & 1) << 3;
+        shift ^= 8;
+        data = (0xff000000 >>> shift) | ((data & 0xff) << shift);	//unsigned??
+        address &= ~1;
+        memorywritehandler[hw].handler(address - memorywriteoffset[hw], data);
     }
-    public static void cpu_writemem24_word(int address, int data)													
-    {																						
-            UByte hw = new UByte();																			
-
-            /* handle aligned case first */														
-            if ((address & 1)==0)										
-            {																					
-                    /* first-level lookup */														
-                    hw.set(cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)]);		
-                    if (hw.read() <= HT_BANKMAX)															
-                    {																				
-                            cpu_bankbase[hw.read()].WRITE_WORD(address - memorywriteoffset[hw.read()], data);		
-                            return;																		
-                    }																				
-
-                    /* second-level lookup */														
-                    if (hw.read() >= MH_HARDMAX)															
-                    {																				
-                            hw.set((char) (hw.read() - MH_HARDMAX));															
-                            hw.set(writehardware.memory[(hw.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))]); 
-                            if (hw.read() <= HT_BANKMAX)														
-                            {																			
-                                    cpu_bankbase[hw.read()].WRITE_WORD(address - memorywriteoffset[hw.read()], data);	
-                                    return;																	
-                            }																			
-                    }																				
-
-                    /* fall back to handler */														
-                    (memorywritehandler[hw.read()]).handler(address - memorywriteoffset[hw.read()], data & 0xffff);		
-            }																					
-
-            /* unaligned case */																
-            else													
-            {																					
-                    cpu_writemem24(address, data >> 8);														
-                    cpu_writemem24(address + 1, data & 0xff);													
-            }																																									
+    public static void cpu_writemem24_word(int address, int data) {
+        /* handle aligned case first */
+        if ((address & 1) == 0) {
+            /* first-level lookup */
+            int hw = cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)];
+            if (hw <= HT_BANKMAX) {
+                cpu_bankbase[hw].WRITE_WORD(address - memorywriteoffset[hw], data);
+                return;
+            }
+
+            /* second-level lookup */
+            if (hw >= MH_HARDMAX) {
+                hw -= MH_HARDMAX;
+                hw = writehardware.memory[(hw << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+                if (hw <= HT_BANKMAX) {
+                    cpu_bankbase[hw].WRITE_WORD(address - memorywriteoffset[hw], data);
+                    return;
+                }
+            }
+
+            /* fall back to handler */
+            memorywritehandler[hw].handler(address - memorywriteoffset[hw], data & 0xffff);
+        } /* unaligned case */ else {
+            cpu_writemem24(address, data >> 8);
+            cpu_writemem24(address + 1, data & 0xff);
+        }
+    }
+    public static void cpu_writemem24_dword(int address, int data) {
+        int word1, word2;
+
+        /* handle aligned case first */
+        if ((address & 1) == 0) {
+            //int address2 = (address + 2) & ADDRESS_MASK(24);
+            int address2 = (int) ((address + 2) & ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) | ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) - 1)));
+
+            /* first-level lookup */
+            int hw1 = cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)];
+            int hw2 = cur_mwhard[address2 >>> (ABITS2_24 + ABITS_MIN_24)];
+
+            /* second-level lookup */
+            if (hw1 >= MH_HARDMAX) {
+                hw1 -= MH_HARDMAX;
+                hw1 = writehardware.memory[(hw1 << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+            }
+            if (hw2 >= MH_HARDMAX) {
+                hw2 -= MH_HARDMAX;
+                hw2 = writehardware.memory[(hw2 << MH_SBITS) + ((address2 >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
+            }
+            /* extract words */
+            word1 = (data >> 16); //should be unsigned??
+            word2 = data & 0xffff;
+
+            /* process each word */
+            if (hw1 <= HT_BANKMAX) {
+                cpu_bankbase[hw1].WRITE_WORD(address - memorywriteoffset[hw1], word1);
+            } else {
+                memorywritehandler[hw1].handler(address - memorywriteoffset[hw1], word1);
+            }
+            if (hw2 <= HT_BANKMAX) {
+                cpu_bankbase[hw2].WRITE_WORD(address2 - memorywriteoffset[hw2], word2);
+            } else {
+                memorywritehandler[hw2].handler(address2 - memorywriteoffset[hw2], word2);
+            }
+        } /* unaligned case */ else {
+            cpu_writemem24(address, (data >> 24));
+            cpu_writemem24_word(address + 1, (data >> 8) & 0xffff);
+            cpu_writemem24(address + 3, data & 0xff);
+        }
     }
-    public static void cpu_writemem24_dword(int address, int data)												
-{																						
-	int word1, word2;																
-	UByte hw1 = new UByte();	
-        UByte hw2 = new UByte();																	
-																																											
-	/* handle aligned case first */														
-	if ((address & 1)==0)										
-	{																							
-                //int address2 = (address + 2) & ADDRESS_MASK(24);								
-                int address2 = (int)((address + 2) & ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) | ((1 << (ABITS1_24 + ABITS2_24 + ABITS_MIN_24 - 1)) - 1)));																				
-
-																						
-		/* first-level lookup */
-                hw1.set(cur_mwhard[address >>> (ABITS2_24 + ABITS_MIN_24)]);		
-		hw2.set(cur_mwhard[address2 >>> (ABITS2_24 + ABITS_MIN_24)]);
-		
-																						
-		/* second-level lookup */	
-                if (hw1.read() >= MH_HARDMAX)															
-		{																				
-			hw1.set((char) (hw1.read() - MH_HARDMAX));															
-			hw1.set(writehardware.memory[(hw1.read() << MH_SBITS) + ((address >>> ABITS_MIN_24) & MHMASK(ABITS2_24))]);	
-		}																				
-		if (hw2.read() >= MH_HARDMAX)															
-		{																				
-			hw2.set((char) (hw2.read() - MH_HARDMAX));															
-			hw2.set(writehardware.memory[(hw2.read() << MH_SBITS) + ((address2 >>> ABITS_MIN_24) & MHMASK(ABITS2_24))]);	
-		}																				
-		/* extract words */																
-																			
-			word1 = (data >> 16); //should be unsigned??															
-			word2 = data & 0xffff;														
-																
-																						
-		/* process each word */															
-		if (hw1.read() <= HT_BANKMAX)															
-			cpu_bankbase[hw1.read()].WRITE_WORD(address - memorywriteoffset[hw1.read()], word1);	
-		else																			
-			(memorywritehandler[hw1.read()]).handler(address - memorywriteoffset[hw1.read()], word1);		
-		if (hw2.read() <= HT_BANKMAX)															
-			cpu_bankbase[hw2.read()].WRITE_WORD(address2 - memorywriteoffset[hw2.read()], word2);	
-		else																			
-			(memorywritehandler[hw2.read()]).handler(address2 - memorywriteoffset[hw2.read()], word2);		
-	}																					
-																						
-	/* unaligned case */																
-	else													
-	{																					
-		cpu_writemem24(address, (data >> 24));														
-		cpu_writemem24_word(address + 1, (data >> 8) & 0xffff);									
-		cpu_writemem24(address + 3, data & 0xff);													
-	}																					
-																					
-}
     /*TODO*/ //void name(int address, int data)														\
 /*TODO*/ //{																						\
 /*TODO*/ //	MHELE hw;																			\
@@ -1885,7 +1879,7 @@ public class memory {
 
     public static setopbase cpu_setOPbase16 = new setopbase() {
         public void handler(int pc, int shift) {
-            UByte hw = new UByte();
+            int hw;
 
             pc = (int) (pc >>> shift);
 
@@ -1898,16 +1892,16 @@ public class memory {
             }
 
             /* perform the lookup */
-            hw.set(cur_mrhard[pc >>> (ABITS2_16 + ABITS_MIN_16)]);
-            if (hw.read() >= MH_HARDMAX) {
-                hw.set((char) (hw.read() - MH_HARDMAX));
-                hw.set(readhardware.read((hw.read() << MH_SBITS) + ((pc >>> ABITS_MIN_16) & MHMASK(ABITS2_16))));
+            hw = cur_mrhard[pc >>> (ABITS2_16 + ABITS_MIN_16)];
+            if (hw >= MH_HARDMAX) {
+                hw -= MH_HARDMAX;
+                hw = readhardware.memory[(hw << MH_SBITS) + ((pc >>> ABITS_MIN_16) & MHMASK(ABITS2_16))];
             }
-            ophw.set(hw.read());
+            ophw.set((char) hw);
 
             /* RAM or banked memory */
-            if (hw.read() <= HT_BANKMAX) {
-                SET_OP_RAMROM(new UBytePtr(cpu_bankbase[hw.read()], (-memoryreadoffset[hw.read()])));
+            if (hw <= HT_BANKMAX) {
+                SET_OP_RAMROM(cpu_bankbase[hw], -memoryreadoffset[hw]);
                 return;
             }
 
@@ -1917,7 +1911,7 @@ public class memory {
     };
     public static setopbase cpu_setOPbase20 = new setopbase() {
         public void handler(int pc, int shift) {
-            UByte hw = new UByte();
+            int hw;
 
             pc = (int) (pc >>> shift);
 
@@ -1930,16 +1924,16 @@ public class memory {
             }
 
             /* perform the lookup */
-            hw.set(cur_mrhard[pc >>> (ABITS2_20 + ABITS_MIN_20)]);
-            if (hw.read() >= MH_HARDMAX) {
-                hw.set((char) (hw.read() - MH_HARDMAX));
-                hw.set(readhardware.read((hw.read() << MH_SBITS) + ((pc >>> ABITS_MIN_20) & MHMASK(ABITS2_20))));
+            hw = cur_mrhard[pc >>> (ABITS2_20 + ABITS_MIN_20)];
+            if (hw >= MH_HARDMAX) {
+                hw -= MH_HARDMAX;
+                hw = readhardware.memory[(hw << MH_SBITS) + ((pc >>> ABITS_MIN_20) & MHMASK(ABITS2_20))];
             }
-            ophw.set(hw.read());
+            ophw.set((char) hw);
 
             /* RAM or banked memory */
-            if (hw.read() <= HT_BANKMAX) {
-                SET_OP_RAMROM(new UBytePtr(cpu_bankbase[hw.read()], (-memoryreadoffset[hw.read()])));
+            if (hw <= HT_BANKMAX) {
+                SET_OP_RAMROM(cpu_bankbase[hw], -memoryreadoffset[hw]);
                 return;
             }
 
@@ -1949,7 +1943,7 @@ public class memory {
     };
     public static setopbase cpu_setOPbase24 = new setopbase() {
         public void handler(int pc, int shift) {
-            UByte hw = new UByte();
+            int hw;
 
             pc = (int) (pc >>> shift);
 
@@ -1962,16 +1956,16 @@ public class memory {
             }
 
             /* perform the lookup */
-            hw.set(cur_mrhard[pc >>> (ABITS2_24 + ABITS_MIN_24)]);
-            if (hw.read() >= MH_HARDMAX) {
-                hw.set((char) (hw.read() - MH_HARDMAX));
-                hw.set(readhardware.read((hw.read() << MH_SBITS) + ((pc >>> ABITS_MIN_24) & MHMASK(ABITS2_24))));
+            hw = cur_mrhard[pc >>> (ABITS2_24 + ABITS_MIN_24)];
+            if (hw >= MH_HARDMAX) {
+                hw -= MH_HARDMAX;
+                hw = readhardware.memory[(hw << MH_SBITS) + ((pc >>> ABITS_MIN_24) & MHMASK(ABITS2_24))];
             }
-            ophw.set(hw.read());
+            ophw.set((char) hw);
 
             /* RAM or banked memory */
-            if (hw.read() <= HT_BANKMAX) {
-                SET_OP_RAMROM(new UBytePtr(cpu_bankbase[hw.read()], (-memoryreadoffset[hw.read()])));
+            if (hw <= HT_BANKMAX) {
+                SET_OP_RAMROM(cpu_bankbase[hw], -memoryreadoffset[hw]);
                 return;
             }
 
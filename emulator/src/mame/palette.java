@@ -59,8 +59,8 @@ public class palette {
         return ((Machine.scrbitmap.depth == 16) ? ((((r) >> 3) << 10) + (((g) >> 3) << 5) + ((b) >> 3)) : ((((r) >> 5) << 5) + (((g) >> 5) << 2) + ((b) >> 6)));
     }
     /*TODO*///
-    /*TODO*///unsigned short *palette_shadow_table;
-    /*TODO*///unsigned short *palette_highlight_table;
+    public static char[] palette_shadow_table;
+    public static char[] palette_highlight_table;
     /*TODO*///
     /*TODO*///
     /*TODO*///
@@ -155,17 +155,14 @@ public class palette {
             palette_used_colors = old_used_colors = just_remapped = new_palette = palette_dirty = null;
         }
         /*TODO*///
-    /*TODO*///	if (Machine->color_depth == 8) num = 256;
-    /*TODO*///	else num = 65536;
-    /*TODO*///	palette_shadow_table = malloc(2 * num * sizeof(unsigned short));
-    /*TODO*///	if (palette_shadow_table == 0)
-    /*TODO*///	{
-    /*TODO*///		palette_stop();
-    /*TODO*///		return 1;
-    /*TODO*///	}
-    /*TODO*///	palette_highlight_table = palette_shadow_table + num;
-    /*TODO*///	for (i = 0;i < num;i++)
-    /*TODO*///		palette_shadow_table[i] = palette_highlight_table[i] = i;
+        int num;
+        if (Machine.color_depth == 8) num = 256;
+        else num = 65536;
+        palette_shadow_table = new char[num];//malloc(2 * num * sizeof(unsigned short));
+        palette_highlight_table = new char[num];//palette_shadow_table + num;
+        for (int i = 0; i < num; i++) {
+            palette_shadow_table[i] = palette_highlight_table[i] = (char) i;
+        }
     /*TODO*///
     /*TODO*///	if ((Machine->drv->color_table_len && (Machine->game_colortable == 0 || Machine->remapped_colortable == 0))
     /*TODO*///			|| game_palette == 0 ||	palette_map == 0
@@ -197,8 +194,7 @@ public class palette {
     /*TODO*///	shrinked_palette = 0;
     /*TODO*///	free(Machine->pens);
     /*TODO*///	Machine->pens = 0;
-    /*TODO*///	free(palette_shadow_table);
-    /*TODO*///	palette_shadow_table = 0;
+        palette_shadow_table = palette_highlight_table = null;//free(palette_shadow_table);
     }
 
     public static int palette_init() {
@@ -365,30 +361,29 @@ public class palette {
             break;
 
             case PALETTIZED_16BIT: {
-                throw new UnsupportedOperationException("palette_init() PALETTIZED_16BIT unimplemented");
-                /*TODO*///			for (i = 0;i < RESERVED_PENS;i++)
-    /*TODO*///			{
-    /*TODO*///				shrinked_palette[3*i + 0] =
-    /*TODO*///				shrinked_palette[3*i + 1] =
-    /*TODO*///				shrinked_palette[3*i + 2] = 0;
-    /*TODO*///			}
-    /*TODO*///
-    /*TODO*///			for (i = 0;i < Machine->drv->total_colors;i++)
-    /*TODO*///			{
-    /*TODO*///				shrinked_palette[3*(i+RESERVED_PENS) + 0] = game_palette[3*i + 0];
-    /*TODO*///				shrinked_palette[3*(i+RESERVED_PENS) + 1] = game_palette[3*i + 1];
-    /*TODO*///				shrinked_palette[3*(i+RESERVED_PENS) + 2] = game_palette[3*i + 2];
-    /*TODO*///			}
-    /*TODO*///
-    /*TODO*///			if (osd_allocate_colors(total_shrinked_pens,shrinked_palette,shrinked_pens,(Machine->drv->video_attributes & VIDEO_MODIFIES_PALETTE)))
-    /*TODO*///				return 1;
-    /*TODO*///
-    /*TODO*///			for (i = 0;i < Machine->drv->total_colors;i++)
-    /*TODO*///				Machine->pens[i] = shrinked_pens[i + RESERVED_PENS];
-    /*TODO*///
-    /*TODO*///			palette_transparent_pen = shrinked_pens[TRANSPARENT_PEN];	/* for dynamic palette games */
+                for (i = 0; i < RESERVED_PENS; i++) {
+                    shrinked_palette[3 * i + 0].set((char) 0);
+                    shrinked_palette[3 * i + 1].set((char) 0);
+                    shrinked_palette[3 * i + 2].set((char) 0);
+                }
+
+                for (i = 0; i < Machine.drv.total_colors; i++) {
+                    shrinked_palette[3 * (i + RESERVED_PENS) + 0].set(game_palette[3 * i + 0].read());
+                    shrinked_palette[3 * (i + RESERVED_PENS) + 1].set(game_palette[3 * i + 1].read());
+                    shrinked_palette[3 * (i + RESERVED_PENS) + 2].set(game_palette[3 * i + 2].read());
+                }
+
+                if (osd_allocate_colors(total_shrinked_pens, shrinked_palette, shrinked_pens, (Machine.drv.video_attributes & VIDEO_MODIFIES_PALETTE)) != 0) {
+                    return 1;
+                }
+
+                for (i = 0; i < Machine.drv.total_colors; i++) {
+                    Machine.pens[i] = shrinked_pens[i + RESERVED_PENS];
+                }
+
+                palette_transparent_pen = shrinked_pens[TRANSPARENT_PEN];	/* for dynamic palette games */
             }
-            /*TODO*///		break;
+            break;
         }
 
         for (i = 0; i < Machine.drv.color_table_len; i++) {
@@ -440,28 +435,29 @@ public class palette {
         }
     }
 
-    /*TODO*///INLINE void palette_change_color_16_palettized(int color,unsigned char red,unsigned char green,unsigned char blue)
-    /*TODO*///{
-    /*TODO*///	if (color == palette_transparent_color)
-    /*TODO*///	{
-    /*TODO*///		osd_modify_pen(palette_transparent_pen,red,green,blue);
-    /*TODO*///
-    /*TODO*///		if (color == -1) return;	/* by default, palette_transparent_color is -1 */
-    /*TODO*///	}
-    /*TODO*///
-    /*TODO*///	if (	game_palette[3*color + 0] == red &&
-    /*TODO*///			game_palette[3*color + 1] == green &&
-    /*TODO*///			game_palette[3*color + 2] == blue)
-    /*TODO*///		return;
-    /*TODO*///
-    /*TODO*///	/* Machine->pens[color] might have been remapped to transparent_pen, so I */
-    /*TODO*///	/* use shrinked_pens[] directly */
-    /*TODO*///	osd_modify_pen(shrinked_pens[color + RESERVED_PENS],red,green,blue);
-    /*TODO*///	game_palette[3*color + 0] = red;
-    /*TODO*///	game_palette[3*color + 1] = green;
-    /*TODO*///	game_palette[3*color + 2] = blue;
-    /*TODO*///}
-    /*TODO*///
+    public static void palette_change_color_16_palettized(int color, int red, int green, int blue) {
+        if (color == palette_transparent_color) {
+            osd_modify_pen(palette_transparent_pen, red, green, blue);
+
+            if (color == -1) {
+                return;	/* by default, palette_transparent_color is -1 */
+            }
+        }
+
+        if (game_palette[3 * color + 0].read() == red
+                && game_palette[3 * color + 1].read() == green
+                && game_palette[3 * color + 2].read() == blue) {
+            return;
+        }
+
+        /* Machine->pens[color] might have been remapped to transparent_pen, so I */
+        /* use shrinked_pens[] directly */
+        osd_modify_pen(shrinked_pens[color + RESERVED_PENS], red, green, blue);
+        game_palette[3 * color + 0].set((char) red);
+        game_palette[3 * color + 1].set((char) green);
+        game_palette[3 * color + 2].set((char) blue);
+    }
+
     public static void palette_change_color_8(int color, int red, int green, int blue) {
         int pen;
 
@@ -521,9 +517,8 @@ public class palette {
                 palette_change_color_16_static(color, red, green, blue);
                 break;
             case PALETTIZED_16BIT:
-                throw new UnsupportedOperationException("palette change color");
-            /*TODO*///			palette_change_color_16_palettized(color,red,green,blue);
-    /*TODO*///			break;
+                palette_change_color_16_palettized(color, red, green, blue);
+                break;
         }
     }
     /*TODO*///
@@ -573,7 +568,7 @@ public class palette {
         }
     }
 
-    public static void palette_increase_usage_countx(int table_offset, int num_pens, UBytePtr pen_data, int color_flags) {
+    public static void palette_increase_usage_countx(int table_offset, int num_pens, GfxDataPtr pen_data, int color_flags) {
         int[] flag = new int[256];
         memset(flag, 0, 256);
 
@@ -591,7 +586,7 @@ public class palette {
         }
     }
 
-    public static void palette_decrease_usage_countx(int table_offset, int num_pens, UBytePtr pen_data, int color_flags) {
+    public static void palette_decrease_usage_countx(int table_offset, int num_pens, GfxDataPtr pen_data, int color_flags) {
         throw new UnsupportedOperationException("unsupported");
         /*TODO*///	char flag[256];
     /*TODO*///	memset(flag,0,256);
@@ -761,49 +756,50 @@ public class palette {
         }
     }
     /*TODO*///
-    /*TODO*///static const unsigned char *palette_recalc_16_palettized(void)
-    /*TODO*///{
-    /*TODO*///	int i,color;
-    /*TODO*///	int did_remap = 0;
-    /*TODO*///	int need_refresh = 0;
-    /*TODO*///
-    /*TODO*///
-    /*TODO*///	memset(just_remapped,0,Machine->drv->total_colors * sizeof(unsigned char));
-    /*TODO*///
-    /*TODO*///	for (color = 0;color < Machine->drv->total_colors;color++)
-    /*TODO*///	{
-    /*TODO*///		if ((palette_used_colors[color] & PALETTE_COLOR_TRANSPARENT_FLAG) !=
-    /*TODO*///				(old_used_colors[color] & PALETTE_COLOR_TRANSPARENT_FLAG))
-    /*TODO*///		{
-    /*TODO*///			did_remap = 1;
-    /*TODO*///			if (old_used_colors[color] & palette_used_colors[color] & PALETTE_COLOR_CACHED)
-    /*TODO*///			{
-    /*TODO*///				/* the color was and still is cached, we'll have to redraw everything */
-    /*TODO*///				need_refresh = 1;
-    /*TODO*///				just_remapped[color] = 1;
-    /*TODO*///			}
-    /*TODO*///
-    /*TODO*///			if (palette_used_colors[color] & PALETTE_COLOR_TRANSPARENT_FLAG)
-    /*TODO*///				Machine->pens[color] = palette_transparent_pen;
-    /*TODO*///			else
-    /*TODO*///				Machine->pens[color] = shrinked_pens[color + RESERVED_PENS];
-    /*TODO*///		}
-    /*TODO*///
-    /*TODO*///		old_used_colors[color] = palette_used_colors[color];
-    /*TODO*///	}
-    /*TODO*///
-    /*TODO*///
-    /*TODO*///	if (did_remap)
-    /*TODO*///	{
-    /*TODO*///		/* rebuild the color lookup table */
-    /*TODO*///		for (i = 0;i < Machine->drv->color_table_len;i++)
-    /*TODO*///			Machine->remapped_colortable[i] = Machine->pens[Machine->game_colortable[i]];
-    /*TODO*///	}
-    /*TODO*///
-    /*TODO*///	if (need_refresh) return just_remapped;
-    /*TODO*///	else return 0;
-    /*TODO*///}
-    /*TODO*///
+
+    public static UBytePtr palette_recalc_16_palettized() {
+        int i, color;
+        int did_remap = 0;
+        int need_refresh = 0;
+
+        //memset(just_remapped,0,Machine->drv->total_colors * sizeof(unsigned char));
+        for (int mem = 0; mem < Machine.drv.total_colors; mem++) {
+            just_remapped.write(mem, 0);
+        }
+
+        for (color = 0; color < Machine.drv.total_colors; color++) {
+            if ((palette_used_colors.read(color) & PALETTE_COLOR_TRANSPARENT_FLAG)
+                    != (old_used_colors.read(color) & PALETTE_COLOR_TRANSPARENT_FLAG)) {
+                did_remap = 1;
+                if ((old_used_colors.read(color) & palette_used_colors.read(color) & PALETTE_COLOR_CACHED) != 0) {
+                    /* the color was and still is cached, we'll have to redraw everything */
+                    need_refresh = 1;
+                    just_remapped.write(color, 1);
+                }
+
+                if ((palette_used_colors.read(color) & PALETTE_COLOR_TRANSPARENT_FLAG) != 0) {
+                    Machine.pens[color] = palette_transparent_pen;
+                } else {
+                    Machine.pens[color] = shrinked_pens[color + RESERVED_PENS];
+                }
+            }
+
+            old_used_colors.write(color, palette_used_colors.read(color));
+        }
+
+        if (did_remap != 0) {
+            /* rebuild the color lookup table */
+            for (i = 0; i < Machine.drv.color_table_len; i++) {
+                Machine.remapped_colortable[i] = Machine.pens[Machine.game_colortable[i]];
+            }
+        }
+
+        if (need_refresh != 0) {
+            return just_remapped;
+        } else {
+            return null;
+        }
+    }
 
     public static UBytePtr palette_recalc_8() {
         int i, color;
@@ -1123,8 +1119,7 @@ public class palette {
             case STATIC_16BIT:
                 return palette_recalc_16_static();
             case PALETTIZED_16BIT:
-                throw new UnsupportedOperationException("palette_recalc unimplemented");
-            /*TODO*///			return palette_recalc_16_palettized();
+                return palette_recalc_16_palettized();
         }
     }
     /*TODO*///
@@ -0,0 +1,329 @@
+package mame;
+
+import java.nio.ByteBuffer;
+
+import static arcadeflex.libc_old.*;
+import static mame.mame.*;
+import static mame.runahead.runahead_speculating;
+import static mame.state.*;
+
+/**
+ * Rewind, -rewind <megabytes>. Every real frame the machine is saved and
+ * what changed since the frame before is kept in a ring of that size, out
+ * of the Java heap; holding the rewind key runs the game backwards through
+ * it. Once the ring is full the oldest frames are dropped, so the memory
+ * used never grows and the time it covers depends on how much the game
+ * changes per frame. -rewind reports both when the game is over.
+ *
+ * Only the newest snapshot is kept whole. A ring entry is the XOR of a
+ * snapshot with the one before it, run length coded: a zero run length
+ * and a literal count, both LEB128, then the literal bytes, over and over.
+ * XORing the newest snapshot with the newest entry gives the snapshot
+ * before it, so the frames are walked back from the newest one and the
+ * oldest can be dropped without anything depending on them. Entries have
+ * their length before and after them to be walked both ways. Recording
+ * uses buffers made once, there is no garbage per frame.
+ */
+public class rewind {
+
+    public static final int REWIND_MAX_MB = 1024;	/* the ring is a direct buffer indexed by int */
+
+    public static int rewind_size;	/* bytes of the ring, 0 for off */
+
+    static int rewind_frame_ended;	/* set by updatescreen(), served at the top of cpu_run() */
+    static int rewind_pending;	/* frames to step back at the next timeslice */
+
+    static ByteBuffer ring;
+    static int ring_head;	/* where the next entry goes */
+    static int ring_tail;	/* the oldest entry */
+    static int ring_used;
+    static int ring_entries;
+
+    static ByteBuffer current;	/* the snapshot being taken */
+    static int current_taken;	/* current holds the real frame just over */
+    static byte[] newest;	/* the newest snapshot, the ring leads back from it */
+    static ByteBuffer newest_buffer;
+    static int newest_length;
+    static byte[] delta;	/* the entry being coded */
+
+    static long frames_recorded, bytes_recorded, record_time;
+    static int frames_rewound, largest_entry;
+
+    public static void rewind_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-rewind") == 0) {
+                i++;
+                if (i < argc) {
+                    int megabytes;
+
+                    try {
+                        megabytes = Integer.parseInt(argv[i]);
+                    } catch (NumberFormatException e) {
+                        megabytes = -1;
+                    }
+                    if (megabytes < 0 || megabytes > REWIND_MAX_MB) {
+                        printf("-rewind takes 0 to %d megabytes, not \"%s\", running without\n", REWIND_MAX_MB, argv[i]);
+                        megabytes = 0;
+                    }
+                    rewind_size = megabytes << 20;
+                }
+            }
+        }
+    }
+
+    /* called before the CPUs start */
+    public static void rewind_init() {
+        if (rewind_size != 0 && (ring == null || ring.capacity() != rewind_size)) {
+            ring = ByteBuffer.allocateDirect(rewind_size);
+        }
+        rewind_clear();
+        newest_length = 0;
+        rewind_frame_ended = 0;
+        rewind_pending = 0;
+        current_taken = 0;
+    }
+
+    static void rewind_clear() {
+        ring_head = ring_tail = ring_used = ring_entries = 0;
+    }
+
+    /* called by updatescreen() at the end of every frame */
+    public static void rewind_frame_done() {
+        rewind_frame_ended = 1;
+    }
+
+    /* have the machine go back frames frames at the next timeslice */
+    public static void rewind_request(int frames) {
+        rewind_pending = frames;
+    }
+
+    /* called by cpu_run() between timeslices once a frame is over */
+    public static void rewind_record() {
+        long start = uclock();
+
+        rewind_frame_ended = 0;
+        if (runahead_speculating != 0) {
+            return;	/* the frame will be thrown away */
+        }
+        current = state_save_buffer(current);
+        if (current == null) {
+            if (errorlog != null) {
+                fprintf(errorlog, "rewind: the machine can't be saved, running without\n");
+            }
+            rewind_size = 0;
+            return;
+        }
+        current_taken = 1;
+
+        byte[] snapshot = current.array();
+        int length = current.limit();
+
+        if (length != newest_length) {
+            /* the first frame, or one the deltas can't lead back to */
+            if (newest == null || newest.length < length) {
+                newest = new byte[length];
+                newest_buffer = ByteBuffer.wrap(newest);
+                delta = new byte[2 * length + 16];
+            }
+            System.arraycopy(snapshot, 0, newest, 0, length);
+            newest_length = length;
+            rewind_clear();
+            return;
+        }
+
+        int size = delta_encode(snapshot, newest, length, delta);
+
+        System.arraycopy(snapshot, 0, newest, 0, length);
+        ring_write(delta, size);
+
+        frames_recorded++;
+        bytes_recorded += size + 8;
+        if (size + 8 > largest_entry) {
+            largest_entry = size + 8;
+        }
+        record_time += uclock() - start;
+    }
+
+    /* the snapshot rewind_record() just took of the real frame, so run-ahead */
+    /* starts from it instead of saving the machine a second time; null when */
+    /* rewind isn't recording                                                 */
+    public static ByteBuffer rewind_snapshot() {
+        ByteBuffer snapshot = current_taken != 0 ? current : null;
+
+        current_taken = 0;
+        return snapshot;
+    }
+
+    /* go back the frames asked for, called by cpu_run() between timeslices */
+    public static void rewind_back() {
+        int frames = rewind_pending;
+
+        if (runahead_speculating != 0) {
+            return;	/* once the machine is back to the real frame */
+        }
+        rewind_pending = 0;
+        if (ring_entries == 0) {
+            return;
+        }
+        while (frames-- > 0 && ring_entries > 0) {
+            int size = ring_get_int(ring_head - 4);
+            int start = ring_head - 4 - size;
+
+            delta_apply(start, size, newest);
+            ring_head = wrap(start - 4);
+            ring_used -= size + 8;
+            ring_entries--;
+            frames_rewound++;
+        }
+        newest_buffer.clear();
+        newest_buffer.limit(newest_length);
+        if (state_load(newest_buffer) != 0 && errorlog != null) {
+            fprintf(errorlog, "rewind: the machine can't be loaded back\n");
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * Deltas
+     * *************************************************************************
+     */
+    static int put_leb(byte[] dst, int pos, int value) {
+        while (value > 0x7f) {
+            dst[pos++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        dst[pos++] = (byte) value;
+        return pos;
+    }
+
+    /* code a ^ b into dst, returns its length */
+    static int delta_encode(byte[] a, byte[] b, int length, byte[] dst) {
+        int pos = 0;
+        int i = 0;
+
+        while (i < length) {
+            int zeros = i;
+
+            while (i < length && a[i] == b[i]) {
+                i++;
+            }
+            zeros = i - zeros;
+
+            /* literals go on until two equal bytes in a row, or the end */
+            int literal = i;
+
+            while (i < length && (a[i] != b[i] || (i + 1 < length && a[i + 1] != b[i + 1]))) {
+                i++;
+            }
+            pos = put_leb(dst, pos, zeros);
+            pos = put_leb(dst, pos, i - literal);
+            for (int j = literal; j < i; j++) {
+                dst[pos++] = (byte) (a[j] ^ b[j]);
+            }
+        }
+        return pos;
+    }
+
+    /* XOR the entry of size bytes at ring position start into snapshot */
+    static void delta_apply(int start, int size, byte[] snapshot) {
+        int pos = wrap(start);
+        int end = wrap(start + size);
+        int i = 0;
+
+        while (pos != end) {
+            int zeros = 0, literal = 0, shift = 0, b;
+
+            do {
+                b = ring.get(pos);
+                pos = wrap(pos + 1);
+                zeros |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            shift = 0;
+            do {
+                b = ring.get(pos);
+                pos = wrap(pos + 1);
+                literal |= (b & 0x7f) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            i += zeros;
+            while (literal-- > 0) {
+                snapshot[i++] ^= ring.get(pos);
+                pos = wrap(pos + 1);
+            }
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * The ring
+     * *************************************************************************
+     */
+    static int wrap(int pos) {
+        int size = ring.capacity();
+
+        return pos < 0 ? pos + size : pos >= size ? pos - size : pos;
+    }
+
+    static int ring_get_int(int pos) {
+        int value = 0;
+
+        for (int i = 0; i < 4; i++) {
+            value |= (ring.get(wrap(pos + i)) & 0xff) << (8 * i);
+        }
+        return value;
+    }
+
+    static void ring_put_int(int pos, int value) {
+        for (int i = 0; i < 4; i++) {
+            ring.put(wrap(pos + i), (byte) (value >> (8 * i)));
+        }
+    }
+
+    static void ring_write(byte[] src, int size) {
+        if (size + 8 > ring.capacity()) {
+            rewind_clear();	/* this frame changed too much to be kept */
+            return;
+        }
+        /* drop the oldest frames until the new one fits */
+        while (ring.capacity() - ring_used < size + 8) {
+            int oldest = ring_get_int(ring_tail);
+
+            ring_tail = wrap(ring_tail + oldest + 8);
+            ring_used -= oldest + 8;
+            ring_entries--;
+        }
+
+        ring_put_int(ring_head, size);
+        int pos = wrap(ring_head + 4);
+        int first = Math.min(size, ring.capacity() - pos);
+
+        ring.position(pos);
+        ring.put(src, 0, first);
+        if (first < size) {
+            ring.position(0);
+            ring.put(src, first, size - first);
+        }
+        ring_put_int(pos + size, size);
+
+        ring_head = wrap(pos + size + 4);
+        ring_used += size + 8;
+        ring_entries++;
+    }
+
+    public static void rewind_report() {
+        double fps = Machine.drv.frames_per_second;
+        double per_frame = frames_recorded != 0 ? (double) bytes_recorded / frames_recorded : 0;
+        double per_minute = per_frame * fps * 60;
+
+        printf("rewind: %d KB ring holding %d frames (%.1f s), %d frames rewound\n",
+                rewind_size >> 10, ring_entries, ring_entries / fps, frames_rewound);
+        printf("rewind: %.0f bytes per frame (largest %d) of a %d byte snapshot, %.1f us per frame over the %d recorded\n",
+                per_frame, largest_entry, newest_length,
+                frames_recorded != 0 ? (double) record_time / frames_recorded * 1000000.0 / UCLOCKS_PER_SEC : 0,
+                frames_recorded);
+        printf("rewind: %.1f KB per minute, the ring holds %.1f minutes\n",
+                per_minute / 1024, per_minute != 0 ? rewind_size / per_minute : 0);
+    }
+}
@@ -0,0 +1,165 @@
+package mame;
+
+import java.nio.ByteBuffer;
+
+import static arcadeflex.libc_old.*;
+import static arcadeflex.sound.audio_suppressed;
+import static arcadeflex.video.video_suppressed;
+import static mame.mame.*;
+import static mame.rewind.rewind_snapshot;
+import static mame.state.*;
+
+/**
+ * Run-ahead, -runahead <frames>. Most games answer a joystick move one or
+ * more frames after they read it; run-ahead shows the frame that is that
+ * many frames ahead instead, so the lag the game adds goes away.
+ *
+ * After every real frame the machine is saved, run frames ahead with the
+ * current inputs and loaded back. Only the last frame run ahead is drawn
+ * and shown, only the real frames are heard, and the real frames alone
+ * read and write the input logs. The cost is frames + 1 emulated frames,
+ * a save and a load for every frame shown; -runahead reports what they
+ * took when the game is over.
+ *
+ * The frames run ahead are silent, audio_suppressed keeps their samples
+ * from the host. The load undoes everything else they did: the CPUs,
+ * memory and timers, and the sound chips, mixer channels and streams that
+ * registered their state with mame.state, so the real frame goes on with
+ * the sound where the last real frame left it. A sound chip that doesn't
+ * register its state keeps what the frames ahead did to it.
+ */
+public class runahead {
+
+    public static final int RUNAHEAD_MAX = 8;	/* a frame shown costs this many more emulated */
+
+    public static int runahead_frames;	/* frames to run ahead, 0 for off */
+    public static int runahead_speculating;	/* the frames running now are thrown away */
+
+    static int runahead_frame_ended;	/* set by updatescreen(), served at the top of cpu_run() */
+    static int runahead_ahead;	/* frames run ahead since the last real one */
+    static ByteBuffer runahead_state;	/* the real frame, rewind's snapshot when it is recording */
+    static ByteBuffer runahead_buffer;	/* the one saved here when it isn't */
+    static long runahead_frame_start;
+
+    /* host time, in uclock() ticks, and count of each kind of frame */
+    static long real_time, hidden_time, shown_time, save_time, load_time;
+    static long hidden_max;
+    static int real_count, hidden_count, shown_count, save_count, load_count;
+
+    public static void runahead_parse_cmdline(int argc, String[] argv) {
+        for (int i = 1; i < argc; i++) {
+            if (stricmp(argv[i], "-runahead") == 0) {
+                i++;
+                if (i < argc) {
+                    try {
+                        runahead_frames = Integer.parseInt(argv[i]);
+                    } catch (NumberFormatException e) {
+                        runahead_frames = -1;
+                    }
+                    if (runahead_frames < 0 || runahead_frames > RUNAHEAD_MAX) {
+                        printf("-runahead takes 0 to %d frames, not \"%s\", running without\n", RUNAHEAD_MAX, argv[i]);
+                        runahead_frames = 0;
+                    }
+                }
+            }
+        }
+    }
+
+    /* called before the CPUs start */
+    public static void runahead_init() {
+        runahead_speculating = 0;
+        runahead_frame_ended = 0;
+        runahead_ahead = 0;
+        video_suppressed = 0;
+        audio_suppressed = 0;
+        runahead_frame_start = uclock();
+    }
+
+    /* called by updatescreen() at the end of every frame */
+    public static void runahead_frame_done() {
+        runahead_frame_ended = 1;
+    }
+
+    /* called by cpu_run() between timeslices once a frame is over */
+    public static void runahead_update() {
+        long now = uclock();
+        long time = now - runahead_frame_start;
+
+        runahead_frame_ended = 0;
+        if (runahead_speculating == 0) {
+            real_time += time;
+            real_count++;
+
+            /* remember the machine as the real frame left it, rewind has */
+            /* just saved it if it is on                                   */
+            runahead_state = rewind_snapshot();
+            if (runahead_state == null) {
+                runahead_buffer = state_save_buffer(runahead_buffer);
+                runahead_state = runahead_buffer;
+            }
+            if (runahead_state == null) {
+                if (errorlog != null) {
+                    fprintf(errorlog, "runahead: the machine can't be saved, running without\n");
+                }
+                runahead_frames = 0;
+                video_suppressed = 0;
+                return;
+            }
+            save_time += uclock() - now;
+            save_count++;
+            runahead_speculating = 1;
+            runahead_ahead = 0;
+            audio_suppressed = 1;
+        } else {
+            runahead_ahead++;
+            if (video_suppressed != 0) {
+                hidden_time += time;
+                hidden_count++;
+                if (time > hidden_max) {
+                    hidden_max = time;
+                }
+            } else {
+                shown_time += time;
+                shown_count++;
+            }
+        }
+
+        if (runahead_ahead == runahead_frames) {
+            /* the frame ahead was shown, go back to the real one, which */
+            /* is heard but not seen                                      */
+            long start = uclock();
+
+            if (state_load(runahead_state) != 0 && errorlog != null) {
+                fprintf(errorlog, "runahead: the machine can't be loaded back\n");
+            }
+            load_time += uclock() - start;
+            load_count++;
+            runahead_speculating = 0;
+            video_suppressed = 1;
+            audio_suppressed = 0;
+        } else {
+            /* only the last frame ahead is drawn */
+            video_suppressed = runahead_ahead + 1 < runahead_frames ? 1 : 0;
+        }
+        runahead_frame_start = uclock();
+    }
+
+    public static void runahead_report() {
+        double frame = (double) UCLOCKS_PER_SEC / Machine.drv.frames_per_second;
+        double real = real_count != 0 ? (double) real_time / real_count : 0;
+        double hidden = hidden_count != 0 ? (double) hidden_time / hidden_count : 0;
+        double shown = shown_count != 0 ? (double) shown_time / shown_count : 0;
+        double save = save_count != 0 ? (double) save_time / save_count : 0;
+        double load = load_count != 0 ? (double) load_time / load_count : 0;
+        double ahead = hidden_count != 0 ? hidden : real;	/* the shown frame's time is mostly throttling */
+        double total = real + runahead_frames * ahead + save + load;
+        double usec = 1000000.0 / UCLOCKS_PER_SEC;
+
+        printf("runahead: %d frames ahead, %d frames shown\n", runahead_frames, shown_count);
+        printf("runahead: real frame %.1f us, frame ahead %.1f us (max %.1f), shown frame %.1f us (with throttling)\n",
+                real * usec, hidden * usec, hidden_max * usec, shown * usec);
+        printf("runahead: save %.1f us, load %.1f us\n", save * usec, load * usec);
+        printf("runahead: %.1f us of emulation per frame shown, %.0f%% of a frame\n",
+                total * usec, 100.0 * total / frame);
+    }
+}
@@ -144,12 +144,12 @@ public class spriteC {
             int flipx_adjust = sprite[sprite_ptr].total_width - 1;
 
             int source_dy;
-            UBytePtr baseaddr = new UBytePtr(sprite[sprite_ptr].pen_data);
-            UBytePtr source;
+            GfxDataPtr baseaddr = new GfxDataPtr(sprite[sprite_ptr].pen_data);
+            GfxDataPtr source;
             UBytePtr dest;
             int x, y;
 
-            source = new UBytePtr(baseaddr, sprite[sprite_ptr].line_offset * sprite[sprite_ptr].y_offset + sprite[sprite_ptr].x_offset);
+            source = new GfxDataPtr(baseaddr, sprite[sprite_ptr].line_offset * sprite[sprite_ptr].y_offset + sprite[sprite_ptr].x_offset);
 
             if (x1 < blit.clip_left) {
                 x1 = blit.clip_left;
@@ -302,13 +302,13 @@ public class spriteC {
             int x, y;
 
             int source_dy;
-            UBytePtr baseaddr = new UBytePtr(sprite[sprite_ptr].pen_data);
-            UBytePtr source;
+            GfxDataPtr baseaddr = new GfxDataPtr(sprite[sprite_ptr].pen_data);
+            GfxDataPtr source;
             UBytePtr dest;
 
             for (xoffset = 0; xoffset < sprite[sprite_ptr].total_width; xoffset += sprite[sprite_ptr].tile_width) {
                 for (yoffset = 0; yoffset < sprite[sprite_ptr].total_height; yoffset += sprite[sprite_ptr].tile_height) {
-                    source = new UBytePtr(baseaddr);
+                    source = new GfxDataPtr(baseaddr);
                     screenx = sprite[sprite_ptr].x - blit.origin_x;
                     screeny = sprite[sprite_ptr].y - blit.origin_y;
 
@@ -550,7 +550,7 @@ public class spriteC {
             }
 
             if ((sprite[sprite_ptr].flags & (SPRITE_SHADOW | SPRITE_PARTIAL_SHADOW)) == 0) {
-                UBytePtr pen_data = new UBytePtr(sprite[sprite_ptr].pen_data);
+                UBytePtr pen_data = new UBytePtr(sprite[sprite_ptr].raw_pen_data);
                 CharPtr pal_data = sprite[sprite_ptr].pal_data;
                 int x, y;
                 /*unsigned*/ char pen;
@@ -24,7 +24,8 @@ public class spriteH {
 
         public int priority, flags;
 
-        public UBytePtr pen_data;	/* points to top left corner of tile data */
+        public GfxDataPtr pen_data;	/* points to top left corner of tile data */
+        public UBytePtr raw_pen_data;	/* the same in the ROM region, for SPRITE_LIST_RAW_DATA lists */
 
         public int line_offset;
 
@@ -0,0 +1,1611 @@
+package mame;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.zip.CRC32;
+
+import arcadeflex.libc.IntSubArray;
+
+import static arcadeflex.libc_old.*;
+import static arcadeflex.ptrlib.*;
+import static mame.common.*;
+import static mame.commonH.*;
+import static mame.cpuintrf.*;
+import static mame.cpuintrfH.*;
+import static mame.driverH.*;
+import static mame.inputportH.*;
+import static mame.mame.*;
+import static mame.memory.*;
+import static mame.memoryH.*;
+import static mame.timer.*;
+
+/**
+ * Machine snapshots. A snapshot holds what the emulation needs to go on from
+ * the point it was taken: the CPU contexts and the cpuintrf interrupt state,
+ * the timers, the writable part of the CPU memory, the banks, the input
+ * ports, the sound latches, whatever drivers and sound chips registered
+ * with state_save_register() and the statics of the driver's own classes.
+ *
+ * Snapshots are taken and restored between two timeslices, at the top of
+ * the cpu_run() loop, where no CPU and no timer callback is running; use
+ * state_request() to have it done there. The CPU contexts, registered
+ * objects and driver statics are written field by field by reflection,
+ * anything else as the C code would. Timer callbacks, memory pointers and
+ * the like are written as indices into a table of the objects they point
+ * to, and the table is saved with the snapshot by the names of the static
+ * fields holding them, so a file can be restored by a later session too.
+ * Objects no static field holds can only be restored by the session that
+ * saved them.
+ *
+ * A snapshot is a header (magic, version, a CRC of the machine's state
+ * layout, the session, the game and where the name table is) followed by
+ * the sections in a fixed order and the name table. A snapshot is checked
+ * from end to end before anything is restored, so one that doesn't fit
+ * leaves the machine alone.
+ */
+public class state {
+
+    static final int STATE_MAGIC = 0x41545341;	/* "ASTA" */
+    static final int STATE_VERSION = 2;
+
+    public static final int STATE_NONE = 0;
+    public static final int STATE_SAVE = 1;
+    public static final int STATE_LOAD = 2;
+
+    /* a snapshot that can't be taken, or doesn't fit this machine */
+    public static class state_exception extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        public state_exception(String message) {
+            super(message);
+        }
+    }
+
+    /* state that isn't plain fields, like pointers into the tables of a */
+    /* sound chip. load() checks the snapshot and only changes the object */
+    /* when apply is set, it is called once without before the real load  */
+    public static interface state_object {
+
+        public void save(ByteBuffer buf) throws state_exception;
+
+        public void load(ByteBuffer buf, int apply) throws state_exception;
+    }
+
+    /* state of drivers and sound chips */
+    static ArrayList<String> registered_names = new ArrayList<String>();
+    static ArrayList<Object> registered = new ArrayList<Object>();
+
+    /* objects snapshots refer to, by index, and the names they are saved by */
+    static ArrayList<Object> refs = new ArrayList<Object>();
+    static ArrayList<String> ref_names = new ArrayList<String>();
+    static IdentityHashMap<Object, Integer> ref_index = new IdentityHashMap<Object, Integer>();
+    static Object[] loaded_refs;	/* the table of the snapshot being loaded */
+    static int loaded_end;	/* and where its sections end */
+
+    static HashMap<Class<?>, Field[]> layouts = new HashMap<Class<?>, Field[]>();
+    static IdentityHashMap<timer_entry, Integer> timer_index = new IdentityHashMap<timer_entry, Integer>();
+    static int[] ram_ranges;	/* writable start/end pairs of all CPU regions, cpu in the top bits */
+    static ArrayList<Class<?>> driver_classes;	/* classes of the drivers, vidhrdw, machine and sndhrdw code the machine uses */
+    static Field[] driver_statics;
+    static int layout_crc;
+    static long session_id;
+    static Object[] cpu_context = new Object[MAX_CPU];	/* copies of the contexts of the CPUs that don't keep one */
+
+    static int state_pending;
+    static String state_filename;
+    static ByteBuffer state_file_buffer;
+
+    /* forget the previous machine, called before the drivers start */
+    public static void state_init() {
+        registered_names.clear();
+        registered.clear();
+        refs.clear();
+        ref_names.clear();
+        ref_index.clear();
+        loaded_refs = null;
+        timer_index.clear();
+        ram_ranges = null;
+        driver_classes = null;
+        driver_statics = null;
+        layout_crc = 0;
+        session_id = new Random().nextLong();
+        Arrays.fill(cpu_context, null);
+        state_pending = STATE_NONE;
+    }
+
+    /* add the state of a chip or driver to the snapshots. state is a primitive */
+    /* array, a state_object, or an object whose primitive fields, primitive    */
+    /* arrays and plain data objects of its own package are saved; transient    */
+    /* fields are left out                                                      */
+    public static void state_save_register(String module, int instance, Object state) {
+        registered_names.add(module + "." + instance);
+        registered.add(state);
+        layout_crc = 0;
+    }
+
+    /* add an array of timers, like the ones the sound chip interfaces keep */
+    public static void state_save_register_timers(String module, int instance, final Object[] timer) {
+        state_save_register(module, instance, new state_object() {
+            public void save(ByteBuffer buf) throws state_exception {
+                for (int i = 0; i < timer.length; i++) {
+                    if (timer[i] != null && !(timer[i] instanceof timer_entry)) {
+                        throw new state_exception("not a timer in " + module);
+                    }
+                    buf.putInt(timer_ref((timer_entry) timer[i]));
+                }
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                timer_entry[] t = new timer_entry[timer.length];
+
+                for (int i = 0; i < timer.length; i++) {
+                    t[i] = timer_deref(buf.getInt());
+                }
+                if (apply != 0) {
+                    System.arraycopy(t, 0, timer, 0, timer.length);
+                }
+            }
+        });
+    }
+
+    /* add the timer a field of a chip's voice holds, declared as an Object */
+    /* like the C code's void pointer                                       */
+    public static void state_save_register_timer_field(String module, int instance, final Object owner, final String name) {
+        state_save_register(module, instance, new state_object() {
+            Field field() throws state_exception {
+                try {
+                    Field f = find_field(owner.getClass(), name);
+
+                    f.setAccessible(true);
+                    return f;
+                } catch (NoSuchFieldException e) {
+                    throw new state_exception("no timer " + name + " in " + owner.getClass().getName());
+                }
+            }
+
+            public void save(ByteBuffer buf) throws state_exception {
+                try {
+                    Object t = field().get(owner);
+
+                    if (t != null && !(t instanceof timer_entry)) {
+                        throw new state_exception("not a timer in " + name);
+                    }
+                    buf.putInt(timer_ref((timer_entry) t));
+                } catch (IllegalAccessException e) {
+                    throw new state_exception("can't read " + name);
+                }
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                timer_entry t = timer_deref(buf.getInt());
+
+                if (apply != 0) {
+                    try {
+                        field().set(owner, t);
+                    } catch (IllegalAccessException e) {
+                        throw new state_exception("can't write " + name);
+                    }
+                }
+            }
+        });
+    }
+
+    /* have a snapshot saved to or loaded from a file at the next timeslice */
+    public static void state_request(int what, String filename) {
+        state_pending = what;
+        state_filename = filename;
+    }
+
+    /* serve a pending request, called by cpu_run() between timeslices */
+    public static void state_update() {
+        int what = state_pending;
+
+        state_pending = STATE_NONE;
+        if (what == STATE_SAVE) {
+            state_file_buffer = state_save_buffer(state_file_buffer);
+            if (state_file_buffer != null) {
+                state_write_file(state_filename, state_file_buffer);
+            }
+        } else if (what == STATE_LOAD) {
+            ByteBuffer buf = state_read_file(state_filename);
+
+            if (buf == null || state_load(buf) != 0) {
+                if (errorlog != null) {
+                    fprintf(errorlog, "state: can't load %s\n", state_filename);
+                }
+            }
+        }
+    }
+
+    /* save a snapshot into buf, grown or allocated when it doesn't fit. */
+    /* Returns the buffer, flipped for reading, or null on failure      */
+    public static ByteBuffer state_save_buffer(ByteBuffer buf) {
+        for (;;) {
+            if (buf == null) {
+                buf = ByteBuffer.allocate(0x10000);
+            }
+            buf.clear();
+            try {
+                if (state_save(buf) != 0) {
+                    return null;
+                }
+                buf.flip();
+                return buf;
+            } catch (BufferOverflowException e) {
+                buf = ByteBuffer.allocate(buf.capacity() * 2);
+            }
+        }
+    }
+
+    /* save a snapshot at the position of buf, 0 on success. Throws */
+    /* BufferOverflowException when buf is too small                */
+    public static int state_save(ByteBuffer buf) {
+        int start = buf.position();
+
+        try {
+            buf.putInt(STATE_MAGIC);
+            buf.putInt(STATE_VERSION);
+            buf.putInt(state_layout());
+            buf.putLong(session_id);
+            put_string(buf, Machine.gamedrv.name);
+            int table = buf.position();
+            buf.putInt(0);
+
+            save_cpus(buf);
+            save_timers(buf);
+            save_memory(buf);
+            write_array(buf, inputport.input_port_value);
+            write_array(buf, inputport.input_vblank);
+            buf.putInt(sndintrf.latch);
+            buf.putInt(sndintrf.read_debug);
+            buf.putInt(sndintrf.latch2);
+            buf.putInt(sndintrf.read_debug2);
+            for (int i = 0; i < registered.size(); i++) {
+                write_state(buf, registered.get(i));
+            }
+            save_statics(buf);
+
+            /* the objects the snapshot refers to */
+            buf.putInt(table, buf.position() - start);
+            buf.putInt(refs.size());
+            for (int i = 0; i < refs.size(); i++) {
+                put_string(buf, ref_names.get(i));
+            }
+        } catch (state_exception e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "state: can't save this machine, %s\n", e.getMessage());
+            }
+            return 1;
+        }
+        return 0;
+    }
+
+    /* restore the snapshot at the position of buf, 0 on success. The whole */
+    /* snapshot is checked first, the machine is left alone if it doesn't   */
+    /* fit                                                                  */
+    public static int state_load(ByteBuffer buf) {
+        try {
+            load_header(buf);
+            int body = buf.position();
+
+            load_body(buf, 0);
+            buf.position(body);
+            load_body(buf, 1);
+        } catch (state_exception e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "state: %s\n", e.getMessage());
+            }
+            return 1;
+        } catch (BufferUnderflowException e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "state: snapshot is truncated\n");
+            }
+            return 1;
+        } finally {
+            loaded_refs = null;
+        }
+
+        /* the drivers redraw what they only update when it changes */
+        bitmap_dirty = 1;
+        return 0;
+    }
+
+    /* check the header and resolve the name table into loaded_refs, buf is */
+    /* left at the first section                                            */
+    static void load_header(ByteBuffer buf) throws state_exception {
+        int start = buf.position();
+
+        if (buf.getInt() != STATE_MAGIC || buf.getInt() != STATE_VERSION) {
+            throw new state_exception("not a snapshot of this version");
+        }
+        int layout = buf.getInt();
+        long session = buf.getLong();
+        String game = get_string(buf);
+
+        if (!game.equals(Machine.gamedrv.name)) {
+            throw new state_exception("snapshot of " + game + ", not " + Machine.gamedrv.name);
+        }
+        if (layout != state_layout()) {
+            throw new state_exception("snapshot of another version of " + game);
+        }
+        int table = buf.getInt();
+        int body = buf.position();
+
+        if (table < body - start || table > buf.limit() - start) {
+            throw new state_exception("snapshot is truncated");
+        }
+        buf.position(start + table);
+        int count = buf.getInt();
+
+        if (count < 0 || count > buf.remaining() / 2) {
+            throw new state_exception("snapshot is truncated");
+        }
+        Object[] loaded = new Object[count];
+
+        for (int i = 0; i < count; i++) {
+            String name = get_string(buf);
+
+            if (session == session_id && i < refs.size()) {
+                /* this session numbered the objects */
+                loaded[i] = refs.get(i);
+            } else if (name.length() == 0) {
+                throw new state_exception("snapshot of another session");
+            } else {
+                loaded[i] = state_resolve(name);
+            }
+        }
+        loaded_refs = loaded;
+        loaded_end = start + table;
+        buf.position(body);
+    }
+
+    /* the sections, read and checked, and restored when apply is set */
+    static void load_body(ByteBuffer buf, int apply) throws state_exception {
+        load_cpus(buf, apply);
+        load_timers(buf, apply);
+        load_memory(buf, apply);
+        read_array(buf, inputport.input_port_value, apply);
+        read_array(buf, inputport.input_vblank, apply);
+        int latch = buf.getInt();
+        int read_debug = buf.getInt();
+        int latch2 = buf.getInt();
+        int read_debug2 = buf.getInt();
+
+        if (apply != 0) {
+            sndintrf.latch = latch;
+            sndintrf.read_debug = read_debug;
+            sndintrf.latch2 = latch2;
+            sndintrf.read_debug2 = read_debug2;
+        }
+        for (int i = 0; i < registered.size(); i++) {
+            read_state(buf, registered.get(i), apply);
+        }
+        load_statics(buf, apply);
+        if (buf.position() != loaded_end) {
+            throw new state_exception("snapshot doesn't fit this machine");
+        }
+    }
+
+    /* CRC of what the snapshots of this machine are made of */
+    static int state_layout() {
+        if (layout_crc != 0) {
+            return layout_crc;
+        }
+        CRC32 crc = new CRC32();
+
+        crc.update(Machine.gamedrv.name.getBytes());
+        for (int i = 0; i < totalcpu; i++) {
+            crc.update(cpunum_core_file(i).getBytes());
+            crc.update(memory_region_length(REGION_CPU1 + i));
+        }
+        for (int i = 0; i < registered.size(); i++) {
+            Object s = registered.get(i);
+
+            crc.update(registered_names.get(i).getBytes());
+            crc.update(s.getClass().getName().getBytes());
+            if (!s.getClass().isArray() && !(s instanceof state_object)) {
+                for (Field f : state_fields(s.getClass())) {
+                    crc.update(f.getName().getBytes());
+                }
+            }
+        }
+        for (Field f : state_statics()) {
+            crc.update(f.getDeclaringClass().getName().getBytes());
+            crc.update(f.getName().getBytes());
+        }
+        layout_crc = (int) crc.getValue() | 1;
+        return layout_crc;
+    }
+
+    /* names are class, field and game names, all ASCII; written char by */
+    /* char so saving a snapshot makes no garbage                         */
+    static void put_string(ByteBuffer buf, String s) {
+        buf.putShort((short) s.length());
+        for (int i = 0; i < s.length(); i++) {
+            buf.put((byte) s.charAt(i));
+        }
+    }
+
+    static String get_string(ByteBuffer buf) {
+        byte[] b = new byte[buf.getShort() & 0xffff];
+
+        buf.get(b);
+        return new String(b, StandardCharsets.ISO_8859_1);
+    }
+
+    /* move past n bytes of a section that is only being checked */
+    static void skip(ByteBuffer buf, int n) {
+        if (n > buf.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        buf.position(buf.position() + n);
+    }
+
+    /**
+     * *************************************************************************
+     * CPUs
+     * *************************************************************************
+     */
+    static void save_cpus(ByteBuffer buf) throws state_exception {
+        for (int i = 0; i < totalcpu; i++) {
+            cpuinfo c = cpu.get(i);
+
+            buf.putInt(c.iloops);
+            buf.putInt(c.totalcycles);
+            buf.putInt(c.vblankint_countdown);
+            write_state(buf, c.save_context != 0 ? c.context : copy_context(i));
+        }
+        write_array(buf, interrupt_enable);
+        write_array(buf, interrupt_vector);
+        write_array(buf, irq_line_state);
+        write_array(buf, irq_line_vector);
+        buf.putInt(watchdog_counter);
+        buf.putInt(vblank_countdown);
+        buf.putInt(vblank);
+        buf.putInt(current_frame);
+    }
+
+    /* the context of a running CPU, copied into the same object every time */
+    /* by the cores that can                                               */
+    static Object copy_context(int cpunum) throws state_exception {
+        cpu_interface intf = cpu.get(cpunum).intf;
+
+        try {
+            if (cpu_context[cpunum] == null) {
+                cpu_context[cpunum] = intf.init_context();
+            }
+            return intf.get_context(cpu_context[cpunum]);
+        } catch (UnsupportedOperationException e) {
+            throw new state_exception("the " + cpunum_core_file(cpunum) + " core can't copy its context");
+        }
+    }
+
+    static void load_cpus(ByteBuffer buf, int apply) throws state_exception {
+        for (int i = 0; i < totalcpu; i++) {
+            cpuinfo c = cpu.get(i);
+            int iloops = buf.getInt();
+            int totalcycles = buf.getInt();
+            int vblankint_countdown = buf.getInt();
+
+            if (apply != 0) {
+                c.iloops = iloops;
+                c.totalcycles = totalcycles;
+                c.vblankint_countdown = vblankint_countdown;
+            }
+            if (c.save_context != 0) {
+                /* the context is switched in before the CPU runs again */
+                read_state(buf, c.context, apply);
+            } else {
+                /* the callbacks the core keeps in its context stay as they are */
+                Object context = copy_context(i);
+
+                read_state(buf, context, apply);
+                if (apply != 0) {
+                    SETCONTEXT(i, context);
+                }
+            }
+        }
+        read_array(buf, interrupt_enable, apply);
+        read_array(buf, interrupt_vector, apply);
+        read_array(buf, irq_line_state, apply);
+        read_array(buf, irq_line_vector, apply);
+        int watchdog = buf.getInt();
+        int countdown = buf.getInt();
+        int vb = buf.getInt();
+        int frame = buf.getInt();
+
+        if (apply != 0) {
+            watchdog_counter = watchdog;
+            vblank_countdown = countdown;
+            vblank = vb;
+            current_frame = frame;
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * Timers. The pool entries are restored in place, the drivers keep
+     * pointers to them
+     * *************************************************************************
+     */
+    public static int timer_ref(timer_entry t) {
+        if (t == null) {
+            return -1;
+        }
+        if (timer_index.isEmpty() || timer_index.get(timers[0]) == null) {
+            timer_index.clear();
+            for (int i = 0; i < MAX_TIMERS; i++) {
+                timer_index.put(timers[i], i);
+            }
+        }
+        return timer_index.get(t);
+    }
+
+    public static timer_entry timer_deref(int index) throws state_exception {
+        if (index < -1 || index >= MAX_TIMERS) {
+            throw new state_exception("bad timer " + index);
+        }
+        return index < 0 ? null : timers[index];
+    }
+
+    static void save_timers(ByteBuffer buf) throws state_exception {
+        buf.putInt(timer_count);
+        buf.putInt(timer_sequence);
+        buf.putDouble(base_time);
+        buf.putDouble(global_offset);
+        buf.putInt(timer_ref(timer_free_head));
+        buf.putInt(timer_ref(callback_timer));
+        buf.putInt(callback_timer_modified);
+        buf.putInt(timer.activecpu);
+        buf.putInt(last_activecpu);
+
+        for (int i = 0; i < MAX_TIMERS; i++) {
+            timer_entry t = timers[i];
+
+            buf.putInt(timer_ref(t.next));
+            buf.putInt(t.heap_index);
+            buf.putInt(ref(t.callback));
+            buf.putInt(t.callback_param);
+            buf.putInt(t.enabled);
+            buf.putDouble(t.period);
+            buf.putDouble(t.start);
+            buf.putDouble(t.expire);
+        }
+        /* every slot of the heap, so a snapshot is as long whatever the */
+        /* number of timers running; rewind only keeps deltas between    */
+        /* snapshots of the same length                                   */
+        for (int i = 0; i < MAX_TIMERS; i++) {
+            buf.putInt(i < timer_count ? timer_ref(timer_heap[i]) : -1);
+            buf.putDouble(i < timer_count ? timer_heap_expire[i] : 0);
+            buf.putInt(i < timer_count ? timer_heap_sequence[i] : 0);
+        }
+        for (int i = 0; i <= lastcpu; i++) {
+            cpu_entry c = cpudata[i];
+
+            buf.putInt(c.suspended);
+            buf.putInt(c.trigger);
+            buf.putInt(c.nocount);
+            buf.putInt(c.lost);
+            buf.putDouble(c.time);
+        }
+    }
+
+    static void load_timers(ByteBuffer buf, int apply) throws state_exception {
+        int count = buf.getInt();
+        int sequence = buf.getInt();
+        double base = buf.getDouble();
+        double offset = buf.getDouble();
+        timer_entry free_head = timer_deref(buf.getInt());
+        timer_entry callback = timer_deref(buf.getInt());
+        int modified = buf.getInt();
+        int active = buf.getInt();
+        int last_active = buf.getInt();
+
+        if (count < 0 || count > MAX_TIMERS) {
+            throw new state_exception("bad timer count " + count);
+        }
+        if (apply != 0) {
+            timer_count = count;
+            timer_sequence = sequence;
+            base_time = base;
+            global_offset = offset;
+            timer_free_head = free_head;
+            callback_timer = callback;
+            callback_timer_modified = modified;
+            timer.activecpu = active;
+            last_activecpu = last_active;
+        }
+
+        for (int i = 0; i < MAX_TIMERS; i++) {
+            timer_entry t = timers[i];
+            timer_entry next = timer_deref(buf.getInt());
+            int heap_index = buf.getInt();
+            timer_callback handler = (timer_callback) deref(buf.getInt(), timer_callback.class);
+            int param = buf.getInt();
+            int enabled = buf.getInt();
+            double period = buf.getDouble();
+            double start = buf.getDouble();
+            double expire = buf.getDouble();
+
+            if (apply != 0) {
+                t.next = next;
+                t.heap_index = heap_index;
+                t.callback = handler;
+                t.callback_param = param;
+                t.enabled = enabled;
+                t.period = period;
+                t.start = start;
+                t.expire = expire;
+            }
+        }
+        for (int i = 0; i < MAX_TIMERS; i++) {
+            timer_entry t = timer_deref(buf.getInt());
+            double expire = buf.getDouble();
+            int heap_sequence = buf.getInt();
+
+            if ((t == null) != (i >= count)) {
+                throw new state_exception("timer heap slot " + i + " doesn't match the count " + count);
+            }
+            if (apply != 0) {
+                timer_heap[i] = t;
+                timer_heap_expire[i] = expire;
+                timer_heap_sequence[i] = heap_sequence;
+            }
+        }
+        for (int i = 0; i <= lastcpu; i++) {
+            cpu_entry c = cpudata[i];
+            int suspended = buf.getInt();
+            int trigger = buf.getInt();
+            int nocount = buf.getInt();
+            int lost = buf.getInt();
+            double time = buf.getDouble();
+
+            if (apply != 0) {
+                c.suspended = suspended;
+                c.trigger = trigger;
+                c.nocount = nocount;
+                c.lost = lost;
+                c.time = time;
+            }
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * Memory: the parts of the CPU regions the memory maps can write, the
+     * external memory and the banks
+     * *************************************************************************
+     */
+    static void find_ram_ranges() {
+        ArrayList<int[]> ranges = new ArrayList<int[]>();
+
+        for (int cpu = 0; cpu < totalcpu; cpu++) {
+            int length = memory_region_length(REGION_CPU1 + cpu);
+            MemoryWriteAddress[] mwa = Machine.drv.cpu[cpu].memory_write;
+
+            for (int i = 0; mwa != null && mwa[i] != null && mwa[i].start != -1; i++) {
+                if (mwa[i]._handler == null && (mwa[i].handler == MWA_ROM || mwa[i].handler == MWA_NOP)) {
+                    continue;
+                }
+                int start = mwa[i].start;
+                int end = Math.min(mwa[i].end, length - 1);
+
+                if (start <= end) {
+                    ranges.add(new int[]{cpu, start, end});
+                }
+            }
+        }
+
+        /* sort and merge the overlapping ones */
+        ranges.sort(new Comparator<int[]>() {
+            public int compare(int[] a, int[] b) {
+                return a[0] != b[0] ? a[0] - b[0] : a[1] - b[1];
+            }
+        });
+        int n = 0;
+        int[] merged = new int[ranges.size() * 3];
+
+        for (int[] r : ranges) {
+            if (n > 0 && merged[n - 3] == r[0] && r[1] <= merged[n - 1] + 1) {
+                merged[n - 1] = Math.max(merged[n - 1], r[2]);
+            } else {
+                merged[n++] = r[0];
+                merged[n++] = r[1];
+                merged[n++] = r[2];
+            }
+        }
+        ram_ranges = Arrays.copyOf(merged, n);
+    }
+
+    static void save_memory(ByteBuffer buf) {
+        if (ram_ranges == null) {
+            find_ram_ranges();
+        }
+        for (int i = 0; i < ram_ranges.length; i += 3) {
+            char[] mem = ramptr[ram_ranges[i]].memory;
+
+            for (int a = ram_ranges[i + 1]; a <= ram_ranges[i + 2]; a++) {
+                buf.put((byte) mem[a]);
+            }
+        }
+        for (int i = 0; i < MAX_EXT_MEMORY && ext_memory[i].data != null; i++) {
+            char[] mem = ext_memory[i].data.memory;
+
+            for (int a = 0; a < mem.length; a++) {
+                buf.put((byte) mem[a]);
+            }
+        }
+        for (int b = 1; b <= MAX_BANKS; b++) {
+            UBytePtr base = cpu_bankbase[b];
+
+            buf.putInt(base != null ? ref(base.memory) : -1);
+            buf.putInt(base != null ? base.offset : 0);
+        }
+    }
+
+    static UBytePtr[] bank_ptr = new UBytePtr[MAX_BANKS + 1];
+
+    static void load_memory(ByteBuffer buf, int apply) throws state_exception {
+        if (ram_ranges == null) {
+            find_ram_ranges();
+        }
+        for (int i = 0; i < ram_ranges.length; i += 3) {
+            char[] mem = ramptr[ram_ranges[i]].memory;
+
+            if (apply == 0) {
+                skip(buf, ram_ranges[i + 2] - ram_ranges[i + 1] + 1);
+                continue;
+            }
+            for (int a = ram_ranges[i + 1]; a <= ram_ranges[i + 2]; a++) {
+                mem[a] = (char) (buf.get() & 0xff);
+            }
+        }
+        for (int i = 0; i < MAX_EXT_MEMORY && ext_memory[i].data != null; i++) {
+            char[] mem = ext_memory[i].data.memory;
+
+            if (apply == 0) {
+                skip(buf, mem.length);
+                continue;
+            }
+            for (int a = 0; a < mem.length; a++) {
+                mem[a] = (char) (buf.get() & 0xff);
+            }
+        }
+        for (int b = 1; b <= MAX_BANKS; b++) {
+            char[] memory = (char[]) deref(buf.getInt(), char[].class);
+            int offset = buf.getInt();
+
+            if (memory == null || apply == 0) {
+                continue;
+            }
+            if (cpu_bankbase[b] == null || cpu_bankbase[b].memory != memory || cpu_bankbase[b].offset != offset) {
+                /* the driver may still use the UBytePtr it gave cpu_setbank() */
+                if (bank_ptr[b] == null) {
+                    bank_ptr[b] = new UBytePtr();
+                }
+                bank_ptr[b].memory = memory;
+                bank_ptr[b].offset = offset;
+                cpu_bankbase[b] = bank_ptr[b];
+            }
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * References. An object is saved by the number of the memory region,
+     * external memory or game sample it is, or else by the name of the static field that
+     * holds it, directly or in one of the fields of the object it holds. The
+     * owners searched are the class that made the object and the classes of
+     * the driver
+     * *************************************************************************
+     */
+    static int ref(Object o) {
+        if (o == null) {
+            return -1;
+        }
+        Integer index = ref_index.get(o);
+
+        if (index == null) {
+            index = refs.size();
+            refs.add(o);
+            ref_names.add(state_name(o));
+            ref_index.put(o, index);
+        }
+        return index;
+    }
+
+    /* the object of the snapshot being loaded at index, which must be a type */
+    static Object deref(int index, Class<?> type) throws state_exception {
+        if (index == -1) {
+            return null;
+        }
+        if (index < 0 || index >= loaded_refs.length) {
+            throw new state_exception("bad reference " + index);
+        }
+        Object o = loaded_refs[index];
+
+        if (!type.isInstance(o)) {
+            throw new state_exception("reference " + index + " isn't a " + type.getSimpleName());
+        }
+        return o;
+    }
+
+    /* for state_objects: a pointer that is one of choices, saved as its */
+    /* index, -1 for null                                                */
+    public static void write_choice(ByteBuffer buf, Object o, Object[] choices) throws state_exception {
+        if (o == null) {
+            buf.putInt(-1);
+            return;
+        }
+        for (int i = 0; i < choices.length; i++) {
+            if (choices[i] == o) {
+                buf.putInt(i);
+                return;
+            }
+        }
+        throw new state_exception("can't save a pointer to a " + o.getClass().getSimpleName());
+    }
+
+    public static int read_choice(ByteBuffer buf, int count) throws state_exception {
+        int index = buf.getInt();
+
+        if (index < -1 || index >= count) {
+            throw new state_exception("bad pointer " + index);
+        }
+        return index;
+    }
+
+    /* a pointer into one of the arrays of bases, saved as the array's index */
+    /* and the offset                                                        */
+    public static void write_pointer(ByteBuffer buf, IntSubArray p, int[][] bases) throws state_exception {
+        write_choice(buf, p != null ? p.buffer : null, bases);
+        buf.putInt(p != null ? p.offset : 0);
+    }
+
+    public static IntSubArray read_pointer(ByteBuffer buf, int[][] bases) throws state_exception {
+        int index = read_choice(buf, bases.length);
+        int offset = buf.getInt();
+
+        if (index < 0) {
+            return null;
+        }
+        if (offset < 0 || offset > bases[index].length) {
+            throw new state_exception("bad pointer offset " + offset);
+        }
+        return new IntSubArray(bases[index], offset);
+    }
+
+    /* for state_objects: an object of the machine, like the data of a sample */
+    /* being played, saved as a reference                                    */
+    public static void write_ref(ByteBuffer buf, Object o) {
+        buf.putInt(ref(o));
+    }
+
+    public static Object read_ref(ByteBuffer buf, Class<?> type) throws state_exception {
+        return deref(buf.getInt(), type);
+    }
+
+    /* a UBytePtr, its memory by reference and, unless that is a memory */
+    /* region, by its contents too                                      */
+    public static void write_ubyteptr(ByteBuffer buf, UBytePtr p) throws state_exception {
+        buf.put((byte) (p != null ? 1 : 0));
+        if (p != null) {
+            buf.putInt(ref(p.memory));
+            buf.putInt(p.offset);
+            if (p.memory != null && !is_region(p.memory)) {
+                write_array(buf, p.memory);
+            }
+        }
+    }
+
+    /* a new UBytePtr, null when the saved one was null or apply isn't set */
+    public static UBytePtr read_ubyteptr(ByteBuffer buf, int apply) throws state_exception {
+        if (buf.get() == 0) {
+            return null;
+        }
+        char[] memory = (char[]) deref(buf.getInt(), char[].class);
+        int offset = buf.getInt();
+
+        if (memory != null && !is_region(memory)) {
+            read_array(buf, memory, apply);
+        }
+        return apply != 0 ? new UBytePtr(memory, offset) : null;
+    }
+
+    /* the named static fields of a sound chip or other class that keeps its */
+    /* state in statics, saved like the driver statics                       */
+    public static void state_save_register_statics(String module, int instance, final Class<?> c, final String[] names) {
+        state_save_register(module, instance, new state_object() {
+            Field[] fields;
+
+            Field[] fields() throws state_exception {
+                if (fields == null) {
+                    Field[] f = new Field[names.length];
+
+                    for (int i = 0; i < names.length; i++) {
+                        try {
+                            f[i] = find_field(c, names[i]);
+                        } catch (NoSuchFieldException e) {
+                            throw new state_exception("no static " + names[i] + " in " + c.getName());
+                        }
+                        f[i].setAccessible(true);
+                    }
+                    fields = f;
+                }
+                return fields;
+            }
+
+            public void save(ByteBuffer buf) throws state_exception {
+                for (Field f : fields()) {
+                    write_field(buf, f, null);
+                }
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                for (Field f : fields()) {
+                    read_field(buf, f, null, apply);
+                }
+            }
+        });
+    }
+
+    static String state_name(Object o) {
+        for (int n = 0; n < Machine.memory_region.length; n++) {
+            if (Machine.memory_region[n] == o) {
+                return "region:" + n;
+            }
+        }
+        for (int n = 0; n < MAX_EXT_MEMORY && ext_memory[n].data != null; n++) {
+            if (ext_memory[n].data.memory == o) {
+                return "ext:" + n;
+            }
+        }
+        for (int n = 0; Machine.samples != null && n < Machine.samples.total; n++) {
+            if (Machine.samples.sample[n] != null && Machine.samples.sample[n].data == o) {
+                return "sample:" + n;
+            }
+        }
+        ArrayList<Class<?>> owners = new ArrayList<Class<?>>();
+
+        if (!o.getClass().isArray()) {
+            owners.add(top_class(o.getClass()));
+        }
+        owners.addAll(state_driver_classes());
+        for (int members = 0; members <= 1; members++) {
+            for (Class<?> c : owners) {
+                String name = find_static(c, o, members);
+
+                if (name != null) {
+                    return "static:" + name;
+                }
+            }
+        }
+        return "";	/* only this session knows it */
+    }
+
+    static Class<?> top_class(Class<?> c) {
+        while (c.getEnclosingClass() != null) {
+            c = c.getEnclosingClass();
+        }
+        return c;
+    }
+
+    /* owner#field, or owner#field#member when members is set, null when o */
+    /* isn't there                                                          */
+    static String find_static(Class<?> owner, Object o, int members) {
+        try {
+            for (Field f : owner.getDeclaredFields()) {
+                if (!Modifier.isStatic(f.getModifiers()) || f.getType().isPrimitive()) {
+                    continue;
+                }
+                f.setAccessible(true);
+                Object v = f.get(null);
+
+                if (members == 0) {
+                    if (v == o) {
+                        return owner.getName() + "#" + f.getName();
+                    }
+                    continue;
+                }
+                if (v == null || v.getClass().isArray() || v.getClass().getName().startsWith("java.")) {
+                    continue;
+                }
+                for (Class<?> k = v.getClass(); k != null && k != Object.class; k = k.getSuperclass()) {
+                    for (Field m : k.getDeclaredFields()) {
+                        if (Modifier.isStatic(m.getModifiers()) || m.getType().isPrimitive()) {
+                            continue;
+                        }
+                        m.setAccessible(true);
+                        if (m.get(v) == o) {
+                            return owner.getName() + "#" + f.getName() + "#" + m.getName();
+                        }
+                    }
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException | LinkageError e) {
+            /* a class reflection can't look into owns nothing */
+        }
+        return null;
+    }
+
+    /* the object a name of state_name() stands for in this session */
+    static Object state_resolve(String name) throws state_exception {
+        try {
+            if (name.startsWith("region:")) {
+                Object o = Machine.memory_region[Integer.parseInt(name.substring(7))];
+
+                if (o != null) {
+                    return o;
+                }
+            } else if (name.startsWith("ext:")) {
+                int n = Integer.parseInt(name.substring(4));
+
+                if (n < MAX_EXT_MEMORY && ext_memory[n].data != null) {
+                    return ext_memory[n].data.memory;
+                }
+            } else if (name.startsWith("sample:")) {
+                int n = Integer.parseInt(name.substring(7));
+
+                if (Machine.samples != null && n < Machine.samples.total && Machine.samples.sample[n] != null) {
+                    return Machine.samples.sample[n].data;
+                }
+            } else if (name.startsWith("static:")) {
+                String[] path = name.substring(7).split("#");
+                Class<?> c = Class.forName(path[0]);
+                Object o = null;
+
+                for (int i = 1; i < path.length && c != null; i++) {
+                    Field f = find_field(c, path[i]);
+
+                    f.setAccessible(true);
+                    o = f.get(o);
+                    c = o != null ? o.getClass() : null;
+                }
+                if (o != null) {
+                    return o;
+                }
+            }
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            /* not in this build */
+        }
+        throw new state_exception("snapshot refers to " + name + ", which this machine doesn't have");
+    }
+
+    static Field find_field(Class<?> c, String name) throws NoSuchFieldException {
+        for (Class<?> k = c; k != null; k = k.getSuperclass()) {
+            try {
+                return k.getDeclaredField(name);
+            } catch (NoSuchFieldException e) {
+                /* try the superclass */
+            }
+        }
+        throw new NoSuchFieldException(name);
+    }
+
+    /**
+     * *************************************************************************
+     * Driver statics: the non final primitive, primitive array and UBytePtr
+     * statics of the drivers, vidhrdw, machine and sndhrdw classes the
+     * machine driver and game driver point into
+     * *************************************************************************
+     */
+    static ArrayList<Class<?>> state_driver_classes() {
+        if (driver_classes == null) {
+            driver_classes = new ArrayList<Class<?>>();
+            if (Machine.gamedrv != null) {
+                find_driver_classes(Machine.gamedrv, new IdentityHashMap<Object, Object>(), 0);
+            }
+            find_driver_classes(Machine.drv, new IdentityHashMap<Object, Object>(), 0);
+            driver_classes.sort(new Comparator<Class<?>>() {
+                public int compare(Class<?> a, Class<?> b) {
+                    return a.getName().compareTo(b.getName());
+                }
+            });
+        }
+        return driver_classes;
+    }
+
+    static boolean is_driver_package(String name) {
+        return name.startsWith("drivers.") || name.startsWith("vidhrdw.") || name.startsWith("machine.") || name.startsWith("sndhrdw.");
+    }
+
+    /* walk the driver structures down to the handlers the driver code made */
+    static void find_driver_classes(Object o, IdentityHashMap<Object, Object> seen, int depth) {
+        if (o == null || depth > 6 || seen.put(o, o) != null) {
+            return;
+        }
+        Class<?> c = o.getClass();
+
+        if (c.isArray()) {
+            if (!c.getComponentType().isPrimitive()) {
+                for (Object e : (Object[]) o) {
+                    find_driver_classes(e, seen, depth + 1);
+                }
+            }
+            return;
+        }
+        Class<?> top = top_class(c);
+
+        if (is_driver_package(top.getName())) {
+            if (!driver_classes.contains(top)) {
+                driver_classes.add(top);
+            }
+            return;
+        }
+        if (!top.getName().startsWith("mame.") && !top.getName().startsWith("sound.")) {
+            return;
+        }
+        try {
+            for (Class<?> k = c; k != null && k != Object.class; k = k.getSuperclass()) {
+                for (Field f : k.getDeclaredFields()) {
+                    if (Modifier.isStatic(f.getModifiers()) || f.getType().isPrimitive()) {
+                        continue;
+                    }
+                    f.setAccessible(true);
+                    find_driver_classes(f.get(o), seen, depth + 1);
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            /* can't look into it, the classes found so far will do */
+        }
+    }
+
+    /* the statics saved, sorted by class and name */
+    static Field[] state_statics() {
+        if (driver_statics != null) {
+            return driver_statics;
+        }
+        ArrayList<Field> list = new ArrayList<Field>();
+
+        for (Class<?> c : state_driver_classes()) {
+            for (Field f : c.getDeclaredFields()) {
+                int mod = f.getModifiers();
+                Class<?> t = f.getType();
+
+                if (!Modifier.isStatic(mod) || Modifier.isFinal(mod) || Modifier.isTransient(mod) || f.isSynthetic()) {
+                    continue;
+                }
+                if (t.isPrimitive() || (t.isArray() && is_state_array(t, c)) || t == UBytePtr.class) {
+                    f.setAccessible(true);
+                    list.add(f);
+                }
+            }
+        }
+        driver_statics = list.toArray(new Field[list.size()]);
+        Arrays.sort(driver_statics, new Comparator<Field>() {
+            public int compare(Field a, Field b) {
+                int r = a.getDeclaringClass().getName().compareTo(b.getDeclaringClass().getName());
+                return r != 0 ? r : a.getName().compareTo(b.getName());
+            }
+        });
+        return driver_statics;
+    }
+
+    static void save_statics(ByteBuffer buf) throws state_exception {
+        for (Field f : state_statics()) {
+            write_field(buf, f, null);
+        }
+    }
+
+    static void load_statics(ByteBuffer buf, int apply) throws state_exception {
+        for (Field f : state_statics()) {
+            read_field(buf, f, null, apply);
+        }
+    }
+
+    static boolean is_region(Object o) {
+        for (int n = 0; n < Machine.memory_region.length; n++) {
+            if (Machine.memory_region[n] == o) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * *************************************************************************
+     * Objects
+     * *************************************************************************
+     */
+    /* the fields of c saved in a snapshot, sorted by name so the order is */
+    /* the same for every JVM                                              */
+    static Field[] state_fields(Class<?> c) {
+        Field[] fields = layouts.get(c);
+
+        if (fields != null) {
+            return fields;
+        }
+        ArrayList<Field> list = new ArrayList<Field>();
+
+        for (Class<?> k = c; k != null && k != Object.class; k = k.getSuperclass()) {
+            for (Field f : k.getDeclaredFields()) {
+                int mod = f.getModifiers();
+                Class<?> t = f.getType();
+
+                if (Modifier.isStatic(mod) || Modifier.isTransient(mod) || (Modifier.isFinal(mod) && t.isPrimitive())) {
+                    continue;
+                }
+                if (t.isPrimitive() || is_state_array(t, c) || is_state_class(t, c)) {
+                    f.setAccessible(true);
+                    list.add(f);
+                }
+            }
+        }
+        fields = list.toArray(new Field[list.size()]);
+        Arrays.sort(fields, new Comparator<Field>() {
+            public int compare(Field a, Field b) {
+                int r = a.getName().compareTo(b.getName());
+                return r != 0 ? r : a.getDeclaringClass().getName().compareTo(b.getDeclaringClass().getName());
+            }
+        });
+        layouts.put(c, fields);
+        return fields;
+    }
+
+    /* arrays of primitives or of plain data objects, and arrays of them */
+    static boolean is_state_array(Class<?> t, Class<?> owner) {
+        if (!t.isArray()) {
+            return false;
+        }
+        while (t.isArray()) {
+            t = t.getComponentType();
+        }
+        return t.isPrimitive() || is_state_class(t, owner);
+    }
+
+    /* plain data classes next to the owner, like the register pairs of a core */
+    static boolean is_state_class(Class<?> t, Class<?> owner) {
+        return !t.isInterface() && !Modifier.isAbstract(t.getModifiers()) && t.getPackage() == owner.getPackage();
+    }
+
+    static void write_state(ByteBuffer buf, Object o) throws state_exception {
+        if (o instanceof state_object) {
+            ((state_object) o).save(buf);
+            return;
+        }
+        if (o.getClass().isArray()) {
+            write_array(buf, o);
+            return;
+        }
+        for (Field f : state_fields(o.getClass())) {
+            write_field(buf, f, o);
+        }
+    }
+
+    /* fields and arrays are restored in place, nested objects that were null */
+    /* when saved are left alone                                              */
+    static void read_state(ByteBuffer buf, Object o, int apply) throws state_exception {
+        if (o instanceof state_object) {
+            ((state_object) o).load(buf, apply);
+            return;
+        }
+        if (o.getClass().isArray()) {
+            read_array(buf, o, apply);
+            return;
+        }
+        for (Field f : state_fields(o.getClass())) {
+            read_field(buf, f, o, apply);
+        }
+    }
+
+    /* field f of o, or the static f when o is null. A memory region is saved */
+    /* as a reference, the CPU memory and ROMs are not part of the object     */
+    static void write_field(ByteBuffer buf, Field f, Object o) throws state_exception {
+        Class<?> t = f.getType();
+
+        try {
+            if (t == int.class) {
+                buf.putInt(f.getInt(o));
+            } else if (t == char.class) {
+                buf.putChar(f.getChar(o));
+            } else if (t == byte.class) {
+                buf.put(f.getByte(o));
+            } else if (t == short.class) {
+                buf.putShort(f.getShort(o));
+            } else if (t == long.class) {
+                buf.putLong(f.getLong(o));
+            } else if (t == double.class) {
+                buf.putDouble(f.getDouble(o));
+            } else if (t == float.class) {
+                buf.putFloat(f.getFloat(o));
+            } else if (t == boolean.class) {
+                buf.put((byte) (f.getBoolean(o) ? 1 : 0));
+            } else if (t == UBytePtr.class) {
+                write_ubyteptr(buf, (UBytePtr) f.get(o));
+            } else {
+                Object v = f.get(o);
+
+                if (v instanceof char[] && is_region(v)) {
+                    buf.put((byte) 2);
+                    buf.putInt(ref(v));
+                } else {
+                    buf.put((byte) (v != null ? 1 : 0));
+                    if (v != null) {
+                        write_state(buf, v);
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new state_exception("can't read " + f.getName());
+        }
+    }
+
+    static void read_field(ByteBuffer buf, Field f, Object o, int apply) throws state_exception {
+        Class<?> t = f.getType();
+
+        try {
+            if (t == int.class) {
+                int v = buf.getInt();
+                if (apply != 0) {
+                    f.setInt(o, v);
+                }
+            } else if (t == char.class) {
+                char v = buf.getChar();
+                if (apply != 0) {
+                    f.setChar(o, v);
+                }
+            } else if (t == byte.class) {
+                byte v = buf.get();
+                if (apply != 0) {
+                    f.setByte(o, v);
+                }
+            } else if (t == short.class) {
+                short v = buf.getShort();
+                if (apply != 0) {
+                    f.setShort(o, v);
+                }
+            } else if (t == long.class) {
+                long v = buf.getLong();
+                if (apply != 0) {
+                    f.setLong(o, v);
+                }
+            } else if (t == double.class) {
+                double v = buf.getDouble();
+                if (apply != 0) {
+                    f.setDouble(o, v);
+                }
+            } else if (t == float.class) {
+                float v = buf.getFloat();
+                if (apply != 0) {
+                    f.setFloat(o, v);
+                }
+            } else if (t == boolean.class) {
+                boolean v = buf.get() != 0;
+                if (apply != 0) {
+                    f.setBoolean(o, v);
+                }
+            } else if (t == UBytePtr.class) {
+                UBytePtr v = read_ubyteptr(buf, apply);
+
+                if (v != null) {
+                    UBytePtr p = (UBytePtr) f.get(o);
+
+                    if (p == null) {
+                        f.set(o, v);
+                    } else {
+                        p.memory = v.memory;
+                        p.offset = v.offset;
+                    }
+                }
+            } else {
+                int marker = buf.get();
+
+                if (marker == 2) {
+                    Object region = deref(buf.getInt(), t);
+
+                    if (apply != 0) {
+                        f.set(o, region);
+                    }
+                } else if (marker != 0) {
+                    Object v = f.get(o);
+
+                    if (v == null || (v instanceof char[] && is_region(v))) {
+                        throw new state_exception("snapshot doesn't fit " + f.getDeclaringClass().getSimpleName() + "." + f.getName());
+                    }
+                    read_state(buf, v, apply);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new state_exception("can't write " + f.getName());
+        }
+    }
+
+    static void write_array(ByteBuffer buf, Object a) throws state_exception {
+        if (a instanceof int[]) {
+            int[] v = (int[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putInt(v[i]);
+            }
+        } else if (a instanceof char[]) {
+            char[] v = (char[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putChar(v[i]);
+            }
+        } else if (a instanceof byte[]) {
+            byte[] v = (byte[]) a;
+            buf.putInt(v.length);
+            buf.put(v);
+        } else if (a instanceof short[]) {
+            short[] v = (short[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putShort(v[i]);
+            }
+        } else if (a instanceof long[]) {
+            long[] v = (long[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putLong(v[i]);
+            }
+        } else if (a instanceof double[]) {
+            double[] v = (double[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putDouble(v[i]);
+            }
+        } else if (a instanceof float[]) {
+            float[] v = (float[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.putFloat(v[i]);
+            }
+        } else if (a instanceof boolean[]) {
+            boolean[] v = (boolean[]) a;
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.put((byte) (v[i] ? 1 : 0));
+            }
+        } else {
+            Object[] v = (Object[]) a;	/* arrays of arrays or of data objects */
+            buf.putInt(v.length);
+            for (int i = 0; i < v.length; i++) {
+                buf.put((byte) (v[i] != null ? 1 : 0));
+                if (v[i] != null) {
+                    write_state(buf, v[i]);
+                }
+            }
+        }
+    }
+
+    /* element sizes of the primitive arrays, for skipping them */
+    static int array_element_size(Object a) {
+        if (a instanceof int[] || a instanceof float[]) {
+            return 4;
+        } else if (a instanceof char[] || a instanceof short[]) {
+            return 2;
+        } else if (a instanceof long[] || a instanceof double[]) {
+            return 8;
+        } else if (a instanceof byte[] || a instanceof boolean[]) {
+            return 1;
+        }
+        return 0;
+    }
+
+    static void read_array(ByteBuffer buf, Object a, int apply) throws state_exception {
+        int length = buf.getInt();
+
+        if (length != java.lang.reflect.Array.getLength(a)) {
+            throw new state_exception("snapshot doesn't fit an array of " + a.getClass().getComponentType().getSimpleName());
+        }
+        if (apply == 0 && array_element_size(a) != 0) {
+            skip(buf, length * array_element_size(a));
+            return;
+        }
+        if (a instanceof int[]) {
+            int[] v = (int[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getInt();
+            }
+        } else if (a instanceof char[]) {
+            char[] v = (char[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getChar();
+            }
+        } else if (a instanceof byte[]) {
+            buf.get((byte[]) a);
+        } else if (a instanceof short[]) {
+            short[] v = (short[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getShort();
+            }
+        } else if (a instanceof long[]) {
+            long[] v = (long[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getLong();
+            }
+        } else if (a instanceof double[]) {
+            double[] v = (double[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getDouble();
+            }
+        } else if (a instanceof float[]) {
+            float[] v = (float[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.getFloat();
+            }
+        } else if (a instanceof boolean[]) {
+            boolean[] v = (boolean[]) a;
+            for (int i = 0; i < length; i++) {
+                v[i] = buf.get() != 0;
+            }
+        } else {
+            Object[] v = (Object[]) a;
+            for (int i = 0; i < length; i++) {
+                if (buf.get() != 0) {
+                    if (v[i] == null) {
+                        throw new state_exception("snapshot doesn't fit an array of " + a.getClass().getComponentType().getSimpleName());
+                    }
+                    read_state(buf, v[i], apply);
+                }
+            }
+        }
+    }
+
+    /**
+     * *************************************************************************
+     * Files
+     * *************************************************************************
+     */
+    static void state_write_file(String filename, ByteBuffer buf) {
+        File file = new File(filename);
+
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try {
+            FileChannel channel = new FileOutputStream(file).getChannel();
+            try {
+                while (buf.hasRemaining()) {
+                    channel.write(buf);
+                }
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            if (errorlog != null) {
+                fprintf(errorlog, "state: can't write %s\n", filename);
+            }
+        }
+    }
+
+    static ByteBuffer state_read_file(String filename) {
+        File file = new File(filename);
+
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            FileChannel channel = new FileInputStream(file).getChannel();
+            try {
+                ByteBuffer buf = ByteBuffer.allocate((int) file.length());
+
+                while (buf.hasRemaining() && channel.read(buf) >= 0) {
+                }
+                buf.flip();
+                return buf;
+            } finally {
+                channel.close();
+            }
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -141,6 +141,8 @@ public class tilemapC {
     /*TODO*///#define SWAP(X,Y) {int temp=X; X=Y; Y=temp; }
     /*TODO*///
     public static void tilemap_set_enable( tilemap _tilemap, int enable ){
+   	/* a disabled tilemap isn't drawn, so mark the layer it uncovers now */
+   	if( _tilemap.enable!=enable ) osd_mark_dirty( _tilemap.clip_left, _tilemap.clip_top, _tilemap.clip_right-1, _tilemap.clip_bottom-1, 0 );
    	_tilemap.enable = enable;
     }
     
@@ -236,6 +238,7 @@ public class tilemapC {
     	_tilemap.clip_right = right;
     	_tilemap.clip_top = top;
     	_tilemap.clip_bottom = bottom;
+    	_tilemap.screen_dirty = 1;
     	if( tilemapslog!=null ) fprintf( tilemapslog, "clip: %d,%d,%d,%d\n", left,top,right,bottom );   
     }
     
@@ -275,7 +278,7 @@ public class tilemapC {
     	int num_cols = _tilemap.num_cols;
     	int num_rows = _tilemap.num_rows;
     
-    	_tilemap.pendata = new UBytePtr[num_tiles];//malloc( sizeof( UINT8 *)*num_tiles );
+    	_tilemap.pendata = new GfxDataPtr[num_tiles];//malloc( sizeof( UINT8 *)*num_tiles );
     	_tilemap.maskdata = new UBytePtr[num_tiles];//malloc( sizeof( UINT8 *)*num_tiles ); /* needed only for TILEMAP_BITMASK */
     	_tilemap.paldata = new CharPtr[num_tiles];//malloc( sizeof( unsigned short *)*num_tiles );
     	_tilemap.pen_usage = new int[num_tiles];//malloc( sizeof( unsigned int )*num_tiles );
@@ -327,12 +330,14 @@ public class tilemapC {
     		if (_tilemap.scroll_rows != n){
     			_tilemap.scroll_rows = n;
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     		}
     	}
     	else {
     		if (_tilemap.scroll_cols != n){
     			_tilemap.scroll_cols = n;
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     		}
     	}
     }
@@ -343,6 +348,7 @@ public class tilemapC {
     		if (_tilemap.scroll_cols != n){
     			_tilemap.scroll_cols = n;
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     		}
     	}
     	else
@@ -350,6 +356,7 @@ public class tilemapC {
     		if (_tilemap.scroll_rows != n){
     			_tilemap.scroll_rows = n;
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     		}
     	}
     }
@@ -520,6 +527,7 @@ public class tilemapC {
     			_tilemap.scroll_rows = 1;
     			_tilemap.scroll_cols = 1;
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     
     			_tilemap.transparent_pen = -1; /* default (this is supplied by video driver) */
     
@@ -583,6 +591,43 @@ public class tilemapC {
     
     //	_tilemap.dirty_vram_row[row][col] = 1;
     	_tilemap.dirty_vram[row*_tilemap.num_cols + col] = 1;
+    	mark_tile_screen_dirty( _tilemap, col, row );
+    }
+
+    /* mark the blocks of the dirty grid a cached tile is drawn to by tilemap_draw. */
+    /* Only a tilemap scrolled as a whole can be followed, one scrolled by line     */
+    /* is marked all over when it's drawn.                                          */
+    static void mark_tile_screen_dirty( tilemap _tilemap, int col, int row ){
+    	int x = col*_tilemap.tile_width;
+    	int y = row*_tilemap.tile_height;
+    	int w = _tilemap.tile_width;
+    	int h = _tilemap.tile_height;
+
+    	if( use_dirty==0 ) return;
+
+    	if( _tilemap.scroll_rows==0 && _tilemap.scroll_cols==0 ){
+    		osd_mark_dirty( x, y, x+w-1, y+h-1, 0 );
+    	}
+    	else if( _tilemap.scroll_rows==1 && _tilemap.scroll_cols==1 ){
+    		int scrollx = _tilemap.rowscroll[0];
+    		int scrolly = _tilemap.colscroll[0];
+    		int xpos,ypos;
+
+    		if( scrollx < 0 ) scrollx = _tilemap.width - (-scrollx) % _tilemap.width;
+    		else scrollx = scrollx % _tilemap.width;
+    		if( scrolly < 0 ) scrolly = _tilemap.height - (-scrolly) % _tilemap.height;
+    		else scrolly = scrolly % _tilemap.height;
+
+    		/* the same wrapped copies tilemap_draw blits */
+    		for( ypos = scrolly - _tilemap.height; ypos < _tilemap.clip_bottom; ypos += _tilemap.height ){
+    			for( xpos = scrollx - _tilemap.width; xpos < _tilemap.clip_right; xpos += _tilemap.width ){
+    				osd_mark_dirty( xpos+x, ypos+y, xpos+x+w-1, ypos+y+h-1, 0 );
+    			}
+    		}
+    	}
+    	else {
+    		_tilemap.screen_dirty = 1;
+    	}
     }
     
     public static void tilemap_mark_all_tiles_dirty(tilemap _tilemap ){
@@ -595,6 +640,7 @@ public class tilemapC {
     	}
     	else {
     		memset( _tilemap.dirty_vram, 1, _tilemap.num_tiles );
+    		_tilemap.screen_dirty = 1;
     	}
     }
     
@@ -636,7 +682,7 @@ public class tilemapC {
     public static void draw_tile(
     		osd_bitmap pixmap,
     		int col, int row, int tile_width, int tile_height,
-    		UBytePtr pendata, CharPtr paldata,
+    		GfxDataPtr pendata, CharPtr paldata,
     		char flags )
     {
     	int x, sx = tile_width*col;
@@ -708,7 +754,7 @@ public class tilemapC {
     static void draw_mask(
     		osd_bitmap mask,
     		int col, int row, int tile_width, int tile_height,
-    		UBytePtr pendata, long transmask,
+    		GfxDataPtr pendata, long transmask,
     		char flags )
     {
        // if(tilemapslog!=null) fprintf(tilemapslog, "draw_mask transmask= %d flags = %d\n",transmask , (int)flags);
@@ -844,7 +890,7 @@ public class tilemapC {
     			for( col=0; col<_tilemap.num_cols; col++ ){
     				if( dirty_pixels[tile_index]!=0 && visible[tile_index]!=0 ){
     					int pen_usage = _tilemap.pen_usage[tile_index];
-    					UBytePtr pendata = _tilemap.pendata[tile_index];
+    					GfxDataPtr pendata = _tilemap.pendata[tile_index];
     					char flags = (char)(_tilemap.flags[tile_index] & 0xff);
     
     					draw_tile(
@@ -967,6 +1013,12 @@ public class tilemapC {
     
     		int tile_height = _tilemap.tile_height;
     
+    		/* the tiles that changed were marked by tilemap_mark_tile_dirty() */
+    		if( _tilemap.screen_dirty!=0 ){
+    			osd_mark_dirty( left, top, right-1, bottom-1, 0 );
+    			_tilemap.screen_dirty = 0;
+    		}
+    
     		blit.screen = dest;
     		blit.dest_line_offset = dest.line[1].offset - dest.line[0].offset;
     
@@ -1479,7 +1531,7 @@ public class tilemapC {
     			char []dirty_vram = _tilemap.dirty_vram;
     			char []dirty_pixels = _tilemap.dirty_pixels;
     
-    			UBytePtr[] pendata = _tilemap.pendata;
+    			GfxDataPtr[] pendata = _tilemap.pendata;
     			UBytePtr[] maskdata = _tilemap.maskdata;
     			CharPtr[] paldata = _tilemap.paldata;
     			int []pen_usage = _tilemap.pen_usage;
@@ -1571,6 +1623,7 @@ public class tilemapC {
     		if(( _tilemap.orientation & ORIENTATION_FLIP_Y )!=0) value = screen_height-_tilemap.height-value;
     		if( _tilemap.colscroll[which]!=value ){
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     			_tilemap.colscroll[which] = value;
     		}
     	}
@@ -1579,6 +1632,7 @@ public class tilemapC {
     		if(( _tilemap.orientation & ORIENTATION_FLIP_X )!=0) value = screen_width-_tilemap.width-value;
     		if( _tilemap.rowscroll[which]!=value ){
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     			_tilemap.rowscroll[which] = value;
     		}
     	}
@@ -1591,6 +1645,7 @@ public class tilemapC {
     		if(( _tilemap.orientation & ORIENTATION_FLIP_X )!=0) value = screen_width-_tilemap.width-value;
     		if( _tilemap.rowscroll[which]!=value ){
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     			_tilemap.rowscroll[which] = value;
     		}
     	}
@@ -1599,6 +1654,7 @@ public class tilemapC {
     		if(( _tilemap.orientation & ORIENTATION_FLIP_Y )!=0) value = screen_height-_tilemap.height-value;
     		if(_tilemap.colscroll[which]!=value ){
     			_tilemap.scrolled = 1;
+    			_tilemap.screen_dirty = 1;
     			_tilemap.colscroll[which] = value;
     		}
     	}
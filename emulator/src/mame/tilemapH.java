@@ -38,7 +38,7 @@ public class tilemapH {
     /*TODO*///#define TILEMAP_BITMAK_OPAQUE       ((unsigned char *)-1)
     /*TODO*///
     public static class _tile_info {
-    	public UBytePtr pen_data; /* pointer to gfx data */
+    	public GfxDataPtr pen_data; /* pointer to gfx data */
     	public CharPtr pal_data; /* pointer to palette */
     	public UBytePtr mask_data; /* pointer to mask data (for TILEMAP_BITMASK) */
     	public /*unsigned*/ int pen_usage;	/* used pens mask */
@@ -55,7 +55,7 @@ public class tilemapH {
     {
             GfxElement gfx = Machine.gfx[(GFX)];
             int _code = (int)((CODE) % gfx.total_elements);
-            tile_info.pen_data = new UBytePtr(gfx.gfxdata, _code * gfx.char_modulo);
+            tile_info.pen_data = new GfxDataPtr(gfx.gfxdata, _code * gfx.char_modulo);
             tile_info.pal_data = new CharPtr(gfx.colortable, gfx.color_granularity * (COLOR));
             tile_info.pen_usage = gfx.pen_usage != null ? gfx.pen_usage[_code] : 0;
     }   
@@ -105,7 +105,7 @@ public class tilemapH {
     	public WriteHandlerPtr draw;//void (*draw)( int, int );
     	public WriteHandlerPtr draw_opaque;//void (*draw_opaque)( int, int );
     
-    	public UBytePtr[] pendata;//unsigned char **pendata;
+    	public GfxDataPtr[] pendata;//unsigned char **pendata;
     	public UBytePtr[] maskdata;//unsigned char **maskdata;
         public CharPtr[] paldata; //unsigned short **paldata;
     	public int[] pen_usage;//unsigned int *pen_usage;
@@ -129,6 +129,7 @@ public class tilemapH {
     	public  WriteHandlerPtr tile_get_info;//void (*tile_get_info)( int col, int row );
     
     	public int scrolled;
+    	public int screen_dirty;	/* scroll, enable or clip changed since the last tilemap_draw */
     	public int scroll_rows, scroll_cols;
     	int rowscroll[], colscroll[];
 
@@ -25,8 +25,8 @@ public class timer {
     public static abstract interface timer_callback { public abstract void handler(int i); }
     public static class timer_entry
     {
-        public timer_entry next;
-        public timer_entry prev;
+        public timer_entry next;	/* free list link */
+        public int heap_index;	/* position in timer_heap, -1 when not scheduled */
         public timer_callback callback;
         public int callback_param;
         public int enabled;
@@ -63,11 +63,22 @@ public class timer {
     static int activecpu;//static cpu_entry *activecpu;
     static int last_activecpu;//static cpu_entry *last_activecpu;
     
-    /* list of active timers */
+    /* pool of timers */
     static timer_entry[] timers = new timer_entry[MAX_TIMERS];
-    static timer_entry timer_head;
     static timer_entry timer_free_head;
 
+    /* active timers, a binary min-heap on expiration time using fixed arrays */
+    /* as large as the pool. timer_heap[0] is always the next one to fire.    */
+    /* The sort keys are kept next to it so sifting doesn't touch the timers */
+    static timer_entry[] timer_heap = new timer_entry[MAX_TIMERS];
+    static double[] timer_heap_expire = new double[MAX_TIMERS];	/* expire, or TIME_NEVER while disabled */
+    static int[] timer_heap_sequence = new int[MAX_TIMERS];	/* insertion order, breaks ties */
+    static int timer_count;
+    static int timer_sequence;
+
+    /* two expirations closer than this are considered equal */
+    static final double TIMER_SLOP = TIME_IN_NSEC(1);
+
     /* other internal states */
     static double base_time;
     static double global_offset;
@@ -132,59 +143,130 @@ public class timer {
     
     
     /*
-     *		insert a new timer into the list at the appropriate location
+     *		return 1 if expiration a has to fire before expiration b
+     */
+    static int timer_before(double a_expire, int a_sequence, double b_expire, int b_sequence)
+    {
+    	/* note that due to floating point rounding, we need to allow a bit of slop here */
+    	/* because two equal entries -- within rounding precision -- need to sort in */
+    	/* the order they were inserted into the list */
+        if (b_expire - a_expire > TIMER_SLOP)
+            return 1;
+        if (a_expire - b_expire > TIMER_SLOP)
+            return 0;
+        return (a_sequence - b_sequence < 0) ? 1 : 0;
+    }
+
+
+    /*
+     *		store a timer and its keys at a heap position
+     */
+    static void timer_heap_set(int index, timer_entry timer, double expire, int sequence)
+    {
+        timer_heap[index] = timer;
+        timer_heap_expire[index] = expire;
+        timer_heap_sequence[index] = sequence;
+        timer.heap_index = index;
+    }
+
+
+    /*
+     *		move a timer towards the top of the heap until its parent fires before it
+     */
+    static void timer_heap_up(int index, timer_entry timer, double expire, int sequence)
+    {
+        while (index > 0)
+        {
+            int parent = (index - 1) >> 1;
+
+            if (timer_before(expire, sequence, timer_heap_expire[parent], timer_heap_sequence[parent]) == 0)
+                break;
+            timer_heap_set(index, timer_heap[parent], timer_heap_expire[parent], timer_heap_sequence[parent]);
+            index = parent;
+        }
+        timer_heap_set(index, timer, expire, sequence);
+    }
+
+
+    /*
+     *		move a timer towards the bottom of the heap until both children fire after it
+     */
+    static void timer_heap_down(int index, timer_entry timer, double expire, int sequence)
+    {
+        int child;
+
+        while ((child = 2 * index + 1) < timer_count)
+        {
+            if (child + 1 < timer_count && timer_before(timer_heap_expire[child + 1], timer_heap_sequence[child + 1], timer_heap_expire[child], timer_heap_sequence[child]) != 0)
+                child++;
+            if (timer_before(timer_heap_expire[child], timer_heap_sequence[child], expire, sequence) == 0)
+                break;
+            timer_heap_set(index, timer_heap[child], timer_heap_expire[child], timer_heap_sequence[child]);
+            index = child;
+        }
+        timer_heap_set(index, timer, expire, sequence);
+    }
+
+
+    /*
+     *		put a timer at a heap position and move it up or down into place
+     */
+    static void timer_heap_place(int index, timer_entry timer, double expire, int sequence)
+    {
+        int parent = (index - 1) >> 1;
+
+        if (index > 0 && timer_before(expire, sequence, timer_heap_expire[parent], timer_heap_sequence[parent]) != 0)
+            timer_heap_up(index, timer, expire, sequence);
+        else
+            timer_heap_down(index, timer, expire, sequence);
+    }
+
+
+    /*
+     *		insert a new timer into the heap at the appropriate location
      */
     public static void timer_list_insert(timer_entry timer)
     {
         double expire = timer.enabled != 0 ? timer.expire : TIME_NEVER;
-    	timer_entry t, lt = null;
-    
-    	/* loop over the timer list */
-        for (t = timer_head; t != null; lt = t, t = t.next)
-    	{
-    		/* if the current list entry expires after us, we should be inserted before it */
-    		/* note that due to floating point rounding, we need to allow a bit of slop here */
-    		/* because two equal entries -- within rounding precision -- need to sort in */
-    		/* the order they were inserted into the list */
-                if ((t.expire - expire) > TIME_IN_NSEC(1))
-    		{
-    			/* link the new guy in before the current list entry */
-                        timer.prev = t.prev;
-                        timer.next = t;
-
-                        if (t.prev != null)
-                            t.prev.next = timer;
-                        else
-                            timer_head = timer;
-                        t.prev = timer;
-                        return;
-    		}
-    	}
-    
-    	/* need to insert after the last one */
-        if (lt != null)
-            lt.next = timer;
+
+        timer_heap_up(timer_count++, timer, expire, timer_sequence++);
+    }
+
+
+    /*
+     *		move a timer whose expiration or enable state changed to its new place,
+     *		same as removing and inserting it again
+     */
+    public static void timer_list_update(timer_entry timer)
+    {
+        double expire = timer.enabled != 0 ? timer.expire : TIME_NEVER;
+
+        if (timer.heap_index < 0)
+            timer_heap_up(timer_count++, timer, expire, timer_sequence++);
         else
-            timer_head = timer;
-        timer.prev = lt;
-        timer.next = null;
+            timer_heap_place(timer.heap_index, timer, expire, timer_sequence++);
     }
-    
-    
+
+
     /*
-     *		remove a timer from the linked list
+     *		remove a timer from the heap
      */
     public static void timer_list_remove(timer_entry timer)
     {
-    	/* remove it from the list */
-    	if (timer.prev != null)
-    		timer.prev.next = timer.next;
-    	else
-    		timer_head = timer.next;
-    	if (timer.next != null)
-    		timer.next.prev = timer.prev;
+        int index = timer.heap_index;
+        int last;
+
+        if (index < 0)
+            return;
+        timer.heap_index = -1;
+
+        /* fill the hole with the last entry and move that one into place */
+        last = --timer_count;
+        if (index != last)
+            timer_heap_place(index, timer_heap[last], timer_heap_expire[last], timer_heap_sequence[last]);
+        timer_heap[last] = null;
     }
-    
+
     /*
      *		initialize the timer system
      */
@@ -204,10 +286,13 @@ public class timer {
         for(int x=0; x<timers.length; x++)
         {
             timers[x]=new timer_entry();
+            timers[x].heap_index = -1;
+            timer_heap[x] = null;
         }
     
     	/* initialize the lists */
-        timer_head = null;
+        timer_count = 0;
+        timer_sequence = 0;
         timer_free_head = timers[0];
         for (int i = 0; i < MAX_TIMERS - 1; i++)
                timers[i].next = timers[i + 1];
@@ -346,9 +431,8 @@ public class timer {
     	timer.start = time;
     	timer.expire = time + duration;
     
-    	/* remove the timer and insert back into the list */
-    	timer_list_remove(timer);
-    	timer_list_insert(timer);
+    	/* move the timer to its new place in the list */
+    	timer_list_update(timer);
     
     	/* if we're supposed to fire before the end of this cycle, adjust the counter */
     	if (activecpu!=0 && timer.expire < base_time)
@@ -407,9 +491,8 @@ public class timer {
     	old = timer.enabled;
     	timer.enabled = enable;
     
-    	/* remove the timer and insert back into the list */
-    	timer_list_remove(timer);
-    	timer_list_insert(timer);
+    	/* move the timer to its new place in the list */
+    	timer_list_update(timer);
     
     	return old;
     }
@@ -476,14 +559,14 @@ public class timer {
     	double end;
     
     	/* then see if there are any CPUs that aren't suspended and haven't yet been updated */
-    	if (pick_cpu(cpu, cycles, timer_head.expire)!=0)
+    	if (pick_cpu(cpu, cycles, timer_heap[0].expire)!=0)
     		return 1;
     
     	/* everyone is up-to-date; expire any timers now */
-    	end = timer_head.expire;
-    	while (timer_head.expire <= end)
+    	end = timer_heap[0].expire;
+    	while (timer_heap[0].expire <= end)
     	{
-    		timer_entry timer = timer_head;
+    		timer_entry timer = timer_heap[0];
     
     		/* the base time is now the time of the timer */
     		base_time = timer.expire;
@@ -512,8 +595,7 @@ public class timer {
     				timer.start = timer.expire;
     				timer.expire += timer.period;
     
-    				timer_list_remove(timer);
-    				timer_list_insert(timer);
+    				timer_list_update(timer);
     			}
     			else
     				timer_remove(timer);
@@ -525,7 +607,7 @@ public class timer {
     
     
     	/* go back to scheduling */
-    	return pick_cpu(cpu, cycles, timer_head.expire);
+    	return pick_cpu(cpu, cycles, timer_heap[0].expire);
     }
     
     
@@ -548,7 +630,6 @@ public class timer {
     	/* time to renormalize? */
     	if (cpu.time >= 1.0)
     	{
-    		timer_entry timer;
     		double one = 1.0;
     		int c; //cpu_entry *c;
     
@@ -560,10 +641,11 @@ public class timer {
     			cpudata[c].time -= one;
     
     		/* renormalize all the timers' times */
-    		for (timer = timer_head; timer!=null; timer = timer.next)
+    		for (int i = 0; i < timer_count; i++)
     		{
-    			timer.start -= one;
-    			timer.expire -= one;
+    			timer_heap[i].start -= one;
+    			timer_heap[i].expire -= one;
+    			timer_heap_expire[i] -= one;
     		}
     
     		/* renormalize the global timers */
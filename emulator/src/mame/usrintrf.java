@@ -21,6 +21,8 @@ import static mame.commonH.*;
 import static mame.driver.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.sound.*;
+import static mame.state.*;
+import static mame.rewind.*;
 
 public class usrintrf {
     public static final int SEL_BITS =12;
@@ -3367,6 +3369,17 @@ public class usrintrf {
     /*TODO*///	/* This call is for the cheat, it must be called at least each frames */
     /*TODO*///	if (options.cheat) DoCheat();
     /*TODO*///
+    	/* shift F7 saves the machine, F7 loads it back, between two timeslices */
+    	if (input_ui_pressed(IPT_UI_SAVE_STATE)!=0)
+    		state_request(STATE_SAVE, "sta/" + Machine.gamedrv.name + ".sta");
+    	if (input_ui_pressed(IPT_UI_LOAD_STATE)!=0)
+    		state_request(STATE_LOAD, "sta/" + Machine.gamedrv.name + ".sta");
+
+    	/* holding F6 runs the game backwards: two frames back for every one */
+    	/* emulated forward                                                  */
+    	if (rewind_size != 0 && seq_pressed(input_port_type_seq(IPT_UI_REWIND)))
+    		rewind_request(2);
+
     	/* if the user pressed ESC, stop the emulation */
     	/* but don't quit if the setup menu is on screen */
     	if (setup_selected == 0 && input_ui_pressed(IPT_UI_CANCEL)!=0)
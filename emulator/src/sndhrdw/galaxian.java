@@ -91,7 +91,7 @@ public class galaxian
 	
         static int counter, countdown;
         public static StreamInitPtr tone_update = new StreamInitPtr() {
-        public void handler(int ch, ShortPtr buffer, int length) {
+        public void handler(int ch, StreamBufPtr buffer, int length) {
 		int i,j;
 		byte[] w = tonewave[vol];
 		
@@ -11,6 +11,7 @@ import static mame.sndintrf.*;
 import static mame.timer.*;
 import static mame.timerH.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class MSM5205 extends snd_interface {
 
     /*
@@ -122,6 +123,8 @@ public class MSM5205 extends snd_interface {
             MSM5205Voice voice = msm5205[i];
             String name = sprintf("MSM5205 #%d", i);
             voice.stream = stream_init(name, msm5205_intf.mixing_level[i], Machine.sample_rate, i, MSM5205_update);
+            state_save_register("msm5205", i, voice);
+            state_save_register_timer_field("msm5205.timer", i, voice, "timer");
         }
         /* initialize */
         MSM5205_sh_reset();
@@ -189,7 +192,7 @@ public class MSM5205 extends snd_interface {
         }
     }
     public static StreamInitPtr MSM5205_update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             MSM5205Voice voice = msm5205[chip];
 
             /* if this voice is active */
@@ -201,10 +204,7 @@ public class MSM5205 extends snd_interface {
                     length--;
                 }
             } else {
-                for (int i = 0; i < buffer.memory.length; i++)//memset (buffer,0,length*sizeof(INT16));
-                {
-                    buffer.memory[i] = 0;
-                }
+                buffer.clear(length);//memset (buffer,0,length*sizeof(INT16));
             }
         }
     };
@@ -16,7 +16,7 @@ public class YM_DELTAT {
  	public UBytePtr memory;
 	public int memory_size;
 	public double freqbase;
-	public int[] output_pointer; /* pointer of output pointers */
+	public transient int[] output_pointer; /* pointer of output pointers */
 	public int output_range;
 
 	public /*UINT8*/int[] reg;
@@ -11,6 +11,7 @@ import static sound.fm.*;
 import static sound.fmH.*;
 import static sound.streams.*;
 import static mame.timer.*;
+import static mame.state.*;
 
 public class _2203intf extends snd_interface {
 
@@ -119,6 +120,9 @@ public class _2203intf extends snd_interface {
         }
         /* Initialize FM emurator */
         if (YM2203Init(intf.num, intf.baseclock, Machine.sample_rate, TimerHandler, IRQHandler) == 0) {
+            for (i = 0; i < intf.num; i++) {
+                state_save_register_timers("ym2203.timer", i, Timer[i]);
+            }
             /* Ready */
             return 0;
         }
@@ -10,6 +10,7 @@ import static sound.fm.*;
 import static sound.fmH.*;
 import static sound.streams.*;
 import static mame.timer.*;
+import static mame.state.*;
 import static arcadeflex.ptrlib.*;
 import static mame.common.*;
 
@@ -154,6 +155,9 @@ public class _2610intf extends snd_interface {
         if (YM2610Init(intf.num, intf.baseclock, rate,
                 pcmbufa, pcmsizea, pcmbufb, pcmsizeb,
                 TimerHandler, IRQHandler) == 0) {
+            for (a = 0; a < intf.num; a++) {
+                state_save_register_timers("ym2610.timer", a, Timer[a]);
+            }
             return 0;
         }
 
@@ -12,6 +12,7 @@ import static sound.fmoplH.*;
 import static sound.fmopl.*;
 import static mame.cpuintrfH.*;
 import static mame.timer.*;
+import static mame.state.*;
 import sound.fm_c.FM_OPL;
 import static arcadeflex.libc_v2.*;
 
@@ -75,7 +76,9 @@ public class _3812intf extends snd_interface {
             OPLSetTimerHandler(F3812[i], TimerHandler, i * 2);
             OPLSetIRQHandler(F3812[i], IRQHandler, i);
             OPLSetUpdateHandler(F3812[i], stream_updateptr, stream[i]);
+            OPLStateRegister(sound_name(msound), i, F3812[i]);
         }
+        state_save_register_timers(sound_name(msound) + ".timer", 0, Timer);
         return 0;
     }
 
@@ -87,7 +90,7 @@ public class _3812intf extends snd_interface {
         public void handler(int param) {
             int n = param >> 1;
             int c = param & 1;
-            Timer[param] = 0;
+            Timer[param] = null;
             OPLTimerOver(F3812[n], c);
         }
     };
@@ -100,7 +103,7 @@ public class _3812intf extends snd_interface {
 
                 if (Timer[c] != null) {
                     timer_remove(Timer[c]);
-                    Timer[c] = 0;
+                    Timer[c] = null;
                 }
             } else {
                 /* Start FM Timer */
@@ -204,7 +207,7 @@ public class _3812intf extends snd_interface {
         }
     };
     public static StreamInitPtr YM3812UpdateHandler = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             YM3812UpdateOne(F3812[num], buffer, length);
         }
     };
@@ -11,6 +11,7 @@ import static mame.driverH.*;
 import static mame.common.*;
 import static mame.sndintrf.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class adpcm extends snd_interface {
 
     public static final int MAX_SAMPLE_CHUNK = 10000;
@@ -197,7 +198,7 @@ public class adpcm extends snd_interface {
      **********************************************************************************************
      */
     public static StreamInitPtr adpcm_update = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             ADPCMVoice voice = adpcm[num];
             ShortPtr sample_data = new ShortPtr(MAX_SAMPLE_CHUNK * 2), curr_data = new ShortPtr(sample_data);
             short prev = voice.last_sample, curr = voice.curr_sample;
@@ -307,6 +308,7 @@ public class adpcm extends snd_interface {
             if (Machine.sample_rate != 0) {
                 adpcm[i].source_step = (/*UINT32*/int) ((double) intf.frequency * (double) FRAC_ONE / (double) Machine.sample_rate);
             }
+            state_save_register("adpcm", i, adpcm[i]);
         }
 
         /* success */
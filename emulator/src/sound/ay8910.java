@@ -24,6 +24,7 @@ import static sound.streams.*;
 import static sound.mixer.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class ay8910 extends snd_interface {
 
     public ay8910() {
@@ -428,9 +429,9 @@ public class ay8910 extends snd_interface {
         }
     };
     public static StreamInitMultiPtr AY8910Update = new StreamInitMultiPtr() {
-        public void handler(int chip, ShortPtr[] buffer, int length) {
+        public void handler(int chip, StreamBufPtr[] buffer, int length) {
             AY8910 PSG = AYPSG[chip];
-            ShortPtr buf1, buf2, buf3;
+            StreamBufPtr buf1, buf2, buf3;
             int outn;
 
             buf1 = buffer[0];
@@ -773,6 +774,7 @@ public class ay8910 extends snd_interface {
 
         AY8910_set_clock(chip, clock);
         AY8910_reset(chip);
+        state_save_register("ay8910", chip, PSG);
         return 0;
     }
 
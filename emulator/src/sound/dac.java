@@ -12,6 +12,7 @@ import static mame.mame.*;
 import static sound.streams.*;
 import static mame.driverH.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class dac extends snd_interface {
 
     static int[] channel = new int[MAX_DAC];
@@ -50,7 +51,7 @@ public class dac extends snd_interface {
     }
 
     public static StreamInitPtr DAC_update = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             int out = output[num];
             int bi = 0;
             while (length-- != 0) {
@@ -139,6 +140,7 @@ public class dac extends snd_interface {
 
             output[i] = 0;
         }
+        state_save_register("dac", 0, output);
 
         return 0;
     }
@@ -21,6 +21,8 @@ import static sound.streams.*;
 import static sound._2610intf.*;
 import sound.fm_c.ADPCM_CH;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
+import java.nio.ByteBuffer;
 public class fm {
     /*TODO*///#define YM2610B_WARNING
 /*TODO*///
@@ -1294,12 +1296,12 @@ public class fm {
 
     /* ---------- update one of chip ----------- */
     public static StreamInitPtr YM2203UpdateOne = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             YM2203 F2203 = (FM2203[num]);
             FM_OPN OPN = (FM2203[num].OPN);
             int i;
             FM_CH ch;
-            ShortPtr buf = new ShortPtr(buffer);
+            StreamBufPtr buf = new StreamBufPtr(buffer);
 
             cur_chip = F2203;
             State = F2203.OPN.ST;
@@ -1383,6 +1385,90 @@ public class fm {
     }
     /*TODO*///
 /*TODO*////* ----------  Initialize YM2203 emulator(s) ----------    */
+    /* envelope phases, by their number in snapshots */
+    static EGPtr[] EG_PHASES = {FM_EG_AR, FM_EG_DR, FM_EG_SR, FM_EG_Release};
+
+    /* the pointers of an OPN chip in snapshots: the detune row, the rate */
+    /* tables and envelope phase of every slot, and the ADPCM outputs of a */
+    /* YM2610. The connections are set up again from PAN and ALGO          */
+    static state_object OPN_state(final FM_OPN OPN, final FM_CH[] CH, final YM2610 F2610) {
+        return new state_object() {
+            public void save(ByteBuffer buf) throws state_exception {
+                int[][] ar = {RATE_0, OPN.ST.AR_TABLE.buffer};
+                int[][] dr = {RATE_0, OPN.ST.DR_TABLE.buffer};
+
+                for (int c = 0; c < CH.length; c++) {
+                    for (int s = 0; s < 4; s++) {
+                        FM_SLOT SLOT = CH[c].SLOT[s];
+
+                        write_choice(buf, SLOT.DT, OPN.ST.DT_TABLE);
+                        write_pointer(buf, SLOT.AR, ar);
+                        write_pointer(buf, SLOT.DR, dr);
+                        write_pointer(buf, SLOT.SR, dr);
+                        write_pointer(buf, SLOT.RR, dr);
+                        write_choice(buf, SLOT.eg_next, EG_PHASES);
+                    }
+                }
+                if (F2610 != null) {
+                    for (int i = 0; i < 6 + 1; i++) {
+                        write_pointer(buf, F2610.adpcm[i].pan, new int[][]{out_ch});
+                    }
+                    write_pointer(buf, F2610.adpcmTL, new int[][]{TL_TABLE});
+                    write_pointer(buf, F2610.deltaT.pan, new int[][]{F2610.deltaT.output_pointer});
+                }
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                int[][] ar = {RATE_0, OPN.ST.AR_TABLE.buffer};
+                int[][] dr = {RATE_0, OPN.ST.DR_TABLE.buffer};
+
+                for (int c = 0; c < CH.length; c++) {
+                    for (int s = 0; s < 4; s++) {
+                        FM_SLOT SLOT = CH[c].SLOT[s];
+                        int dt = read_choice(buf, OPN.ST.DT_TABLE.length);
+                        IntSubArray AR = read_pointer(buf, ar);
+                        IntSubArray DR = read_pointer(buf, dr);
+                        IntSubArray SR = read_pointer(buf, dr);
+                        IntSubArray RR = read_pointer(buf, dr);
+                        int eg = read_choice(buf, EG_PHASES.length);
+
+                        if (apply != 0) {
+                            SLOT.DT = dt < 0 ? null : OPN.ST.DT_TABLE[dt];
+                            SLOT.AR = AR;
+                            SLOT.DR = DR;
+                            SLOT.SR = SR;
+                            SLOT.RR = RR;
+                            SLOT.eg_next = eg < 0 ? null : EG_PHASES[eg];
+                        }
+                    }
+                }
+                if (F2610 != null) {
+                    IntSubArray[] pan = new IntSubArray[6 + 1];
+
+                    for (int i = 0; i < 6 + 1; i++) {
+                        pan[i] = read_pointer(buf, new int[][]{out_ch});
+                    }
+                    IntSubArray adpcmTL = read_pointer(buf, new int[][]{TL_TABLE});
+                    IntSubArray deltaT_pan = read_pointer(buf, new int[][]{F2610.deltaT.output_pointer});
+
+                    if (apply != 0) {
+                        for (int i = 0; i < 6 + 1; i++) {
+                            F2610.adpcm[i].pan = pan[i];
+                        }
+                        F2610.adpcmTL = adpcmTL;
+                        F2610.deltaT.pan = deltaT_pan;
+                    }
+                }
+                if (apply != 0) {
+                    for (int c = 0; c < CH.length; c++) {
+                        setup_connection(CH[c]);
+                    }
+                    cur_chip = null;
+                }
+            }
+        };
+    }
+
 /*TODO*////* 'num' is the number of virtual YM2203's to allocate     */
 /*TODO*////* 'rate' is sampling rate and 'bufsiz' is the size of the */
 /*TODO*////* buffer that should be updated at each interval          */
@@ -1419,6 +1505,9 @@ public class fm {
             FM2203[i].OPN.ST.Timer_Handler = TimerHandler;
             FM2203[i].OPN.ST.IRQ_Handler = IRQHandler;
             YM2203ResetChip(i);
+            state_save_register("ym2203", i, FM2203[i]);
+            state_save_register("ym2203.rates", i, new int[][]{FM2203[i].OPN.ST.AR_TABLE.buffer, FM2203[i].OPN.ST.DR_TABLE.buffer});
+            state_save_register("ym2203.pointers", i, OPN_state(FM2203[i].OPN, FM2203[i].CH, null));
         }
         return (0);
 
@@ -2196,15 +2285,15 @@ static void FM_ADPCMAWrite(YM2610 F2610,int r,int v)
 
     /* ---------- update one of chip (YM2610B FM6: ADPCM-A6: ADPCM-B:1) ----------- */
     public static StreamInitMultiPtr YM2610UpdateOne = new StreamInitMultiPtr() {
-        public void handler(int num, ShortPtr[] buffer, int length) {
+        public void handler(int num, StreamBufPtr[] buffer, int length) {
 
             YM2610 F2610 = FM2610[num];
             FM_OPN OPN = FM2610[num].OPN;
             YM_DELTAT DELTAT = FM2610[num].deltaT;
             int i, j;
             int ch;
-            ShortPtr bufL;
-            ShortPtr bufR;
+            StreamBufPtr bufL;
+            StreamBufPtr bufR;
 
             /* setup DELTA-T unit */
             YM_DELTAT_DECODE_PRESET(DELTAT);
@@ -2435,6 +2524,10 @@ static void FM_ADPCMAWrite(YM2610 F2610,int r,int v)
             FM2610[i].deltaT.memory_size = pcmsizeb[i];
             /* */
             YM2610ResetChip(i);
+            state_save_register("ym2610", i, FM2610[i]);
+            state_save_register("ym2610.rates", i, new int[][]{FM2610[i].OPN.ST.AR_TABLE.buffer, FM2610[i].OPN.ST.DR_TABLE.buffer});
+            state_save_register("ym2610.deltat", i, FM2610[i].deltaT);
+            state_save_register("ym2610.pointers", i, OPN_state(FM2610[i].OPN, FM2610[i].CH, FM2610[i]));
         }
         InitOPNB_ADPCMATable();
         return 0;
@@ -3382,12 +3475,12 @@ static void FM_ADPCMAWrite(YM2610 F2610,int r,int v)
     }
     /* ---------- make digital sound data ---------- */
     public static streams.StreamInitMultiPtr OPMUpdateOne = new streams.StreamInitMultiPtr() {
-        public void handler(int num, ShortPtr[] buffer, int length) {
+        public void handler(int num, StreamBufPtr[] buffer, int length) {
             YM2151 OPM = (FMOPM[num]);
             int i;
             int amd, pmd;
             FM_CH ch;
-            ShortPtr bufL, bufR;
+            StreamBufPtr bufL, bufR;
 
             /* set bufer */
             bufL = buffer[0];
@@ -45,12 +45,12 @@ public class FM_OPL {
     public OPL_PORTHANDLER_RPtr keyboardhandler_r;
     public OPL_PORTHANDLER_WPtr keyboardhandler_w;
     public int keyboard_param;
-    /* time tables */
+    /* time tables, made from the clock and not saved */
 
-    public int[] AR_TABLE;	/* atttack rate tables */
+    public transient int[] AR_TABLE;	/* atttack rate tables */
 
-    public int[] DR_TABLE;	/* decay rate tables   */
-    public /*UINT32*/long[] FN_TABLE;  /* fnumber -> increment counter */
+    public transient int[] DR_TABLE;	/* decay rate tables   */
+    public transient /*UINT32*/long[] FN_TABLE;  /* fnumber -> increment counter */
     	/* LFO */
     public IntSubArray ams_table;
     public IntSubArray vib_table;
@@ -17,7 +17,7 @@ public class FM_OPN {
 
     public FM_3SLOT SL3;			/* 3 slot mode state */
 
-    public FM_CH[] P_CH;			/* pointer of CH     */
+    public transient FM_CH[] P_CH;	/* pointer of CH     */
 
     public long[] /*UINT32*/ FN_TABLE; /* fnumber -> increment counter */
 
@@ -5,7 +5,7 @@ import static arcadeflex.libc.*;
 
 public class FM_SLOT {
 
-    public int[] DT;			/* detune          :DT_TABLE[DT]       */
+    public transient int[] DT;	/* detune          :DT_TABLE[DT]       */
 
     public int DT2;			/* multiple,Detune2:(DT2<<4)|ML for OPM*/
 
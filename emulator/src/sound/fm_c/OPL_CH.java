@@ -12,8 +12,8 @@ public class OPL_CH {
    public OPL_SLOT[] SLOT;
     public int /*UINT8*/ CON;			/* connection type                     */
     public int /*UINT8*/ FB;			/* feed back       :(shift down bit)   */
-    public int[] connect1;	/* slot1 output pointer                */
-    public int[] connect2;	/* slot2 output pointer                */
+    public transient int[] connect1;	/* slot1 output pointer                */
+    public transient int[] connect2;	/* slot2 output pointer                */
     public int[] op1_out;	/* slot1 output for selfeedback        */
    	/* phase generator state */
     public long /*UINT32*/  block_fnum;	/* block+fnum      :                   */
@@ -9,6 +9,8 @@ import static sound.YM_DELTA_T.*;
 import sound.fm_c.OPL_CH;
 import sound.fm_c.OPL_SLOT;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
+import java.nio.ByteBuffer;
 public class fmopl {
 
     /* -------------------- preliminary define section --------------------- */
@@ -983,10 +985,10 @@ public class fmopl {
    /*******************************************************************************/
    
    /* ---------- update one of chip ----------- */
-    public static void YM3812UpdateOne(FM_OPL OPL, ShortPtr buffer, int length) {
+    public static void YM3812UpdateOne(FM_OPL OPL, StreamBufPtr buffer, int length) {
         int i;
         int data;
-        ShortPtr buf = buffer;
+        StreamBufPtr buf = buffer;
         long amsCnt = OPL.amsCnt;
         long vibCnt = OPL.vibCnt;
         int rythm = ((OPL.rythm & 0x20) & 0xFF);
@@ -1034,10 +1036,10 @@ public class fmopl {
         OPL.amsCnt = (int) amsCnt;
         OPL.vibCnt = (int) vibCnt;
     }
-    public static void Y8950UpdateOne(FM_OPL OPL, ShortPtr buffer, int length) {
+    public static void Y8950UpdateOne(FM_OPL OPL, StreamBufPtr buffer, int length) {
         int i;
         int data;
-        ShortPtr buf = buffer;
+        StreamBufPtr buf = buffer;
         long amsCnt = OPL.amsCnt;
         long vibCnt = OPL.vibCnt;
         int rythm = ((OPL.rythm & 0x20) & 0xFF);
@@ -1171,6 +1173,71 @@ public class fmopl {
         OPLResetChip(OPL);
         return OPL;
     }
+    /* ----------  add a chip to the snapshots ----------       */
+    /* the rate tables, LFO tables and waveform of the slots are */
+    /* saved as pointers, the connections are set up from CON    */
+    public static void OPLStateRegister(String module, int num, final FM_OPL OPL) {
+        state_save_register(module, num, OPL);
+        if (OPL.deltat != null) {
+            state_save_register(module + ".deltat", num, OPL.deltat);
+        }
+        state_save_register(module + ".pointers", num, new state_object() {
+            public void save(ByteBuffer buf) throws state_exception {
+                for (int c = 0; c < OPL.max_ch; c++) {
+                    for (int s = 0; s < 2; s++) {
+                        OPL_SLOT SLOT = OPL.P_CH[c].SLOT[s];
+
+                        write_pointer(buf, SLOT.AR, new int[][]{RATE_0, OPL.AR_TABLE});
+                        write_pointer(buf, SLOT.DR, new int[][]{RATE_0, OPL.DR_TABLE});
+                        write_pointer(buf, SLOT.RR, new int[][]{RATE_0, OPL.DR_TABLE});
+                        write_choice(buf, SLOT.wavetable, new Object[]{SIN_TABLE});
+                    }
+                }
+                write_pointer(buf, OPL.ams_table, new int[][]{AMS_TABLE.buffer});
+                write_pointer(buf, OPL.vib_table, new int[][]{VIB_TABLE.buffer});
+                if (OPL.deltat != null) {
+                    write_pointer(buf, OPL.deltat.pan, new int[][]{OPL.deltat.output_pointer});
+                }
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                IntSubArray[] rates = new IntSubArray[OPL.max_ch * 2 * 3];
+                int[] wavetable = new int[OPL.max_ch * 2];
+
+                for (int i = 0; i < OPL.max_ch * 2; i++) {
+                    rates[i * 3] = read_pointer(buf, new int[][]{RATE_0, OPL.AR_TABLE});
+                    rates[i * 3 + 1] = read_pointer(buf, new int[][]{RATE_0, OPL.DR_TABLE});
+                    rates[i * 3 + 2] = read_pointer(buf, new int[][]{RATE_0, OPL.DR_TABLE});
+                    wavetable[i] = read_choice(buf, 1);
+                }
+                IntSubArray ams = read_pointer(buf, new int[][]{AMS_TABLE.buffer});
+                IntSubArray vib = read_pointer(buf, new int[][]{VIB_TABLE.buffer});
+                IntSubArray pan = OPL.deltat != null ? read_pointer(buf, new int[][]{OPL.deltat.output_pointer}) : null;
+
+                if (apply == 0) {
+                    return;
+                }
+                for (int i = 0; i < OPL.max_ch * 2; i++) {
+                    OPL_SLOT SLOT = OPL.P_CH[i / 2].SLOT[i % 2];
+
+                    SLOT.AR = rates[i * 3];
+                    SLOT.DR = rates[i * 3 + 1];
+                    SLOT.RR = rates[i * 3 + 2];
+                    SLOT.wavetable = wavetable[i] < 0 ? null : SIN_TABLE;
+                }
+                for (int c = 0; c < OPL.max_ch; c++) {
+                    set_algorythm(OPL.P_CH[c]);
+                }
+                OPL.ams_table = ams;
+                OPL.vib_table = vib;
+                if (OPL.deltat != null) {
+                    OPL.deltat.pan = pan;
+                }
+                cur_chip = null;
+            }
+        });
+    }
+
     /* ----------  Destroy one of vietual YM3812 ----------       */
 
     public static void OPLDestroy(FM_OPL OPL) {
@@ -10,6 +10,7 @@ import static sound.streams.*;
 import static mame.common.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class k005289 extends snd_interface {
 
     public k005289() {
@@ -77,16 +78,14 @@ public class k005289 extends snd_interface {
         return 0;
     }
     public static StreamInitPtr K005289_update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             //k005289_sound_channel *voice=channel_list;
             ShortPtr mix;
             int i, v, f;
 
             /* zap the contents of the mixer buffer */
            // memset(mixer_buffer, 0, length * 2/*sizeof(INT16)*/);
-            for (int k = 0; k < length * 2; k++) {
-                buffer.memory[buffer.offset + k] = 0;
-            }
+            buffer.clear(length);
 
             v = channel_list[0].volume;
             f = channel_list[0].frequency;
@@ -182,6 +181,11 @@ public class k005289 extends snd_interface {
         channel_list[1].volume = 0;
         channel_list[1].wave = new UBytePtr(sound_prom, 0x100);
         channel_list[1].counter = 0;
+        state_save_register("k005289", 0, channel_list[0]);
+        state_save_register("k005289", 1, channel_list[1]);
+        state_save_register_statics("k005289.regs", 0, k005289.class, new String[]{
+            "k005289_A_frequency", "k005289_B_frequency", "k005289_A_volume", "k005289_B_volume",
+            "k005289_A_waveform", "k005289_B_waveform", "k005289_A_latch", "k005289_B_latch"});
 
         return 0;
     }
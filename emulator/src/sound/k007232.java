@@ -10,6 +10,8 @@ import static sound.streams.*;
 import static mame.common.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
+import java.nio.ByteBuffer;
 public class k007232 extends snd_interface {
 
     public static final int KDAC_A_PCM_MAX = (2);		/* Channels per chip */
@@ -75,6 +77,8 @@ public class k007232 extends snd_interface {
             vol[1] = intf.volume[j] >> 16;
 
             pcm_chan[j] = stream_init_multi(2, name, vol, Machine.sample_rate, j, KDAC_A_update);
+            state_save_register("k007232", j, kpcm[j]);
+            state_save_register("k007232.bank", j, K007232_bank_state(kpcm[j]));
         }
 
         KDAC_A_make_fncode();
@@ -104,7 +108,7 @@ public class k007232 extends snd_interface {
         }
     }
     public static StreamInitMultiPtr KDAC_A_update = new StreamInitMultiPtr() {
-        public void handler(int chip, ShortPtr[] buffer, int buffer_len) {
+        public void handler(int chip, StreamBufPtr[] buffer, int buffer_len) {
             int i;
 
             ///memset(buffer[0],0,buffer_len * sizeof(INT16));
@@ -172,6 +176,26 @@ public class k007232 extends snd_interface {
         kpcm[chip].vol[channel][1] = volumeB & 0xFF;
     }
 
+    /* the banks K007232_bankswitch() selected */
+    static state_object K007232_bank_state(final kdacApcm chip) {
+        return new state_object() {
+            public void save(ByteBuffer buf) throws state_exception {
+                write_ubyteptr(buf, chip.pcmbuf[0]);
+                write_ubyteptr(buf, chip.pcmbuf[1]);
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception {
+                UBytePtr a = read_ubyteptr(buf, apply);
+                UBytePtr b = read_ubyteptr(buf, apply);
+
+                if (apply != 0) {
+                    chip.pcmbuf[0] = a;
+                    chip.pcmbuf[1] = b;
+                }
+            }
+        };
+    }
+
     public static void K007232_bankswitch(int chip, UBytePtr ptr_A, UBytePtr ptr_B) {
         kpcm[chip].pcmbuf[0] = ptr_A;
         kpcm[chip].pcmbuf[1] = ptr_B;
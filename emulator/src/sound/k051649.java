@@ -8,6 +8,7 @@ import static mame.mame.*;
 import static sound.streams.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class k051649 extends snd_interface {
     public static class k051649_sound_channel {
     	/*unsigned*/ long counter;
@@ -71,6 +72,7 @@ public class k051649 extends snd_interface {
             channel_list[i].frequency = 0;
             channel_list[i].volume = 0;
             channel_list[i].counter = 0;
+            state_save_register("k051649", i, channel_list[i]);
         }
 
         return 0;
@@ -120,7 +122,7 @@ public class k051649 extends snd_interface {
 
     /* generate sound to the mix buffer */
     public static StreamInitPtr K051649_update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
 
 	//k051649_sound_channel * voice = channel_list;
         ShortPtr mix;
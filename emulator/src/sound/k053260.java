@@ -14,6 +14,7 @@ import static arcadeflex.libc_old.*;
 import static sound.streams.*;
 import static mame.driverH.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class k053260 extends sndintrf.snd_interface {
 
     public k053260() {
@@ -119,7 +120,7 @@ public class k053260 extends sndintrf.snd_interface {
     public static final int MAXOUT = 0x7fff;
     public static final int MINOUT = -0x8000;
     public static StreamInitMultiPtr K053260_update = new StreamInitMultiPtr() {
-        public void handler(int chip, ShortPtr[] buffer, int length) {
+        public void handler(int chip, StreamBufPtr[] buffer, int length) {
             int i, j;
             int[] lvol = new int[4];
             int[] rvol = new int[4];
@@ -264,6 +265,10 @@ public class k053260 extends sndintrf.snd_interface {
 
         InitDeltaTable();
 
+        /* the array, K053260_reset() makes new channels */
+        state_save_register("k053260", 0, K053260_channel);
+        state_save_register_statics("k053260.regs", 0, K053260_chip.class, new String[]{"mode", "regs"});
+
         /* setup SH1 timer if necessary */
         if (K053260_chip.intf.irq != null) {
             K053260_chip.timer = timer_pulse(TIME_IN_HZ((K053260_chip.intf.clock / 32)), 0, K053260_chip.intf.irq);
@@ -9,6 +9,9 @@ import static sound.mixerH.*;
 import static mame.mame.*;
 import static mame.driverH.*;
 import static mame.sndintrf.*;
+import static mame.state.*;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 public class mixer {
 
@@ -78,6 +81,139 @@ public class mixer {
     /* global sample tracking */
     public static int/*UINT32*/ samples_this_frame;
 
+    /* the playback position of every channel, the samples mixed ahead of */
+    /* the frame and the host's position in its stream of samples, so a   */
+    /* restored machine goes on with the sound it was making             */
+    static state_object mixer_state = new state_object() {
+        /* the accumulators are saved over a window of two frames of samples, */
+        /* the same for every snapshot of the machine so rewind can take     */
+        /* deltas; a channel never mixes ahead more than a frame              */
+        int window() {
+            return Math.min(2 * Machine.sample_rate / Machine.drv.frames_per_second + 16, ACCUMULATOR_SAMPLES);
+        }
+
+        public void save(ByteBuffer buf) throws state_exception {
+            int window = window();
+
+            buf.putInt(first_free_channel);
+            for (int i = 0; i < first_free_channel; i++) {
+                mixer_channel_data channel = mixer_channel[i];
+
+                buf.putInt(channel.volume);
+                buf.putInt(channel.gain);
+                buf.putInt(channel.pan);
+                buf.putChar(channel.mixing_level);
+                buf.putInt(channel.input_frac);
+                buf.putInt(channel.samples_available);
+                buf.putInt(channel.frequency);
+                buf.putInt(channel.step_size);
+                buf.put((byte) (channel.is_playing ? 1 : 0));
+                buf.put((byte) (channel.is_looping ? 1 : 0));
+                buf.put((byte) (channel.is_16bit ? 1 : 0));
+                buf.putInt(channel.data_end);
+                buf.putInt(channel.data_current);
+
+                /* the data of a sample that is over isn't needed */
+                BytePtr b = channel.is_playing && !channel.is_16bit ? channel.data_start_b : null;
+                ShortPtr s = channel.is_playing && channel.is_16bit ? channel.data_start_s : null;
+
+                write_ref(buf, b != null ? b.memory : null);
+                write_ref(buf, s != null ? s.memory : null);
+                buf.putInt(b != null ? b.offset : s != null ? s.offset : 0);
+
+                if (channel.samples_available > window) {
+                    throw new state_exception("mixer channel " + i + " is " + channel.samples_available + " samples ahead");
+                }
+            }
+
+            /* past what the channels have mixed ahead the accumulators are clear */
+            buf.putInt(accum_base);
+            for (int i = 0; i < window; i++) {
+                buf.putInt(left_accum[(accum_base + i) & ACCUMULATOR_MASK]);
+                buf.putInt(right_accum[(accum_base + i) & ACCUMULATOR_MASK]);
+            }
+            buf.putInt(samples_this_frame);
+            buf.putDouble(samples_left_over);
+        }
+
+        public void load(ByteBuffer buf, int apply) throws state_exception {
+            if (buf.getInt() != first_free_channel) {
+                throw new state_exception("mixer channels don't match");
+            }
+            for (int i = 0; i < first_free_channel; i++) {
+                mixer_channel_data channel = mixer_channel[i];
+                int volume = buf.getInt();
+                int gain = buf.getInt();
+                int pan = buf.getInt();
+                char mixing_level = buf.getChar();
+                int input_frac = buf.getInt();
+                int samples_available = buf.getInt();
+                int frequency = buf.getInt();
+                int step_size = buf.getInt();
+                boolean is_playing = buf.get() != 0;
+                boolean is_looping = buf.get() != 0;
+                boolean is_16bit = buf.get() != 0;
+                int data_end = buf.getInt();
+                int data_current = buf.getInt();
+                byte[] b = (byte[]) read_ref(buf, byte[].class);
+                byte[] s = (byte[]) read_ref(buf, byte[].class);
+                int offset = buf.getInt();
+
+                if (samples_available < 0 || samples_available > window()) {
+                    throw new state_exception("bad mixer position " + samples_available);
+                }
+                if (apply == 0) {
+                    continue;
+                }
+                channel.volume = volume;
+                channel.gain = gain;
+                channel.pan = pan;
+                channel.mixing_level = mixing_level;
+                channel.input_frac = input_frac;
+                channel.samples_available = samples_available;
+                channel.frequency = frequency;
+                channel.step_size = step_size;
+                channel.is_playing = is_playing;
+                channel.is_looping = is_looping;
+                channel.is_16bit = is_16bit;
+                channel.data_end = data_end;
+                channel.data_current = data_current;
+                if (b != null) {
+                    channel.data_start_b = new BytePtr();
+                    channel.data_start_b.set(b, offset);
+                } else if (s != null) {
+                    channel.data_start_s = new ShortPtr();
+                    channel.data_start_s.set(s, offset);
+                }
+            }
+
+            int base = buf.getInt();
+            int window = window();
+
+            if (apply != 0) {
+                accum_base = base & ACCUMULATOR_MASK;
+                Arrays.fill(left_accum, 0);
+                Arrays.fill(right_accum, 0);
+            }
+            for (int i = 0; i < window; i++) {
+                int left = buf.getInt();
+                int right = buf.getInt();
+
+                if (apply != 0) {
+                    left_accum[(accum_base + i) & ACCUMULATOR_MASK] = left;
+                    right_accum[(accum_base + i) & ACCUMULATOR_MASK] = right;
+                }
+            }
+            int samples = buf.getInt();
+            double left_over = buf.getDouble();
+
+            if (apply != 0) {
+                samples_this_frame = samples;
+                samples_left_over = left_over;
+            }
+        }
+    };
+
     /**
      * *************************************************************************
      * mixer_sh_start
@@ -107,6 +243,7 @@ public class mixer {
             right_accum[i] = 0;
         }
         samples_this_frame = osd_start_audio_stream(is_stereo?1:0);
+        state_save_register("mixer", 0, mixer_state);
 
         int sound_enabled = 1;
         //disable sound in MainStream case for now..
@@ -427,7 +564,7 @@ public class mixer {
      * mixer_play_streamed_sample_16
      * *************************************************************************
      */
-    public static void mixer_play_streamed_sample_16(int ch, ShortPtr data, int len, int freq) {
+    public static void mixer_play_streamed_sample_16(int ch, StreamBufPtr data, int len, int freq) {
 
         int/*UINT32*/ step_size, input_pos, output_pos, samples_mixed;
         int mixing_volume;
@@ -639,7 +776,7 @@ public class mixer {
     public static void mix_sample_8(mixer_channel_data channel, int samples_to_generate) {
         int/*UINT32*/ step_size, input_frac, output_pos;
         BytePtr source;
-        int source_end;
+        int source_pos, source_end;
         int mixing_volume;
 
         /* compute the overall mixing volume */
@@ -651,7 +788,8 @@ public class mixer {
 
         /* get the initial state */
         step_size = channel.step_size;
-        source = new BytePtr(channel.data_start_b, channel.data_current);//source = channel->data_current;
+        source = channel.data_start_b;
+        source_pos = channel.data_current;//source = channel->data_current;
         source_end = channel.data_end;
         input_frac = channel.input_frac;
         output_pos = (accum_base + channel.samples_available) & ACCUMULATOR_MASK;
@@ -660,30 +798,30 @@ public class mixer {
         while (samples_to_generate > 0) {
             /* if we're mono or left panning, just mix to the left channel */
             if (!is_stereo || channel.pan == MIXER_PAN_LEFT) {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    left_accum[output_pos] += source.read(0) * mixing_volume;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    left_accum[output_pos] += source.read(source_pos) * mixing_volume;
                     input_frac += step_size;
-                    source.offset += (int) (input_frac >> FRACTION_BITS);
+                    source_pos += (int) (input_frac >> FRACTION_BITS);
                     input_frac &= FRACTION_MASK;
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
                     samples_to_generate--;
                 }
             } /* if we're right panning, just mix to the right channel */ else if (channel.pan == MIXER_PAN_RIGHT) {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    right_accum[output_pos] += source.read(0) * mixing_volume;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    right_accum[output_pos] += source.read(source_pos) * mixing_volume;
                     input_frac += step_size;
-                    source.offset += (int) (input_frac >> FRACTION_BITS);
+                    source_pos += (int) (input_frac >> FRACTION_BITS);
                     input_frac &= FRACTION_MASK;
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
                     samples_to_generate--;
                 }
             } /* if we're stereo center, mix to both channels */ else {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    int mixing_value = source.read(0) * mixing_volume;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    int mixing_value = source.read(source_pos) * mixing_volume;
                     left_accum[output_pos] += mixing_value;
                     right_accum[output_pos] += mixing_value;
                     input_frac += step_size;
-                    source.offset += (int) (input_frac >> FRACTION_BITS);
+                    source_pos += (int) (input_frac >> FRACTION_BITS);
                     input_frac &= FRACTION_MASK;
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
                     samples_to_generate--;
@@ -691,20 +829,20 @@ public class mixer {
             }
 
             /* handle the end case */
-            if (source.offset >= source_end) {
+            if (source_pos >= source_end) {
                 /* if we're done, stop playing */
                 if (!channel.is_looping) {
                     channel.is_playing = false;
                     break;
                 } /* if we're looping, wrap to the beginning */ else {
-                    source.offset -= source_end;// -(INT8*)channel.data_start;
+                    source_pos -= source_end;// -(INT8*)channel.data_start;
                 }
             }
         }
 
         /* update the final positions */
         channel.input_frac = input_frac;
-        channel.data_current = source.offset;
+        channel.data_current = source_pos;
     }
 
     /**
@@ -715,7 +853,7 @@ public class mixer {
     static void mix_sample_16(mixer_channel_data channel, int samples_to_generate) {
         int step_size, input_frac, output_pos;
         ShortPtr source;
-        int source_end;
+        int source_pos, source_end;
         int mixing_volume;
 
         if (mixer_sound_enabled != 0) {
@@ -726,7 +864,8 @@ public class mixer {
 
         /* get the initial state */
         step_size = channel.step_size;
-        source = new ShortPtr(channel.data_start_s, channel.data_current);
+        source = channel.data_start_s;
+        source_pos = channel.data_current;	/* in bytes, like data_end */
         source_end = channel.data_end;
         input_frac = channel.input_frac;
         output_pos = (accum_base + channel.samples_available) & ACCUMULATOR_MASK;
@@ -735,35 +874,35 @@ public class mixer {
         while (samples_to_generate > 0) {
             /* if we're mono or left panning, just mix to the left channel */
             if (!is_stereo || channel.pan == MIXER_PAN_LEFT) {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    left_accum[output_pos] += (source.read() * mixing_volume) >> 8;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    left_accum[output_pos] += (source.read(source_pos >> 1) * mixing_volume) >> 8;
 
                     input_frac += step_size;
-                    source.inc((int) (input_frac >> FRACTION_BITS));
+                    source_pos += (int) (input_frac >> FRACTION_BITS) * 2;
                     input_frac &= FRACTION_MASK;
 
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
                     samples_to_generate--;
                 }
             } /* if we're right panning, just mix to the right channel */ else if (channel.pan == MIXER_PAN_RIGHT) {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    right_accum[output_pos] += (source.read() * mixing_volume) >> 8;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    right_accum[output_pos] += (source.read(source_pos >> 1) * mixing_volume) >> 8;
 
                     input_frac += step_size;
-                    source.inc((int) (input_frac >> FRACTION_BITS));
+                    source_pos += (int) (input_frac >> FRACTION_BITS) * 2;
                     input_frac &= FRACTION_MASK;
 
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
                     samples_to_generate--;
                 }
             } /* if we're stereo center, mix to both channels */ else {
-                while (source.offset < source_end && samples_to_generate > 0) {
-                    int mixing_value = (source.read() * mixing_volume) >> 8;
+                while (source_pos < source_end && samples_to_generate > 0) {
+                    int mixing_value = (source.read(source_pos >> 1) * mixing_volume) >> 8;
                     left_accum[output_pos] += mixing_value;
                     right_accum[output_pos] += mixing_value;
 
                     input_frac += step_size;
-                    source.inc((int) (input_frac >> FRACTION_BITS));
+                    source_pos += (int) (input_frac >> FRACTION_BITS) * 2;
                     input_frac &= FRACTION_MASK;
 
                     output_pos = (output_pos + 1) & ACCUMULATOR_MASK;
@@ -771,20 +910,20 @@ public class mixer {
                 }
             }
             /* handle the end case */
-            if (source.offset >= source_end) {
+            if (source_pos >= source_end) {
                 /* if we're done, stop playing */
                 if (!channel.is_looping) {
                     channel.is_playing = false;
                     break;
                 } /* if we're looping, wrap to the beginning */ else {
-                    source.offset -= source_end;// source.offset -= (INT16*)source_end - (INT16*)channel.data_start;
+                    source_pos -= source_end;// source_pos -= (INT16*)source_end - (INT16*)channel.data_start;
                 }
             }
         }
 
         /* update the final positions */
         channel.input_frac = input_frac;
-        channel.data_current = source.offset;
+        channel.data_current = source_pos;
     }
 
 }
@@ -23,6 +23,7 @@ import static sound.streams.*;
 import static mame.mame.*;
 import static arcadeflex.libc_old.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 
 public class namco extends snd_interface {
 
@@ -111,15 +112,13 @@ public class namco extends snd_interface {
 
     /* generate sound to the mix buffer in mono */
     public static StreamInitPtr namco_update_mono = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             ShortPtr mix;
                                 
             /* if no sound, we're done */
             if (sound_enable == 0) {
                 //memset(buffer, 0, length * sizeof(INT16));
-                for (int i = 0; i < length * 2; i++) {
-                    buffer.memory[buffer.offset + i] = 0;
-                }
+                buffer.clear(length);
                 return;
             }
             
@@ -380,13 +379,15 @@ public class namco extends snd_interface {
             channel_list[i] = new sound_channel();
             channel_list[i].frequency = 0;
             channel_list[i].volume[0] = channel_list[i].volume[1] = 0;
-            channel_list[i].wave = sound_prom;
+            channel_list[i].wave = new UBytePtr(sound_prom, 0);	/* its own, a snapshot restores it in place */
             channel_list[i].counter = 0;
             channel_list[i].noise_sw = 0;
             channel_list[i].noise_state = 0;
             channel_list[i].noise_seed = 1;
             channel_list[i].noise_counter = 0;
+            state_save_register("namco", i, channel_list[i]);
         }
+        state_save_register_statics("namco.enable", 0, namco.class, new String[]{"sound_enable"});
 
         return 0;
 
@@ -3,7 +3,7 @@ package sound;
 import mame.sndintrf.snd_interface;
 
 
-import static arcadeflex.libc_v2.ShortPtr;
+import static arcadeflex.libc_v2.StreamBufPtr;
 import static arcadeflex.libc_old.*;
 import static arcadeflex.ptrlib.UBytePtr;
 import static cpu.m6502.n2a03.N2A03_DEFAULTCLOCK;
@@ -178,7 +178,7 @@ public class nes_apu extends snd_interface {
         public int[] regs = new int[22];//unsigned 8 bit
 
         /* Sound pointers */
-        public byte[] buffer; //unsigned 8 bit
+        public short[] buffer; //signed 16 bit
 
         int buf_pos;
     }
@@ -564,7 +564,7 @@ public class nes_apu extends snd_interface {
              while (--i >= 0) free(APU[i].buffer);
              return 1;
              }*/
-            APU[i].buffer = new byte[buffer_size];
+            APU[i].buffer = new short[buffer_size / 2];
             (APU[i].dpcm).cpu_mem = memory_region(intf.region[i]);
         }
 
@@ -788,7 +788,7 @@ public class nes_apu extends snd_interface {
     }
 
     /* UPDATE SOUND BUFFER USING CURRENT DATA */
-    static /*INT16 *buffer16*/ ShortPtr buffer16 = null;
+    static /*INT16 *buffer16*/ StreamBufPtr buffer16 = null;
 
     public static void apu_update(int chip) {
 
@@ -797,7 +797,7 @@ public class nes_apu extends snd_interface {
         int elapsed;
 
         cur = APU[chip];
-        buffer16 = new ShortPtr(cur.buffer);
+        buffer16 = new StreamBufPtr(cur.buffer);
 
         /* Recall last position updated and restore pointers */
         elapsed = cur.buf_pos;
@@ -837,7 +837,7 @@ public class nes_apu extends snd_interface {
         for (i = 0; i < chip_max; i++) {
             apu_update(i);
             APU[i].buf_pos = 0;
-            mixer_play_streamed_sample_16(channel + i, new ShortPtr(APU[i].buffer), buffer_size, real_rate);
+            mixer_play_streamed_sample_16(channel + i, new StreamBufPtr(APU[i].buffer), buffer_size, real_rate);
         }
     }
 
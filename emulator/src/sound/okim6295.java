@@ -15,6 +15,7 @@ import static mame.common.*;
 import static mame.sndintrf.*;
 import static sound.okim6295H.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class okim6295 extends snd_interface {
 
     public static final int MAX_SAMPLE_CHUNK = 10000;
@@ -135,7 +136,9 @@ public class okim6295 extends snd_interface {
             if (Machine.sample_rate != 0) {
                 adpcm[i].source_step = (/*UNIT32*/int) ((double) intf.frequency[chip] * (double) FRAC_ONE / (double) Machine.sample_rate);
             }
+            state_save_register("okim6295", i, adpcm[i]);
         }
+        state_save_register_statics("okim6295.command", 0, okim6295.class, new String[]{"okim6295_command", "okim6295_base"});
         /* success */
         return 0;
     }
@@ -452,7 +455,7 @@ public class okim6295 extends snd_interface {
         }
     }
     public static StreamInitPtr adpcm_update = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             ADPCMVoice voice = adpcm[num];
             ShortPtr sample_data = new ShortPtr(MAX_SAMPLE_CHUNK * 2), curr_data = new ShortPtr(sample_data);
             short prev = voice.last_sample, curr = voice.curr_sample;
@@ -12,6 +12,7 @@ import static mame.sndintrf.*;
 import static mame.timer.*;
 import static mame.timerH.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 public class pokey extends snd_interface {
 
     public static FILE pokeylog = null; //fopen("pokeylog.log", "wa");
@@ -594,7 +595,7 @@ public class pokey extends snd_interface {
 /*TODO*///	{ pokey_update,pokey_update,pokey_update,pokey_update };
 /*TODO*///
     public static StreamInitPtr pokey_update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             long sum = 0;
             if (_pokey[chip].output[CHAN1] != 0) {
                 sum += _pokey[chip].volume[CHAN1];
@@ -811,6 +812,10 @@ public class pokey extends snd_interface {
                 printf("failed to initialize sound channel");
                 return 1;
             }
+            state_save_register("pokey", chip, _pokey[chip]);
+            state_save_register_timers("pokey.timer", chip, _pokey[chip].timer);
+            state_save_register_timers("pokey.ptimer", chip, _pokey[chip].ptimer);
+            state_save_register_timer_field("pokey.rtimer", chip, _pokey[chip], "rtimer");
         }
 
         return 0;
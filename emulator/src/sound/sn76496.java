@@ -9,6 +9,7 @@ import static arcadeflex.libc_old.*;
 import static sound.streams.*;
 import static arcadeflex.ptrlib.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
 
 public class sn76496 extends sndintrf.snd_interface {
 
@@ -197,7 +198,7 @@ public class sn76496 extends sndintrf.snd_interface {
     };
 
     public static StreamInitPtr SN76496Update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             int i;
             _SN76496 R = sn[chip];
 
@@ -386,6 +387,7 @@ public class sn76496 extends sndintrf.snd_interface {
             }
 
             SN76496_set_gain(chip, (intf.volume[chip] >> 8) & 0xff);
+            state_save_register("sn76496", chip, sn[chip]);
         }
         return 0;
     }
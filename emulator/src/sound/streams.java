@@ -2,22 +2,24 @@ package sound;
 /**
  *  ported to 0.37b11
  */
-import static arcadeflex.libc_v2.ShortPtr;
+import static arcadeflex.libc_v2.StreamBufPtr;
 import static mame.mame.Machine;
 import static mame.sndintrf.sound_scalebufferpos;
 import static sound.mixer.*;
 import static sound.mixerH.MIXER_MAX_CHANNELS;
+import static mame.state.*;
+import java.nio.ByteBuffer;
 
 public class streams {
 
     public static abstract interface StreamInitPtr {
 
-        public abstract void handler(int param, ShortPtr buffer, int length);
+        public abstract void handler(int param, StreamBufPtr buffer, int length);
     }
 
     public static abstract interface StreamInitMultiPtr {
 
-        public abstract void handler(int param, ShortPtr[] buffer, int length);
+        public abstract void handler(int param, StreamBufPtr[] buffer, int length);
     }
 
     public static final int BUFFER_LEN = 16384;
@@ -27,7 +29,11 @@ public class streams {
     }
 
     static int[] stream_joined_channels = new int[MIXER_MAX_CHANNELS];
-    static ShortPtr[] stream_buffer = new ShortPtr[MIXER_MAX_CHANNELS];//static INT16 *stream_buffer[MIXER_MAX_CHANNELS];
+    static StreamBufPtr[] stream_buffer = new StreamBufPtr[MIXER_MAX_CHANNELS];//static INT16 *stream_buffer[MIXER_MAX_CHANNELS];
+    /* views into stream_buffer handed to the callbacks, re-pointed on every */
+    /* update so the sound chips don't cost an allocation per frame          */
+    static StreamBufPtr[] stream_view = new StreamBufPtr[MIXER_MAX_CHANNELS];
+    static StreamBufPtr[][] stream_view_multi = new StreamBufPtr[MIXER_MAX_CHANNELS][];
 
     static int[] stream_sample_rate = new int[MIXER_MAX_CHANNELS];
     static int[] stream_buffer_pos = new int[MIXER_MAX_CHANNELS];
@@ -59,11 +65,14 @@ public class streams {
         c[channel] = C;
     }
 
-    public static void apply_RC_filter(int channel, ShortPtr buf, int len, int sample_rate) {
+    public static void apply_RC_filter(int channel, StreamBufPtr buf, int len, int sample_rate) {
         if (c[channel] == 0) {
             return;	/* filter disabled */
 
         }
+        if (len <= 0) {
+            return;	/* nothing generated, e.g. a low rate stream on the first frame */
+        }
 
         float R1 = r1[channel];
         float R2 = r2[channel];
@@ -85,13 +94,90 @@ public class streams {
         memory[channel] = buf.read(len - 1);
     }
 
+    /* the write position of a channel, the callback may move the view freely */
+    static StreamBufPtr stream_view(int channel) {
+        StreamBufPtr view = stream_view[channel];
+
+        view.set(stream_buffer[channel], stream_buffer_pos[channel] * 2);
+        return view;
+    }
+
+    /* the write positions of all the channels of a joined stream */
+    static StreamBufPtr[] stream_views(int channel) {
+        StreamBufPtr[] buf = stream_view_multi[channel];
+
+        for (int i = 0; i < stream_joined_channels[channel]; i++) {
+            buf[i] = stream_view(channel + i);
+        }
+        return buf;
+    }
+
+    /* the samples the streams made so far this frame and the RC filters */
+    static state_object streams_state = new state_object() {
+        /* a buffer is saved over a window of two frames of the stream's   */
+        /* samples, the same for every snapshot so rewind can take deltas; */
+        /* a stream never holds more than a frame between updates         */
+        int window(int channel) {
+            if (Machine.sample_rate == 0) {
+                return 0;
+            }
+            long samples = (long) (2 * Machine.sample_rate / Machine.drv.frames_per_second + 16) * stream_sample_rate[channel] / Machine.sample_rate;
+
+            return (int) Math.min(samples, BUFFER_LEN);
+        }
+
+        public void save(ByteBuffer buf) throws state_exception {
+            for (int channel = 0; channel < MIXER_MAX_CHANNELS; channel++) {
+                if (stream_buffer[channel] != null) {
+                    int window = window(channel);
+
+                    if (stream_buffer_pos[channel] > window) {
+                        throw new state_exception("stream " + channel + " is " + stream_buffer_pos[channel] + " samples ahead");
+                    }
+                    buf.putInt(stream_buffer_pos[channel]);
+                    buf.putInt(memory[channel]);
+                    for (int i = 0; i < window; i++) {
+                        buf.putShort(i < stream_buffer_pos[channel] ? stream_buffer[channel].read(i) : 0);
+                    }
+                }
+            }
+        }
+
+        public void load(ByteBuffer buf, int apply) throws state_exception {
+            for (int channel = 0; channel < MIXER_MAX_CHANNELS; channel++) {
+                if (stream_buffer[channel] != null) {
+                    int window = window(channel);
+                    int pos = buf.getInt();
+                    int filter = buf.getInt();
+
+                    if (pos < 0 || pos > window) {
+                        throw new state_exception("bad stream position " + pos);
+                    }
+                    for (int i = 0; i < window; i++) {
+                        short sample = buf.getShort();
+
+                        if (apply != 0 && i < pos) {
+                            stream_buffer[channel].write(i, sample);
+                        }
+                    }
+                    if (apply != 0) {
+                        stream_buffer_pos[channel] = pos;
+                        memory[channel] = filter;
+                    }
+                }
+            }
+        }
+    };
+
     public static int streams_sh_start() {
         int i;
 
         for (i = 0; i < MIXER_MAX_CHANNELS; i++) {
             stream_joined_channels[i] = 1;
             stream_buffer[i] = null;
+            stream_view_multi[i] = null;
         }
+        state_save_register("streams", 0, streams_state);
 
         return 0;
     }
@@ -101,6 +187,7 @@ public class streams {
 
         for (i = 0; i < MIXER_MAX_CHANNELS; i++) {
             stream_buffer[i] = null;
+            stream_view_multi[i] = null;
         }
     }
 
@@ -123,14 +210,8 @@ public class streams {
 
                 if (stream_joined_channels[channel] > 1) {
 
-                    ShortPtr[] buf = new ShortPtr[MIXER_MAX_CHANNELS];
-
                     if (buflen > 0) {
-                        for (i = 0; i < stream_joined_channels[channel]; i++) {
-                            buf[i] = new ShortPtr(stream_buffer[channel + i], stream_buffer_pos[channel + i] * 2);
-                        }
-
-                        stream_callback_multi[channel].handler(stream_param[channel], buf, buflen);
+                        stream_callback_multi[channel].handler(stream_param[channel], stream_views(channel), buflen);
                     }
 
                     for (i = 0; i < stream_joined_channels[channel]; i++) {
@@ -143,9 +224,7 @@ public class streams {
 
                 } else {
                     if (buflen > 0) {
-                        ShortPtr buf = new ShortPtr(stream_buffer[channel], stream_buffer_pos[channel] * 2);//INT16 *buf= stream_buffer[channel] + stream_buffer_pos[channel];
-                        stream_callback[channel].handler(stream_param[channel], buf, buflen);
-
+                        stream_callback[channel].handler(stream_param[channel], stream_view(channel), buflen);//INT16 *buf= stream_buffer[channel] + stream_buffer_pos[channel];
                     }
 
                     stream_buffer_pos[channel] = 0;
@@ -177,7 +256,8 @@ public class streams {
 
         mixer_set_name(channel, name);
 
-        stream_buffer[channel] = new ShortPtr(2 * BUFFER_LEN);//if ((stream_buffer[channel] = malloc(sizeof(INT16)*BUFFER_LEN)) == 0) return -1;
+        stream_buffer[channel] = new StreamBufPtr(new short[BUFFER_LEN]);//if ((stream_buffer[channel] = malloc(sizeof(INT16)*BUFFER_LEN)) == 0) return -1;
+        stream_view[channel] = new StreamBufPtr();
 
         stream_sample_rate[channel] = sample_rate;
         stream_buffer_pos[channel] = 0;
@@ -205,7 +285,8 @@ public class streams {
         for (i = 0; i < channels; i++) {
             mixer_set_name(channel + i, names[i]);
 
-            stream_buffer[channel + i] = new ShortPtr(2 * BUFFER_LEN);// if ((stream_buffer[channel + i] = malloc(sizeof(INT16) * BUFFER_LEN)) == 0)
+            stream_buffer[channel + i] = new StreamBufPtr(new short[BUFFER_LEN]);// if ((stream_buffer[channel + i] = malloc(sizeof(INT16) * BUFFER_LEN)) == 0)
+            stream_view[channel + i] = new StreamBufPtr();
 
             stream_sample_rate[channel + i] = sample_rate;
             stream_buffer_pos[channel + i] = 0;
@@ -216,6 +297,7 @@ public class streams {
             }
         }
 
+        stream_view_multi[channel] = new StreamBufPtr[MIXER_MAX_CHANNELS];
         stream_param[channel] = param;
         stream_callback_multi[channel] = callback;
         set_RC_filter(channel, 0, 0, 0, 0);
@@ -240,19 +322,12 @@ public class streams {
 
         if (buflen * stream_sample_length[channel] > min_interval) {
             if (stream_joined_channels[channel] > 1) {
-                ShortPtr[] buf = new ShortPtr[MIXER_MAX_CHANNELS];
-
-                for (int i = 0; i < stream_joined_channels[channel]; i++)
-                    buf[i] = new ShortPtr(stream_buffer[channel + i], stream_buffer_pos[channel + i] * 2);
-
-                stream_callback_multi[channel].handler(stream_param[channel], buf, buflen);
+                stream_callback_multi[channel].handler(stream_param[channel], stream_views(channel), buflen);
 
                 for (int i = 0; i < stream_joined_channels[channel]; i++)
                     stream_buffer_pos[channel + i] += buflen;
             } else {
-                ShortPtr buf = new ShortPtr(stream_buffer[channel], stream_buffer_pos[channel] * 2);//INT16 *buf = stream_buffer[channel] + stream_buffer_pos[channel];
-
-                stream_callback[channel].handler(stream_param[channel], buf, buflen);
+                stream_callback[channel].handler(stream_param[channel], stream_view(channel), buflen);//INT16 *buf = stream_buffer[channel] + stream_buffer_pos[channel];
 
                 stream_buffer_pos[channel] += buflen;
             }
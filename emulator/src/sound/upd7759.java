@@ -12,6 +12,7 @@ import static mame.common.*;
 import static arcadeflex.libc_v2.*;
 import static mame.timer.*;
 import static mame.timerH.*;
+import static mame.state.*;
 
 /**
  *
@@ -295,14 +296,17 @@ public class upd7759 extends sndintrf.snd_interface {
             name = sprintf("uPD7759 #%d", i);
 
             channel[i] = stream_init(name, intf.volume[i], emulation_rate, i, UPD7759_update);
+            state_save_register("upd7759", i, updadpcm[i]);
+            state_save_register_timer_field("upd7759.timer", i, updadpcm[i], "timer");
         }
+        state_save_register_statics("upd7759.sampnum", 0, upd7759.class, new String[]{"sampnum"});
         return 0;
     }
     /*
      *   Update emulation of an uPD7759 output stream
      */
     public static StreamInitPtr UPD7759_update = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int left) {
+        public void handler(int chip, StreamBufPtr buffer, int left) {
             //struct UPD7759voice *voice = &updadpcm[chip];
             int i;
 
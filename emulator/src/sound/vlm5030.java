@@ -15,6 +15,7 @@ import static sound.streams.*;
 import static sound.vlm5030H.VLM5030interface;
 import static mame.driverH.*;
 import static arcadeflex.libc_old.*;
+import static mame.state.*;
 
 public class vlm5030 extends snd_interface {
     public vlm5030() {
@@ -227,7 +228,7 @@ public class vlm5030 extends snd_interface {
 
     /* decode and buffering data */
     public static StreamInitPtr vlm5030_update_callback = new StreamInitPtr() {
-        public void handler(int chip, ShortPtr buffer, int length) {
+        public void handler(int chip, StreamBufPtr buffer, int length) {
             int buf_count = 0;
             int interp_effect;
 
@@ -381,7 +382,7 @@ public class vlm5030 extends snd_interface {
         }
     };
 
-    public static void phase_stop(ShortPtr buffer, int length, int buf_count) {
+    public static void phase_stop(StreamBufPtr buffer, int length, int buf_count) {
         switch (phase) {
             case PH_SETUP:
                 sample_count -= length;
@@ -570,6 +571,11 @@ public class vlm5030 extends snd_interface {
             }
 
         }
+        state_save_register_statics("vlm5030", 0, vlm5030.class, new String[]{
+            "VLM5030_address", "pin_BSY", "pin_ST", "pin_RST", "latch_data", "sampling_mode", "table_h", "phase",
+            "old_energy", "old_pitch", "old_k", "new_energy", "new_pitch", "new_k",
+            "current_energy", "current_pitch", "current_k", "target_energy", "target_pitch", "target_k",
+            "interp_count", "sample_count", "pitch_count", "u", "x"});
         return 0;
     }
 
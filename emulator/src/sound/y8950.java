@@ -13,6 +13,7 @@ import static sound.fmoplH.*;
 import static sound.fmopl.*;
 import static mame.cpuintrfH.*;
 import static mame.timer.*;
+import static mame.state.*;
 import sound.fm_c.FM_OPL;
 import static mame.common.*;
 import static arcadeflex.libc_v2.*;
@@ -86,14 +87,16 @@ public class y8950 extends snd_interface {
             OPLSetTimerHandler(F3812[i], TimerHandler, i * 2);
             OPLSetIRQHandler(F3812[i], IRQHandler, i);
             OPLSetUpdateHandler(F3812[i], stream_updateptr, stream[i]);
+            OPLStateRegister(sound_name(msound), i, F3812[i]);
         }
+        state_save_register_timers(sound_name(msound) + ".timer", 0, Timer);
         return 0;
     }
     public static timer_callback timer_callback_3812 = new timer_callback() {
         public void handler(int param) {
             int n = param >> 1;
             int c = param & 1;
-            Timer[param] = 0;
+            Timer[param] = null;
             OPLTimerOver(F3812[n], c);
         }
     };
@@ -105,7 +108,7 @@ public class y8950 extends snd_interface {
 
                 if (Timer[c] != null) {
                     timer_remove(Timer[c]);
-                    Timer[c] = 0;
+                    Timer[c] = null;
                 }
             } else {	/* Start FM Timer */
 
@@ -196,7 +199,7 @@ public class y8950 extends snd_interface {
         }
     };
     public static StreamInitPtr Y8950UpdateHandler = new StreamInitPtr() {
-        public void handler(int num, ShortPtr buffer, int length) {
+        public void handler(int num, StreamBufPtr buffer, int length) {
             Y8950UpdateOne(F3812[num], buffer, length);
         }
     };
@@ -7,6 +7,8 @@ import static arcadeflex.libc_old.*;
 import static mame.mame.*;
 import static mame.timer.*;
 import static arcadeflex.libc_v2.*;
+import static mame.state.*;
+import java.nio.ByteBuffer;
 
 public class ym2151 {
     public static class OscilRec
@@ -23,7 +25,7 @@ public class ym2151 {
         int DT1;		/*DT1|MUL * 32  */
         int DT2;		/*DT2 index     */
 
-        int[] connect;	/*operator output 'direction'*/
+        transient int[] connect;	/*operator output 'direction'*/
         /*Begin of channel specific data*/
         /*note: each operator number 0 contains channel specific data*/
         int FeedBack;	/*feedback shift value for operators 0 in each channel*/
@@ -94,8 +96,9 @@ public class ym2151 {
     
     
     	Object TimATimer,TimBTimer;	/*ASG 980324 -- added for tracking timers*/
-    	double[] TimerATime;	/*Timer A times for MAME*/
-    	double[] TimerBTime;		/*Timer B times for MAME*/
+    	/* the transient tables are made by init_chip_tables() and not saved */
+    	transient double[] TimerATime;	/*Timer A times for MAME*/
+    	transient double[] TimerBTime;		/*Timer B times for MAME*/
     
     	int TimAIndex;		/*Timer A index*/
     	int TimBIndex;		/*Timer B index*/
@@ -120,17 +123,17 @@ public class ym2151 {
     	*              9       note code + DT2 + LFO PM
     	*              10      note code + DT2 + LFO PM
     	*/
-    	int[] freq;/*11 octaves, 12 semitones, 64 'cents'*/
+    	transient int[] freq;/*11 octaves, 12 semitones, 64 'cents'*/
     
     	/*
     	*   Frequency deltas for DT1. These deltas alter operator frequency
     	*   after it has been taken from frequency-deltas table.
     	*/
-    	int[] DT1freq;		/*8 DT1 levels,16 MUL lelvels, 32 KC values*/
+    	transient int[] DT1freq;		/*8 DT1 levels,16 MUL lelvels, 32 KC values*/
     
-    	int[] EG_tab;		/*envelope deltas (32 + 64 rates + 32 RKS)*/
+    	transient int[] EG_tab;		/*envelope deltas (32 + 64 rates + 32 RKS)*/
     
-    	int[] LFOfreq;			/*frequency deltas for LFO*/
+    	transient int[] LFOfreq;			/*frequency deltas for LFO*/
     
         WriteYmHandlerPtr irqhandler;				/*IRQ function handler*/
         WriteHandlerPtr porthandler;	/*port write function handler*/
@@ -1109,11 +1112,44 @@ public class ym2151 {
     	    YMPSG[i].porthandler = null;				/*port write handler*/
             init_chip_tables(YMPSG[i]);
             YM2151ResetChip(i);
+            state_save_register("ym2151", i, YMPSG[i]);
+            state_save_register("ym2151.pointers", i, YM2151_state(YMPSG[i]));
         	/*if (errorlog) fprintf(errorlog,"YM2151[init] clock=%i sampfreq=%i\n", YMPSG[i].clock, YMPSG[i].sampfreq);*/
         }
         return(0);
     }
 
+    /* the operator connections and the timers of a chip in snapshots */
+    static state_object YM2151_state(final _YM2151 chip)
+    {
+        return new state_object() {
+            int[][] outputs = { c1, m2, c2, chanout[0], chanout[1], chanout[2], chanout[3], chanout[4], chanout[5], chanout[6], chanout[7] };
+
+            public void save(ByteBuffer buf) throws state_exception
+            {
+                for (int i=0; i<32; i++)
+                    write_choice(buf, chip.Oscils[i].connect, outputs);
+                buf.putInt(timer_ref((timer_entry)chip.TimATimer));
+                buf.putInt(timer_ref((timer_entry)chip.TimBTimer));
+            }
+
+            public void load(ByteBuffer buf, int apply) throws state_exception
+            {
+                int[] connect = new int[32];
+
+                for (int i=0; i<32; i++)
+                    connect[i] = read_choice(buf, outputs.length);
+                timer_entry a = timer_deref(buf.getInt());
+                timer_entry b = timer_deref(buf.getInt());
+                if (apply == 0) return;
+                for (int i=0; i<32; i++)
+                    chip.Oscils[i].connect = connect[i] < 0 ? null : outputs[connect[i]];
+                chip.TimATimer = a;
+                chip.TimBTimer = b;
+            }
+        };
+    }
+
     public static void YM2151Shutdown()
     {
     	if (YMPSG==null) return;
@@ -1443,10 +1479,10 @@ public class ym2151 {
     ** 'length' is the number of samples that should be generated
     */
     public static StreamInitMultiPtr YM2151UpdateOne = new StreamInitMultiPtr() {
-            public void handler(int num, ShortPtr[] buffer, int length) {
+            public void handler(int num, StreamBufPtr[] buffer, int length) {
     	int i;
         int outl,outr;
-        ShortPtr bufL, bufR;
+        StreamBufPtr bufL, bufR;
         bufL = buffer[0];
         bufR = buffer[1];
         
@@ -7,6 +7,7 @@ import static mame.mame.*;
 import static arcadeflex.libc_old.*;
 import static mame.sndintrf.*;
 import static sound._3812intf.*;
+import static mame.state.*;
 
 public class ym2413 extends snd_interface {
 
@@ -79,6 +80,7 @@ public class ym2413 extends snd_interface {
             for (j = 0; j < ym2413_parameter_count; j++) {
                 ym2413_state[i].user_instrument[j] = ym2413_instruments[0][j];
             }
+            state_save_register("ym2413", i, ym2413_state[i]);
         }
         return YM3812_sh_start(msound);
     }
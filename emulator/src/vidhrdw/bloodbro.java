@@ -234,7 +234,7 @@ static void get_sprite_info(  ){
 			if(( attributes&0x4000 )!=0) flags |= SPRITE_FLIPY; /* ? */
 			color = attributes&0xf;
 
-			sprite[sprite_ptr].pen_data = new UBytePtr(gfx.gfxdata,number * gfx.char_modulo);
+			sprite[sprite_ptr].pen_data = new GfxDataPtr(gfx.gfxdata,number * gfx.char_modulo);
 			sprite[sprite_ptr].pal_data = new CharPtr(gfx.colortable,gfx.color_granularity * color);
 
 			sprite[sprite_ptr].pen_usage = 0;
@@ -141,14 +141,14 @@ public class docastle
 		{
 			GfxElement gfx;
 			int x,y;
-			CharPtr dp;
+			GfxDataPtr dp;
 	
 			gfx = Machine.gfx[1];
 			for (i=0;i<gfx.total_elements;i++)
 			{
 				sprite_transparency[i] = 0;
 	
-				dp = new CharPtr(gfx.gfxdata,i * gfx.char_modulo);
+				dp = new GfxDataPtr(gfx.gfxdata,i * gfx.char_modulo);
 				for (y=0;y<gfx.height;y++)
 				{
 					for (x=0;x<gfx.width;x++)
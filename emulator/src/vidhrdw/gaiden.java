@@ -124,7 +124,7 @@ public class gaiden
 				sprite[sprite_ptr].pal_data = new CharPtr(gfx.colortable,gfx.color_granularity * color);
 				sprite[sprite_ptr].pen_usage = gfx.pen_usage[number/64];
 	
-				sprite[sprite_ptr].pen_data = new UBytePtr(gfx.gfxdata , (number/64) * gfx.char_modulo);
+				sprite[sprite_ptr].pen_data = new GfxDataPtr(gfx.gfxdata , (number/64) * gfx.char_modulo);
 				sprite[sprite_ptr].x_offset = 0;
 				sprite[sprite_ptr].y_offset = 0;
 				if ((number & 0x01) != 0) sprite[sprite_ptr].x_offset += 8;
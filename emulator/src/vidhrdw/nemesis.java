@@ -335,7 +335,7 @@ public class nemesis
 			 rectangle clip,int transparency,int transparent_color,int scale)
 	{
 		int ex,ey,y,start,dy;
-		UBytePtr sd;
+		GfxDataPtr sd;
 		UBytePtr bm;
 		int col;
 		rectangle myclip=new rectangle();
@@ -471,7 +471,7 @@ public class nemesis
 						bm  = new UBytePtr(dest.line[y],sx);
 						real_x=sx;
 					}
-					sd = new UBytePtr(gfx.gfxdata , start * gfx.line_modulo + xsize -1);
+					sd = new GfxDataPtr(gfx.gfxdata , start * gfx.line_modulo + xsize -1);
 					dda_x=0x80;
 					ex_count=sx;
 					col = sd.read();
@@ -531,7 +531,7 @@ public class nemesis
 						bm  = new UBytePtr(dest.line[y],sx);
 						real_x=sx;
 					}
-					sd = new UBytePtr(gfx.gfxdata, start * gfx.line_modulo);
+					sd = new GfxDataPtr(gfx.gfxdata, start * gfx.line_modulo);
 					dda_x=0x80;
 					ex_count=sx;
 					col = sd.read();
@@ -579,7 +579,7 @@ public class nemesis
 			rectangle clip,int transparency,int transparent_color,int scale)
 	{
 		int ex,ey,y,start,dy;
-		UBytePtr sd;
+		GfxDataPtr sd;
 		UBytePtr bm;
 		int col;
 		rectangle myclip=new rectangle();
@@ -717,7 +717,7 @@ public class nemesis
 							bm  = new UBytePtr(dest.line[y],sx);
 							real_x=sx;
 						}
-						sd = new UBytePtr(gfx.gfxdata , start * gfx.line_modulo + xsize -1);
+						sd = new GfxDataPtr(gfx.gfxdata , start * gfx.line_modulo + xsize -1);
 						dda_x=0-scale/2;
 						for(ex_count=0;ex_count<xsize;ex_count++)
 						{
@@ -774,7 +774,7 @@ public class nemesis
 							bm  = new UBytePtr(dest.line[y],sx);
 							real_x=sx;
 						}
-						sd = new UBytePtr(gfx.gfxdata , start * gfx.line_modulo);
+						sd = new GfxDataPtr(gfx.gfxdata , start * gfx.line_modulo);
 						dda_x=0-scale/2;
 						for(ex_count=0;ex_count<xsize;ex_count++)
 						{
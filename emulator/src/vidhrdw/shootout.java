@@ -94,7 +94,7 @@ public class shootout
 				else {
 					sprite[sprite_ptr].total_height = 16;
 				}
-				sprite[sprite_ptr].pen_data = new UBytePtr(gfx.gfxdata , number * gfx.char_modulo);
+				sprite[sprite_ptr].pen_data = new GfxDataPtr(gfx.gfxdata , number * gfx.char_modulo);
 			}
 			sprite[sprite_ptr].flags = flags;
 			sprite_ptr++;
@@ -131,7 +131,7 @@ public class shootout
 				else {
 					sprite[sprite_ptr].total_height = 16;
 				}
-				sprite[sprite_ptr].pen_data = new UBytePtr(gfx.gfxdata,number * gfx.char_modulo);
+				sprite[sprite_ptr].pen_data = new GfxDataPtr(gfx.gfxdata,number * gfx.char_modulo);
 			}
 			sprite[sprite_ptr].flags = flags;
 			sprite_ptr++;
@@ -840,7 +840,7 @@ public class system16
 	
 					sprite[sprite_ptr].tile_width = sprite[sprite_ptr].line_offset;
 					sprite[sprite_ptr].total_width = sprite[sprite_ptr].tile_width*(0x800-zoomx)/0x800;
-					sprite[sprite_ptr].pen_data = new UBytePtr(base_gfx , (gfx &0x3ffff) + (sys16_obj_bank[(attributes>>8)&0xf] << 17));
+					sprite[sprite_ptr].raw_pen_data = new UBytePtr(base_gfx , (gfx &0x3ffff) + (sys16_obj_bank[(attributes>>8)&0xf] << 17));
 	
 				}
 	